@@ -40,6 +40,16 @@ public enum AfterFailureMode {
 	 */
 	SAMPLE_FIRST,
 
+	/**
+	 * Use the previous random seed and start directly with the try that detected a failure.
+	 * All tries before the failing one are skipped without generating their parameters.
+	 *
+	 * Only works with randomized generation.
+	 * Will use previous seed otherwise and warn about it with guided generation.
+	 */
+	@API(status = EXPERIMENTAL, since = "1.5.2")
+	PREVIOUS_TRY,
+
 	@API(status = INTERNAL)
 	NOT_SET
 
@@ -87,6 +87,10 @@ public class Arbitraries {
 		public abstract <T> Arbitrary<T> recursive(Supplier<Arbitrary<T>> base, Function<Arbitrary<T>, Arbitrary<T>> recur, int depth);
 
 		public abstract <T> Arbitrary<T> lazyOf(List<Supplier<Arbitrary<T>>> suppliers);
+
+		public abstract InputStreamArbitrary inputStreams();
+
+		public abstract ByteBufferArbitrary byteBuffers();
 	}
 
 	private Arbitraries() {
@@ -689,6 +693,29 @@ public class Arbitraries {
 		return ArbitrariesFacade.implementation.entries(keysArbitrary, valuesArbitrary);
 	}
 
+	/**
+	 * Create an arbitrary that generates instances of {@linkplain java.io.InputStream}.
+	 * The bytes are derived from a seed while being read so that even
+	 * very long streams do not take up memory.
+	 *
+	 * @return a new arbitrary instance
+	 */
+	@API(status = EXPERIMENTAL, since = "1.5.2")
+	public static InputStreamArbitrary inputStreams() {
+		return ArbitrariesFacade.implementation.inputStreams();
+	}
+
+	/**
+	 * Create an arbitrary that generates instances of {@linkplain java.nio.ByteBuffer}
+	 * filled with bytes derived from a seed.
+	 *
+	 * @return a new arbitrary instance
+	 */
+	@API(status = EXPERIMENTAL, since = "1.5.2")
+	public static ByteBufferArbitrary byteBuffers() {
+		return ArbitrariesFacade.implementation.byteBuffers();
+	}
+
 	/**
 	 * Create an arbitrary that never creates anything. Sometimes useful
 	 * when generating arbitraries of "functions" that have void as return type.
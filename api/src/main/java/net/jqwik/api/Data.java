@@ -8,7 +8,8 @@ import static org.apiguardian.api.API.Status.*;
 
 /**
  * Used to annotate methods that can provide data points for property methods.
- * Those methods must return an instance of {@linkplain Iterable}.
+ * Those methods must return an instance of {@linkplain Iterable} or {@linkplain java.util.stream.Stream}.
+ * A stream is consumed lazily and closed after the property has been run.
  *
  * {@code value} is used as reference name. If it is not specified, the method's name is used instead.
  */
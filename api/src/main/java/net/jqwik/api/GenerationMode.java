@@ -29,6 +29,20 @@ public enum GenerationMode {
 	 */
 	DATA_DRIVEN,
 
+	/**
+	 * Use randomized value generation guided by feedback from the property.
+	 * Samples of tries that reach a probe not reached before -
+	 * see {@linkplain Guidance#probe(Object)} - are kept and mutated in later tries.
+	 * Tries that report a target - see {@linkplain Guidance#target(double)} -
+	 * make later tries search for samples with higher targets.
+	 *
+	 * <p>
+	 * Without any probes or targets this mode behaves like {@linkplain #RANDOMIZED}.
+	 * </p>
+	 */
+	@API(status = EXPERIMENTAL, since = "1.5.2")
+	GUIDED,
+
 	/**
 	 * Let jqwik choose which generation mode it prefers:
 	 * <ul>
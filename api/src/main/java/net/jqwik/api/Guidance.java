@@ -0,0 +1,81 @@
+package net.jqwik.api;
+
+import org.apiguardian.api.*;
+
+import static org.apiguardian.api.API.Status.*;
+
+/**
+ * This class serves as a container for static methods to give feedback
+ * to {@linkplain GenerationMode#GUIDED guided generation}.
+ */
+@API(status = EXPERIMENTAL, since = "1.5.2")
+public class Guidance {
+
+	@API(status = INTERNAL)
+	public static abstract class GuidanceFacade {
+		private static final GuidanceFacade implementation;
+
+		static {
+			implementation = FacadeLoader.load(GuidanceFacade.class);
+		}
+
+		public abstract void probe(Object probe);
+
+		public abstract void target(double value);
+	}
+
+	private Guidance() {
+	}
+
+	/**
+	 * Call this method to report that the current try has reached a probe,
+	 * e.g. a branch or a state in the code under test. Probes can also be reported
+	 * from an {@linkplain net.jqwik.api.lifecycle.AroundTryHook} that gathers
+	 * coverage data of the code under test.
+	 *
+	 * <p>
+	 * With {@linkplain GenerationMode#GUIDED} a try's sample is kept for mutation
+	 * in later tries if it reached a probe that no try has reached before.
+	 * With all other generation modes probes are ignored.
+	 * </p>
+	 *
+	 * <pre>
+	 * &#064;Property(generation = GenerationMode.GUIDED)
+	 * void parseAll(&#064;ForAll String input) {
+	 * 	Result result = parser.parse(input);
+	 * 	Guidance.probe(result.lastState());
+	 * }
+	 * </pre>
+	 *
+	 * @param probe Any value with a proper {@code equals} and {@code hashCode} implementation
+	 */
+	public static void probe(Object probe) {
+		GuidanceFacade.implementation.probe(probe);
+	}
+
+	/**
+	 * Call this method to report a numeric target of the current try, e.g. a measured latency
+	 * or the number of allocated bytes. If called more than once in a try the largest value counts.
+	 *
+	 * <p>
+	 * With {@linkplain GenerationMode#GUIDED} later tries search the neighbourhood of samples
+	 * with high targets - their shrinking and growing candidates - to maximize the target.
+	 * Samples with lower targets are sometimes accepted as well, in order to escape local maxima.
+	 * With all other generation modes targets are ignored.
+	 * </p>
+	 *
+	 * <pre>
+	 * &#064;Property(generation = GenerationMode.GUIDED)
+	 * void serializationIsFastEnough(&#064;ForAll("documents") Document document) {
+	 * 	long nanos = timeToSerialize(document);
+	 * 	Guidance.target(nanos);
+	 * 	assertThat(nanos).isLessThan(MAX_NANOS);
+	 * }
+	 * </pre>
+	 *
+	 * @param value The value to maximize
+	 */
+	public static void target(double value) {
+		GuidanceFacade.implementation.target(value);
+	}
+}
@@ -38,6 +38,7 @@ public @interface Property {
 	int MAX_DISCARD_RATIO_NOT_SET = 0;
 	String SEED_NOT_SET = "";
 	String STEREOTYPE_NOT_SET = "";
+	String MAX_DURATION_NOT_SET = "";
 
 	/**
 	 * Tries are the test runs with different parameters. By default it is 1000. You can override globally in the property file
@@ -92,4 +93,44 @@ public @interface Property {
 	 */
 	@API(status = EXPERIMENTAL, since = "1.4.0")
 	FixedSeedMode whenFixedSeed() default FixedSeedMode.NOT_SET;
+
+	/**
+	 * The time budget for running a property's tries, e.g. {@code "500ms"}, {@code "10s"}, {@code "2m"}
+	 * or an ISO-8601 duration like {@code "PT1M30S"}.
+	 * <p>
+	 * With a time budget jqwik measures the latency of tries and runs as many tries as fit into the budget,
+	 * but at least a minimum of 10 tries. The number of tries is then only limited if {@link #tries()}
+	 * has been set explicitly. Shrinking is not part of the budget.
+	 * <p>
+	 * Default value is the value from the global {@code jqwik.duration.default}
+	 * configuration property. If that is not set either, the number of tries decides.
+	 *
+	 * @return the maximum duration
+	 */
+	@API(status = EXPERIMENTAL, since = "1.5.2")
+	String maxDuration() default MAX_DURATION_NOT_SET;
+
+	/**
+	 * Values of generated parameters are usually created anew whenever they are needed,
+	 * e.g. for running a try, for reporting and during shrinking.
+	 * With memoization a value is created only once per generated shrinkable and then reused.
+	 * <p>
+	 * Only values of exactly these types are memoized:
+	 * {@linkplain String}, {@linkplain Boolean}, {@linkplain Character}, {@linkplain Byte}, {@linkplain Short},
+	 * {@linkplain Integer}, {@linkplain Long}, {@linkplain Float}, {@linkplain Double},
+	 * {@linkplain java.math.BigInteger}, {@linkplain java.math.BigDecimal}, {@linkplain java.util.UUID},
+	 * enums and the classes of package {@code java.time}, e.g. {@linkplain java.time.LocalDate}.
+	 * All other values, e.g. collections, arrays or the results of mapping to your own domain types,
+	 * are still created anew every time, so they can safely be mutated by a property.
+	 * Moreover, the shrinkable generated by a {@code flatMap()} function is reused.
+	 * <p>
+	 * Only switch memoization on if functions used in {@code map()}, {@code flatMap()} or {@code combine()}
+	 * have no side effects and if a property does not rely on getting a new instance every time.
+	 * <p>
+	 * Default value is {@code false}.
+	 *
+	 * @return whether to memoize immutable values
+	 */
+	@API(status = EXPERIMENTAL, since = "1.5.2")
+	boolean memoizeValues() default false;
 }
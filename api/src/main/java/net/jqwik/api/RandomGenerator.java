@@ -29,6 +29,8 @@ public interface RandomGenerator<T> {
 				boolean withEmbeddedEdgeCases
 		);
 
+		public abstract <T, U> RandomGenerator<U> map(RandomGenerator<T> self, Function<T, U> mapper);
+
 		public abstract <T> RandomGenerator<T> filter(RandomGenerator<T> self, Predicate<T> filterPredicate);
 
 		public abstract <T> RandomGenerator<T> withEdgeCases(RandomGenerator<T> self, int genSize, EdgeCases<T> edgeCases);
@@ -48,7 +50,7 @@ public interface RandomGenerator<T> {
 
 	@API(status = INTERNAL)
 	default <U> RandomGenerator<U> map(Function<T, U> mapper) {
-		return this.mapShrinkable(s -> s.map(mapper));
+		return RandomGeneratorFacade.implementation.map(this, mapper);
 	}
 
 	@API(status = INTERNAL)
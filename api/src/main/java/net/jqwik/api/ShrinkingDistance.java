@@ -22,20 +22,44 @@ public class ShrinkingDistance implements Comparable<ShrinkingDistance> {
 
 	@API(status = MAINTAINED, since = "1.0")
 	public static <T> ShrinkingDistance forCollection(Collection<Shrinkable<T>> elements) {
-		ShrinkingDistance sumDistanceOfElements = elements
-			.stream()
-			.map(Shrinkable::distance)
-			.reduce(ShrinkingDistance.of(0), ShrinkingDistance::plus);
-
-		return ShrinkingDistance.of(elements.size()).append(sumDistanceOfElements);
+		// First dimension is the size, all further dimensions are the summed up element distances
+		long[] collectionDistances = new long[2];
+		collectionDistances[0] = elements.size();
+		for (Shrinkable<T> element : elements) {
+			long[] elementDistances = element.distance().distances;
+			if (elementDistances.length + 1 > collectionDistances.length) {
+				collectionDistances = Arrays.copyOf(collectionDistances, elementDistances.length + 1);
+			}
+			addUp(collectionDistances, elementDistances, 1);
+		}
+		return new ShrinkingDistance(collectionDistances);
 	}
 
 	@API(status = MAINTAINED, since = "1.0")
 	public static <T> ShrinkingDistance combine(List<Shrinkable<T>> shrinkables) {
-		return shrinkables
-			.stream()
-			.map(Shrinkable::distance)
-			.reduce(new ShrinkingDistance(new long[0]), ShrinkingDistance::append);
+		long[][] partDistances = new long[shrinkables.size()][];
+		int size = 0;
+		for (int i = 0; i < partDistances.length; i++) {
+			partDistances[i] = shrinkables.get(i).distance().distances;
+			size += partDistances[i].length;
+		}
+		long[] combinedDistances = new long[size];
+		int position = 0;
+		for (long[] distances : partDistances) {
+			System.arraycopy(distances, 0, combinedDistances, position, distances.length);
+			position += distances.length;
+		}
+		return new ShrinkingDistance(combinedDistances);
+	}
+
+	private static void addUp(long[] sum, long[] summand, int offset) {
+		for (int i = 0; i < summand.length; i++) {
+			long summedValue = sum[i + offset] + summand[i];
+			if (summedValue < 0) {
+				summedValue = Long.MAX_VALUE;
+			}
+			sum[i + offset] = summedValue;
+		}
 	}
 
 	private ShrinkingDistance(long[] distances) {
@@ -109,15 +133,37 @@ public class ShrinkingDistance implements Comparable<ShrinkingDistance> {
 	}
 
 	private long[] sumUpArrays(long[] left, long[] right) {
-		long[] sum = new long[Math.max(left.length, right.length)];
-		for (int i = 0; i < sum.length; i++) {
-			long summedValue = at(left, i) + at(right, i);
-			if (summedValue < 0) {
-				summedValue = Long.MAX_VALUE;
+		long[] sum = Arrays.copyOf(left, Math.max(left.length, right.length));
+		addUp(sum, right, 0);
+		return sum;
+	}
+
+	/**
+	 * Derive the distance of a collection in which a single element has been replaced
+	 * from this distance, which must have been created by {@linkplain #forCollection(Collection)}.
+	 * The other elements' distances are not needed.
+	 *
+	 * @param replaced    the distance of the element that has been replaced
+	 * @param replacement the distance of the element that replaces it
+	 * @return the new collection's distance or empty if it cannot be derived without looking at all elements,
+	 * e.g. because an element distance sum has reached {@code Long.MAX_VALUE}
+	 */
+	@API(status = INTERNAL)
+	public Optional<ShrinkingDistance> replaceInCollection(ShrinkingDistance replaced, ShrinkingDistance replacement) {
+		if (this == MAX || replaced.size() > replacement.size() || replaced.size() >= size()) {
+			return Optional.empty();
+		}
+		long[] collectionDistances = Arrays.copyOf(distances, Math.max(size(), replacement.size() + 1));
+		for (int i = 1; i < size(); i++) {
+			if (collectionDistances[i] == Long.MAX_VALUE) {
+				return Optional.empty();
 			}
-			sum[i] = summedValue;
 		}
-		return sum;
+		for (int i = 0; i < replaced.size(); i++) {
+			collectionDistances[i + 1] -= replaced.distances[i];
+		}
+		addUp(collectionDistances, replacement.distances, 1);
+		return Optional.of(new ShrinkingDistance(collectionDistances));
 	}
 
 	@API(status = INTERNAL)
@@ -0,0 +1,64 @@
+package net.jqwik.api.arbitraries;
+
+import java.nio.*;
+
+import org.apiguardian.api.*;
+
+import net.jqwik.api.*;
+
+import static org.apiguardian.api.API.Status.*;
+
+/**
+ * Fluent interface to configure the generation of {@linkplain ByteBuffer} values.
+ * The buffer's content is derived from a seed. By default buffers are allocated on the heap.
+ */
+@API(status = EXPERIMENTAL, since = "1.5.2")
+public interface ByteBufferArbitrary extends Arbitrary<ByteBuffer> {
+
+	/**
+	 * Fix the number of bytes to {@code length}.
+	 *
+	 * @param length The number of bytes in a generated buffer
+	 * @return new arbitrary instance
+	 */
+	default ByteBufferArbitrary ofLength(int length) {
+		return ofMinLength(length).ofMaxLength(length);
+	}
+
+	/**
+	 * Set lower boundary {@code minLength} (included) of the number of bytes.
+	 *
+	 * @param minLength The minimum number of bytes in a generated buffer
+	 * @return new arbitrary instance
+	 */
+	ByteBufferArbitrary ofMinLength(int minLength);
+
+	/**
+	 * Set upper boundary {@code maxLength} (included) of the number of bytes.
+	 *
+	 * @param maxLength The maximum number of bytes in a generated buffer
+	 * @return new arbitrary instance
+	 */
+	ByteBufferArbitrary ofMaxLength(int maxLength);
+
+	/**
+	 * Allocate generated buffers outside of the heap using {@linkplain ByteBuffer#allocateDirect(int)}.
+	 *
+	 * @return new arbitrary instance
+	 */
+	ByteBufferArbitrary direct();
+
+	/**
+	 * Generate buffers that are mapped into memory from a temporary file.
+	 * The file is deleted as soon as the buffer has been filled.
+	 *
+	 * <p>
+	 * Every value, including each value tried during shrinking, gets its own temporary file
+	 * since buffers are mutable and must not share their content.
+	 * Generating memory mapped buffers is therefore considerably slower than generating heap or direct buffers.
+	 * </p>
+	 *
+	 * @return new arbitrary instance
+	 */
+	ByteBufferArbitrary memoryMapped();
+}
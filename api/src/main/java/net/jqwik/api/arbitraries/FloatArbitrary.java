@@ -71,4 +71,41 @@ public interface FloatArbitrary extends NumericalArbitrary<Float, FloatArbitrary
 	 */
 	@API(status = MAINTAINED, since = "1.4.0")
 	FloatArbitrary shrinkTowards(float target);
+
+	/**
+	 * Generate and shrink values directly on their IEEE-754 bit representation
+	 * instead of going through {@linkplain java.math.BigDecimal}.
+	 * Bit patterns are chosen uniformly between the borders,
+	 * which makes every power of two about equally likely.
+	 *
+	 * <p>
+	 * Values are only rounded if {@linkplain #ofScale(int)} is set explicitly.
+	 * The random distribution set with {@code withDistribution()} is not used.
+	 * </p>
+	 *
+	 * @return new arbitrary instance
+	 */
+	@API(status = EXPERIMENTAL, since = "1.5.2")
+	FloatArbitrary ieee754();
+
+	/**
+	 * Add {@code special} as additional edge case. Special values are also allowed
+	 * outside the arbitrary's borders, e.g. {@linkplain Float#NaN} or infinities.
+	 * Special values are never shrunk.
+	 *
+	 * @param special The additional edge case
+	 * @return new arbitrary instance
+	 */
+	@API(status = EXPERIMENTAL, since = "1.5.2")
+	FloatArbitrary withSpecialValue(float special);
+
+	/**
+	 * Add the standard special values as additional edge cases:
+	 * {@linkplain Float#NaN}, {@linkplain Float#POSITIVE_INFINITY}, {@linkplain Float#NEGATIVE_INFINITY},
+	 * {@code -0.0}, the smallest subnormal value {@linkplain Float#MIN_VALUE} and {@linkplain Float#MIN_NORMAL}.
+	 *
+	 * @return new arbitrary instance
+	 */
+	@API(status = EXPERIMENTAL, since = "1.5.2")
+	FloatArbitrary withStandardSpecialValues();
 }
@@ -0,0 +1,43 @@
+package net.jqwik.api.arbitraries;
+
+import java.io.*;
+
+import org.apiguardian.api.*;
+
+import net.jqwik.api.*;
+
+import static org.apiguardian.api.API.Status.*;
+
+/**
+ * Fluent interface to configure the generation of {@linkplain InputStream} values.
+ * The streamed bytes are derived from a seed while reading; they are never held in memory as a whole.
+ */
+@API(status = EXPERIMENTAL, since = "1.5.2")
+public interface InputStreamArbitrary extends Arbitrary<InputStream> {
+
+	/**
+	 * Fix the number of bytes to {@code length}.
+	 *
+	 * @param length The number of bytes in a generated stream
+	 * @return new arbitrary instance
+	 */
+	default InputStreamArbitrary ofLength(long length) {
+		return ofMinLength(length).ofMaxLength(length);
+	}
+
+	/**
+	 * Set lower boundary {@code minLength} (included) of the number of bytes.
+	 *
+	 * @param minLength The minimum number of bytes in a generated stream
+	 * @return new arbitrary instance
+	 */
+	InputStreamArbitrary ofMinLength(long minLength);
+
+	/**
+	 * Set upper boundary {@code maxLength} (included) of the number of bytes.
+	 *
+	 * @param maxLength The maximum number of bytes in a generated stream
+	 * @return new arbitrary instance
+	 */
+	InputStreamArbitrary ofMaxLength(long maxLength);
+}
@@ -92,4 +92,24 @@ public interface ListArbitrary<T> extends StreamableArbitrary<T, List<T>> {
 	 */
 	@API(status = MAINTAINED, since = "1.4.0")
 	ListArbitrary<T> uniqueElements(Function<T, Object> by);
+
+	/**
+	 * Generate lists whose elements are only generated when they are accessed.
+	 * Each element is generated from a seed derived from its index,
+	 * so that even lists with millions of elements take up almost no memory.
+	 *
+	 * <p>
+	 *     Elements are generated anew on each access.
+	 *     Shrinking first reduces the list to shorter index ranges.
+	 *     Elements are only shrunk when the list has become small enough.
+	 * </p>
+	 *
+	 * <p>
+	 *     Lazy lists cannot be combined with {@linkplain #uniqueElements()} constraints.
+	 * </p>
+	 *
+	 * @return new arbitrary instance
+	 */
+	@API(status = EXPERIMENTAL, since = "1.5.2")
+	ListArbitrary<T> lazy();
 }
@@ -1,5 +1,7 @@
 package net.jqwik.api.arbitraries;
 
+import java.util.*;
+
 import org.apiguardian.api.*;
 
 import net.jqwik.api.*;
@@ -28,4 +30,31 @@ public interface SizableArbitrary<U> extends Arbitrary<U> {
 	 * Set upper size boundary {@code maxSize} (included).
 	 */
 	SizableArbitrary<U> ofMaxSize(int maxSize);
+
+	/**
+	 * Generate values of geometrically increasing sizes {@code minSize}, {@code 2 * minSize},
+	 * {@code 4 * minSize} and so on up to {@code maxSize}. Each size is chosen with the same probability.
+	 * Shrinking will first try smaller sizes.
+	 *
+	 * <p>
+	 * This is useful for measuring running time with {@linkplain net.jqwik.api.statistics.Complexity}.
+	 * </p>
+	 *
+	 * @param minSize the smallest size, must be positive
+	 * @param maxSize the largest size (included)
+	 * @return new arbitrary instance
+	 */
+	@API(status = EXPERIMENTAL, since = "1.5.2")
+	default Arbitrary<U> ofGeometricSizes(int minSize, int maxSize) {
+		if (minSize < 1 || maxSize < minSize) {
+			String message = String.format("Geometric sizes need 0 < minSize <= maxSize but were [%s..%s]", minSize, maxSize);
+			throw new IllegalArgumentException(message);
+		}
+		List<Integer> sizes = new ArrayList<>();
+		for (long size = minSize; size < maxSize; size *= 2) {
+			sizes.add((int) size);
+		}
+		sizes.add(maxSize);
+		return Arbitraries.of(sizes).flatMap(this::ofSize);
+	}
 }
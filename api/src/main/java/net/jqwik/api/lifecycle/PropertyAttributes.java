@@ -1,5 +1,6 @@
 package net.jqwik.api.lifecycle;
 
+import java.time.*;
 import java.util.*;
 
 import org.apiguardian.api.*;
@@ -107,6 +108,26 @@ public interface PropertyAttributes {
 	@API(status = EXPERIMENTAL, since = "1.4.0")
 	Optional<FixedSeedMode> whenFixedSeed();
 
+	/**
+	 * The time budget for the tries of the property at hand.
+	 * Only present when set explicitly through {@linkplain Property#maxDuration()}
+	 * or {@linkplain #setMaxDuration(Duration)}.
+	 *
+	 * @return optional maximum duration
+	 */
+	@API(status = EXPERIMENTAL, since = "1.5.2")
+	Optional<Duration> maxDuration();
+
+	/**
+	 * Whether immutable values of the property at hand are memoized.
+	 * Only present when switched on through {@linkplain Property#memoizeValues()}
+	 * or set explicitly through {@linkplain #setMemoizeValues(Boolean)}.
+	 *
+	 * @return optional memoization flag
+	 */
+	@API(status = EXPERIMENTAL, since = "1.5.2")
+	Optional<Boolean> memoizeValues();
+
 	void setTries(Integer tries);
 
 	void setMaxDiscardRatio(Integer maxDiscardRatio);
@@ -125,4 +146,10 @@ public interface PropertyAttributes {
 
 	void setWhenFixedSeed(FixedSeedMode fixedSeedMode);
 
+	@API(status = EXPERIMENTAL, since = "1.5.2")
+	void setMaxDuration(Duration maxDuration);
+
+	@API(status = EXPERIMENTAL, since = "1.5.2")
+	void setMemoizeValues(Boolean memoizeValues);
+
 }
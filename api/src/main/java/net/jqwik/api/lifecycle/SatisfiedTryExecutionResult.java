@@ -0,0 +1,39 @@
+package net.jqwik.api.lifecycle;
+
+import java.util.*;
+
+/**
+ * Satisfied results carry no state of their own, which is why only two instances are needed.
+ * This keeps the many satisfied tries of a property from allocating a result each.
+ */
+class SatisfiedTryExecutionResult implements TryExecutionResult {
+
+	static final TryExecutionResult CONTINUE = new SatisfiedTryExecutionResult(false);
+	static final TryExecutionResult FINISH_EARLY = new SatisfiedTryExecutionResult(true);
+
+	private final boolean shouldPropertyFinishEarly;
+
+	private SatisfiedTryExecutionResult(boolean shouldPropertyFinishEarly) {
+		this.shouldPropertyFinishEarly = shouldPropertyFinishEarly;
+	}
+
+	@Override
+	public Status status() {
+		return Status.SATISFIED;
+	}
+
+	@Override
+	public Optional<Throwable> throwable() {
+		return Optional.empty();
+	}
+
+	@Override
+	public boolean shouldPropertyFinishEarly() {
+		return shouldPropertyFinishEarly;
+	}
+
+	@Override
+	public String toString() {
+		return String.format("TryExecutionResult(%s)", status().name());
+	}
+}
@@ -1,5 +1,7 @@
 package net.jqwik.api.lifecycle;
 
+import java.time.*;
+
 import org.apiguardian.api.*;
 
 import static org.apiguardian.api.API.Status.*;
@@ -17,4 +19,16 @@ public interface ShrunkFalsifiedSample extends FalsifiedSample {
 	 * @return number of steps needed to shrink from original sample to this one
 	 */
 	int countShrinkingSteps();
+
+	/**
+	 * @return number of calls to the property method during shrinking
+	 */
+	@API(status = EXPERIMENTAL, since = "1.5.2")
+	int countShrinkingCalls();
+
+	/**
+	 * @return time spent on shrinking
+	 */
+	@API(status = EXPERIMENTAL, since = "1.5.2")
+	Duration shrinkingDuration();
 }
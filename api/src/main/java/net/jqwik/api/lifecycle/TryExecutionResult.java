@@ -50,27 +50,9 @@ public interface TryExecutionResult {
 	 * @return result instance
 	 */
 	static TryExecutionResult satisfied(boolean shouldPropertyFinishEarly) {
-		return new TryExecutionResult() {
-			@Override
-			public Status status() {
-				return Status.SATISFIED;
-			}
-
-			@Override
-			public Optional<Throwable> throwable() {
-				return Optional.empty();
-			}
-
-			@Override
-			public boolean shouldPropertyFinishEarly() {
-				return shouldPropertyFinishEarly;
-			}
-
-			@Override
-			public String toString() {
-				return String.format("TryExecutionResult(%s)", status().name());
-			}
-		};
+		return shouldPropertyFinishEarly
+				   ? SatisfiedTryExecutionResult.FINISH_EARLY
+				   : SatisfiedTryExecutionResult.CONTINUE;
 	}
 
 	/**
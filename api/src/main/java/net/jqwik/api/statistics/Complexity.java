@@ -0,0 +1,60 @@
+package net.jqwik.api.statistics;
+
+import org.apiguardian.api.*;
+
+import net.jqwik.api.*;
+
+import static org.apiguardian.api.API.Status.*;
+
+/**
+ * This class serves as a container for static methods to measure the running time
+ * of code depending on the size of its input. The measurements are checked against
+ * the complexity class given in {@linkplain ExpectComplexity}.
+ *
+ * <p>
+ * Simple example:
+ *
+ * <pre>
+ * &#064;Property(tries = 200)
+ * &#064;ExpectComplexity(ComplexityClass.O_N_LOG_N)
+ * void sortingIsNLogN(&#064;ForAll("growingLists") List&lt;Integer&gt; aList) {
+ * 	Complexity.measure(aList.size(), () -&gt; Collections.sort(aList));
+ * }
+ *
+ * &#064;Provide
+ * Arbitrary&lt;List&lt;Integer&gt;&gt; growingLists() {
+ * 	return Arbitraries.integers().list().ofGeometricSizes(16, 16384);
+ * }
+ * </pre>
+ */
+@API(status = EXPERIMENTAL, since = "1.5.2")
+public class Complexity {
+
+	@API(status = INTERNAL)
+	public static abstract class ComplexityFacade {
+		private static final ComplexityFacade implementation;
+
+		static {
+			implementation = FacadeLoader.load(ComplexityFacade.class);
+		}
+
+		public abstract void record(int size, long nanos);
+	}
+
+	private Complexity() {
+	}
+
+	/**
+	 * Run {@code code} and record its running time for an input of size {@code size}.
+	 * Can only be used in property methods annotated with {@linkplain ExpectComplexity}.
+	 *
+	 * @param size the size of the input that {@code code} works on
+	 * @param code the code to measure
+	 */
+	public static void measure(int size, Runnable code) {
+		long start = System.nanoTime();
+		code.run();
+		long nanos = System.nanoTime() - start;
+		ComplexityFacade.implementation.record(size, nanos);
+	}
+}
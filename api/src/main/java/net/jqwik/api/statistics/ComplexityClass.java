@@ -0,0 +1,83 @@
+package net.jqwik.api.statistics;
+
+import org.apiguardian.api.*;
+
+import static org.apiguardian.api.API.Status.*;
+
+/**
+ * The complexity classes that can be expected with {@linkplain ExpectComplexity}.
+ * They are ordered from slowest to fastest growing.
+ */
+@API(status = EXPERIMENTAL, since = "1.5.2")
+public enum ComplexityClass {
+
+	O_1("O(1)") {
+		@Override
+		public double growth(double n) {
+			return 1.0;
+		}
+	},
+
+	O_LOG_N("O(log n)") {
+		@Override
+		public double growth(double n) {
+			return log2(n);
+		}
+	},
+
+	O_N("O(n)") {
+		@Override
+		public double growth(double n) {
+			return n;
+		}
+	},
+
+	O_N_LOG_N("O(n log n)") {
+		@Override
+		public double growth(double n) {
+			return n * log2(n);
+		}
+	},
+
+	O_N_SQUARED("O(n^2)") {
+		@Override
+		public double growth(double n) {
+			return n * n;
+		}
+	},
+
+	O_N_CUBED("O(n^3)") {
+		@Override
+		public double growth(double n) {
+			return n * n * n;
+		}
+	},
+
+	O_2_N("O(2^n)") {
+		@Override
+		public double growth(double n) {
+			return Math.pow(2, n);
+		}
+	};
+
+	private final String notation;
+
+	ComplexityClass(String notation) {
+		this.notation = notation;
+	}
+
+	/**
+	 * @param n the input size
+	 * @return the number of steps that this complexity class predicts for an input of size {@code n} up to a constant factor
+	 */
+	public abstract double growth(double n);
+
+	@Override
+	public String toString() {
+		return notation;
+	}
+
+	private static double log2(double n) {
+		return Math.log(Math.max(n, 2)) / Math.log(2);
+	}
+}
@@ -0,0 +1,43 @@
+package net.jqwik.api.statistics;
+
+import java.lang.annotation.*;
+
+import org.apiguardian.api.*;
+
+import static org.apiguardian.api.API.Status.*;
+
+/**
+ * Use this annotation on a property method to check that the running time
+ * measured with {@linkplain Complexity#measure(int, Runnable)} does not grow faster
+ * than the expected {@linkplain ComplexityClass complexity class}.
+ *
+ * <p>
+ * After all tries have succeeded the measured times are fitted against every complexity class.
+ * The property fails if the best fitting class grows faster than {@linkplain #value()}
+ * and fits clearly better than {@linkplain #value()}.
+ * </p>
+ *
+ * @see Complexity
+ */
+@Target({ElementType.ANNOTATION_TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@API(status = EXPERIMENTAL, since = "1.5.2")
+public @interface ExpectComplexity {
+
+	/**
+	 * The fastest growing complexity class that is accepted.
+	 */
+	ComplexityClass value();
+
+	/**
+	 * The number of measurements at the start of a property that are not considered
+	 * in order to give the JVM time to warm up.
+	 */
+	int warmup() default 10;
+
+	/**
+	 * The minimum number of different input sizes that must have been measured after warm-up.
+	 */
+	int minSizes() default 4;
+}
@@ -7,6 +7,7 @@ import java.util.stream.*;
 
 import org.junit.platform.engine.*;
 
+import net.jqwik.engine.execution.reporting.*;
 import net.jqwik.engine.recording.*;
 
 public class DefaultJqwikConfiguration implements JqwikConfiguration {
@@ -34,7 +35,11 @@ public class DefaultJqwikConfiguration implements JqwikConfiguration {
 			properties.defaultEdgeCases(),
 			properties.defaultShrinking(),
 			properties.boundedShrinkingSeconds(),
-			properties.fixedSeedMode()
+			properties.boundedShrinkingCalls(),
+			properties.fixedSeedMode(),
+			properties.defaultDuration().orElse(null),
+			properties.suiteDuration().orElse(null),
+			properties.randomAlgorithm()
 		);
 	}
 
@@ -56,6 +61,11 @@ public class DefaultJqwikConfiguration implements JqwikConfiguration {
 		return properties.reportOnlyFailures();
 	}
 
+	@Override
+	public ReportingLimits reportingLimits() {
+		return properties.reportingLimits();
+	}
+
 	private TestEngineConfiguration createTestEngineConfiguration() {
 		String databasePath = properties.databasePath();
 		if (databasePath == null || databasePath.trim().isEmpty()) {
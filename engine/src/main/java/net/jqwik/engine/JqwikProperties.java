@@ -1,6 +1,7 @@
 package net.jqwik.engine;
 
 import java.io.*;
+import java.time.*;
 import java.util.*;
 import java.util.function.*;
 import java.util.logging.*;
@@ -9,6 +10,8 @@ import org.junit.platform.engine.*;
 import org.junit.platform.engine.support.config.*;
 
 import net.jqwik.api.*;
+import net.jqwik.engine.execution.reporting.*;
+import net.jqwik.engine.support.*;
 
 public class JqwikProperties {
 
@@ -45,6 +48,9 @@ public class JqwikProperties {
 	private static final EdgeCasesMode DEFAULT_EDGE_CASES = EdgeCasesMode.MIXIN;
 	private static final ShrinkingMode DEFAULT_SHRINKING = ShrinkingMode.BOUNDED;
 	private static final int DEFAULT_BOUNDED_SHRINKING_SECONDS = 10;
+	private static final int DEFAULT_BOUNDED_SHRINKING_CALLS = 0;
+	private static final SourceOfRandomness.Algorithm DEFAULT_RANDOM_ALGORITHM = SourceOfRandomness.Algorithm.XORSHIFT;
+	private static final ReportingLimits DEFAULT_REPORTING_LIMITS = ReportingLimits.DEFAULT;
 
 	// TODO: Change default to true as soon as Gradle has support for platform reporter
 	// see https://github.com/gradle/gradle/issues/4605
@@ -61,7 +67,12 @@ public class JqwikProperties {
 	private final EdgeCasesMode defaultEdgeCases;
 	private final ShrinkingMode defaultShrinking;
 	private final int boundedShrinkingSeconds;
+	private final int boundedShrinkingCalls;
 	private final FixedSeedMode fixedSeedMode;
+	private final SourceOfRandomness.Algorithm randomAlgorithm;
+	private final ReportingLimits reportingLimits;
+	private final Duration defaultDuration;
+	private final Duration suiteDuration;
 
 	public String databasePath() {
 		return databasePath;
@@ -107,10 +118,30 @@ public class JqwikProperties {
 		return boundedShrinkingSeconds;
 	}
 
+	public int boundedShrinkingCalls() {
+		return boundedShrinkingCalls;
+	}
+
 	public FixedSeedMode fixedSeedMode() {
 		return fixedSeedMode;
 	}
 
+	public SourceOfRandomness.Algorithm randomAlgorithm() {
+		return randomAlgorithm;
+	}
+
+	public ReportingLimits reportingLimits() {
+		return reportingLimits;
+	}
+
+	public Optional<Duration> defaultDuration() {
+		return Optional.ofNullable(defaultDuration);
+	}
+
+	public Optional<Duration> suiteDuration() {
+		return Optional.ofNullable(suiteDuration);
+	}
+
 	JqwikProperties(ConfigurationParameters parameters) {
 		databasePath = parameters.get("database").orElse(DEFAULT_DATABASE_PATH);
 		runFailuresFirst = parameters.getBoolean("failures.runfirst").orElse(DEFAULT_RERUN_FAILURES_FIRST);
@@ -123,7 +154,16 @@ public class JqwikProperties {
 		defaultEdgeCases = parameters.get("edgecases.default", EdgeCasesMode::valueOf).orElse(DEFAULT_EDGE_CASES);
 		defaultShrinking = parameters.get("shrinking.default", ShrinkingMode::valueOf).orElse(DEFAULT_SHRINKING);
 		boundedShrinkingSeconds = parameters.get("shrinking.bounded.seconds", Integer::parseInt).orElse(DEFAULT_BOUNDED_SHRINKING_SECONDS);
+		boundedShrinkingCalls = parameters.get("shrinking.bounded.calls", Integer::parseInt).orElse(DEFAULT_BOUNDED_SHRINKING_CALLS);
 		fixedSeedMode = parameters.get("seeds.whenfixed", FixedSeedMode::valueOf).orElse(FixedSeedMode.ALLOW);
+		randomAlgorithm = parameters.get("random.algorithm", SourceOfRandomness.Algorithm::valueOf).orElse(DEFAULT_RANDOM_ALGORITHM);
+		reportingLimits = new ReportingLimits(
+			parameters.get("reporting.maxelements", Integer::parseInt).orElse(DEFAULT_REPORTING_LIMITS.maxElements()),
+			parameters.get("reporting.maxdepth", Integer::parseInt).orElse(DEFAULT_REPORTING_LIMITS.maxDepth()),
+			parameters.get("reporting.maxcharacters", Integer::parseInt).orElse(DEFAULT_REPORTING_LIMITS.maxCharacters())
+		);
+		defaultDuration = parameters.get("duration.default", JqwikDurationSupport::parse).orElse(null);
+		suiteDuration = parameters.get("duration.suite", JqwikDurationSupport::parse).orElse(null);
 	}
 
 	static JqwikProperties loadWithBackwardsCompatibility(ConfigurationParameters fromJunit) {
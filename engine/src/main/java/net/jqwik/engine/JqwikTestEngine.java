@@ -9,6 +9,7 @@ import net.jqwik.engine.descriptor.*;
 import net.jqwik.engine.discovery.*;
 import net.jqwik.engine.execution.*;
 import net.jqwik.engine.execution.lifecycle.*;
+import net.jqwik.engine.execution.reporting.*;
 import net.jqwik.engine.recording.*;
 import net.jqwik.engine.support.*;
 
@@ -66,7 +67,8 @@ public class JqwikTestEngine implements TestEngine {
 				recorder,
 				configuration.testEngineConfiguration().previousFailures(),
 				configuration.useJunitPlatformReporter(),
-				configuration.reportOnlyFailures()
+				configuration.reportOnlyFailures(),
+				configuration.reportingLimits()
 			).execute(root, listener);
 		}
 	}
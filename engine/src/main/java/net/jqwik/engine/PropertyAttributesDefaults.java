@@ -1,5 +1,8 @@
 package net.jqwik.engine;
 
+import java.time.*;
+import java.util.*;
+
 import net.jqwik.api.*;
 
 public interface PropertyAttributesDefaults {
@@ -16,9 +19,20 @@ public interface PropertyAttributesDefaults {
 	String stereotype();
 	FixedSeedMode whenFixedSeed();
 
+	Optional<Duration> maxDuration();
+
 	// This is currently a global parameter
 	int boundedShrinkingSeconds();
 
+	// This is currently a global parameter
+	int boundedShrinkingCalls();
+
+	// The time budget for all properties together
+	Optional<Duration> suiteDuration();
+
+	// This is currently a global parameter
+	SourceOfRandomness.Algorithm randomAlgorithm();
+
 	static PropertyAttributesDefaults with(
 		int tries,
 		int maxDiscardRatio,
@@ -28,6 +42,90 @@ public interface PropertyAttributesDefaults {
 		ShrinkingMode shrinkingMode,
 		int boundedShrinkingSeconds,
 		FixedSeedMode fixedSeedMode
+	) {
+		return with(
+			tries,
+			maxDiscardRatio,
+			afterFailureMode,
+			generationMode,
+			edgeCasesMode,
+			shrinkingMode,
+			boundedShrinkingSeconds,
+			fixedSeedMode,
+			null,
+			null
+		);
+	}
+
+	static PropertyAttributesDefaults with(
+		int tries,
+		int maxDiscardRatio,
+		AfterFailureMode afterFailureMode,
+		GenerationMode generationMode,
+		EdgeCasesMode edgeCasesMode,
+		ShrinkingMode shrinkingMode,
+		int boundedShrinkingSeconds,
+		FixedSeedMode fixedSeedMode,
+		Duration maxDuration,
+		Duration suiteDuration
+	) {
+		return with(
+			tries,
+			maxDiscardRatio,
+			afterFailureMode,
+			generationMode,
+			edgeCasesMode,
+			shrinkingMode,
+			boundedShrinkingSeconds,
+			0,
+			fixedSeedMode,
+			maxDuration,
+			suiteDuration
+		);
+	}
+
+	static PropertyAttributesDefaults with(
+		int tries,
+		int maxDiscardRatio,
+		AfterFailureMode afterFailureMode,
+		GenerationMode generationMode,
+		EdgeCasesMode edgeCasesMode,
+		ShrinkingMode shrinkingMode,
+		int boundedShrinkingSeconds,
+		int boundedShrinkingCalls,
+		FixedSeedMode fixedSeedMode,
+		Duration maxDuration,
+		Duration suiteDuration
+	) {
+		return with(
+			tries,
+			maxDiscardRatio,
+			afterFailureMode,
+			generationMode,
+			edgeCasesMode,
+			shrinkingMode,
+			boundedShrinkingSeconds,
+			boundedShrinkingCalls,
+			fixedSeedMode,
+			maxDuration,
+			suiteDuration,
+			SourceOfRandomness.Algorithm.XORSHIFT
+		);
+	}
+
+	static PropertyAttributesDefaults with(
+		int tries,
+		int maxDiscardRatio,
+		AfterFailureMode afterFailureMode,
+		GenerationMode generationMode,
+		EdgeCasesMode edgeCasesMode,
+		ShrinkingMode shrinkingMode,
+		int boundedShrinkingSeconds,
+		int boundedShrinkingCalls,
+		FixedSeedMode fixedSeedMode,
+		Duration maxDuration,
+		Duration suiteDuration,
+		SourceOfRandomness.Algorithm randomAlgorithm
 	) {
 		return new PropertyAttributesDefaults() {
 			@Override
@@ -70,10 +168,30 @@ public interface PropertyAttributesDefaults {
 				return boundedShrinkingSeconds;
 			}
 
+			@Override
+			public int boundedShrinkingCalls() {
+				return boundedShrinkingCalls;
+			}
+
 			@Override
 			public FixedSeedMode whenFixedSeed() {
 				return fixedSeedMode;
 			}
+
+			@Override
+			public Optional<Duration> maxDuration() {
+				return Optional.ofNullable(maxDuration);
+			}
+
+			@Override
+			public Optional<Duration> suiteDuration() {
+				return Optional.ofNullable(suiteDuration);
+			}
+
+			@Override
+			public SourceOfRandomness.Algorithm randomAlgorithm() {
+				return randomAlgorithm;
+			}
 		};
 	}
 }
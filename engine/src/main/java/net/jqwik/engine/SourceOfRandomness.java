@@ -8,20 +8,43 @@ import net.jqwik.api.*;
 
 public class SourceOfRandomness {
 
+	/**
+	 * The algorithm used for all randoms created from a seed.
+	 * The same seed will only reproduce the same values with the same algorithm.
+	 */
+	public enum Algorithm {
+		/**
+		 * The algorithm used by all previous versions of jqwik and still the default.
+		 */
+		XORSHIFT,
+
+		/**
+		 * A SplitMix64 generator with fast primitive draws, cheap splitting and jumping ahead.
+		 */
+		SPLITMIX
+	}
+
 	private SourceOfRandomness() {
 	}
 
 	private static final Supplier<Random> RNG = ThreadLocalRandom::current;
 
-	private static final ThreadLocal<Random> current = ThreadLocal.withInitial(SourceOfRandomness::newRandom);
+	private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+	// The algorithm of the current random is used for all randoms derived from a seed on the same thread
+	private static final ThreadLocal<Random> current = ThreadLocal.withInitial(XORShiftRandom::new);
 
 	public static String createRandomSeed() {
 		return Long.toString(RNG.get().nextLong());
 	}
 
 	public static Random create(String seed) {
+		return create(seed, Algorithm.XORSHIFT);
+	}
+
+	public static Random create(String seed, Algorithm algorithm) {
 		try {
-			Random random = newRandom(Long.parseLong(seed));
+			Random random = newRandom(Long.parseLong(seed), algorithm);
 			current.set(random);
 			return random;
 		} catch (NumberFormatException nfe) {
@@ -30,10 +53,20 @@ public class SourceOfRandomness {
 	}
 
 	public static Random newRandom() {
+		if (algorithmOf(current()) == Algorithm.SPLITMIX) {
+			return new SplitMixRandom(System.nanoTime(), GOLDEN_GAMMA);
+		}
 		return new XORShiftRandom();
 	}
 
 	public static Random newRandom(final long seed) {
+		return newRandom(seed, algorithmOf(current()));
+	}
+
+	public static Random newRandom(final long seed, Algorithm algorithm) {
+		if (algorithm == Algorithm.SPLITMIX) {
+			return new SplitMixRandom(seed, GOLDEN_GAMMA);
+		}
 		return new XORShiftRandom(seed);
 	}
 
@@ -41,6 +74,63 @@ public class SourceOfRandomness {
 		return current.get();
 	}
 
+	/**
+	 * The algorithm of a random created by this class. Other randoms are treated as {@linkplain Algorithm#XORSHIFT}.
+	 */
+	public static Algorithm algorithmOf(Random random) {
+		return random instanceof SplitMixRandom ? Algorithm.SPLITMIX : Algorithm.XORSHIFT;
+	}
+
+	/**
+	 * Derive a seed for an independent stream of values, e.g. for a single try, parameter or element.
+	 * Neighbouring indices get uncorrelated seeds.
+	 *
+	 * @param seed  the seed to derive from
+	 * @param index the index of the derived stream
+	 * @return a seed that is never 0L
+	 */
+	public static long deriveSeed(long seed, long index) {
+		long derived = mix64(seed + (index + 1) * GOLDEN_GAMMA);
+		return derived == 0L ? GOLDEN_GAMMA : derived;
+	}
+
+	/**
+	 * Split off a new random that is statistically independent from the given one.
+	 * Splitting is deterministic: The same sequence of draws and splits will always produce the same values.
+	 *
+	 * @param random the random to split from. Its state will advance.
+	 * @return a new random instance
+	 */
+	public static Random split(Random random) {
+		if (random instanceof SplitMixRandom) {
+			return ((SplitMixRandom) random).split();
+		}
+		return newRandom(deriveSeed(random.nextLong(), 0));
+	}
+
+	/**
+	 * Advance a random by a number of {@code nextLong()} draws in constant time.
+	 * Only randoms of {@linkplain Algorithm#SPLITMIX} can jump ahead;
+	 * use {@linkplain #deriveSeed(long, long)} to get independent streams for other algorithms.
+	 *
+	 * @param random the random to advance
+	 * @param steps  the number of draws to skip
+	 * @throws IllegalArgumentException if random cannot jump ahead
+	 */
+	public static void jump(Random random, long steps) {
+		if (!(random instanceof SplitMixRandom)) {
+			String message = String.format("Only randoms of algorithm %s can jump ahead", Algorithm.SPLITMIX);
+			throw new IllegalArgumentException(message);
+		}
+		((SplitMixRandom) random).jump(steps);
+	}
+
+	private static long mix64(long z) {
+		z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+		z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+		return z ^ (z >>> 31);
+	}
+
 	/**
 	 * A faster but not thread safe implementation of {@linkplain java.util.Random}.
 	 * It also has a period of 2^n - 1 and better statistical randomness.
@@ -48,11 +138,9 @@ public class SourceOfRandomness {
 	 * See for details: https://www.javamex.com/tutorials/random_numbers/xorshift.shtml
 	 *
 	 * <p>
-	 * For further performance improvements within jqwik, consider to override:
-	 * <ul>
-	 *     <li>nextDouble()</li>
-	 *     <li>nextBytes(int)</li>
-	 * </ul>
+	 * Derived methods like {@code nextDouble()} are deliberately inherited from {@linkplain Random}
+	 * so that existing seeds keep producing the same values.
+	 * Use {@linkplain SplitMixRandom} for faster primitive draws.
 	 */
 	private static class XORShiftRandom extends Random {
 		private long seed;
@@ -68,6 +156,16 @@ public class SourceOfRandomness {
 			this.seed = seed;
 		}
 
+		/**
+		 * Allows cheap re-seeding of a single instance, e.g. for deriving
+		 * the values of many elements from individual seeds.
+		 */
+		@Override
+		public void setSeed(long seed) {
+			super.setSeed(seed);
+			this.seed = seed == 0L ? 1L : seed;
+		}
+
 		@Override
 		protected int next(int nbits) {
 			long x = nextLong();
@@ -88,4 +186,103 @@ public class SourceOfRandomness {
 			return x;
 		}
 	}
+
+	/**
+	 * A SplitMix64 implementation of {@linkplain java.util.Random} that is not thread safe.
+	 * Primitive draws use a single {@code nextLong()} each, splitting and jumping ahead are cheap.
+	 *
+	 * See for details: https://doi.org/10.1145/2714064.2660195
+	 */
+	private static class SplitMixRandom extends Random {
+		private long state;
+		private final long gamma;
+
+		private SplitMixRandom(long seed, long gamma) {
+			this.state = seed;
+			this.gamma = gamma;
+		}
+
+		@Override
+		public void setSeed(long seed) {
+			super.setSeed(seed);
+			this.state = seed;
+		}
+
+		private SplitMixRandom split() {
+			return new SplitMixRandom(nextLong(), mixGamma(state += gamma));
+		}
+
+		private void jump(long steps) {
+			state += steps * gamma;
+		}
+
+		private static long mixGamma(long z) {
+			z = (z ^ (z >>> 33)) * 0xFF51AFD7ED558CCDL;
+			z = (z ^ (z >>> 33)) * 0xC4CEB9FE1A85EC53L;
+			z = (z ^ (z >>> 33)) | 1L;
+			int flips = Long.bitCount(z ^ (z >>> 1));
+			return flips < 24 ? z ^ 0xAAAAAAAAAAAAAAAAL : z;
+		}
+
+		@Override
+		protected int next(int nbits) {
+			return (int) (nextLong() >>> (64 - nbits));
+		}
+
+		@Override
+		public long nextLong() {
+			return mix64(state += gamma);
+		}
+
+		@Override
+		public int nextInt() {
+			return (int) (nextLong() >>> 32);
+		}
+
+		/**
+		 * Unbiased multiply-and-shift as described in https://arxiv.org/abs/1805.10941
+		 */
+		@Override
+		public int nextInt(int bound) {
+			if (bound <= 0) {
+				throw new IllegalArgumentException("bound must be positive");
+			}
+			long product = (nextLong() >>> 32) * bound;
+			long low = product & 0xFFFFFFFFL;
+			if (low < bound) {
+				long threshold = (0x100000000L - bound) % bound;
+				while (low < threshold) {
+					product = (nextLong() >>> 32) * bound;
+					low = product & 0xFFFFFFFFL;
+				}
+			}
+			return (int) (product >>> 32);
+		}
+
+		@Override
+		public boolean nextBoolean() {
+			return nextLong() < 0;
+		}
+
+		@Override
+		public float nextFloat() {
+			return (nextLong() >>> 40) * 0x1.0p-24f;
+		}
+
+		@Override
+		public double nextDouble() {
+			return (nextLong() >>> 11) * 0x1.0p-53;
+		}
+
+		@Override
+		public void nextBytes(byte[] bytes) {
+			int i = 0;
+			while (i < bytes.length) {
+				long bits = nextLong();
+				for (int n = Math.min(bytes.length - i, 8); n > 0; n--, bits >>>= 8) {
+					bytes[i++] = (byte) bits;
+				}
+			}
+		}
+	}
 }
@@ -4,10 +4,12 @@ import org.junit.platform.engine.*;
 import org.junit.platform.engine.support.descriptor.*;
 
 import net.jqwik.engine.*;
+import net.jqwik.engine.providers.*;
 
 public class JqwikEngineDescriptor extends EngineDescriptor {
 	private static final String DISPLAY_NAME = "jqwik (JUnit Platform)";
 	private final JqwikConfiguration configuration;
+	private final FittingProvidersCache fittingProvidersCache = new FittingProvidersCache();
 
 	public JqwikEngineDescriptor(UniqueId uniqueId, JqwikConfiguration configuration) {
 		super(uniqueId, DISPLAY_NAME);
@@ -17,4 +19,8 @@ public class JqwikEngineDescriptor extends EngineDescriptor {
 	public JqwikConfiguration getConfiguration() {
 		return configuration;
 	}
+
+	public FittingProvidersCache getFittingProvidersCache() {
+		return fittingProvidersCache;
+	}
 }
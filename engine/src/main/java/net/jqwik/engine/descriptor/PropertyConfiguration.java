@@ -1,10 +1,13 @@
 package net.jqwik.engine.descriptor;
 
+import java.time.*;
 import java.util.*;
+import java.util.function.*;
 
 import net.jqwik.api.*;
 import net.jqwik.api.lifecycle.*;
 import net.jqwik.engine.*;
+import net.jqwik.engine.support.*;
 
 public class PropertyConfiguration {
 
@@ -12,13 +15,38 @@ public class PropertyConfiguration {
 		PropertyAttributes propertyAttributes,
 		PropertyAttributesDefaults propertyAttributesDefaults,
 		String previousSeed,
-		List<Object> falsifiedSample
+		List<Object> falsifiedSample,
+		Integer previousFailingTry,
+		List<Long> previousFailingTrySeeds
+	) {
+		return from(
+			propertyAttributes,
+			propertyAttributesDefaults,
+			previousSeed,
+			falsifiedSample,
+			previousFailingTry,
+			previousFailingTrySeeds,
+			null
+		);
+	}
+
+	public static PropertyConfiguration from(
+		PropertyAttributes propertyAttributes,
+		PropertyAttributesDefaults propertyAttributesDefaults,
+		String previousSeed,
+		List<Object> falsifiedSample,
+		Integer previousFailingTry,
+		List<Long> previousFailingTrySeeds,
+		Supplier<Double> previousTryCostShare
 	) {
 		return new PropertyConfiguration(
 			propertyAttributes,
 			propertyAttributesDefaults,
 			previousSeed,
 			falsifiedSample,
+			previousFailingTry,
+			previousFailingTrySeeds,
+			previousTryCostShare,
 			null,
 			null,
 			null
@@ -29,6 +57,9 @@ public class PropertyConfiguration {
 	private final PropertyAttributesDefaults propertyAttributesDefaults;
 	private final String previousSeed;
 	private final List<Object> falsifiedSample;
+	private final Integer previousFailingTry;
+	private final List<Long> previousFailingTrySeeds;
+	private final Supplier<Double> previousTryCostShare;
 	private final String overriddenSeed;
 	private final Integer overriddenTries;
 	private final GenerationMode overriddenGenerationMode;
@@ -38,6 +69,34 @@ public class PropertyConfiguration {
 		PropertyAttributesDefaults propertyAttributesDefaults,
 		String previousSeed,
 		List<Object> falsifiedSample,
+		Integer previousFailingTry,
+		List<Long> previousFailingTrySeeds,
+		String overriddenSeed,
+		Integer overriddenTries,
+		GenerationMode overriddenGenerationMode
+	) {
+		this(
+			propertyAttributes,
+			propertyAttributesDefaults,
+			previousSeed,
+			falsifiedSample,
+			previousFailingTry,
+			previousFailingTrySeeds,
+			null,
+			overriddenSeed,
+			overriddenTries,
+			overriddenGenerationMode
+		);
+	}
+
+	public PropertyConfiguration(
+		PropertyAttributes propertyAttributes,
+		PropertyAttributesDefaults propertyAttributesDefaults,
+		String previousSeed,
+		List<Object> falsifiedSample,
+		Integer previousFailingTry,
+		List<Long> previousFailingTrySeeds,
+		Supplier<Double> previousTryCostShare,
 		String overriddenSeed,
 		Integer overriddenTries,
 		GenerationMode overriddenGenerationMode
@@ -47,6 +106,9 @@ public class PropertyConfiguration {
 		this.overriddenSeed = overriddenSeed;
 		this.previousSeed = previousSeed;
 		this.falsifiedSample = falsifiedSample;
+		this.previousFailingTry = previousFailingTry;
+		this.previousFailingTrySeeds = previousFailingTrySeeds;
+		this.previousTryCostShare = previousTryCostShare;
 		this.overriddenTries = overriddenTries;
 		this.overriddenGenerationMode = overriddenGenerationMode;
 	}
@@ -57,6 +119,9 @@ public class PropertyConfiguration {
 			this.propertyAttributesDefaults,
 			this.previousSeed,
 			this.falsifiedSample,
+			this.previousFailingTry,
+			this.previousFailingTrySeeds,
+			this.previousTryCostShare,
 			changedSeed,
 			this.overriddenTries,
 			this.overriddenGenerationMode
@@ -69,6 +134,9 @@ public class PropertyConfiguration {
 			this.propertyAttributesDefaults,
 			this.previousSeed,
 			this.falsifiedSample,
+			this.previousFailingTry,
+			this.previousFailingTrySeeds,
+			this.previousTryCostShare,
 			this.overriddenSeed,
 			this.overriddenTries,
 			changedGenerationMode
@@ -81,6 +149,9 @@ public class PropertyConfiguration {
 			this.propertyAttributesDefaults,
 			this.previousSeed,
 			this.falsifiedSample,
+			this.previousFailingTry,
+			this.previousFailingTrySeeds,
+			this.previousTryCostShare,
 			this.overriddenSeed,
 			changedTries,
 			this.overriddenGenerationMode
@@ -98,6 +169,44 @@ public class PropertyConfiguration {
 		return propertyAttributes.tries().orElse(propertyAttributesDefaults.tries());
 	}
 
+	/**
+	 * With a time budget the number of tries is only limited if tries have been set explicitly.
+	 */
+	public int getMaxTries() {
+		boolean explicitTries = overriddenTries != null || propertyAttributes.tries().isPresent();
+		if (getMaxDuration().isPresent() && !explicitTries) {
+			return Integer.MAX_VALUE;
+		}
+		return getTries();
+	}
+
+	/**
+	 * An explicit maximum duration takes precedence over the property's share of the suite's time budget,
+	 * which again takes precedence over the default maximum duration.
+	 */
+	public Optional<Duration> getMaxDuration() {
+		Optional<Duration> maxDuration = propertyAttributes.maxDuration();
+		if (maxDuration.isPresent()) {
+			return maxDuration;
+		}
+		Optional<Duration> suiteDurationShare = suiteDurationShare();
+		if (suiteDurationShare.isPresent()) {
+			return suiteDurationShare;
+		}
+		return propertyAttributesDefaults.maxDuration();
+	}
+
+	// The share is only requested during execution when all properties of the current run have been discovered
+	private Optional<Duration> suiteDurationShare() {
+		Double share = previousTryCostShare == null ? null : previousTryCostShare.get();
+		if (share == null) {
+			return Optional.empty();
+		}
+		return propertyAttributesDefaults.suiteDuration().map(
+			suiteDuration -> Duration.ofNanos((long) (JqwikDurationSupport.toNanosSaturated(suiteDuration) * share))
+		);
+	}
+
 	public String getSeed() {
 		if (overriddenSeed != null) {
 			return overriddenSeed;
@@ -120,6 +229,14 @@ public class PropertyConfiguration {
 		return falsifiedSample;
 	}
 
+	public Integer getPreviousFailingTry() {
+		return previousFailingTry;
+	}
+
+	public List<Long> getPreviousFailingTrySeeds() {
+		return previousFailingTrySeeds == null ? Collections.emptyList() : previousFailingTrySeeds;
+	}
+
 	public String getStereotype() {
 		return propertyAttributes.stereotype().orElse(propertyAttributesDefaults.stereotype());
 	}
@@ -145,6 +262,20 @@ public class PropertyConfiguration {
 		return propertyAttributesDefaults.boundedShrinkingSeconds();
 	}
 
+	// This is currently a global value and not property specific
+	public int boundedShrinkingCalls() {
+		return propertyAttributesDefaults.boundedShrinkingCalls();
+	}
+
+	public boolean getMemoizeValues() {
+		return propertyAttributes.memoizeValues().orElse(false);
+	}
+
+	// This is currently a global value and not property specific
+	public SourceOfRandomness.Algorithm getRandomAlgorithm() {
+		return propertyAttributesDefaults.randomAlgorithm();
+	}
+
 	public FixedSeedMode getFixedSeedMode() {
 		return propertyAttributes.whenFixedSeed().orElse(propertyAttributesDefaults.whenFixedSeed());
 	}
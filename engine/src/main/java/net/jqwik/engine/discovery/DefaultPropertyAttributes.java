@@ -1,9 +1,11 @@
 package net.jqwik.engine.discovery;
 
+import java.time.*;
 import java.util.*;
 
 import net.jqwik.api.*;
 import net.jqwik.api.lifecycle.*;
+import net.jqwik.engine.support.*;
 
 public class DefaultPropertyAttributes implements PropertyAttributes {
 	public static PropertyAttributes from(Property property) {
@@ -43,7 +45,7 @@ public class DefaultPropertyAttributes implements PropertyAttributes {
 											  ? null
 											  : property.whenFixedSeed();
 
-		return new DefaultPropertyAttributes(
+		DefaultPropertyAttributes attributes = new DefaultPropertyAttributes(
 			tries,
 			maxDiscardRatio,
 			shrinking,
@@ -52,8 +54,16 @@ public class DefaultPropertyAttributes implements PropertyAttributes {
 			edgeCases,
 			stereotype,
 			seed,
-			whenFixedSeed
+			whenFixedSeed,
+			null
 		);
+		if (!property.maxDuration().equals(Property.MAX_DURATION_NOT_SET)) {
+			attributes.unparsedMaxDuration = property.maxDuration();
+		}
+		if (property.memoizeValues()) {
+			attributes.setMemoizeValues(true);
+		}
+		return attributes;
 	}
 
 	private Integer tries;
@@ -65,6 +75,11 @@ public class DefaultPropertyAttributes implements PropertyAttributes {
 	private String stereotype;
 	private String seed;
 	private FixedSeedMode whenFixedSeed;
+	private Duration maxDuration;
+	private Boolean memoizeValues;
+
+	// Parsed on first access so that an invalid duration fails the property and not the discovery of its container
+	private String unparsedMaxDuration;
 
 	// Only public for testing purposes
 	public DefaultPropertyAttributes(
@@ -77,6 +92,33 @@ public class DefaultPropertyAttributes implements PropertyAttributes {
 			String stereotype,
 			String seed,
 			FixedSeedMode whenFixedSeed
+	) {
+		this(
+			tries,
+			maxDiscardRatio,
+			shrinkingMode,
+			generationMode,
+			afterFailureMode,
+			edgeCasesMode,
+			stereotype,
+			seed,
+			whenFixedSeed,
+			null
+		);
+	}
+
+	// Only public for testing purposes
+	public DefaultPropertyAttributes(
+			Integer tries,
+			Integer maxDiscardRatio,
+			ShrinkingMode shrinkingMode,
+			GenerationMode generationMode,
+			AfterFailureMode afterFailureMode,
+			EdgeCasesMode edgeCasesMode,
+			String stereotype,
+			String seed,
+			FixedSeedMode whenFixedSeed,
+			Duration maxDuration
 	) {
 		this.tries = tries;
 		this.maxDiscardRatio = maxDiscardRatio;
@@ -87,6 +129,7 @@ public class DefaultPropertyAttributes implements PropertyAttributes {
 		this.stereotype = stereotype;
 		this.seed = seed;
 		this.whenFixedSeed = whenFixedSeed;
+		this.maxDuration = maxDuration;
 	}
 
 	@Override
@@ -134,6 +177,29 @@ public class DefaultPropertyAttributes implements PropertyAttributes {
 		return Optional.ofNullable(whenFixedSeed);
 	}
 
+	@Override
+	public Optional<Duration> maxDuration() {
+		if (unparsedMaxDuration != null) {
+			maxDuration = parseMaxDuration(unparsedMaxDuration);
+			unparsedMaxDuration = null;
+		}
+		return Optional.ofNullable(maxDuration);
+	}
+
+	private static Duration parseMaxDuration(String durationString) {
+		try {
+			return JqwikDurationSupport.parse(durationString);
+		} catch (JqwikException cannotParse) {
+			String message = String.format("Invalid maxDuration in @Property: %s", cannotParse.getMessage());
+			throw new JqwikException(message);
+		}
+	}
+
+	@Override
+	public Optional<Boolean> memoizeValues() {
+		return Optional.ofNullable(memoizeValues);
+	}
+
 	@Override
 	public void setTries(Integer tries) {
 		this.tries = tries;
@@ -178,4 +244,15 @@ public class DefaultPropertyAttributes implements PropertyAttributes {
 	public void setWhenFixedSeed(FixedSeedMode fixedSeedMode) {
 		this.whenFixedSeed = fixedSeedMode;
 	}
+
+	@Override
+	public void setMaxDuration(Duration maxDuration) {
+		this.maxDuration = maxDuration;
+		this.unparsedMaxDuration = null;
+	}
+
+	@Override
+	public void setMemoizeValues(Boolean memoizeValues) {
+		this.memoizeValues = memoizeValues;
+	}
 }
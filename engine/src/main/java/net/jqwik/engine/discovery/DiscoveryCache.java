@@ -0,0 +1,88 @@
+package net.jqwik.engine.discovery;
+
+import java.lang.reflect.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.*;
+
+import org.junit.platform.commons.support.*;
+
+import net.jqwik.api.*;
+import net.jqwik.engine.discovery.predicates.*;
+
+import static org.junit.platform.commons.support.HierarchyTraversalMode.*;
+import static org.junit.platform.commons.support.ReflectionSupport.*;
+
+/**
+ * Caches the reflective lookups of a single discovery run.
+ *
+ * <p>
+ * Without the cache a container class's methods and nested groups are searched
+ * when the class is checked for being scannable and again when it is resolved,
+ * and each method's {@linkplain Property} annotation is looked up several times.
+ * All lookups are thread-safe so that classes can be scanned in parallel.
+ * </p>
+ */
+class DiscoveryCache {
+
+	private final static Predicate<Class<?>> isPotentialTestContainer = new IsPotentialTestContainer();
+	private final static Predicate<Class<?>> isContainerAGroup = new IsContainerAGroup();
+	private final static Predicate<Method> isDiscoverableTestMethod = new IsDiscoverableTestMethod();
+
+	private final Map<Class<?>, List<Method>> discoverableMethods = new ConcurrentHashMap<>();
+	private final Map<Class<?>, List<Class<?>>> containedGroups = new ConcurrentHashMap<>();
+	private final Map<Method, Optional<Property>> propertyAnnotations = new ConcurrentHashMap<>();
+
+	List<Method> discoverableMethods(Class<?> containerClass) {
+		return discoverableMethods.computeIfAbsent(
+			containerClass,
+			c -> findMethods(c, isDiscoverableTestMethod, TOP_DOWN)
+		);
+	}
+
+	List<Class<?>> containedGroups(Class<?> containerClass) {
+		return containedGroups.computeIfAbsent(
+			containerClass,
+			c -> findNestedClasses(c, isContainerAGroup)
+		);
+	}
+
+	Optional<Property> propertyAnnotation(Method method) {
+		return propertyAnnotations.computeIfAbsent(
+			method,
+			m -> AnnotationSupport.findAnnotation(m, Property.class)
+		);
+	}
+
+	boolean isProperty(Method method) {
+		return isDiscoverableTestMethod.test(method) && propertyAnnotation(method).isPresent();
+	}
+
+	/**
+	 * Same as {@linkplain IsScannableContainerClass} but fills the cache
+	 * with the class's properties and all its nested groups on the way.
+	 */
+	boolean isScannableContainerClass(Class<?> candidate) {
+		if (!isPotentialTestContainer.test(candidate) || ModifierSupport.isPrivate(candidate)) {
+			return false;
+		}
+		boolean hasProperties = scanProperties(candidate);
+		boolean hasGroups = false;
+		for (Class<?> group : containedGroups(candidate)) {
+			hasGroups = true;
+			isScannableContainerClass(group);
+		}
+		return hasProperties || hasGroups;
+	}
+
+	private boolean scanProperties(Class<?> containerClass) {
+		boolean hasProperties = false;
+		for (Method method : discoverableMethods(containerClass)) {
+			if (propertyAnnotation(method).isPresent()) {
+				hasProperties = true;
+			}
+		}
+		return hasProperties;
+	}
+
+}
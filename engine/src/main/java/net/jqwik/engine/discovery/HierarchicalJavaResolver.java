@@ -3,7 +3,6 @@ package net.jqwik.engine.discovery;
 import java.lang.reflect.*;
 import java.util.*;
 import java.util.concurrent.*;
-import java.util.function.*;
 import java.util.logging.*;
 
 import org.junit.platform.engine.*;
@@ -15,8 +14,6 @@ import net.jqwik.engine.support.*;
 
 import static java.lang.String.*;
 import static java.util.stream.Collectors.*;
-import static org.junit.platform.commons.support.HierarchyTraversalMode.*;
-import static org.junit.platform.commons.support.ReflectionSupport.*;
 import static org.junit.platform.engine.SelectorResolutionResult.*;
 
 class HierarchicalJavaResolver {
@@ -24,14 +21,15 @@ class HierarchicalJavaResolver {
 	private static final Logger LOG = Logger.getLogger(HierarchicalJavaResolver.class.getName());
 
 	private final static IsContainerAGroup isContainerAGroup = new IsContainerAGroup();
-	private final static IsDiscoverableTestMethod isDiscoverableTestMethod = new IsDiscoverableTestMethod();
 
 	private final TestDescriptor engineDescriptor;
 	private final Set<ElementResolver> resolvers;
+	private final DiscoveryCache discoveryCache;
 
-	HierarchicalJavaResolver(TestDescriptor engineDescriptor, Set<ElementResolver> resolvers) {
+	HierarchicalJavaResolver(TestDescriptor engineDescriptor, Set<ElementResolver> resolvers, DiscoveryCache discoveryCache) {
 		this.engineDescriptor = engineDescriptor;
 		this.resolvers = resolvers;
+		this.discoveryCache = discoveryCache;
 	}
 
 	SelectorResolutionResult resolveClass(Class<?> testClass) {
@@ -155,14 +153,13 @@ class HierarchicalJavaResolver {
 	}
 
 	private void resolveContainedGroups(ContainerClassDescriptor containerClassDescriptor, Class<?> containerClass) {
-		Predicate<Class<?>> isGroup = new IsContainerAGroup();
-		List<Class<?>> containedContainersCandidates = findNestedClasses(containerClass, isGroup);
+		List<Class<?>> containedContainersCandidates = discoveryCache.containedGroups(containerClass);
 		containedContainersCandidates
 			.forEach(nestedClass -> resolveContainerWithChildren(nestedClass, Collections.singleton(containerClassDescriptor)));
 	}
 
 	private void resolveContainedMethods(TestDescriptor containerDescriptor, Class<?> testClass) {
-		List<Method> testMethodCandidates = findMethods(testClass, isDiscoverableTestMethod, TOP_DOWN);
+		List<Method> testMethodCandidates = discoveryCache.discoverableMethods(testClass);
 		testMethodCandidates.forEach(method -> resolve(method, containerDescriptor));
 	}
 
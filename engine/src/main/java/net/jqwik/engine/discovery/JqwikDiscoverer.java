@@ -2,20 +2,26 @@ package net.jqwik.engine.discovery;
 
 import java.util.*;
 import java.util.function.*;
+import java.util.logging.*;
+import java.util.stream.*;
 
 import org.junit.platform.engine.*;
 import org.junit.platform.engine.discovery.*;
 
 import net.jqwik.engine.*;
-import net.jqwik.engine.discovery.predicates.*;
 import net.jqwik.engine.recording.*;
+import net.jqwik.engine.support.*;
 
+import static org.junit.platform.commons.support.ModifierSupport.*;
 import static org.junit.platform.commons.support.ReflectionSupport.*;
 import static org.junit.platform.engine.Filter.*;
 
 public class JqwikDiscoverer {
 
-	private static final IsScannableContainerClass isScannableTestClass = new IsScannableContainerClass();
+	private static final Logger LOG = Logger.getLogger(JqwikDiscoverer.class.getName());
+
+	// Only cheap checks while walking the class path, the expensive ones are done in parallel afterwards
+	private static final Predicate<Class<?>> isCandidateClass = candidate -> !isPrivate(candidate) && !candidate.isLocalClass() && !candidate.isAnonymousClass();
 
 	private final TestRunData testRunData;
 	private final PropertyAttributesDefaults propertyDefaultValues;
@@ -26,39 +32,22 @@ public class JqwikDiscoverer {
 	}
 
 	public void discover(EngineDiscoveryRequest request, TestDescriptor engineDescriptor) {
-		HierarchicalJavaResolver javaElementsResolver = createHierarchicalResolver(engineDescriptor);
+		DiscoveryCache discoveryCache = new DiscoveryCache();
+		HierarchicalJavaResolver javaElementsResolver = createHierarchicalResolver(engineDescriptor, discoveryCache);
 		EngineDiscoveryListener discoveryListener = request.getDiscoveryListener();
 		Predicate<String> classNamePredicate = buildClassNamePredicate(request);
 
 		request.getSelectorsByType(ModuleSelector.class).forEach(selector -> {
-			findAllClassesInModule(selector.getModuleName(), isScannableTestClass, classNamePredicate)
-				.forEach(testClass -> {
-					discoveryListener.selectorProcessed(
-						engineDescriptor.getUniqueId(),
-						selector,
-						javaElementsResolver.resolveClass(testClass)
-					);
-				});
+			List<Class<?>> candidates = findAllClassesInModule(selector.getModuleName(), isCandidateClass, classNamePredicate);
+			resolveScannableClasses(candidates, discoveryCache, selector, javaElementsResolver, discoveryListener, engineDescriptor);
 		});
 		request.getSelectorsByType(ClasspathRootSelector.class).forEach(selector -> {
-			findAllClassesInClasspathRoot(selector.getClasspathRoot(), isScannableTestClass, classNamePredicate)
-				.forEach(testClass -> {
-					discoveryListener.selectorProcessed(
-						engineDescriptor.getUniqueId(),
-						selector,
-						javaElementsResolver.resolveClass(testClass)
-					);
-				});
+			List<Class<?>> candidates = findAllClassesInClasspathRoot(selector.getClasspathRoot(), isCandidateClass, classNamePredicate);
+			resolveScannableClasses(candidates, discoveryCache, selector, javaElementsResolver, discoveryListener, engineDescriptor);
 		});
 		request.getSelectorsByType(PackageSelector.class).forEach(selector -> {
-			findAllClassesInPackage(selector.getPackageName(), isScannableTestClass, classNamePredicate)
-				.forEach(testClass -> {
-					discoveryListener.selectorProcessed(
-						engineDescriptor.getUniqueId(),
-						selector,
-						javaElementsResolver.resolveClass(testClass)
-					);
-				});
+			List<Class<?>> candidates = findAllClassesInPackage(selector.getPackageName(), isCandidateClass, classNamePredicate);
+			resolveScannableClasses(candidates, discoveryCache, selector, javaElementsResolver, discoveryListener, engineDescriptor);
 		});
 		request.getSelectorsByType(ClassSelector.class).forEach(selector -> {
 			discoveryListener.selectorProcessed(
@@ -83,12 +72,49 @@ public class JqwikDiscoverer {
 		});
 	}
 
-	private HierarchicalJavaResolver createHierarchicalResolver(TestDescriptor engineDescriptor) {
+	/**
+	 * Scanning the candidates' methods and annotations is done in parallel,
+	 * whereas descriptors are created and attached to the engine descriptor
+	 * one after the other in the order in which the classes were found.
+	 */
+	private void resolveScannableClasses(
+		List<Class<?>> candidates,
+		DiscoveryCache discoveryCache,
+		DiscoverySelector selector,
+		HierarchicalJavaResolver javaElementsResolver,
+		EngineDiscoveryListener discoveryListener,
+		TestDescriptor engineDescriptor
+	) {
+		List<Class<?>> scannableClasses =
+			candidates.parallelStream()
+					  .filter(candidate -> isScannableSafely(candidate, discoveryCache))
+					  .collect(Collectors.toList());
+		scannableClasses.forEach(testClass -> {
+			discoveryListener.selectorProcessed(
+				engineDescriptor.getUniqueId(),
+				selector,
+				javaElementsResolver.resolveClass(testClass)
+			);
+		});
+	}
+
+	// Classes that cannot be inspected are ignored, as they are when scanned by the JUnit platform
+	private static boolean isScannableSafely(Class<?> candidate, DiscoveryCache discoveryCache) {
+		try {
+			return discoveryCache.isScannableContainerClass(candidate);
+		} catch (Throwable throwable) {
+			JqwikExceptionSupport.rethrowIfBlacklisted(throwable);
+			LOG.log(Level.FINE, throwable, () -> String.format("Could not scan class [%s]", candidate.getName()));
+			return false;
+		}
+	}
+
+	private HierarchicalJavaResolver createHierarchicalResolver(TestDescriptor engineDescriptor, DiscoveryCache discoveryCache) {
 		Set<ElementResolver> resolvers = new HashSet<>();
 		resolvers.add(new TopLevelContainerResolver());
 		resolvers.add(new GroupContainerResolver());
-		resolvers.add(new PropertyMethodResolver(testRunData, propertyDefaultValues));
-		return new HierarchicalJavaResolver(engineDescriptor, resolvers);
+		resolvers.add(new PropertyMethodResolver(testRunData, propertyDefaultValues, discoveryCache));
+		return new HierarchicalJavaResolver(engineDescriptor, resolvers, discoveryCache);
 	}
 
 	private static Predicate<String> buildClassNamePredicate(EngineDiscoveryRequest request) {
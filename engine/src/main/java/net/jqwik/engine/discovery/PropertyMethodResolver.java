@@ -3,7 +3,6 @@ package net.jqwik.engine.discovery;
 import java.lang.reflect.*;
 import java.util.*;
 
-import org.junit.platform.commons.support.*;
 import org.junit.platform.engine.*;
 import org.junit.platform.engine.support.hierarchical.Node.*;
 
@@ -19,10 +18,16 @@ class PropertyMethodResolver implements ElementResolver {
 	private final PropertyDiscoverySpec methodSpec = new PropertyDiscoverySpec();
 	private final TestRunData testRunData;
 	private final PropertyAttributesDefaults propertyDefaultValues;
+	private final DiscoveryCache discoveryCache;
 
 	PropertyMethodResolver(TestRunData testRunData, PropertyAttributesDefaults propertyDefaultValues) {
+		this(testRunData, propertyDefaultValues, new DiscoveryCache());
+	}
+
+	PropertyMethodResolver(TestRunData testRunData, PropertyAttributesDefaults propertyDefaultValues, DiscoveryCache discoveryCache) {
 		this.testRunData = testRunData;
 		this.propertyDefaultValues = propertyDefaultValues;
+		this.discoveryCache = discoveryCache;
 	}
 
 	@Override
@@ -60,7 +65,7 @@ class PropertyMethodResolver implements ElementResolver {
 	}
 
 	private boolean isRelevantMethod(Method candidate) {
-		return methodSpec.shouldBeDiscovered(candidate);
+		return discoveryCache.isProperty(candidate);
 	}
 
 	private Optional<Method> findMethod(UniqueId.Segment segment, ContainerClassDescriptor parent) {
@@ -80,27 +85,33 @@ class PropertyMethodResolver implements ElementResolver {
 	}
 
 	private TestDescriptor createTestDescriptor(UniqueId uniqueId, Class<?> testClass, Method method) {
-		Property property = AnnotationSupport.findAnnotation(method, Property.class).orElseThrow(() -> {
+		Property property = discoveryCache.propertyAnnotation(method).orElseThrow(() -> {
 			String message = String.format("Method [%s] is not annotated with @Property", method);
 			return new JqwikException(message);
 		});
 		String previousSeed = previousSeed(uniqueId);
 		List<Object> falsifiedSample = falsifiedSample(uniqueId);
+		Integer previousFailingTry = previousFailingTry(uniqueId);
+		List<Long> previousFailingTrySeeds = previousFailingTrySeeds(uniqueId);
+		testRunData.registerForCurrentRun(uniqueId);
 		PropertyAttributes attributes = DefaultPropertyAttributes.from(property);
 		PropertyConfiguration propertyConfig = PropertyConfiguration.from(
 			attributes,
 			propertyDefaultValues,
 			previousSeed,
-			falsifiedSample
+			falsifiedSample,
+			previousFailingTry,
+			previousFailingTrySeeds,
+			() -> testRunData.tryCostShare(uniqueId).orElse(null)
 		);
 		return new PropertyMethodDescriptor(uniqueId, method, testClass, propertyConfig);
 	}
 
 	private String previousSeed(UniqueId uniqueId) {
-		return testRunData.byUniqueId(uniqueId)
-						  .filter(TestRun::isNotSuccessful)
-						  .flatMap(TestRun::randomSeed)
-						  .orElse(null);
+		return previousRunWithSameAlgorithm(uniqueId)
+				   .filter(TestRun::isNotSuccessful)
+				   .flatMap(TestRun::randomSeed)
+				   .orElse(null);
 	}
 
 	private List<Object> falsifiedSample(UniqueId uniqueId) {
@@ -110,6 +121,26 @@ class PropertyMethodResolver implements ElementResolver {
 						  .orElse(null);
 	}
 
+	private Integer previousFailingTry(UniqueId uniqueId) {
+		return previousRunWithSameAlgorithm(uniqueId)
+				   .filter(TestRun::isNotSuccessful)
+				   .flatMap(TestRun::failingTryIndex)
+				   .orElse(null);
+	}
+
+	private List<Long> previousFailingTrySeeds(UniqueId uniqueId) {
+		return previousRunWithSameAlgorithm(uniqueId)
+				   .filter(TestRun::isNotSuccessful)
+				   .map(TestRun::failingTrySeeds)
+				   .orElse(Collections.emptyList());
+	}
+
+	// Seeds only reproduce the same values with the algorithm that was used to record them
+	private Optional<TestRun> previousRunWithSameAlgorithm(UniqueId uniqueId) {
+		return testRunData.byUniqueId(uniqueId)
+						  .filter(run -> run.randomAlgorithm() == propertyDefaultValues.randomAlgorithm());
+	}
+
 	private String getSegmentType() {
 		return JqwikUniqueIDs.PROPERTY_SEGMENT_TYPE;
 	}
@@ -10,6 +10,7 @@ import net.jqwik.api.lifecycle.*;
 import net.jqwik.engine.*;
 import net.jqwik.engine.descriptor.*;
 import net.jqwik.engine.execution.lifecycle.*;
+import net.jqwik.engine.execution.reporting.*;
 import net.jqwik.engine.properties.*;
 import net.jqwik.engine.support.*;
 
@@ -28,6 +29,7 @@ public class CheckedProperty {
 	private final PropertyLifecycleContext propertyLifecycleContext;
 	private final Optional<Iterable<? extends Tuple>> optionalData;
 	private Optional<ExhaustiveShrinkablesGenerator> optionalExhaustive;
+	private ForAllParametersGenerator shrinkablesGenerator;
 
 	public CheckedProperty(
 			String propertyName,
@@ -64,18 +66,43 @@ public class CheckedProperty {
 		maybeWarnOnMultipleTriesWithoutForallParameters(effectiveConfiguration);
 		try {
 			Reporter reporter = propertyLifecycleContext.reporter();
-			return createGenericProperty(effectiveConfiguration).check(reporter, reporting);
+			PropertyCheckResult checkResult = createGenericProperty(effectiveConfiguration).check(reporter, reporting);
+			// Tries run while shrinking a falsified sample would otherwise be attributed to the last generated try
+			if (!checkResult.originalSample().isPresent()) {
+				shrinkablesGenerator.finish();
+			}
+			if (effectiveConfiguration.getGenerationMode() == GenerationMode.GUIDED) {
+				reportBestTarget(reporter);
+			}
+			return checkResult;
 		} catch (CannotFindArbitraryException cannotFindArbitraryException) {
 			return failed(effectiveConfiguration, cannotFindArbitraryException);
+		} finally {
+			closeStreamedData();
 		}
 	}
 
+	private void reportBestTarget(Reporter reporter) {
+		GuidanceProbes probes = GuidanceProbes.current();
+		probes.bestTarget().ifPresent(bestTarget -> {
+			Map<String, Object> reports = new LinkedHashMap<>();
+			reports.put("best target", bestTarget);
+			reports.putAll(SampleReporter.createSampleReports(propertyLifecycleContext.targetMethod(), probes.bestSample()));
+			reporter.publishReports("guided", reports);
+		});
+	}
+
+	private void closeStreamedData() {
+		optionalData.filter(data -> data instanceof StreamedData)
+					.ifPresent(data -> ((StreamedData) data).close());
+	}
+
 	private PropertyCheckResult failed(PropertyConfiguration configuration, JqwikException exception) {
 		return PropertyCheckResult.failed(
 				configuration.getStereotype(), propertyName, 0, 0,
 				configuration.getSeed(), configuration.getGenerationMode(),
 				configuration.getEdgeCasesMode(), 0, 0,
-				null, null, exception
+				null, null, exception, null, null
 		);
 	}
 
@@ -131,6 +158,8 @@ public class CheckedProperty {
 
 		if (configuration.getGenerationMode() == GenerationMode.RANDOMIZED) {
 			ensureValidRandomizedMode();
+		} else if (configuration.getGenerationMode() == GenerationMode.GUIDED) {
+			ensureValidGuidedMode();
 		} else if (configuration.getGenerationMode() == GenerationMode.DATA_DRIVEN) {
 			ensureValidDataDrivenMode();
 		} else if (configuration.getGenerationMode() == GenerationMode.EXHAUSTIVE) {
@@ -141,14 +170,16 @@ public class CheckedProperty {
 		} else if (configuration.getGenerationMode() == GenerationMode.AUTO) {
 			configuration = chooseGenerationMode(configuration);
 		}
-		ForAllParametersGenerator shrinkablesGenerator = createShrinkablesGenerator(configuration);
+		shrinkablesGenerator = createShrinkablesGenerator(configuration);
 		ResolvingParametersGenerator parametersGenerator = new ResolvingParametersGenerator(
 				propertyParameters,
 				shrinkablesGenerator,
 				resolveParameterHook,
 				propertyLifecycleContext
 		);
-		Supplier<TryLifecycleContext> tryLifecycleContextSupplier = () -> new DefaultTryLifecycleContext(propertyLifecycleContext);
+		// The try context has no state of its own and can therefore be shared by all tries
+		TryLifecycleContext tryLifecycleContext = new DefaultTryLifecycleContext(propertyLifecycleContext);
+		Supplier<TryLifecycleContext> tryLifecycleContextSupplier = () -> tryLifecycleContext;
 		return new GenericProperty(propertyName, configuration, parametersGenerator, tryLifecycleExecutor, tryLifecycleContextSupplier);
 	}
 
@@ -171,6 +202,8 @@ public class CheckedProperty {
 				return getOptionalExhaustive().get();
 			case DATA_DRIVEN:
 				return createDataBasedShrinkablesGenerator(configuration);
+			case GUIDED:
+				return createGuidedShrinkablesGenerator(configuration);
 			default:
 				return createRandomizedShrinkablesGenerator(configuration);
 		}
@@ -182,6 +215,12 @@ public class CheckedProperty {
 		}
 	}
 
+	private void ensureValidGuidedMode() {
+		if (optionalData.isPresent()) {
+			throw new JqwikException("You cannot have both a @FromData annotation and @Property(generation = GUIDED)");
+		}
+	}
+
 	private void ensureValidExhaustiveMode() {
 		if (optionalData.isPresent()) {
 			throw new JqwikException("You cannot have both a @FromData annotation and @Property(generation = EXHAUSTIVE)");
@@ -231,14 +270,64 @@ public class CheckedProperty {
 	}
 
 	private ForAllParametersGenerator createRandomizedShrinkablesGenerator(PropertyConfiguration configuration) {
-		Random random = SourceOfRandomness.create(configuration.getSeed());
+		Random random = SourceOfRandomness.create(configuration.getSeed(), configuration.getRandomAlgorithm());
 		return RandomizedShrinkablesGenerator.forParameters(
 				forAllParameters,
 				arbitraryResolver,
 				random,
 				configuration.getTries(),
-				configuration.getEdgeCasesMode()
+				configuration.getEdgeCasesMode(),
+				replayTrySeeds(configuration),
+				firstTryIndex(configuration)
+		);
+	}
+
+	private ForAllParametersGenerator createGuidedShrinkablesGenerator(PropertyConfiguration configuration) {
+		maybeWarnOnPreviousTryInGuidedMode(configuration);
+		Random random = SourceOfRandomness.create(configuration.getSeed(), configuration.getRandomAlgorithm());
+		return GuidedShrinkablesGenerator.forParameters(
+				forAllParameters,
+				arbitraryResolver,
+				random,
+				configuration.getTries(),
+				configuration.getEdgeCasesMode(),
+				replayTrySeeds(configuration)
+		);
+	}
+
+	/**
+	 * Previously failing tries are only replayed if the property would also reuse a previous seed.
+	 */
+	private List<Long> replayTrySeeds(PropertyConfiguration configuration) {
+		boolean seedIsFixed = !this.configuration.getSeed().equals(Property.SEED_NOT_SET);
+		if (seedIsFixed || configuration.getAfterFailureMode() == AfterFailureMode.RANDOM_SEED) {
+			return Collections.emptyList();
+		}
+		return configuration.getPreviousFailingTrySeeds();
+	}
+
+	private void maybeWarnOnPreviousTryInGuidedMode(PropertyConfiguration configuration) {
+		if (configuration.getAfterFailureMode() != AfterFailureMode.PREVIOUS_TRY) {
+			return;
+		}
+		// Guided tries depend on all tries before them and can therefore not be skipped
+		String message = String.format(
+				"After failure mode PREVIOUS_TRY is not supported with GUIDED generation of %s [%s] in container [%s].%n    Using previous seed instead.",
+				configuration.getStereotype(),
+				propertyLifecycleContext.extendedLabel(),
+				propertyLifecycleContext.containerClass().getName()
 		);
+		LOG.warning(message);
+	}
+
+	private int firstTryIndex(PropertyConfiguration configuration) {
+		if (configuration.getAfterFailureMode() != AfterFailureMode.PREVIOUS_TRY) {
+			return 0;
+		}
+		if (configuration.getPreviousFailingTry() == null || !configuration.getSeed().equals(configuration.getPreviousSeed())) {
+			return 0;
+		}
+		return configuration.getPreviousFailingTry();
 	}
 
 	private ForAllParametersGenerator createSampleOnlyShrinkableGenerator(PropertyConfiguration configuration) {
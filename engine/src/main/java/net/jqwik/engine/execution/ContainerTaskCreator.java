@@ -21,10 +21,11 @@ class ContainerTaskCreator {
 		ExecutionTaskCreator childTaskCreator,
 		Pipeline pipeline,
 		LifecycleHooksSupplier lifecycleSupplier,
-		PropertyExecutionListener propertyExecutionListener
+		PropertyExecutionListener propertyExecutionListener,
+		ReportingLimits reportingLimits
 	) {
 
-		Reporter reporter = new DefaultReporter(propertyExecutionListener::reportingEntryPublished, containerDescriptor);
+		Reporter reporter = new DefaultReporter(propertyExecutionListener::reportingEntryPublished, containerDescriptor, reportingLimits);
 
 		ContainerLifecycleContext containerLifecycleContext = createLifecycleContext(containerDescriptor, reporter, lifecycleSupplier);
 
@@ -8,6 +8,7 @@ import org.junit.platform.engine.*;
 import net.jqwik.engine.descriptor.*;
 import net.jqwik.engine.execution.lifecycle.*;
 import net.jqwik.engine.execution.pipeline.*;
+import net.jqwik.engine.execution.reporting.*;
 import net.jqwik.engine.recording.*;
 
 public class JqwikExecutor {
@@ -17,6 +18,7 @@ public class JqwikExecutor {
 	private final Set<UniqueId> previousFailedTests;
 	private final boolean useJunitPlatformReporter;
 	private final boolean reportOnlyFailures;
+	private final ReportingLimits reportingLimits;
 	private final PropertyTaskCreator propertyTaskCreator = new PropertyTaskCreator();
 	private final ContainerTaskCreator containerTaskCreator = new ContainerTaskCreator();
 	private final ExecutionTaskCreator childTaskCreator = this::createTask;
@@ -28,13 +30,15 @@ public class JqwikExecutor {
 		TestRunRecorder recorder,
 		Set<UniqueId> previousFailedTests,
 		boolean useJunitPlatformReporter,
-		boolean reportOnlyFailures
+		boolean reportOnlyFailures,
+		ReportingLimits reportingLimits
 	) {
 		this.registry = registry;
 		this.recorder = recorder;
 		this.previousFailedTests = previousFailedTests;
 		this.useJunitPlatformReporter = useJunitPlatformReporter;
 		this.reportOnlyFailures = reportOnlyFailures;
+		this.reportingLimits = reportingLimits;
 	}
 
 	public void execute(TestDescriptor descriptor, EngineExecutionListener engineExecutionListener) {
@@ -88,11 +92,11 @@ public class JqwikExecutor {
 		PropertyMethodDescriptor propertyMethodDescriptor,
 		Pipeline pipeline
 	) {
-		return propertyTaskCreator.createTask(propertyMethodDescriptor, registry, reportOnlyFailures);
+		return propertyTaskCreator.createTask(propertyMethodDescriptor, registry, reportOnlyFailures, reportingLimits);
 	}
 
 	private ExecutionTask createContainerTask(TestDescriptor containerDescriptor, Pipeline pipeline, PropertyExecutionListener listener) {
-		return containerTaskCreator.createTask(containerDescriptor, childTaskCreator, pipeline, registry, listener);
+		return containerTaskCreator.createTask(containerDescriptor, childTaskCreator, pipeline, registry, listener, reportingLimits);
 	}
 
 }
@@ -14,4 +14,16 @@ public interface ParametersGenerator {
 	int edgeCasesTotal();
 
 	int edgeCasesTried();
+
+	default Optional<Integer> lastTryIndex() {
+		return Optional.empty();
+	}
+
+	default Optional<Long> lastTrySeed() {
+		return Optional.empty();
+	}
+
+	default int countReplayedTries() {
+		return 0;
+	}
 }
@@ -23,16 +23,19 @@ public class PropertyMethodExecutor {
 	private final PropertyMethodDescriptor methodDescriptor;
 	private final PropertyLifecycleContext propertyLifecycleContext;
 	private final boolean reportOnlyFailures;
+	private final ReportingLimits reportingLimits;
 	private final CheckedPropertyFactory checkedPropertyFactory = new CheckedPropertyFactory();
 
 	public PropertyMethodExecutor(
 		PropertyMethodDescriptor methodDescriptor,
 		PropertyLifecycleContext propertyLifecycleContext,
-		boolean reportOnlyFailures
+		boolean reportOnlyFailures,
+		ReportingLimits reportingLimits
 	) {
 		this.methodDescriptor = methodDescriptor;
 		this.propertyLifecycleContext = propertyLifecycleContext;
 		this.reportOnlyFailures = reportOnlyFailures;
+		this.reportingLimits = reportingLimits;
 	}
 
 	public PropertyExecutionResult execute(LifecycleHooksSupplier lifecycleSupplier) {
@@ -133,7 +136,8 @@ public class PropertyMethodExecutor {
 			if (isReportWorthy((ExtendedPropertyExecutionResult) executionResult)) {
 				String reportEntry = ExecutionResultReport.from(
 					methodDescriptor,
-					(ExtendedPropertyExecutionResult) executionResult
+					(ExtendedPropertyExecutionResult) executionResult,
+					reportingLimits
 				);
 				reporter.publishValue(methodDescriptor.extendedLabel(), reportEntry);
 			}
@@ -18,7 +18,8 @@ class PropertyTaskCreator {
 	ExecutionTask createTask(
 		PropertyMethodDescriptor methodDescriptor,
 		LifecycleHooksSupplier lifecycleSupplier,
-		boolean reportOnlyFailures
+		boolean reportOnlyFailures,
+		ReportingLimits reportingLimits
 	) {
 		return ExecutionTask.from(
 			(listener, predecessorResult) -> {
@@ -33,7 +34,7 @@ class PropertyTaskCreator {
 
 				try {
 					ResolveParameterHook resolveParameterHook = lifecycleSupplier.resolveParameterHook(methodDescriptor);
-					Reporter reporter = new DefaultReporter(listener::reportingEntryPublished, methodDescriptor);
+					Reporter reporter = new DefaultReporter(listener::reportingEntryPublished, methodDescriptor, reportingLimits);
 					Object testInstance = createTestInstance(methodDescriptor, lifecycleSupplier, reporter);
 					propertyLifecycleContext = new DefaultPropertyLifecycleContext(methodDescriptor, testInstance, reporter, resolveParameterHook);
 
@@ -53,7 +54,7 @@ class PropertyTaskCreator {
 
 				listener.executionStarted(methodDescriptor);
 				PropertyExecutionResult executionResult = executeTestMethod(
-					methodDescriptor, propertyLifecycleContext, lifecycleSupplier, reportOnlyFailures
+					methodDescriptor, propertyLifecycleContext, lifecycleSupplier, reportOnlyFailures, reportingLimits
 				);
 				listener.executionFinished(methodDescriptor, executionResult);
 
@@ -123,9 +124,11 @@ class PropertyTaskCreator {
 		PropertyMethodDescriptor methodDescriptor,
 		PropertyLifecycleContext propertyLifecycleContext,
 		LifecycleHooksSupplier lifecycleSupplier,
-		boolean reportOnlyFailures
+		boolean reportOnlyFailures,
+		ReportingLimits reportingLimits
 	) {
-		PropertyMethodExecutor executor = new PropertyMethodExecutor(methodDescriptor, propertyLifecycleContext, reportOnlyFailures);
+		PropertyMethodExecutor executor =
+			new PropertyMethodExecutor(methodDescriptor, propertyLifecycleContext, reportOnlyFailures, reportingLimits);
 		return executor.execute(lifecycleSupplier);
 	}
 
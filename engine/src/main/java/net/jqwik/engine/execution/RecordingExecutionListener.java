@@ -7,10 +7,15 @@ import org.junit.platform.engine.*;
 import org.junit.platform.engine.reporting.*;
 
 import net.jqwik.api.lifecycle.*;
+import net.jqwik.engine.*;
+import net.jqwik.engine.descriptor.*;
+import net.jqwik.engine.execution.lifecycle.*;
 import net.jqwik.engine.recording.*;
 
 public class RecordingExecutionListener implements PropertyExecutionListener {
 
+	private static final int MAX_FAILING_TRY_SEEDS = 10;
+
 	private final TestRunRecorder recorder;
 	private final EngineExecutionListener listener;
 	private final boolean useJunitPlatformReporter;
@@ -55,10 +60,72 @@ public class RecordingExecutionListener implements PropertyExecutionListener {
 		List<Object> sample = executionResult.falsifiedParameters()
 											 .filter(this::isSerializable)
 											 .orElse(null);
-		TestRun run = new TestRun(testDescriptor.getUniqueId(), executionResult.status(), seed, sample);
+		Integer failingTry = failingTryIndex(executionResult);
+		List<Long> failingTrySeeds = failingTrySeeds(testDescriptor, executionResult);
+		Long tryCostNanos = tryCostNanos(executionResult);
+		SourceOfRandomness.Algorithm randomAlgorithm = randomAlgorithm(testDescriptor);
+		TestRun run = new TestRun(
+			testDescriptor.getUniqueId(),
+			executionResult.status(),
+			seed,
+			sample,
+			failingTry,
+			failingTrySeeds,
+			tryCostNanos,
+			randomAlgorithm
+		);
 		recorder.record(run);
 	}
 
+	/**
+	 * Seeds of failing tries are collected as long as a property keeps failing so that they can all be replayed.
+	 */
+	private List<Long> failingTrySeeds(TestDescriptor testDescriptor, PropertyExecutionResult executionResult) {
+		if (executionResult.status() != PropertyExecutionResult.Status.FAILED) {
+			return null;
+		}
+		List<Long> failingTrySeeds = new ArrayList<>();
+		if (executionResult instanceof ExtendedPropertyExecutionResult) {
+			((ExtendedPropertyExecutionResult) executionResult).failingTrySeed().ifPresent(failingTrySeeds::add);
+		}
+		if (testDescriptor instanceof PropertyMethodDescriptor) {
+			List<Long> previousSeeds = ((PropertyMethodDescriptor) testDescriptor).getConfiguration().getPreviousFailingTrySeeds();
+			for (Long previousSeed : previousSeeds) {
+				if (failingTrySeeds.size() >= MAX_FAILING_TRY_SEEDS) {
+					break;
+				}
+				if (!failingTrySeeds.contains(previousSeed)) {
+					failingTrySeeds.add(previousSeed);
+				}
+			}
+		}
+		return failingTrySeeds.isEmpty() ? null : failingTrySeeds;
+	}
+
+	private SourceOfRandomness.Algorithm randomAlgorithm(TestDescriptor testDescriptor) {
+		if (testDescriptor instanceof PropertyMethodDescriptor) {
+			return ((PropertyMethodDescriptor) testDescriptor).getConfiguration().getRandomAlgorithm();
+		}
+		return null;
+	}
+
+	private Integer failingTryIndex(PropertyExecutionResult executionResult) {
+		if (executionResult instanceof ExtendedPropertyExecutionResult) {
+			return ((ExtendedPropertyExecutionResult) executionResult).failingTryIndex().orElse(null);
+		}
+		return null;
+	}
+
+	private Long tryCostNanos(PropertyExecutionResult executionResult) {
+		if (executionResult instanceof ExtendedPropertyExecutionResult && executionResult.countTries() > 0) {
+			return ((ExtendedPropertyExecutionResult) executionResult)
+					   .triesDuration()
+					   .map(duration -> duration.toNanos() / executionResult.countTries())
+					   .orElse(null);
+		}
+		return null;
+	}
+
 	private boolean isSerializable(List<Object> sample) {
 		if (!(sample instanceof Serializable)) {
 			return false;
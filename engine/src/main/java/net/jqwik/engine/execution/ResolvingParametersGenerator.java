@@ -12,6 +12,7 @@ public class ResolvingParametersGenerator implements ParametersGenerator {
 	private final List<MethodParameter> propertyParameters;
 	private final ForAllParametersGenerator forAllParametersGenerator;
 	private final ParameterSupplierResolver parameterSupplierResolver;
+	private final boolean onlyForAllParameters;
 
 	public ResolvingParametersGenerator(
 		List<MethodParameter> propertyParameters,
@@ -22,6 +23,7 @@ public class ResolvingParametersGenerator implements ParametersGenerator {
 		this.propertyParameters = propertyParameters;
 		this.forAllParametersGenerator = forAllParametersGenerator;
 		this.parameterSupplierResolver = new ParameterSupplierResolver(resolveParameterHook, propertyLifecycleContext);
+		this.onlyForAllParameters = propertyParameters.stream().allMatch(parameter -> parameter.isAnnotated(ForAll.class));
 	}
 
 	@Override
@@ -31,13 +33,16 @@ public class ResolvingParametersGenerator implements ParametersGenerator {
 
 	@Override
 	public List<Shrinkable<Object>> next(TryLifecycleContext tryLifecycleContext) {
-		List<Shrinkable<Object>> next = new ArrayList<>();
-		List<Shrinkable<Object>> forAllShrinkables = new ArrayList<>(forAllParametersGenerator.next());
+		List<Shrinkable<Object>> forAllShrinkables = forAllParametersGenerator.next();
+		if (onlyForAllParameters) {
+			return forAllShrinkables;
+		}
 
+		List<Shrinkable<Object>> next = new ArrayList<>(propertyParameters.size());
+		int forAllIndex = 0;
 		for (MethodParameter parameter : propertyParameters) {
 			if (parameter.isAnnotated(ForAll.class)) {
-				next.add(forAllShrinkables.get(0));
-				forAllShrinkables.remove(0);
+				next.add(forAllShrinkables.get(forAllIndex++));
 			} else {
 				next.add(findResolvableParameter(parameter, tryLifecycleContext));
 			}
@@ -56,6 +61,21 @@ public class ResolvingParametersGenerator implements ParametersGenerator {
 		return forAllParametersGenerator.edgeCasesTried();
 	}
 
+	@Override
+	public Optional<Integer> lastTryIndex() {
+		return forAllParametersGenerator.lastTryIndex();
+	}
+
+	@Override
+	public Optional<Long> lastTrySeed() {
+		return forAllParametersGenerator.lastTrySeed();
+	}
+
+	@Override
+	public int countReplayedTries() {
+		return forAllParametersGenerator.countReplayedTries();
+	}
+
 	private Shrinkable<Object> findResolvableParameter(MethodParameter parameter, TryLifecycleContext tryLifecycleContext) {
 		ParameterSupplier parameterSupplier =
 			parameterSupplierResolver.resolveParameter(parameter).orElseThrow(() -> {
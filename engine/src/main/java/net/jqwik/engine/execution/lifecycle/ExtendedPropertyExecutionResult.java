@@ -1,5 +1,8 @@
 package net.jqwik.engine.execution.lifecycle;
 
+import java.time.*;
+import java.util.*;
+
 import net.jqwik.api.*;
 import net.jqwik.api.lifecycle.*;
 
@@ -13,6 +16,36 @@ public interface ExtendedPropertyExecutionResult extends PropertyExecutionResult
 
 	EdgeCasesExecutionResult edgeCases();
 
+	/**
+	 * The index of the randomized try that falsified the property.
+	 * Only present if the try can be regenerated directly.
+	 */
+	Optional<Integer> failingTryIndex();
+
+	/**
+	 * The seed from which the parameters of the try that falsified the property can be regenerated.
+	 * Only present if the try was not an edge case.
+	 */
+	Optional<Long> failingTrySeed();
+
+	/**
+	 * The time spent in generating parameters and running tries, shrinking excluded.
+	 * Only present if tries have been run.
+	 */
+	Optional<Duration> triesDuration();
+
+	/**
+	 * The number of tries per second.
+	 * Only present if tries have been run.
+	 */
+	default Optional<Double> throughput() {
+		if (countTries() == 0) {
+			return Optional.empty();
+		}
+		return triesDuration().filter(duration -> !duration.isZero())
+							  .map(duration -> countTries() * 1_000_000_000.0 / duration.toNanos());
+	}
+
 	class EdgeCasesExecutionResult {
 
 		private final EdgeCasesMode mode;
@@ -0,0 +1,73 @@
+package net.jqwik.engine.execution.lifecycle;
+
+import java.util.concurrent.atomic.*;
+import java.util.function.*;
+
+import net.jqwik.api.lifecycle.*;
+
+/**
+ * A value that is initialized anew after each finished try or property.
+ *
+ * <p>
+ * Unlike a {@linkplain Store} it is neither registered in {@linkplain StoreRepository}
+ * nor bound to the current test descriptor. Getting the value only compares two counters,
+ * which makes it cheap enough to be used by generators for every generated value.
+ * Outside of jqwik's lifecycle the value is initialized once and then kept.
+ * </p>
+ *
+ * <p>
+ * Like {@linkplain StoreRepository} it CANNOT handle concurrent execution of properties!
+ * </p>
+ */
+public class LifespanLocal<T> {
+
+	private static final AtomicLong finishedTries = new AtomicLong();
+	private static final AtomicLong finishedProperties = new AtomicLong();
+
+	public static <T> LifespanLocal<T> forTry(Supplier<T> initializer) {
+		return new LifespanLocal<>(Lifespan.TRY, initializer);
+	}
+
+	public static <T> LifespanLocal<T> forProperty(Supplier<T> initializer) {
+		return new LifespanLocal<>(Lifespan.PROPERTY, initializer);
+	}
+
+	static void finishTry() {
+		finishedTries.incrementAndGet();
+	}
+
+	static void finishProperty() {
+		finishedProperties.incrementAndGet();
+		// The last try of a property is not always finished, e.g. when generation fails
+		finishedTries.incrementAndGet();
+	}
+
+	private final Lifespan lifespan;
+	private final Supplier<T> initializer;
+
+	private long initializedIn = -1;
+	private T value;
+
+	private LifespanLocal(Lifespan lifespan, Supplier<T> initializer) {
+		this.lifespan = lifespan;
+		this.initializer = initializer;
+	}
+
+	public T get() {
+		long current = currentLifespan();
+		if (initializedIn != current) {
+			value = initializer.get();
+			initializedIn = current;
+		}
+		return value;
+	}
+
+	private long currentLifespan() {
+		return lifespan == Lifespan.TRY ? finishedTries.get() : finishedProperties.get();
+	}
+
+	@Override
+	public String toString() {
+		return String.format("LifespanLocal(%s): %s", lifespan.name(), value);
+	}
+}
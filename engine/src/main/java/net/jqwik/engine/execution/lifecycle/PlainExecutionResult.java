@@ -1,5 +1,6 @@
 package net.jqwik.engine.execution.lifecycle;
 
+import java.time.*;
 import java.util.*;
 
 import net.jqwik.api.*;
@@ -105,6 +106,21 @@ public class PlainExecutionResult implements ExtendedPropertyExecutionResult {
 		return Long.toString(0L);
 	}
 
+	@Override
+	public Optional<Integer> failingTryIndex() {
+		return Optional.empty();
+	}
+
+	@Override
+	public Optional<Long> failingTrySeed() {
+		return Optional.empty();
+	}
+
+	@Override
+	public Optional<Duration> triesDuration() {
+		return Optional.empty();
+	}
+
 	@Override
 	public String toString() {
 		return String.format("PlainPropertyExecutionResult[%s]", status);
@@ -105,6 +105,7 @@ public class StoreRepository {
 	}
 
 	public void finishProperty(TestDescriptor scope) {
+		LifespanLocal.finishProperty();
 		stores
 			.stream()
 			.filter(store -> store.lifespan() == Lifespan.PROPERTY)
@@ -113,6 +114,7 @@ public class StoreRepository {
 	}
 
 	public void finishTry(TestDescriptor scope) {
+		LifespanLocal.finishTry();
 		stores
 			.stream()
 			.filter(store -> store.lifespan() == Lifespan.TRY)
@@ -1,5 +1,6 @@
 package net.jqwik.engine.execution.reporting;
 
+import java.lang.reflect.*;
 import java.util.*;
 
 import net.jqwik.api.*;
@@ -12,57 +13,25 @@ public class ArrayReportingFormat implements SampleReportingFormat {
 
 	@Override
 	public Object report(Object value) {
-		Class<?> arrayClass = value.getClass();
-		if (arrayClass.equals(byte[].class)) {
-			List<Byte> list = new ArrayList<>();
-			for (byte v : ((byte[]) value)) {
-				list.add(v);
-			}
-			return list;
+		if (value.getClass().getComponentType().isPrimitive()) {
+			return primitiveArrayAsList(value);
 		}
-		if (arrayClass.equals(short[].class)) {
-			List<Short> list = new ArrayList<>();
-			for (short v : ((short[]) value)) {
-				list.add(v);
-			}
-			return list;
-		}
-		if (arrayClass.equals(int[].class)) {
-			List<Integer> list = new ArrayList<>();
-			for (int v : ((int[]) value)) {
-				list.add(v);
-			}
-			return list;
-		}
-		if (arrayClass.equals(long[].class)) {
-			List<Long> list = new ArrayList<>();
-			for (long v : ((long[]) value)) {
-				list.add(v);
-			}
-			return list;
-		}
-		if (arrayClass.equals(float[].class)) {
-			List<Float> list = new ArrayList<>();
-			for (float v : ((float[]) value)) {
-				list.add(v);
-			}
-			return list;
-		}
-		if (arrayClass.equals(double[].class)) {
-			List<Double> list = new ArrayList<>();
-			for (double v : ((double[]) value)) {
-				list.add(v);
+		return Arrays.asList((Object[]) value);
+	}
+
+	// A view instead of a copy, so that only the reported elements of large arrays are ever boxed
+	private List<Object> primitiveArrayAsList(Object array) {
+		return new AbstractList<Object>() {
+			@Override
+			public Object get(int index) {
+				return Array.get(array, index);
 			}
-			return list;
-		}
-		if (arrayClass.equals(boolean[].class)) {
-			List<Boolean> list = new ArrayList<>();
-			for (boolean v : ((boolean[]) value)) {
-				list.add(v);
+
+			@Override
+			public int size() {
+				return Array.getLength(array);
 			}
-			return list;
-		}
-		return Arrays.asList((Object[]) value);
+		};
 	}
 
 	@Override
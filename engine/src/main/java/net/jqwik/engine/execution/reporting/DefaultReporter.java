@@ -12,10 +12,16 @@ public class DefaultReporter implements Reporter {
 
 	private final BiConsumer<TestDescriptor, ReportEntry> listener;
 	private final TestDescriptor descriptor;
+	private final ReportingLimits reportingLimits;
 
 	public DefaultReporter(BiConsumer<TestDescriptor, ReportEntry> listener, TestDescriptor descriptor) {
+		this(listener, descriptor, ReportingLimits.DEFAULT);
+	}
+
+	public DefaultReporter(BiConsumer<TestDescriptor, ReportEntry> listener, TestDescriptor descriptor, ReportingLimits reportingLimits) {
 		this.listener = listener;
 		this.descriptor = descriptor;
+		this.reportingLimits = reportingLimits;
 	}
 
 	@Override
@@ -31,7 +37,7 @@ public class DefaultReporter implements Reporter {
 	private String buildReport(Object object) {
 		StringBuilder stringBuilder = new StringBuilder();
 
-		ValueReport sampleReport = ValueReport.of(object);
+		ValueReport sampleReport = ValueReport.of(object, reportingLimits);
 		int lengthOfTimestamp = 35;
 		if (sampleReport.singleLineLength() < SampleReporter.MAX_LINE_LENGTH - lengthOfTimestamp) {
 			String line = sampleReport.singleLineReport();
@@ -51,7 +57,7 @@ public class DefaultReporter implements Reporter {
 	}
 
 	private String buildReports(Map<String, Object> reports) {
-		SampleReporter sampleReporter = new SampleReporter(null, reports);
+		SampleReporter sampleReporter = new SampleReporter(null, reports, reportingLimits);
 		StringBuilder stringBuilder = new StringBuilder();
 		LineReporter lineReporter = new BuilderBasedLineReporter(stringBuilder, 0);
 		sampleReporter.reportTo(lineReporter);
@@ -0,0 +1,44 @@
+package net.jqwik.engine.execution.reporting;
+
+import java.util.*;
+
+/**
+ * Summarizes the elements of a collection or map that are left out of a report.
+ * The hash of the whole collection or map allows to tell apart large values that only differ in their elided elements.
+ */
+class ElidedElementsReport extends ValueReport {
+
+	private final int count;
+	private final String kind;
+	private final Object elidedFrom;
+
+	private String summary;
+
+	ElidedElementsReport(int count, String kind, Object elidedFrom) {
+		super(Optional.empty());
+		this.count = count;
+		this.kind = kind;
+		this.elidedFrom = elidedFrom;
+	}
+
+	@Override
+	public String singleLineReport() {
+		if (summary == null) {
+			summary = String.format("<%s %s elided, hash %s>", count, kind, hash());
+		}
+		return summary;
+	}
+
+	private String hash() {
+		try {
+			return String.format("%08x", elidedFrom.hashCode());
+		} catch (RuntimeException exception) {
+			return "unknown";
+		}
+	}
+
+	@Override
+	public void report(LineReporter lineReporter, int indentLevel, String appendix) {
+		lineReporter.addLine(indentLevel, singleLineReport() + appendix);
+	}
+}
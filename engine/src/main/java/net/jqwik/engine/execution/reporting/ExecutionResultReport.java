@@ -1,6 +1,7 @@
 package net.jqwik.engine.execution.reporting;
 
 import java.lang.reflect.*;
+import java.time.*;
 import java.util.*;
 import java.util.stream.*;
 
@@ -22,6 +23,10 @@ public class ExecutionResultReport {
 	private static final String EDGE_CASES_TRIED_KEY = "edge-cases#tried";
 	private static final String AFTER_FAILURE_KEY = "after-failure";
 	private static final String FIXED_SEED_KEY = "when-fixed-seed";
+	private static final String MAX_DURATION_KEY = "max-duration";
+	private static final String THROUGHPUT_KEY = "tries#per-second";
+	private static final String SHRINKING_CALLS_KEY = "shrinking#calls";
+	private static final String SHRINKING_TIME_KEY = "shrinking#time";
 	private static final String SEED_KEY = "seed";
 	private static final String SAMPLE_HEADLINE = "Sample";
 	private static final String SHRUNK_SAMPLE_HEADLINE = "Shrunk Sample";
@@ -29,27 +34,41 @@ public class ExecutionResultReport {
 
 	public static String from(
 		PropertyMethodDescriptor methodDescriptor,
-		ExtendedPropertyExecutionResult executionResult
+		ExtendedPropertyExecutionResult executionResult,
+		ReportingLimits reportingLimits
 	) {
 		return buildJqwikReport(
 				methodDescriptor.getConfiguration().getAfterFailureMode(),
 				methodDescriptor.getConfiguration().getFixedSeedMode(),
+				maxDuration(methodDescriptor.getConfiguration()),
 				methodDescriptor.getTargetMethod(),
-				executionResult
+				executionResult,
+				reportingLimits
 		);
 	}
 
+	private static Duration maxDuration(PropertyConfiguration configuration) {
+		try {
+			return configuration.getMaxDuration().orElse(null);
+		} catch (JqwikException invalidMaxDuration) {
+			// The property has already failed because of it
+			return null;
+		}
+	}
+
 	private static String buildJqwikReport(
 			AfterFailureMode afterFailureMode,
 			FixedSeedMode fixedSeedMode,
+			Duration maxDuration,
 			Method propertyMethod,
-			ExtendedPropertyExecutionResult executionResult
+			ExtendedPropertyExecutionResult executionResult,
+			ReportingLimits reportingLimits
 	) {
 		StringBuilder reportLines = new StringBuilder();
 
 		appendThrowableMessage(reportLines, executionResult);
-		appendFixedSizedProperties(reportLines, executionResult, afterFailureMode, fixedSeedMode);
-		appendSamples(reportLines, propertyMethod, executionResult);
+		appendFixedSizedProperties(reportLines, executionResult, afterFailureMode, fixedSeedMode, maxDuration);
+		appendSamples(reportLines, propertyMethod, executionResult, reportingLimits);
 
 		return reportLines.toString();
 	}
@@ -57,15 +76,16 @@ public class ExecutionResultReport {
 	private static void appendSamples(
 		StringBuilder reportLines,
 		Method propertyMethod,
-		PropertyExecutionResult executionResult
+		PropertyExecutionResult executionResult,
+		ReportingLimits reportingLimits
 	) {
 		executionResult.shrunkSample().ifPresent(shrunkSample -> {
 			List<Object> parameters = shrunkSample.shrinkables().stream().map(Shrinkable::value).collect(Collectors.toList());
 			List<Object> parametersAfterRun = shrunkSample.parameters();
 			if (!parameters.isEmpty()) {
 				String shrunkSampleHeadline = String.format("%s (%s steps)", SHRUNK_SAMPLE_HEADLINE, shrunkSample.countShrinkingSteps());
-				SampleReporter.reportSample(reportLines, propertyMethod, parameters, shrunkSampleHeadline);
-				reportParameterChanges(reportLines, propertyMethod, parameters, parametersAfterRun);
+				SampleReporter.reportSample(reportLines, propertyMethod, parameters, shrunkSampleHeadline, reportingLimits);
+				reportParameterChanges(reportLines, propertyMethod, parameters, parametersAfterRun, reportingLimits);
 			}
 		});
 
@@ -74,8 +94,8 @@ public class ExecutionResultReport {
 			List<Object> parameters = originalSample.shrinkables().stream().map(Shrinkable::value).collect(Collectors.toList());
 			List<Object> parametersAfterRun = originalSample.parameters();
 			if (!parameters.isEmpty()) {
-				SampleReporter.reportSample(reportLines, propertyMethod, parameters, originalSampleHeadline);
-				reportParameterChanges(reportLines, propertyMethod, parameters, parametersAfterRun);
+				SampleReporter.reportSample(reportLines, propertyMethod, parameters, originalSampleHeadline, reportingLimits);
+				reportParameterChanges(reportLines, propertyMethod, parameters, parametersAfterRun, reportingLimits);
 				if (executionResult.shrunkSample().isPresent()) {
 					originalSample.falsifyingError().ifPresent(error -> {
 						appendOriginalError(reportLines, error);
@@ -89,11 +109,12 @@ public class ExecutionResultReport {
 		StringBuilder reportLines,
 		Method propertyMethod,
 		List<Object> parameters,
-		List<Object> parametersAfterRun
+		List<Object> parametersAfterRun,
+		ReportingLimits reportingLimits
 	) {
 		if (ParameterChangesDetector.haveParametersChanged(parameters, parametersAfterRun)) {
 			String changesSampleHeadline = "After Execution";
-			SampleReporter.reportSample(reportLines, propertyMethod, parametersAfterRun, changesSampleHeadline, 1);
+			SampleReporter.reportSample(reportLines, propertyMethod, parametersAfterRun, changesSampleHeadline, 1, reportingLimits);
 		}
 	}
 
@@ -106,7 +127,8 @@ public class ExecutionResultReport {
 			StringBuilder reportLines,
 			ExtendedPropertyExecutionResult executionResult,
 			AfterFailureMode afterFailureMode,
-			FixedSeedMode fixedSeedMode
+			FixedSeedMode fixedSeedMode,
+			Duration maxDuration
 	) {
 		List<String> propertiesLines = new ArrayList<>();
 		int countTries = 0;
@@ -129,6 +151,16 @@ public class ExecutionResultReport {
 
 		appendProperty(propertiesLines, TRIES_KEY, Integer.toString(countTries), "# of calls to property");
 		appendProperty(propertiesLines, CHECKS_KEY, Integer.toString(countChecks), "# of not rejected calls");
+		if (maxDuration != null) {
+			appendProperty(propertiesLines, MAX_DURATION_KEY, JqwikDurationSupport.displayString(maxDuration), "time budget for tries");
+			executionResult.throughput().ifPresent(
+				throughput -> appendProperty(propertiesLines, THROUGHPUT_KEY, Math.round(throughput), "# of tries per second")
+			);
+		}
+		executionResult.shrunkSample().filter(shrunkSample -> shrunkSample.countShrinkingCalls() > 0).ifPresent(shrunkSample -> {
+			appendProperty(propertiesLines, SHRINKING_CALLS_KEY, shrunkSample.countShrinkingCalls(), "# of calls to property while shrinking");
+			appendProperty(propertiesLines, SHRINKING_TIME_KEY, JqwikDurationSupport.displayString(shrunkSample.shrinkingDuration()), "time spent on shrinking");
+		});
 		appendProperty(propertiesLines, GENERATION_KEY, generationMode, helpGenerationMode);
 		if (afterFailureMode != AfterFailureMode.NOT_SET) {
 			appendProperty(propertiesLines, AFTER_FAILURE_KEY, afterFailureMode.name(), helpAfterFailureMode(afterFailureMode));
@@ -142,7 +174,7 @@ public class ExecutionResultReport {
 			appendProperty(propertiesLines, EDGE_CASES_TRIED_KEY, executionResult.edgeCases()
 																				 .tried(), "# of edge cases tried in current run");
 		}
-		appendProperty(propertiesLines, SEED_KEY, randomSeed, "random seed to reproduce generated values");
+		appendProperty(propertiesLines, SEED_KEY, randomSeed, "random seed from which the values of each try are derived");
 
 		prependFixedSizedPropertiesHeader(reportLines, propertiesLines);
 		propertiesLines.forEach(reportLines::append);
@@ -188,8 +220,10 @@ public class ExecutionResultReport {
 				return "only try the previously failed sample";
 			case SAMPLE_FIRST:
 				return "try previously failed sample, then previous seed";
+			case PREVIOUS_TRY:
+				return "use the previous seed starting with the failing try";
 			default:
-				return "RANDOM_SEED, PREVIOUS_SEED or SAMPLE_FIRST";
+				return "RANDOM_SEED, PREVIOUS_SEED, SAMPLE_FIRST or PREVIOUS_TRY";
 		}
 	}
 
@@ -214,8 +248,10 @@ public class ExecutionResultReport {
 				return "parameters are exhaustively generated";
 			case DATA_DRIVEN:
 				return "parameters are taken from data provider";
+			case GUIDED:
+				return "parameters are generated guided by previous tries";
 			default:
-				return "RANDOMIZED, EXHAUSTIVE or DATA_DRIVEN";
+				return "RANDOMIZED, EXHAUSTIVE, DATA_DRIVEN or GUIDED";
 		}
 	}
 
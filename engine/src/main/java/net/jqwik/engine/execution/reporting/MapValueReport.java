@@ -8,19 +8,32 @@ class MapValueReport extends ValueReport {
 	private static final int MAX_LINE_LENGTH = 100;
 
 	private final List<Map.Entry<ValueReport, ValueReport>> reportEntries;
+	private final Optional<ValueReport> elidedEntries;
 
-	MapValueReport(final Optional<String> label, final List<Map.Entry<ValueReport, ValueReport>> reportEntries) {
+	private String singleLine;
+
+	MapValueReport(
+		final Optional<String> label,
+		final List<Map.Entry<ValueReport, ValueReport>> reportEntries,
+		final Optional<ValueReport> elidedEntries
+	) {
 		super(label);
 		this.reportEntries = reportEntries;
+		this.elidedEntries = elidedEntries;
 	}
 
 	@Override
 	public String singleLineReport() {
-		return label.orElse("") + "{" + singleLineEntries() + "}";
+		if (singleLine == null) {
+			singleLine = label.orElse("") + "{" + singleLineEntries() + "}";
+		}
+		return singleLine;
 	}
 
 	private String singleLineEntries() {
-		return reportEntries.stream().map(this::singleLineEntry).collect(Collectors.joining(", "));
+		Stream<String> entries = reportEntries.stream().map(this::singleLineEntry);
+		Stream<String> elided = elidedEntries.map(ValueReport::singleLineReport).map(Stream::of).orElse(Stream.empty());
+		return Stream.concat(entries, elided).collect(Collectors.joining(", "));
 	}
 
 	private String singleLineEntry(final Map.Entry<ValueReport, ValueReport> entry) {
@@ -36,7 +49,7 @@ class MapValueReport extends ValueReport {
 
 	private void reportEntries(LineReporter lineReporter, int indentLevel) {
 		for (int i = 0; i < reportEntries.size(); i++) {
-			boolean isNotLast = i < reportEntries.size() - 1;
+			boolean isNotLast = i < reportEntries.size() - 1 || elidedEntries.isPresent();
 			Map.Entry<ValueReport, ValueReport> reportEntry = reportEntries.get(i);
 			String optionalComma = isNotLast ? ", " : "";
 			String singleLineEntry = singleLineEntry(reportEntry);
@@ -47,5 +60,6 @@ class MapValueReport extends ValueReport {
 				reportEntry.getValue().report(lineReporter, indentLevel + 1, optionalComma);
 			}
 		}
+		elidedEntries.ifPresent(elided -> elided.report(lineReporter, indentLevel, ""));
 	}
 }
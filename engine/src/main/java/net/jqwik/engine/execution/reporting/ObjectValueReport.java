@@ -6,27 +6,40 @@ import net.jqwik.engine.support.*;
 
 class ObjectValueReport extends ValueReport {
 
+	private final Object value;
+	private final int maxCharacters;
+
+	// Lines are only created when the report is rendered
 	private List<String> lines;
 
-	ObjectValueReport(Optional<String> header, Object value) {
+	ObjectValueReport(Optional<String> header, Object value, int maxCharacters) {
 		super(header);
-		this.lines = toStringLines(value);
+		this.value = value;
+		this.maxCharacters = maxCharacters;
+	}
+
+	private List<String> lines() {
+		if (lines == null) {
+			lines = toStringLines(value);
+		}
+		return lines;
 	}
 
 	private List<String> toStringLines(Object value) {
-		String s = JqwikStringSupport.displayString(value);
+		String s = JqwikStringSupport.displayString(value, maxCharacters);
 		return JqwikStringSupport.toLines(s);
 	}
 
 	@Override
 	public String singleLineReport() {
-		return label.orElse("") + String.join(" ", lines);
+		return label.orElse("") + String.join(" ", lines());
 	}
 
 	@Override
 	public void report(LineReporter lineReporter, int indentLevel, String appendix) {
 		label.ifPresent(headerString -> lineReporter.addLine(indentLevel, headerString));
 		int linesIndentLevel = label.map(ignore -> indentLevel + 1).orElse(indentLevel);
+		List<String> lines = lines();
 		for (int i = 0; i < lines.size(); i++) {
 			String line = lines.get(i);
 			boolean isNotLastLine = i < lines.size() - 1;
@@ -0,0 +1,51 @@
+package net.jqwik.engine.execution.reporting;
+
+/**
+ * Bounds the size of reported sample values so that huge samples neither flood a report nor exhaust the heap.
+ */
+public class ReportingLimits {
+
+	public static final ReportingLimits DEFAULT = new ReportingLimits(1000, 20, 10_000);
+
+	private final int maxElements;
+	private final int maxDepth;
+	private final int maxCharacters;
+
+	public ReportingLimits(int maxElements, int maxDepth, int maxCharacters) {
+		if (maxElements < 0 || maxDepth < 0 || maxCharacters < 0) {
+			throw new IllegalArgumentException("Reporting limits must not be negative");
+		}
+		this.maxElements = maxElements;
+		this.maxDepth = maxDepth;
+		this.maxCharacters = maxCharacters;
+	}
+
+	/**
+	 * @return the maximum number of elements or entries reported for a single collection or map
+	 */
+	public int maxElements() {
+		return maxElements;
+	}
+
+	/**
+	 * @return the maximum nesting of collections, maps and tuples that are reported element by element
+	 */
+	public int maxDepth() {
+		return maxDepth;
+	}
+
+	/**
+	 * @return the maximum number of characters reported for a single value
+	 */
+	public int maxCharacters() {
+		return maxCharacters;
+	}
+
+	@Override
+	public String toString() {
+		return String.format(
+			"ReportingLimits(maxElements=%s, maxDepth=%s, maxCharacters=%s)",
+			maxElements, maxDepth, maxCharacters
+		);
+	}
+}
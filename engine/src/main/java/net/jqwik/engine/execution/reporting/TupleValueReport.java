@@ -9,6 +9,8 @@ class TupleValueReport extends ValueReport {
 
 	private final List<ValueReport> tupleReports;
 
+	private String singleLine;
+
 	TupleValueReport(Optional<String> label, List<ValueReport> tupleReports) {
 		super(label);
 		this.tupleReports = tupleReports;
@@ -16,7 +18,10 @@ class TupleValueReport extends ValueReport {
 
 	@Override
 	public String singleLineReport() {
-		return label.orElse("") + "(" + singleLineReports() + ")";
+		if (singleLine == null) {
+			singleLine = label.orElse("") + "(" + singleLineReports() + ")";
+		}
+		return singleLine;
 	}
 
 	private String singleLineReports() {
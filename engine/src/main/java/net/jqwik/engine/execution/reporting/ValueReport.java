@@ -12,13 +12,21 @@ public abstract class ValueReport {
 	}
 
 	public static ValueReport of(Object value) {
+		return of(value, ReportingLimits.DEFAULT);
+	}
+
+	public static ValueReport of(Object value, ReportingLimits limits) {
 		ReportingFormatFinder formatFinder = reportingFormatFinder();
-		return of(value, formatFinder);
+		return of(value, formatFinder, limits);
 	}
 
 	static ValueReport of(Object value, ReportingFormatFinder formatFinder) {
+		return of(value, formatFinder, ReportingLimits.DEFAULT);
+	}
+
+	static ValueReport of(Object value, ReportingFormatFinder formatFinder, ReportingLimits limits) {
 		final Set<Object> visited = visitedSet(Collections.emptySet());
-		return of(value, formatFinder, visited);
+		return of(value, formatFinder, limits, visited, 0);
 	}
 
 	private static Set<Object> visitedSet(Set<Object> from) {
@@ -27,7 +35,13 @@ public abstract class ValueReport {
 		return objects;
 	}
 
-	private static ValueReport of(Object value, ReportingFormatFinder formatFinder, Set<Object> visited) {
+	private static ValueReport of(
+		Object value,
+		ReportingFormatFinder formatFinder,
+		ReportingLimits limits,
+		Set<Object> visited,
+		int depth
+	) {
 		SampleReportingFormat format = formatFinder.find(value);
 		if (visited.contains(value)) {
 			return new CircularDependencyReport(format.label(value), value);
@@ -37,30 +51,32 @@ public abstract class ValueReport {
 		Object reportedValue = format.report(value);
 		if (reportedValue instanceof Collection) {
 			//noinspection unchecked
-			return createCollectionReport(format.label(value), (Collection<Object>) reportedValue, formatFinder, visited);
+			return createCollectionReport(format.label(value), (Collection<Object>) reportedValue, formatFinder, limits, visited, depth);
 		}
 		if (reportedValue instanceof Map) {
 			//noinspection unchecked
-			return createMapReport(format.label(value), (Map<Object, Object>) reportedValue, formatFinder, visited);
+			return createMapReport(format.label(value), (Map<Object, Object>) reportedValue, formatFinder, limits, visited, depth);
 		}
 		if (reportedValue instanceof Tuple) {
 			//noinspection unchecked
-			return createTupleReport(format.label(value), (Tuple) reportedValue, formatFinder, visited);
+			return createTupleReport(format.label(value), (Tuple) reportedValue, formatFinder, limits, visited, depth);
 		}
 		visited.remove(value);
-		return new ObjectValueReport(format.label(value), reportedValue);
+		return new ObjectValueReport(format.label(value), reportedValue, limits.maxCharacters());
 	}
 
 	private static ValueReport createTupleReport(
 		Optional<String> label,
 		Tuple tuple,
 		ReportingFormatFinder formatFinder,
-		final Set<Object> visited
+		ReportingLimits limits,
+		final Set<Object> visited,
+		int depth
 	) {
 		List<ValueReport> tupleReports =
 			tuple.items()
 				 .stream()
-				 .map(value -> of(value, formatFinder, visitedSet(visited)))
+				 .map(value -> of(value, formatFinder, limits, visitedSet(visited), depth + 1))
 				 .collect(Collectors.toList());
 
 		return new TupleValueReport(label, tupleReports);
@@ -70,14 +86,18 @@ public abstract class ValueReport {
 		final Optional<String> label,
 		final Map<Object, Object> map,
 		final ReportingFormatFinder formatFinder,
-		final Set<Object> visited
+		final ReportingLimits limits,
+		final Set<Object> visited,
+		final int depth
 	) {
+		int entriesToReport = numberOfElementsToReport(map.size(), depth, limits);
 		List<Map.Entry<ValueReport, ValueReport>> reportEntries =
 			map.entrySet()
 			   .stream()
+			   .limit(entriesToReport)
 			   .map(entry -> {
-				   ValueReport keyReport = of(entry.getKey(), formatFinder, visitedSet(visited));
-				   ValueReport valueReport = of(entry.getValue(), formatFinder, visitedSet(visited));
+				   ValueReport keyReport = of(entry.getKey(), formatFinder, limits, visitedSet(visited), depth + 1);
+				   ValueReport valueReport = of(entry.getValue(), formatFinder, limits, visitedSet(visited), depth + 1);
 				   return new Map.Entry<ValueReport, ValueReport>() {
 					   @Override
 					   public ValueReport getKey() {
@@ -96,23 +116,44 @@ public abstract class ValueReport {
 				   };
 			   })
 			   .collect(Collectors.toList());
-		return new MapValueReport(label, reportEntries);
+		Optional<ValueReport> elidedEntries = elidedElementsReport(map.size() - entriesToReport, "entries", map);
+		return new MapValueReport(label, reportEntries, elidedEntries);
 	}
 
 	private static ValueReport createCollectionReport(
 		Optional<String> label,
 		Collection<Object> collection,
 		ReportingFormatFinder formatFinder,
-		final Set<Object> visited
+		ReportingLimits limits,
+		final Set<Object> visited,
+		int depth
 	) {
+		int elementsToReport = numberOfElementsToReport(collection.size(), depth, limits);
 		List<ValueReport> reportCollection =
 			collection
 				.stream()
-				.map(element -> of(element, formatFinder, visitedSet(visited)))
-				.collect(Collectors.toList());
+				.limit(elementsToReport)
+				.map(element -> of(element, formatFinder, limits, visitedSet(visited), depth + 1))
+				.collect(Collectors.toCollection(ArrayList::new));
+		elidedElementsReport(collection.size() - elementsToReport, "elements", collection)
+			.ifPresent(reportCollection::add);
 		return new CollectionValueReport(label, reportCollection);
 	}
 
+	private static int numberOfElementsToReport(int size, int depth, ReportingLimits limits) {
+		if (depth >= limits.maxDepth()) {
+			return 0;
+		}
+		return Math.min(size, limits.maxElements());
+	}
+
+	private static Optional<ValueReport> elidedElementsReport(int count, String kind, Object elidedFrom) {
+		if (count <= 0) {
+			return Optional.empty();
+		}
+		return Optional.of(new ElidedElementsReport(count, kind, elidedFrom));
+	}
+
 	private static ReportingFormatFinder reportingFormatFinder() {
 		List<SampleReportingFormat> formats = new ArrayList<>(RegisteredSampleReportingFormats.getReportingFormats());
 		Collections.sort(formats);
@@ -162,6 +162,16 @@ public class ArbitrariesFacadeImpl extends Arbitraries.ArbitrariesFacade {
 		return LazyOfArbitrary.of(hashIdentifier, suppliers);
 	}
 
+	@Override
+	public InputStreamArbitrary inputStreams() {
+		return new DefaultInputStreamArbitrary();
+	}
+
+	@Override
+	public ByteBufferArbitrary byteBuffers() {
+		return new DefaultByteBufferArbitrary();
+	}
+
 	/**
 	 * The calculated cash is supposed to be the same for the same callers of Arbitraries.lazyOf()
 	 * This is important to have a single instance of LazyOfArbitrary for the same code.
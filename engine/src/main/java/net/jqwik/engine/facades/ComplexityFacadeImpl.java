@@ -0,0 +1,22 @@
+package net.jqwik.engine.facades;
+
+import net.jqwik.api.*;
+import net.jqwik.api.lifecycle.*;
+import net.jqwik.api.statistics.*;
+import net.jqwik.engine.hooks.statistics.*;
+
+/**
+ * Is loaded through reflection in api module
+ */
+public class ComplexityFacadeImpl extends Complexity.ComplexityFacade {
+
+	@Override
+	public void record(int size, long nanos) {
+		try {
+			Store<ComplexityMeasurements> measurementsStore = Store.get(ComplexityMeasurements.MEASUREMENTS_ID);
+			measurementsStore.get().record(size, nanos);
+		} catch (CannotFindStoreException cannotFindStore) {
+			throw new JqwikException("Complexity.measure() can only be used in properties annotated with @ExpectComplexity");
+		}
+	}
+}
@@ -0,0 +1,20 @@
+package net.jqwik.engine.facades;
+
+import net.jqwik.api.*;
+import net.jqwik.engine.properties.*;
+
+/**
+ * Is loaded through reflection in api module
+ */
+public class GuidanceFacadeImpl extends Guidance.GuidanceFacade {
+
+	@Override
+	public void probe(Object probe) {
+		GuidanceProbes.current().record(probe);
+	}
+
+	@Override
+	public void target(double value) {
+		GuidanceProbes.current().recordTarget(value);
+	}
+}
@@ -5,13 +5,12 @@ import java.util.function.*;
 
 import net.jqwik.api.*;
 import net.jqwik.api.Tuple.*;
-import net.jqwik.api.lifecycle.*;
+import net.jqwik.engine.execution.lifecycle.*;
 
 class Memoize {
 
-	private static Store<Map<Tuple3<Arbitrary<?>, Integer, Boolean>, RandomGenerator<?>>> generatorStore() {
-		return Store.getOrCreate(Memoize.class, Lifespan.PROPERTY, HashMap::new);
-	}
+	private static final LifespanLocal<Map<Tuple3<Arbitrary<?>, Integer, Boolean>, RandomGenerator<?>>> generators =
+		LifespanLocal.forProperty(HashMap::new);
 
 	@SuppressWarnings("unchecked")
 	static <U> RandomGenerator<U> memoizedGenerator(
@@ -23,7 +22,7 @@ class Memoize {
 		Tuple3<Arbitrary<?>, Integer, Boolean> key = Tuple.of(arbitrary, genSize, withEdgeCases);
 
 		RandomGenerator<?> generator = computeIfAbsent(
-				generatorStore().get(),
+				generators.get(),
 				key,
 				ignore -> generatorSupplier.get()
 		);
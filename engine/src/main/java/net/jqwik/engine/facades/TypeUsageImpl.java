@@ -7,6 +7,8 @@ import java.util.concurrent.*;
 import java.util.function.*;
 import java.util.stream.*;
 
+import net.jqwik.api.*;
+import net.jqwik.api.Tuple.*;
 import net.jqwik.api.providers.*;
 import net.jqwik.engine.support.*;
 
@@ -14,6 +16,19 @@ public class TypeUsageImpl implements TypeUsage {
 
 	private static final Map<TypeVariable<?>, TypeUsageImpl> resolved = new ConcurrentHashMap<>();
 
+	private static final int MAX_CACHED_ASSIGNABILITIES = 1000;
+
+	// Assignability only depends on the structure of both types, which does not change after creation.
+	// Only types without type variables are cached since comparing recursive type variables can go on forever.
+	// Least recently used entries are evicted since types of all properties in a run would pile up otherwise.
+	private static final Map<Tuple2<TypeUsage, TypeUsage>, Boolean> assignability =
+		new LinkedHashMap<Tuple2<TypeUsage, TypeUsage>, Boolean>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Tuple2<TypeUsage, TypeUsage>, Boolean> eldest) {
+				return size() > MAX_CACHED_ASSIGNABILITIES;
+			}
+		};
+
 	static final String WILDCARD = "?";
 
 	public static TypeUsage forResolution(TypeResolution typeResolution) {
@@ -265,6 +280,7 @@ public class TypeUsageImpl implements TypeUsage {
 
 	private final List<TypeUsage> upperBounds = new ArrayList<>();
 	private final List<TypeUsage> lowerBounds = new ArrayList<>();
+	private volatile Boolean freeOfTypeVariables = null;
 
 	TypeUsageImpl(
 		Class<?> rawType,
@@ -363,6 +379,59 @@ public class TypeUsageImpl implements TypeUsage {
 
 	@Override
 	public boolean canBeAssignedTo(TypeUsage targetType) {
+		if (!isFreeOfTypeVariables(this) || !isFreeOfTypeVariables(targetType)) {
+			return calculateCanBeAssignedTo(targetType);
+		}
+		Tuple2<TypeUsage, TypeUsage> key = Tuple.of(this, targetType);
+		Boolean canBeAssigned = lookupAssignability(key);
+		if (canBeAssigned == null) {
+			// Calculated outside of lock since calculation can recursively check other assignabilities
+			canBeAssigned = calculateCanBeAssignedTo(targetType);
+			rememberAssignability(key, canBeAssigned);
+		}
+		return canBeAssigned;
+	}
+
+	private static Boolean lookupAssignability(Tuple2<TypeUsage, TypeUsage> key) {
+		synchronized (assignability) {
+			return assignability.get(key);
+		}
+	}
+
+	private static void rememberAssignability(Tuple2<TypeUsage, TypeUsage> key, boolean canBeAssigned) {
+		synchronized (assignability) {
+			assignability.put(key, canBeAssigned);
+		}
+	}
+
+	/**
+	 * Only types without type variables have an equality that is cheap and safe to use as cache key.
+	 *
+	 * @param typeUsage a type
+	 * @return true if neither the type nor its type arguments or bounds contain a type variable
+	 */
+	public static boolean isFreeOfTypeVariables(TypeUsage typeUsage) {
+		if (!(typeUsage instanceof TypeUsageImpl)) {
+			return false;
+		}
+		TypeUsageImpl typeUsageImpl = (TypeUsageImpl) typeUsage;
+		// Calculated on first use since type arguments and bounds are added while a type usage is being created
+		if (typeUsageImpl.freeOfTypeVariables == null) {
+			typeUsageImpl.freeOfTypeVariables = calculateIsFreeOfTypeVariables(typeUsageImpl);
+		}
+		return typeUsageImpl.freeOfTypeVariables;
+	}
+
+	private static boolean calculateIsFreeOfTypeVariables(TypeUsageImpl typeUsage) {
+		if (typeUsage.isTypeVariable()) {
+			return false;
+		}
+		return Stream.of(typeUsage.getTypeArguments(), typeUsage.getUpperBounds(), typeUsage.getLowerBounds())
+					 .flatMap(Collection::stream)
+					 .allMatch(TypeUsageImpl::isFreeOfTypeVariables);
+	}
+
+	private boolean calculateCanBeAssignedTo(TypeUsage targetType) {
 		if (targetType.isTypeVariableOrWildcard()) {
 			return canBeAssignedToUpperBounds(this, targetType) && canBeAssignedToLowerBounds(this, targetType);
 		}
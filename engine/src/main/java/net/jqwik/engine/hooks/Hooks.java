@@ -17,6 +17,9 @@ public class Hooks {
 		// Should run outside of standard hooks
 		public static final int STATISTICS_PROXIMITY = -50;
 
+		// Should run outside of statistics so that complexity is only checked after coverage has been checked
+		public static final int COMPLEXITY_PROXIMITY = -60;
+
 		// Should run close to property method
 		public static final int PROPERTY_LIFECYCLE_METHODS_PROXIMITY = -10;
 	}
@@ -0,0 +1,71 @@
+package net.jqwik.engine.hooks.statistics;
+
+import java.util.*;
+
+import net.jqwik.api.lifecycle.*;
+import net.jqwik.api.statistics.*;
+import net.jqwik.engine.hooks.*;
+import net.jqwik.engine.support.*;
+
+public class ComplexityHook implements AroundPropertyHook {
+
+	@Override
+	public PropertyExecutionResult aroundProperty(PropertyLifecycleContext context, PropertyExecutor property) throws Throwable {
+		Optional<ExpectComplexity> optionalExpectComplexity = context.findAnnotation(ExpectComplexity.class);
+		if (!optionalExpectComplexity.isPresent()) {
+			return property.execute();
+		}
+		ExpectComplexity expectComplexity = optionalExpectComplexity.get();
+		Store<ComplexityMeasurements> measurementsStore =
+			Store.create(
+				ComplexityMeasurements.MEASUREMENTS_ID,
+				Lifespan.PROPERTY,
+				() -> new ComplexityMeasurements(expectComplexity.warmup())
+			);
+
+		PropertyExecutionResult testExecutionResult = property.execute();
+
+		ComplexityMeasurements measurements = measurementsStore.get();
+		report(measurements, context);
+		if (testExecutionResult.status() == PropertyExecutionResult.Status.SUCCESSFUL) {
+			return checkComplexity(testExecutionResult, measurements, expectComplexity);
+		}
+		return testExecutionResult;
+	}
+
+	private PropertyExecutionResult checkComplexity(
+		PropertyExecutionResult testExecutionResult,
+		ComplexityMeasurements measurements,
+		ExpectComplexity expectComplexity
+	) {
+		try {
+			measurements.check(expectComplexity.value(), expectComplexity.minSizes());
+			return testExecutionResult;
+		} catch (Throwable throwable) {
+			JqwikExceptionSupport.rethrowIfBlacklisted(throwable);
+			return testExecutionResult.mapToFailed(throwable);
+		}
+	}
+
+	private void report(ComplexityMeasurements measurements, PropertyLifecycleContext context) {
+		SortedMap<Integer, Long> minNanosPerSize = measurements.minNanosPerSize();
+		if (minNanosPerSize.isEmpty()) {
+			return;
+		}
+		Map<String, Object> report = new LinkedHashMap<>();
+		minNanosPerSize.forEach((size, nanos) -> report.put(String.format("n = %s", size), String.format("%sns", nanos)));
+		report.put("best fit", measurements.bestFit());
+		context.reporter().publishReports(String.format("[%s] complexity", context.extendedLabel()), report);
+	}
+
+	@Override
+	public PropagationMode propagateTo() {
+		return PropagationMode.ALL_DESCENDANTS;
+	}
+
+	@Override
+	public int aroundPropertyProximity() {
+		return Hooks.AroundProperty.COMPLEXITY_PROXIMITY;
+	}
+
+}
@@ -0,0 +1,138 @@
+package net.jqwik.engine.hooks.statistics;
+
+import java.util.*;
+
+import org.opentest4j.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.statistics.*;
+
+/**
+ * Collects the running times recorded with {@linkplain Complexity#measure(int, Runnable)}
+ * and fits them against all {@linkplain ComplexityClass complexity classes}.
+ *
+ * <p>
+ * For each size the minimum of its measured times is used since noise can only make code slower.
+ * The best fitting class is the one with the smallest relative least squares error
+ * of {@code time = factor * growth(size)}.
+ * </p>
+ *
+ * <p>
+ * A check only fails if a faster growing class fits clearly better than the expected one,
+ * i.e. if the expected class's error exceeds the best fit's error by {@linkplain #FIT_MARGIN}.
+ * Thereby noise in measurements that makes a neighbouring class fit slightly better does not fail a check.
+ * </p>
+ */
+public class ComplexityMeasurements {
+	public static final Object MEASUREMENTS_ID = Tuple.of(ComplexityMeasurements.class, "measurements");
+
+	// The expected class's error must exceed the best fit's error by this factor to fail a check
+	private static final double FIT_MARGIN = 2.0;
+
+	// Growth between two neighbouring sizes must exceed the expectation by this factor to count as blowup
+	private static final double BLOWUP_TOLERANCE = 2.0;
+
+	private final int warmup;
+	private final TreeMap<Integer, Long> minNanosPerSize = new TreeMap<>();
+	private int countMeasurements = 0;
+
+	public ComplexityMeasurements(int warmup) {
+		this.warmup = warmup;
+	}
+
+	public void record(int size, long nanos) {
+		countMeasurements++;
+		if (countMeasurements <= warmup) {
+			return;
+		}
+		minNanosPerSize.merge(size, Math.max(nanos, 1), Math::min);
+	}
+
+	public SortedMap<Integer, Long> minNanosPerSize() {
+		return Collections.unmodifiableSortedMap(minNanosPerSize);
+	}
+
+	public void check(ComplexityClass expected, int minSizes) {
+		if (minNanosPerSize.size() < minSizes) {
+			String message = String.format(
+				"Complexity %s cannot be checked: only %s different sizes measured after warm-up but %s required",
+				expected,
+				minNanosPerSize.size(),
+				minSizes
+			);
+			throw new AssertionFailedError(message);
+		}
+		ComplexityClass observed = bestFit();
+		if (observed.compareTo(expected) > 0 && fitsClearlyBetter(observed, expected)) {
+			String message = String.format(
+				"Expected complexity %s but observed %s (relative error %.3f instead of %.3f).%s",
+				expected,
+				observed,
+				relativeError(observed),
+				relativeError(expected),
+				blowup(expected).map(sizes -> String.format(
+					"%nRunning time first grows faster than %s between sizes %s and %s",
+					expected,
+					sizes.get1(),
+					sizes.get2()
+				)).orElse("")
+			);
+			throw new AssertionFailedError(message);
+		}
+	}
+
+	public ComplexityClass bestFit() {
+		ComplexityClass best = ComplexityClass.O_1;
+		double bestError = Double.POSITIVE_INFINITY;
+		for (ComplexityClass candidate : ComplexityClass.values()) {
+			double error = relativeError(candidate);
+			if (error < bestError) {
+				best = candidate;
+				bestError = error;
+			}
+		}
+		return best;
+	}
+
+	private boolean fitsClearlyBetter(ComplexityClass observed, ComplexityClass expected) {
+		return relativeError(expected) > relativeError(observed) * FIT_MARGIN;
+	}
+
+	private double relativeError(ComplexityClass candidate) {
+		double sumTimesGrowth = 0;
+		double sumGrowthSquared = 0;
+		double sumTimes = 0;
+		for (Map.Entry<Integer, Long> entry : minNanosPerSize.entrySet()) {
+			double growth = candidate.growth(entry.getKey());
+			if (Double.isInfinite(growth)) {
+				return Double.POSITIVE_INFINITY;
+			}
+			sumTimesGrowth += entry.getValue() * growth;
+			sumGrowthSquared += growth * growth;
+			sumTimes += entry.getValue();
+		}
+		double factor = sumTimesGrowth / sumGrowthSquared;
+		double sumErrorSquared = 0;
+		for (Map.Entry<Integer, Long> entry : minNanosPerSize.entrySet()) {
+			double error = entry.getValue() - factor * candidate.growth(entry.getKey());
+			sumErrorSquared += error * error;
+		}
+		double meanTime = sumTimes / minNanosPerSize.size();
+		return Math.sqrt(sumErrorSquared / minNanosPerSize.size()) / meanTime;
+	}
+
+	private Optional<Tuple.Tuple2<Integer, Integer>> blowup(ComplexityClass expected) {
+		Map.Entry<Integer, Long> previous = null;
+		for (Map.Entry<Integer, Long> current : minNanosPerSize.entrySet()) {
+			if (previous != null) {
+				double observedGrowth = (double) current.getValue() / previous.getValue();
+				double expectedGrowth = expected.growth(current.getKey()) / expected.growth(previous.getKey());
+				if (observedGrowth > expectedGrowth * BLOWUP_TOLERANCE) {
+					return Optional.of(Tuple.of(previous.getKey(), current.getKey()));
+				}
+			}
+			previous = current;
+		}
+		return Optional.empty();
+	}
+}
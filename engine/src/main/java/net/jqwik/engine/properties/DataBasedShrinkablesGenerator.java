@@ -10,11 +10,15 @@ import net.jqwik.engine.support.*;
 
 public class DataBasedShrinkablesGenerator implements ForAllParametersGenerator {
 
-	private final List<MethodParameter> forAllParameters;
+	private final List<TypeUsage> parameterTypes;
 	private final Iterator<? extends Tuple> iterator;
 
+	// Value classes already known to be compatible with the parameter at the same position
+	private final List<Set<Class<?>>> compatibleValueClasses;
+
 	public DataBasedShrinkablesGenerator(List<MethodParameter> forAllParameters, Iterable<? extends Tuple> data) {
-		this.forAllParameters = forAllParameters;
+		this.parameterTypes = forAllParameters.stream().map(TypeUsageImpl::forParameter).collect(Collectors.toList());
+		this.compatibleValueClasses = forAllParameters.stream().map(ignore -> new HashSet<Class<?>>()).collect(Collectors.toList());
 		this.iterator = data.iterator();
 	}
 
@@ -26,30 +30,33 @@ public class DataBasedShrinkablesGenerator implements ForAllParametersGenerator
 	@Override
 	public List<Shrinkable<Object>> next() {
 		Tuple tuple = iterator.next();
-		checkCompatibility(tuple);
-		return tuple.items().stream().map(Shrinkable::unshrinkable).collect(Collectors.toList());
+		List<Object> items = tuple.items();
+		checkCompatibility(tuple, items);
+		List<Shrinkable<Object>> shrinkables = new ArrayList<>(items.size());
+		for (Object item : items) {
+			shrinkables.add(Shrinkable.unshrinkable(item));
+		}
+		return shrinkables;
 	}
 
-	private void checkCompatibility(Tuple tuple) {
-		if (tuple.size() != forAllParameters.size()) {
+	private void checkCompatibility(Tuple tuple, List<Object> items) {
+		if (items.size() != parameterTypes.size()) {
 			throw new IncompatibleDataException(createIncompatibilityMessage(tuple));
 		}
-		for (int i = 0; i < tuple.items().size(); i++) {
-			TypeUsage valueType = TypeUsage.of(tuple.items().get(i).getClass());
-			TypeUsage parameterType = TypeUsageImpl.forParameter(forAllParameters.get(i));
-			if (!valueType.canBeAssignedTo(parameterType)) {
+		for (int i = 0; i < items.size(); i++) {
+			Class<?> valueClass = items.get(i).getClass();
+			Set<Class<?>> compatibleClasses = compatibleValueClasses.get(i);
+			if (compatibleClasses.contains(valueClass)) {
+				continue;
+			}
+			if (!TypeUsage.of(valueClass).canBeAssignedTo(parameterTypes.get(i))) {
 				throw new IncompatibleDataException(createIncompatibilityMessage(tuple));
 			}
+			compatibleClasses.add(valueClass);
 		}
 	}
 
 	private String createIncompatibilityMessage(Tuple tuple) {
-		List<TypeUsage> parameterTypes =
-			this.forAllParameters
-				.stream()
-				.map(TypeUsageImpl::forParameter)
-				.collect(Collectors.toList());
-
 		return String.format(
 			"Data tuple %s is not compatible with parameters %s",
 			tuple,
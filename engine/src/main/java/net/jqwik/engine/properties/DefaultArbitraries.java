@@ -12,7 +12,14 @@ import net.jqwik.engine.providers.*;
  */
 public class DefaultArbitraries {
 
+	// Default providers are stateless. Sharing them allows caching of resolved providers across resolvers.
+	private static final List<ArbitraryProvider> defaultProviders = createDefaultProviders();
+
 	public static List<ArbitraryProvider> getDefaultProviders() {
+		return new ArrayList<>(defaultProviders);
+	}
+
+	private static List<ArbitraryProvider> createDefaultProviders() {
 		ArrayList<ArbitraryProvider> providers = new ArrayList<>();
 		providers.add(new EnumArbitraryProvider());
 		providers.add(new ListArbitraryProvider());
@@ -42,6 +42,33 @@ public interface ForAllParametersGenerator extends Iterator<List<Shrinkable<Obje
 				}
 				return afterSuccessGenerator.edgeCasesTried();
 			}
+
+			@Override
+			public Optional<Integer> lastTryIndex() {
+				if (first.hasNext()) {
+					return first.lastTryIndex();
+				}
+				return afterSuccessGenerator.lastTryIndex();
+			}
+
+			@Override
+			public Optional<Long> lastTrySeed() {
+				if (first.hasNext()) {
+					return first.lastTrySeed();
+				}
+				return afterSuccessGenerator.lastTrySeed();
+			}
+
+			@Override
+			public int countReplayedTries() {
+				return first.countReplayedTries() + afterSuccessGenerator.countReplayedTries();
+			}
+
+			@Override
+			public void finish() {
+				first.finish();
+				afterSuccessGenerator.finish();
+			}
 		};
 	}
 
@@ -53,4 +80,32 @@ public interface ForAllParametersGenerator extends Iterator<List<Shrinkable<Obje
 		return 0;
 	}
 
+	/**
+	 * The index of the last generated try if the generator can later start directly with that try.
+	 */
+	default Optional<Integer> lastTryIndex() {
+		return Optional.empty();
+	}
+
+	/**
+	 * The seed from which the parameters of the last generated try can be regenerated directly.
+	 */
+	default Optional<Long> lastTrySeed() {
+		return Optional.empty();
+	}
+
+	/**
+	 * The number of tries generated so far that replayed previously failing tries.
+	 * Replayed tries do not count against the property's maximum number of tries.
+	 */
+	default int countReplayedTries() {
+		return 0;
+	}
+
+	/**
+	 * Called once after the last generated try has been executed successfully.
+	 */
+	default void finish() {
+	}
+
 }
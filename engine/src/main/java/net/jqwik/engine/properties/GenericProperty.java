@@ -3,7 +3,6 @@ package net.jqwik.engine.properties;
 import java.lang.reflect.*;
 import java.util.*;
 import java.util.function.*;
-import java.util.stream.*;
 
 import net.jqwik.api.*;
 import net.jqwik.api.lifecycle.*;
@@ -21,6 +20,7 @@ public class GenericProperty {
 	private final ParametersGenerator parametersGenerator;
 	private final TryLifecycleExecutor tryLifecycleExecutor;
 	private final Supplier<TryLifecycleContext> tryLifecycleContextSupplier;
+	private final LongSupplier nanoClock;
 
 	public GenericProperty(
 		String name,
@@ -28,26 +28,51 @@ public class GenericProperty {
 		ParametersGenerator parametersGenerator,
 		TryLifecycleExecutor tryLifecycleExecutor,
 		Supplier<TryLifecycleContext> tryLifecycleContextSupplier
+	) {
+		this(name, configuration, parametersGenerator, tryLifecycleExecutor, tryLifecycleContextSupplier, System::nanoTime);
+	}
+
+	// Only visible for testing time budgets without relying on wall-clock time
+	GenericProperty(
+		String name,
+		PropertyConfiguration configuration,
+		ParametersGenerator parametersGenerator,
+		TryLifecycleExecutor tryLifecycleExecutor,
+		Supplier<TryLifecycleContext> tryLifecycleContextSupplier,
+		LongSupplier nanoClock
 	) {
 		this.name = name;
 		this.configuration = configuration;
 		this.parametersGenerator = parametersGenerator;
 		this.tryLifecycleExecutor = tryLifecycleExecutor;
 		this.tryLifecycleContextSupplier = tryLifecycleContextSupplier;
+		this.nanoClock = nanoClock;
 	}
 
 	public PropertyCheckResult check(Reporter reporter, Reporting[] reporting) {
-		int maxTries = configuration.getTries();
+		ValueMemoization.setEnabledForCurrentProperty(configuration.getMemoizeValues());
+		TryTimeBudget timeBudget = TryTimeBudget.start(configuration.getMaxDuration(), nanoClock);
+		PropertyCheckResult checkResult = runTries(reporter, reporting, timeBudget);
+		return checkResult.withTriesDuration(timeBudget.elapsed());
+	}
+
+	private PropertyCheckResult runTries(Reporter reporter, Reporting[] reporting, TryTimeBudget timeBudget) {
+		int maxTries = configuration.getMaxTries();
+		boolean reportGenerated = Reporting.GENERATED.containedIn(reporting);
 		int countChecks = 0;
 		int countTries = 0;
 		boolean finishEarly = false;
-		while (countTries < maxTries) {
+		// Replayed tries come on top of the maximum number of tries
+		while (countTries - parametersGenerator.countReplayedTries() < maxTries) {
 			if (finishEarly) {
 				break;
 			}
 			if (!parametersGenerator.hasNext()) {
 				break;
 			}
+			if (!timeBudget.hasTimeForAnotherTry(countTries)) {
+				break;
+			}
 			countTries++;
 
 			TryLifecycleContext tryLifecycleContext = tryLifecycleContextSupplier.get();
@@ -56,12 +81,13 @@ public class GenericProperty {
 
 			try {
 				countChecks++;
-				TryExecutionResult tryExecutionResult = testPredicate(tryLifecycleContext, sample, reporter, reporting);
+				TryExecutionResult tryExecutionResult = testPredicate(tryLifecycleContext, sample, reporter, reportGenerated);
 				switch (tryExecutionResult.status()) {
 					case SATISFIED:
 						finishEarly = tryExecutionResult.shouldPropertyFinishEarly();
 						continue;
 					case FALSIFIED:
+						timeBudget.stop();
 						FalsifiedSample falsifiedSample = new FalsifiedSampleImpl(
 							sample,
 							shrinkableParams,
@@ -97,6 +123,7 @@ public class GenericProperty {
 			} catch (Throwable throwable) {
 				// Only not AssertionErrors and non Exceptions get here
 				JqwikExceptionSupport.rethrowIfBlacklisted(throwable);
+				timeBudget.stop();
 				FalsifiedSample falsifiedSample = new FalsifiedSampleImpl(
 					sample,
 					shrinkableParams,
@@ -106,7 +133,8 @@ public class GenericProperty {
 					configuration.getStereotype(), name, countTries, countChecks, configuration.getSeed(),
 					configuration.getGenerationMode(),
 					configuration.getEdgeCasesMode(), parametersGenerator.edgeCasesTotal(), parametersGenerator.edgeCasesTried(),
-					falsifiedSample, null, throwable
+					falsifiedSample, null, throwable,
+					parametersGenerator.lastTryIndex().orElse(null), parametersGenerator.lastTrySeed().orElse(null)
 				);
 			}
 		}
@@ -114,7 +142,7 @@ public class GenericProperty {
 			return PropertyCheckResult.exhausted(
 				configuration.getStereotype(),
 				name,
-				maxTries,
+				timeBudget.isLimited() ? countTries : maxTries,
 				countChecks,
 				configuration.getSeed(),
 				configuration.getGenerationMode(),
@@ -140,9 +168,9 @@ public class GenericProperty {
 		TryLifecycleContext tryLifecycleContext,
 		List<Object> sample,
 		Reporter reporter,
-		Reporting[] reporting
+		boolean reportGenerated
 	) {
-		if (Reporting.GENERATED.containedIn(reporting)) {
+		if (reportGenerated) {
 			Map<String, Object> reports = SampleReporter.createSampleReports(tryLifecycleContext.targetMethod(), sample);
 			reporter.publishReports("generated", reports);
 		}
@@ -154,8 +182,16 @@ public class GenericProperty {
 		return actualDiscardRatio > maxDiscardRatio;
 	}
 
+	/**
+	 * Every try gets its own list since hooks and lifecycle contexts may keep it beyond the try.
+	 */
 	private List<Object> extractParams(List<Shrinkable<Object>> shrinkableParams) {
-		return shrinkableParams.stream().map(Shrinkable::value).collect(Collectors.toList());
+		int size = shrinkableParams.size();
+		List<Object> params = new ArrayList<>(size);
+		for (int i = 0; i < size; i++) {
+			params.add(shrinkableParams.get(i).value());
+		}
+		return params;
 	}
 
 	private PropertyCheckResult shrinkAndCreateCheckResult(
@@ -167,7 +203,8 @@ public class GenericProperty {
 		return PropertyCheckResult.failed(
 			configuration.getStereotype(), name, countTries, countChecks, configuration.getSeed(), configuration.getGenerationMode(),
 			configuration.getEdgeCasesMode(), parametersGenerator.edgeCasesTotal(), parametersGenerator.edgeCasesTried(),
-			originalSample, shrunkSample, shrunkSample.falsifyingError().orElse(null)
+			originalSample, shrunkSample, shrunkSample.falsifyingError().orElse(null),
+			parametersGenerator.lastTryIndex().orElse(null), parametersGenerator.lastTrySeed().orElse(null)
 		);
 	}
 
@@ -186,6 +223,7 @@ public class GenericProperty {
 			originalSample,
 			configuration.getShrinkingMode(),
 			configuration.boundedShrinkingSeconds(),
+			configuration.boundedShrinkingCalls(),
 			falsifiedSampleReporter,
 			targetMethod
 		);
@@ -0,0 +1,79 @@
+package net.jqwik.engine.properties;
+
+import java.util.*;
+import java.util.stream.*;
+
+import net.jqwik.api.*;
+import net.jqwik.engine.execution.lifecycle.*;
+
+/**
+ * Collects the probes and targets that tries of the current property report through {@linkplain net.jqwik.api.Guidance}.
+ * Probes and targets are only kept while a {@linkplain GuidedShrinkablesGenerator} is active for the current property,
+ * which also records the sample with the best target so far for reporting.
+ */
+public class GuidanceProbes {
+
+	private static final LifespanLocal<GuidanceProbes> current = LifespanLocal.forProperty(GuidanceProbes::new);
+
+	public static GuidanceProbes current() {
+		return current.get();
+	}
+
+	private final Set<Object> probes = new HashSet<>();
+	private double target = Double.NaN;
+	private boolean active = false;
+
+	private double bestTarget = Double.NaN;
+	private List<Shrinkable<Object>> bestSample = null;
+
+	private GuidanceProbes() {
+	}
+
+	public void record(Object probe) {
+		if (active) {
+			probes.add(probe);
+		}
+	}
+
+	public void recordTarget(double value) {
+		if (active && !Double.isNaN(value) && (Double.isNaN(target) || value > target)) {
+			target = value;
+		}
+	}
+
+	void activate() {
+		active = true;
+		probes.clear();
+		target = Double.NaN;
+		bestTarget = Double.NaN;
+		bestSample = null;
+	}
+
+	void recordBestSample(double target, List<Shrinkable<Object>> sample) {
+		bestTarget = target;
+		bestSample = sample;
+	}
+
+	public OptionalDouble bestTarget() {
+		return bestSample == null ? OptionalDouble.empty() : OptionalDouble.of(bestTarget);
+	}
+
+	public List<Object> bestSample() {
+		if (bestSample == null) {
+			return Collections.emptyList();
+		}
+		return bestSample.stream().map(Shrinkable::value).collect(Collectors.toList());
+	}
+
+	Set<Object> takeProbes() {
+		Set<Object> taken = new HashSet<>(probes);
+		probes.clear();
+		return taken;
+	}
+
+	OptionalDouble takeTarget() {
+		OptionalDouble taken = Double.isNaN(target) ? OptionalDouble.empty() : OptionalDouble.of(target);
+		target = Double.NaN;
+		return taken;
+	}
+}
@@ -0,0 +1,324 @@
+package net.jqwik.engine.properties;
+
+import java.util.*;
+import java.util.stream.*;
+
+import net.jqwik.api.*;
+import net.jqwik.engine.*;
+import net.jqwik.engine.properties.shrinking.*;
+import net.jqwik.engine.support.*;
+
+/**
+ * Generates tries guided by the probes and targets that previous tries have reported through {@linkplain Guidance}.
+ *
+ * <p>
+ * The sample of a try that reached a probe not reached by any try before is kept in a corpus.
+ * Later tries either use a fresh randomized sample or mutate a sample from the corpus:
+ * One of its parameters is regenerated, replaced by one of its shrinking candidates
+ * or taken from another sample in the corpus.
+ * </p>
+ *
+ * <p>
+ * As soon as tries report {@linkplain Guidance#target(double) targets} generation also climbs towards higher targets
+ * using simulated annealing: Neighbours of the current sample are created by replacing one parameter
+ * with one of its shrinking or growing candidates or with a parameter of larger shrinking distance
+ * generated with a larger genSize, which is the only way for containers to get more elements.
+ * A neighbour with a lower target replaces the current sample
+ * with a probability that decreases with the difference and with the number of steps taken.
+ * The best target and its sample are reported when the property has finished.
+ * </p>
+ *
+ * <p>
+ * Parameters of kept samples are shared with later samples unless their shrinkable returns the same mutable
+ * value on each call. Those are generated anew so that a try cannot see values mutated by an earlier try.
+ * </p>
+ *
+ * <p>
+ * Probes and targets of a try are taken when the next try is generated or, for the last try,
+ * when generation is {@linkplain #finish() finished}, which relies on tries being executed one after the other.
+ * </p>
+ */
+public class GuidedShrinkablesGenerator implements ForAllParametersGenerator {
+
+	private static final int MAX_CORPUS_SIZE = 1000;
+
+	// Only the first shrinking candidates are considered to keep mutation cheap
+	private static final int MAX_SHRINKING_CANDIDATES = 10;
+
+	// Only the first growing candidates are considered to keep mutation cheap
+	private static final int MAX_GROWING_CANDIDATES = 10;
+
+	// Larger parameters are generated with this factor applied to genSize
+	private static final int ENLARGING_GEN_SIZE_FACTOR = 10;
+
+	// Attempts to generate a parameter with a larger shrinking distance than the one it replaces
+	private static final int MAX_ENLARGING_ATTEMPTS = 10;
+
+	// Temperature relative to the current target; it is multiplied by COOLING_RATE after each step
+	private static final double INITIAL_TEMPERATURE = 0.5;
+	private static final double COOLING_RATE = 0.99;
+
+	public static GuidedShrinkablesGenerator forParameters(
+		List<MethodParameter> parameters,
+		ArbitraryResolver arbitraryResolver,
+		Random random,
+		int genSize,
+		EdgeCasesMode edgeCasesMode,
+		List<Long> replayTrySeeds
+	) {
+		RandomizedShrinkablesGenerator freshGenerator = RandomizedShrinkablesGenerator.forParameters(
+			parameters,
+			arbitraryResolver,
+			random,
+			genSize,
+			edgeCasesMode,
+			replayTrySeeds,
+			0
+		);
+		PurelyRandomShrinkablesGenerator parameterGenerator = RandomizedShrinkablesGenerator.randomShrinkablesGenerator(
+			parameters,
+			arbitraryResolver,
+			genSize,
+			edgeCasesMode.activated()
+		);
+		PurelyRandomShrinkablesGenerator largerParameterGenerator = RandomizedShrinkablesGenerator.randomShrinkablesGenerator(
+			parameters,
+			arbitraryResolver,
+			(int) Math.min((long) genSize * ENLARGING_GEN_SIZE_FACTOR, Integer.MAX_VALUE),
+			edgeCasesMode.activated()
+		);
+		Random mutationRandom = SourceOfRandomness.newRandom(random.nextLong(), SourceOfRandomness.algorithmOf(random));
+		return new GuidedShrinkablesGenerator(
+			freshGenerator,
+			parameterGenerator,
+			largerParameterGenerator,
+			mutationRandom,
+			GuidanceProbes.current()
+		);
+	}
+
+	private final ForAllParametersGenerator freshGenerator;
+	private final PurelyRandomShrinkablesGenerator parameterGenerator;
+	private final PurelyRandomShrinkablesGenerator largerParameterGenerator;
+	private final Random random;
+	private final GuidanceProbes probes;
+
+	private final List<KeptSample> corpus = new ArrayList<>();
+	private final Set<Object> reachedProbes = new HashSet<>();
+
+	private List<Shrinkable<Object>> lastSample = null;
+	private boolean lastSampleIsFresh = false;
+	private boolean lastSampleIsNeighbour = false;
+
+	private KeptSample climbingSample = null;
+	private double climbingTarget = Double.NEGATIVE_INFINITY;
+	private double bestTarget = Double.NEGATIVE_INFINITY;
+	private double temperature = INITIAL_TEMPERATURE;
+
+	GuidedShrinkablesGenerator(
+		ForAllParametersGenerator freshGenerator,
+		PurelyRandomShrinkablesGenerator parameterGenerator,
+		PurelyRandomShrinkablesGenerator largerParameterGenerator,
+		Random random,
+		GuidanceProbes probes
+	) {
+		this.freshGenerator = freshGenerator;
+		this.parameterGenerator = parameterGenerator;
+		this.largerParameterGenerator = largerParameterGenerator;
+		this.random = random;
+		this.probes = probes;
+		probes.activate();
+	}
+
+	@Override
+	public boolean hasNext() {
+		// Like randomized generation guided generation can always generate a next set of values
+		return true;
+	}
+
+	@Override
+	public List<Shrinkable<Object>> next() {
+		evaluateLastTry();
+		lastSampleIsFresh = false;
+		lastSampleIsNeighbour = false;
+		int choice = random.nextInt(3);
+		if (choice == 0 || (corpus.isEmpty() && climbingSample == null)) {
+			lastSample = freshGenerator.next();
+			lastSampleIsFresh = true;
+		} else if (climbingSample != null && (choice == 1 || corpus.isEmpty())) {
+			lastSample = neighbour(climbingSample);
+			lastSampleIsNeighbour = true;
+		} else {
+			lastSample = mutate(corpus.get(random.nextInt(corpus.size())));
+		}
+		return lastSample;
+	}
+
+	@Override
+	public void finish() {
+		evaluateLastTry();
+		lastSample = null;
+	}
+
+	private void evaluateLastTry() {
+		Set<Object> probesOfLastTry = probes.takeProbes();
+		OptionalDouble targetOfLastTry = probes.takeTarget();
+		if (lastSample == null) {
+			return;
+		}
+		if (reachedProbes.addAll(probesOfLastTry)) {
+			if (corpus.size() >= MAX_CORPUS_SIZE) {
+				corpus.remove(0);
+			}
+			corpus.add(new KeptSample(lastSample));
+		}
+		if (targetOfLastTry.isPresent()) {
+			climb(targetOfLastTry.getAsDouble());
+		}
+	}
+
+	private void climb(double target) {
+		if (target > bestTarget) {
+			bestTarget = target;
+			probes.recordBestSample(target, lastSample);
+		}
+		if (target >= climbingTarget) {
+			climbingSample = new KeptSample(lastSample);
+			climbingTarget = target;
+		} else if (lastSampleIsNeighbour && random.nextDouble() < acceptanceProbability(target)) {
+			climbingSample = new KeptSample(lastSample);
+			climbingTarget = target;
+		}
+		if (lastSampleIsNeighbour) {
+			temperature *= COOLING_RATE;
+		}
+	}
+
+	private double acceptanceProbability(double lowerTarget) {
+		double scale = Math.max(Math.abs(climbingTarget), Double.MIN_NORMAL);
+		return Math.exp((lowerTarget - climbingTarget) / (scale * temperature));
+	}
+
+	private List<Shrinkable<Object>> neighbour(KeptSample sample) {
+		List<Shrinkable<Object>> neighbour = reuse(sample);
+		if (neighbour.isEmpty()) {
+			return neighbour;
+		}
+		int index = random.nextInt(neighbour.size());
+		Shrinkable<Object> parameter = sample.parameters.get(index);
+		List<Shrinkable<Object>> candidates = Stream.concat(
+			parameter.shrink().limit(MAX_SHRINKING_CANDIDATES),
+			parameter.grow().limit(MAX_GROWING_CANDIDATES)
+		).collect(Collectors.toList());
+		if (candidates.isEmpty() || random.nextInt(3) == 0) {
+			neighbour.set(index, largerParameter(index, parameter));
+		} else {
+			neighbour.set(index, candidates.get(random.nextInt(candidates.size())));
+		}
+		return neighbour;
+	}
+
+	private Shrinkable<Object> largerParameter(int index, Shrinkable<Object> parameter) {
+		Shrinkable<Object> larger = largerParameterGenerator.generateParameter(index, random);
+		for (int attempt = 1; attempt < MAX_ENLARGING_ATTEMPTS; attempt++) {
+			if (larger.distance().compareTo(parameter.distance()) > 0) {
+				break;
+			}
+			larger = largerParameterGenerator.generateParameter(index, random);
+		}
+		return larger;
+	}
+
+	private List<Shrinkable<Object>> mutate(KeptSample sample) {
+		List<Shrinkable<Object>> mutant = reuse(sample);
+		if (mutant.isEmpty()) {
+			return mutant;
+		}
+		int index = random.nextInt(mutant.size());
+		switch (random.nextInt(3)) {
+			case 0:
+				mutant.set(index, parameterGenerator.generateParameter(index, random));
+				break;
+			case 1:
+				mutant.set(index, shrinkingCandidate(index, sample.parameters.get(index)));
+				break;
+			default:
+				KeptSample other = corpus.get(random.nextInt(corpus.size()));
+				mutant.set(index, reuse(other, index));
+		}
+		return mutant;
+	}
+
+	private List<Shrinkable<Object>> reuse(KeptSample sample) {
+		List<Shrinkable<Object>> parameters = new ArrayList<>(sample.parameters.size());
+		for (int index = 0; index < sample.parameters.size(); index++) {
+			parameters.add(reuse(sample, index));
+		}
+		return parameters;
+	}
+
+	private Shrinkable<Object> reuse(KeptSample sample, int index) {
+		if (sample.reusable[index]) {
+			return sample.parameters.get(index);
+		}
+		return parameterGenerator.generateParameter(index, random);
+	}
+
+	private Shrinkable<Object> shrinkingCandidate(int index, Shrinkable<Object> shrinkable) {
+		List<Shrinkable<Object>> candidates = shrinkable.shrink()
+														.limit(MAX_SHRINKING_CANDIDATES)
+														.collect(Collectors.toList());
+		if (candidates.isEmpty()) {
+			return parameterGenerator.generateParameter(index, random);
+		}
+		return candidates.get(random.nextInt(candidates.size()));
+	}
+
+	@Override
+	public int edgeCasesTotal() {
+		return freshGenerator.edgeCasesTotal();
+	}
+
+	@Override
+	public int edgeCasesTried() {
+		return freshGenerator.edgeCasesTried();
+	}
+
+	@Override
+	public Optional<Long> lastTrySeed() {
+		// Mutated samples depend on previous tries and cannot be regenerated from a seed
+		return lastSampleIsFresh ? freshGenerator.lastTrySeed() : Optional.empty();
+	}
+
+	@Override
+	public int countReplayedTries() {
+		return freshGenerator.countReplayedTries();
+	}
+
+	int corpusSize() {
+		return corpus.size();
+	}
+
+	double bestTarget() {
+		return bestTarget;
+	}
+
+	private static class KeptSample {
+
+		private final List<Shrinkable<Object>> parameters;
+		private final boolean[] reusable;
+
+		private KeptSample(List<Shrinkable<Object>> parameters) {
+			this.parameters = parameters;
+			this.reusable = new boolean[parameters.size()];
+			for (int index = 0; index < parameters.size(); index++) {
+				reusable[index] = isReusable(parameters.get(index));
+			}
+		}
+
+		private static boolean isReusable(Shrinkable<Object> parameter) {
+			Object value = parameter.value();
+			return value == null || ValueMemoization.isKnownImmutable(value) || value != parameter.value();
+		}
+	}
+}
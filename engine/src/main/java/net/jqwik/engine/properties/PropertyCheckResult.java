@@ -1,5 +1,6 @@
 package net.jqwik.engine.properties;
 
+import java.time.*;
 import java.util.*;
 
 import org.opentest4j.*;
@@ -41,6 +42,9 @@ public class PropertyCheckResult implements ExtendedPropertyExecutionResult {
 			edgeCasesTried,
 			null,
 			null,
+			null,
+			null,
+			null,
 			null
 		);
 	}
@@ -57,7 +61,9 @@ public class PropertyCheckResult implements ExtendedPropertyExecutionResult {
 		int edgeCasesTried,
 		FalsifiedSample originalSample,
 		ShrunkFalsifiedSample shrunkSample,
-		Throwable throwable
+		Throwable throwable,
+		Integer failingTryIndex,
+		Long failingTrySeed
 	) {
 		// If no shrinking was possible, report only original sample
 		if (shrunkSample != null && areEquivalent(originalSample, shrunkSample)) {
@@ -76,7 +82,10 @@ public class PropertyCheckResult implements ExtendedPropertyExecutionResult {
 			edgeCasesTried,
 			originalSample,
 			shrunkSample,
-			throwable
+			throwable,
+			failingTryIndex,
+			failingTrySeed,
+			null
 		);
 	}
 
@@ -107,7 +116,10 @@ public class PropertyCheckResult implements ExtendedPropertyExecutionResult {
 			edgeCasesTried,
 			null,
 			null,
-			throwable
+			throwable,
+			null,
+			null,
+			null
 		);
 	}
 
@@ -135,6 +147,9 @@ public class PropertyCheckResult implements ExtendedPropertyExecutionResult {
 			edgeCasesTried,
 			null,
 			null,
+			null,
+			null,
+			null,
 			null
 		);
 	}
@@ -152,6 +167,9 @@ public class PropertyCheckResult implements ExtendedPropertyExecutionResult {
 	private final FalsifiedSample originalSample;
 	private final ShrunkFalsifiedSample shrunkSample;
 	private final Throwable throwable;
+	private final Integer failingTryIndex;
+	private final Long failingTrySeed;
+	private final Duration triesDuration;
 
 	private PropertyCheckResult(
 		CheckStatus status, String stereotype,
@@ -165,7 +183,10 @@ public class PropertyCheckResult implements ExtendedPropertyExecutionResult {
 		int edgeCasesTried,
 		FalsifiedSample originalSample,
 		ShrunkFalsifiedSample shrunkSample,
-		Throwable throwable
+		Throwable throwable,
+		Integer failingTryIndex,
+		Long failingTrySeed,
+		Duration triesDuration
 	) {
 		this.stereotype = stereotype;
 		this.status = status;
@@ -180,6 +201,30 @@ public class PropertyCheckResult implements ExtendedPropertyExecutionResult {
 		this.shrunkSample = shrunkSample;
 		this.originalSample = originalSample;
 		this.throwable = determineThrowable(status, throwable);
+		this.failingTryIndex = failingTryIndex;
+		this.failingTrySeed = failingTrySeed;
+		this.triesDuration = triesDuration;
+	}
+
+	public PropertyCheckResult withTriesDuration(Duration triesDuration) {
+		return new PropertyCheckResult(
+			status,
+			stereotype,
+			propertyName,
+			tries,
+			checks,
+			randomSeed,
+			generation,
+			edgeCasesMode,
+			edgeCasesTotal,
+			edgeCasesTried,
+			originalSample,
+			shrunkSample,
+			throwable,
+			failingTryIndex,
+			failingTrySeed,
+			triesDuration
+		);
 	}
 
 	private Throwable determineThrowable(CheckStatus status, Throwable throwable) {
@@ -239,7 +284,10 @@ public class PropertyCheckResult implements ExtendedPropertyExecutionResult {
 					edgeCasesTried,
 					originalSample,
 					shrunkSample,
-					throwable
+					throwable,
+					failingTryIndex,
+					failingTrySeed,
+					triesDuration
 				);
 			case SUCCESSFUL:
 				return new PropertyCheckResult(
@@ -255,7 +303,10 @@ public class PropertyCheckResult implements ExtendedPropertyExecutionResult {
 					edgeCasesTried,
 					null,
 					null,
-					throwable
+					throwable,
+					null,
+					null,
+					triesDuration
 				);
 			default:
 				throw new IllegalStateException(String.format("Unknown state: %s", newStatus.name()));
@@ -304,6 +355,21 @@ public class PropertyCheckResult implements ExtendedPropertyExecutionResult {
 		return new EdgeCasesExecutionResult(edgeCasesMode, edgeCasesTotal, edgeCasesTried);
 	}
 
+	@Override
+	public Optional<Integer> failingTryIndex() {
+		return Optional.ofNullable(failingTryIndex);
+	}
+
+	@Override
+	public Optional<Long> failingTrySeed() {
+		return Optional.ofNullable(failingTrySeed);
+	}
+
+	@Override
+	public Optional<Duration> triesDuration() {
+		return Optional.ofNullable(triesDuration);
+	}
+
 	@Override
 	public String toString() {
 		String header = String.format("%s [%s]", stereotype, propertyName);
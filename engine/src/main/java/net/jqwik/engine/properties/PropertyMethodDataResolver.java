@@ -3,6 +3,7 @@ package net.jqwik.engine.properties;
 import java.lang.reflect.*;
 import java.util.*;
 import java.util.function.*;
+import java.util.stream.*;
 
 import org.junit.platform.commons.support.*;
 
@@ -33,7 +34,12 @@ public class PropertyMethodDataResolver implements DataResolver {
 					   return findGenerator(generatorName).orElseThrow(exceptionSupplier);
 				   })
 				   .map(generatorMethod -> JqwikReflectionSupport.invokeMethodPotentiallyOuter(generatorMethod, testInstance))
-				   .map(invocationResult -> (Iterable<Tuple>) invocationResult);
+				   .map(invocationResult -> {
+					   if (invocationResult instanceof Stream) {
+						   return new StreamedData((Stream<Tuple>) invocationResult);
+					   }
+					   return (Iterable<Tuple>) invocationResult;
+				   });
 	}
 
 	private Optional<Method> findGenerator(String generatorName) {
@@ -41,7 +47,13 @@ public class PropertyMethodDataResolver implements DataResolver {
 			Data generateAnnotation = method.getDeclaredAnnotation(Data.class);
 			return generateAnnotation.value();
 		};
-		TypeUsage targetType = TypeUsage.of(Iterable.class, TypeUsage.wildcard(TypeUsage.of(Tuple.class)));
-		return findGeneratorMethod(generatorName, this.containerClass, Data.class, generatorNameSupplier, targetType);
+		TypeUsage iterableType = TypeUsage.of(Iterable.class, TypeUsage.wildcard(TypeUsage.of(Tuple.class)));
+		TypeUsage streamType = TypeUsage.of(Stream.class, TypeUsage.wildcard(TypeUsage.of(Tuple.class)));
+		Optional<Method> iterableGenerator =
+			findGeneratorMethod(generatorName, this.containerClass, Data.class, generatorNameSupplier, iterableType);
+		if (iterableGenerator.isPresent()) {
+			return iterableGenerator;
+		}
+		return findGeneratorMethod(generatorName, this.containerClass, Data.class, generatorNameSupplier, streamType);
 	}
 }
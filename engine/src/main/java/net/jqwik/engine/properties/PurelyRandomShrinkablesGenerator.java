@@ -22,4 +22,8 @@ class PurelyRandomShrinkablesGenerator {
 				   .collect(Collectors.toList());
 	}
 
+	Shrinkable<Object> generateParameter(int index, Random random) {
+		return parameterGenerators.get(index).next(random, new HashMap<>());
+	}
+
 }
@@ -5,6 +5,7 @@ import java.util.logging.*;
 import java.util.stream.*;
 
 import net.jqwik.api.*;
+import net.jqwik.engine.*;
 import net.jqwik.engine.facades.*;
 import net.jqwik.engine.properties.arbitraries.*;
 import net.jqwik.engine.support.*;
@@ -22,6 +23,23 @@ public class RandomizedShrinkablesGenerator implements ForAllParametersGenerator
 		int genSize,
 		EdgeCasesMode edgeCasesMode
 	) {
+		return forParameters(parameters, arbitraryResolver, random, genSize, edgeCasesMode, Collections.emptyList(), 0);
+	}
+
+	/**
+	 * Create a generator that first replays tries from given seeds and then starts with a given try.
+	 * Since every try's parameters are generated from a seed derived from the try's index
+	 * all tries before {@code firstTryIndex} can be skipped without generating their parameters.
+	 */
+	public static RandomizedShrinkablesGenerator forParameters(
+		List<MethodParameter> parameters,
+		ArbitraryResolver arbitraryResolver,
+		Random random,
+		int genSize,
+		EdgeCasesMode edgeCasesMode,
+		List<Long> replayTrySeeds,
+		int firstTryIndex
+	) {
 
 		List<EdgeCases<Object>> listOfEdgeCases = listOfEdgeCases(parameters, arbitraryResolver, edgeCasesMode, genSize);
 		int edgeCasesTotal = calculateEdgeCasesTotal(listOfEdgeCases);
@@ -34,7 +52,10 @@ public class RandomizedShrinkablesGenerator implements ForAllParametersGenerator
 			edgeCasesMode,
 			edgeCasesTotal,
 			calculateBaseToEdgeCaseRatio(listOfEdgeCases, genSize),
-			random
+			random.nextLong(),
+			SourceOfRandomness.algorithmOf(random),
+			replayTrySeeds,
+			firstTryIndex
 		);
 	}
 
@@ -56,7 +77,7 @@ public class RandomizedShrinkablesGenerator implements ForAllParametersGenerator
 		return listOfEdgeCases.stream().mapToInt(EdgeCases::size).reduce(1, (a, b) -> a * b);
 	}
 
-	private static PurelyRandomShrinkablesGenerator randomShrinkablesGenerator(
+	static PurelyRandomShrinkablesGenerator randomShrinkablesGenerator(
 		List<MethodParameter> parameters,
 		ArbitraryResolver arbitraryResolver,
 		int genSize,
@@ -152,10 +173,17 @@ public class RandomizedShrinkablesGenerator implements ForAllParametersGenerator
 	private final EdgeCasesMode edgeCasesMode;
 	private final int edgeCasesTotal;
 	private final int baseToEdgeCaseRatio;
-	private final Random random;
+	private final long baseSeed;
+	private final SourceOfRandomness.Algorithm algorithm;
+	private final List<Long> replayTrySeeds;
+	private final int firstTryIndex;
 
 	private boolean allEdgeCasesGenerated = false;
 	private int edgeCasesTried = 0;
+	private int countReplayedTries = 0;
+	private int nextTryIndex = 0;
+	private Integer lastTryIndex = null;
+	private Long lastTrySeed = null;
 
 	private RandomizedShrinkablesGenerator(
 		PurelyRandomShrinkablesGenerator randomGenerator,
@@ -163,14 +191,20 @@ public class RandomizedShrinkablesGenerator implements ForAllParametersGenerator
 		EdgeCasesMode edgeCasesMode,
 		int edgeCasesTotal,
 		int baseToEdgeCaseRatio,
-		Random random
+		long baseSeed,
+		SourceOfRandomness.Algorithm algorithm,
+		List<Long> replayTrySeeds,
+		int firstTryIndex
 	) {
 		this.randomGenerator = randomGenerator;
 		this.edgeCasesGenerator = edgeCasesGenerator;
 		this.edgeCasesMode = edgeCasesMode;
 		this.edgeCasesTotal = edgeCasesTotal;
 		this.baseToEdgeCaseRatio = baseToEdgeCaseRatio;
-		this.random = random;
+		this.baseSeed = baseSeed;
+		this.algorithm = algorithm;
+		this.replayTrySeeds = replayTrySeeds;
+		this.firstTryIndex = firstTryIndex;
 	}
 
 	@Override
@@ -181,27 +215,78 @@ public class RandomizedShrinkablesGenerator implements ForAllParametersGenerator
 
 	@Override
 	public List<Shrinkable<Object>> next() {
-		if (!allEdgeCasesGenerated) {
-			if (edgeCasesMode.generateFirst()) {
+		if (countReplayedTries < replayTrySeeds.size()) {
+			return replayNextTry();
+		}
+		skipTriesBeforeFirstTry();
+		lastTryIndex = nextTryIndex;
+		long trySeed = trySeed(nextTryIndex++);
+		Random tryRandom = SourceOfRandomness.newRandom(trySeed, algorithm);
+		if (nextIsEdgeCase(tryRandom)) {
+			lastTrySeed = null;
+			edgeCasesTried++;
+			return edgeCasesGenerator.next();
+		}
+		lastTrySeed = trySeed;
+		return randomGenerator.generateNext(tryRandom);
+	}
+
+	private List<Shrinkable<Object>> replayNextTry() {
+		long trySeed = replayTrySeeds.get(countReplayedTries++);
+		lastTryIndex = null;
+		lastTrySeed = trySeed;
+		return randomGenerator.generateNext(SourceOfRandomness.newRandom(trySeed, algorithm));
+	}
+
+	@Override
+	public Optional<Integer> lastTryIndex() {
+		return Optional.ofNullable(lastTryIndex);
+	}
+
+	@Override
+	public Optional<Long> lastTrySeed() {
+		return Optional.ofNullable(lastTrySeed);
+	}
+
+	@Override
+	public int countReplayedTries() {
+		return countReplayedTries;
+	}
+
+	private void skipTriesBeforeFirstTry() {
+		while (nextTryIndex < firstTryIndex) {
+			Random tryRandom = SourceOfRandomness.newRandom(trySeed(nextTryIndex++), algorithm);
+			if (nextIsEdgeCase(tryRandom)) {
+				edgeCasesGenerator.next();
+			}
+		}
+	}
+
+	private long trySeed(int tryIndex) {
+		return SourceOfRandomness.deriveSeed(baseSeed, tryIndex);
+	}
+
+	private boolean nextIsEdgeCase(Random tryRandom) {
+		if (allEdgeCasesGenerated) {
+			return false;
+		}
+		if (edgeCasesMode.generateFirst()) {
+			if (edgeCasesGenerator.hasNext()) {
+				return true;
+			} else {
+				allEdgeCasesGenerated = true;
+			}
+		}
+		if (edgeCasesMode.mixIn()) {
+			if (shouldGenerateEdgeCase(tryRandom)) {
 				if (edgeCasesGenerator.hasNext()) {
-					edgeCasesTried++;
-					return edgeCasesGenerator.next();
+					return true;
 				} else {
 					allEdgeCasesGenerated = true;
 				}
 			}
-			if (edgeCasesMode.mixIn()) {
-				if (shouldGenerateEdgeCase(random)) {
-					if (edgeCasesGenerator.hasNext()) {
-						edgeCasesTried++;
-						return edgeCasesGenerator.next();
-					} else {
-						allEdgeCasesGenerated = true;
-					}
-				}
-			}
 		}
-		return randomGenerator.generateNext(random);
+		return false;
 	}
 
 	@Override
@@ -5,6 +5,7 @@ import java.util.*;
 import net.jqwik.api.*;
 import net.jqwik.api.providers.*;
 import net.jqwik.api.providers.ArbitraryProvider.*;
+import net.jqwik.engine.providers.*;
 
 public class RegisteredArbitraryResolver {
 
@@ -16,22 +17,34 @@ public class RegisteredArbitraryResolver {
 	}
 
 	public Set<Arbitrary<?>> resolve(TypeUsage targetType, SubtypeProvider subtypeProvider) {
-		int currentPriority = Integer.MIN_VALUE;
 		Set<Arbitrary<?>> fittingArbitraries = new HashSet<>();
+		List<ArbitraryProvider> fittingProviders =
+			FittingProvidersCache.forCurrentRun()
+								 .map(cache -> cache.fittingProviders(registeredProviders, targetType, this::fittingProvidersWithHighestPriority))
+								 .orElseGet(() -> fittingProvidersWithHighestPriority(targetType));
+		for (ArbitraryProvider provider : fittingProviders) {
+			Set<Arbitrary<?>> arbitraries = provider.provideFor(targetType, subtypeProvider);
+			fittingArbitraries.addAll(arbitraries);
+		}
+		return fittingArbitraries;
+	}
+
+	private List<ArbitraryProvider> fittingProvidersWithHighestPriority(TypeUsage targetType) {
+		int currentPriority = Integer.MIN_VALUE;
+		List<ArbitraryProvider> fittingProviders = new ArrayList<>();
 		for (ArbitraryProvider provider : registeredProviders) {
 			if (provider.canProvideFor(targetType)) {
 				if (provider.priority() < currentPriority) {
 					continue;
 				}
 				if (provider.priority() > currentPriority) {
-					fittingArbitraries.clear();
+					fittingProviders.clear();
 					currentPriority = provider.priority();
 				}
-				Set<Arbitrary<?>> arbitraries = provider.provideFor(targetType, subtypeProvider);
-				fittingArbitraries.addAll(arbitraries);
+				fittingProviders.add(provider);
 			}
 		}
-		return fittingArbitraries;
+		return fittingProviders;
 	}
 
 }
@@ -1,5 +1,6 @@
 package net.jqwik.engine.properties;
 
+import java.time.*;
 import java.util.*;
 
 import net.jqwik.api.*;
@@ -8,12 +9,30 @@ import net.jqwik.api.lifecycle.*;
 public class ShrunkFalsifiedSampleImpl extends FalsifiedSampleImpl implements ShrunkFalsifiedSample {
 
 	private final int shrinkingSteps;
+	private final int shrinkingCalls;
+	private final Duration shrinkingDuration;
 
 	public ShrunkFalsifiedSampleImpl(
 		FalsifiedSample falsifiedSample,
 		int shrinkingSteps
 	) {
-		this(falsifiedSample.parameters(), falsifiedSample.shrinkables(), falsifiedSample.falsifyingError(), shrinkingSteps);
+		this(falsifiedSample, shrinkingSteps, 0, Duration.ZERO);
+	}
+
+	public ShrunkFalsifiedSampleImpl(
+		FalsifiedSample falsifiedSample,
+		int shrinkingSteps,
+		int shrinkingCalls,
+		Duration shrinkingDuration
+	) {
+		this(
+			falsifiedSample.parameters(),
+			falsifiedSample.shrinkables(),
+			falsifiedSample.falsifyingError(),
+			shrinkingSteps,
+			shrinkingCalls,
+			shrinkingDuration
+		);
 	}
 
 	public ShrunkFalsifiedSampleImpl(
@@ -21,9 +40,22 @@ public class ShrunkFalsifiedSampleImpl extends FalsifiedSampleImpl implements Sh
 		List<Shrinkable<Object>> shrinkables,
 		Optional<Throwable> falsifyingError,
 		int shrinkingSteps
+	) {
+		this(parameters, shrinkables, falsifyingError, shrinkingSteps, 0, Duration.ZERO);
+	}
+
+	private ShrunkFalsifiedSampleImpl(
+		List<Object> parameters,
+		List<Shrinkable<Object>> shrinkables,
+		Optional<Throwable> falsifyingError,
+		int shrinkingSteps,
+		int shrinkingCalls,
+		Duration shrinkingDuration
 	) {
 		super(parameters, shrinkables, falsifyingError);
 		this.shrinkingSteps = shrinkingSteps;
+		this.shrinkingCalls = shrinkingCalls;
+		this.shrinkingDuration = shrinkingDuration;
 	}
 
 	@Override
@@ -31,6 +63,16 @@ public class ShrunkFalsifiedSampleImpl extends FalsifiedSampleImpl implements Sh
 		return shrinkingSteps;
 	}
 
+	@Override
+	public int countShrinkingCalls() {
+		return shrinkingCalls;
+	}
+
+	@Override
+	public Duration shrinkingDuration() {
+		return shrinkingDuration;
+	}
+
 	public boolean equivalentTo(FalsifiedSample sample) {
 		if (sample == null) {
 			return false;
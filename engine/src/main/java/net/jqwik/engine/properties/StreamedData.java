@@ -0,0 +1,35 @@
+package net.jqwik.engine.properties;
+
+import java.util.*;
+import java.util.stream.*;
+
+import net.jqwik.api.*;
+
+/**
+ * Data points provided by a {@linkplain Data} method returning a {@linkplain Stream}.
+ * The stream is consumed lazily, one tuple per try, and can only be iterated once.
+ */
+public class StreamedData implements Iterable<Tuple>, AutoCloseable {
+
+	private final Stream<? extends Tuple> stream;
+	private boolean iterated = false;
+
+	public StreamedData(Stream<? extends Tuple> stream) {
+		this.stream = stream;
+	}
+
+	@Override
+	public Iterator<Tuple> iterator() {
+		if (iterated) {
+			throw new JqwikException("Data provided as a stream can only be iterated once");
+		}
+		iterated = true;
+		//noinspection unchecked
+		return (Iterator<Tuple>) stream.iterator();
+	}
+
+	@Override
+	public void close() {
+		stream.close();
+	}
+}
@@ -0,0 +1,60 @@
+package net.jqwik.engine.properties;
+
+import java.time.*;
+import java.util.*;
+import java.util.function.*;
+
+import net.jqwik.engine.support.*;
+
+/**
+ * Measures the time spent in a property's tries and decides if another try fits into the property's time budget.
+ *
+ * <p>
+ * The average latency of the tries run so far is taken as the expected latency of the next try.
+ * A try is only started if it is expected to finish within the budget.
+ * </p>
+ */
+class TryTimeBudget {
+
+	static final int MIN_TRIES = 10;
+
+	static TryTimeBudget start(Optional<Duration> maxDuration, LongSupplier nanoClock) {
+		long budgetNanos = maxDuration.map(JqwikDurationSupport::toNanosSaturated).orElse(-1L);
+		return new TryTimeBudget(budgetNanos, nanoClock);
+	}
+
+	private final long budgetNanos;
+	private final LongSupplier nanoClock;
+	private final long startNanos;
+	private long stopNanos = -1;
+
+	private TryTimeBudget(long budgetNanos, LongSupplier nanoClock) {
+		this.budgetNanos = budgetNanos;
+		this.nanoClock = nanoClock;
+		this.startNanos = nanoClock.getAsLong();
+	}
+
+	boolean isLimited() {
+		return budgetNanos >= 0;
+	}
+
+	boolean hasTimeForAnotherTry(int countTries) {
+		if (!isLimited() || countTries < MIN_TRIES) {
+			return true;
+		}
+		long elapsedNanos = nanoClock.getAsLong() - startNanos;
+		long expectedTryNanos = elapsedNanos / countTries;
+		return elapsedNanos + expectedTryNanos <= budgetNanos;
+	}
+
+	void stop() {
+		if (stopNanos < 0) {
+			stopNanos = nanoClock.getAsLong();
+		}
+	}
+
+	Duration elapsed() {
+		long endNanos = stopNanos < 0 ? nanoClock.getAsLong() : stopNanos;
+		return Duration.ofNanos(endNanos - startNanos);
+	}
+}
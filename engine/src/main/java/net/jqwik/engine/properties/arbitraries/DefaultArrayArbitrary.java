@@ -3,6 +3,7 @@ package net.jqwik.engine.properties.arbitraries;
 import java.lang.reflect.*;
 import java.util.*;
 import java.util.function.*;
+import java.util.stream.*;
 
 import net.jqwik.api.*;
 import net.jqwik.api.arbitraries.*;
@@ -10,6 +11,7 @@ import net.jqwik.api.configurators.*;
 import net.jqwik.api.providers.*;
 import net.jqwik.engine.properties.*;
 import net.jqwik.engine.properties.arbitraries.exhaustive.*;
+import net.jqwik.engine.properties.arbitraries.randomized.*;
 import net.jqwik.engine.properties.shrinking.*;
 
 public class DefaultArrayArbitrary<T, A> extends MultivalueArbitraryBase<T, A> implements ArrayArbitrary<T, A>, SelfConfiguringArbitrary<A> {
@@ -33,12 +35,31 @@ public class DefaultArrayArbitrary<T, A> extends MultivalueArbitraryBase<T, A> i
 
 	@Override
 	public RandomGenerator<A> generator(int genSize) {
-		return createListGenerator(genSize, false).map(this::toArray);
+		return createArrayGenerator(genSize, false);
 	}
 
 	@Override
 	public RandomGenerator<A> generatorWithEmbeddedEdgeCases(int genSize) {
-		return createListGenerator(genSize, true).map(this::toArray);
+		return createArrayGenerator(genSize, true);
+	}
+
+	private RandomGenerator<A> createArrayGenerator(int genSize, boolean withEmbeddedEdgeCases) {
+		return primitiveArrayGenerator(genSize, withEmbeddedEdgeCases)
+				   .orElseGet(() -> createListGenerator(genSize, withEmbeddedEdgeCases).map(this::toArray));
+	}
+
+	// Arrays of other primitive types are generated from a list of elements
+	private Optional<RandomGenerator<A>> primitiveArrayGenerator(int genSize, boolean withEmbeddedEdgeCases) {
+		if (!isPrimitiveArray() || !uniquenessExtractors.isEmpty() || !(elementArbitrary instanceof IntegralElementArbitrary)) {
+			return Optional.empty();
+		}
+		return ((IntegralElementArbitrary) elementArbitrary).primitiveArrayGenerator(
+				arrayClass.getComponentType(), genSize, withEmbeddedEdgeCases, minSize, maxSize, cutoffSize(genSize)
+		);
+	}
+
+	private boolean isPrimitiveArray() {
+		return arrayClass.getComponentType().isPrimitive();
 	}
 
 	@Override
@@ -70,6 +91,10 @@ public class DefaultArrayArbitrary<T, A> extends MultivalueArbitraryBase<T, A> i
 
 	@Override
 	protected Iterable<T> toIterable(A array) {
+		if (isPrimitiveArray()) {
+			//noinspection unchecked
+			return () -> IntStream.range(0, Array.getLength(array)).mapToObj(i -> (T) Array.get(array, i)).iterator();
+		}
 		//noinspection unchecked
 		return () -> Arrays.stream((T[]) array).iterator();
 	}
@@ -7,7 +7,7 @@ import java.util.function.*;
 import net.jqwik.api.*;
 import net.jqwik.api.arbitraries.*;
 
-public class DefaultByteArbitrary extends TypedCloneable implements ByteArbitrary {
+public class DefaultByteArbitrary extends TypedCloneable implements ByteArbitrary, IntegralElementArbitrary {
 
 	private static final byte DEFAULT_MIN = Byte.MIN_VALUE;
 	private static final byte DEFAULT_MAX = Byte.MAX_VALUE;
@@ -23,6 +23,18 @@ public class DefaultByteArbitrary extends TypedCloneable implements ByteArbitrar
 		return generatingArbitrary.generator(genSize).map(BigInteger::byteValueExact);
 	}
 
+	@Override
+	public <A> Optional<RandomGenerator<A>> primitiveArrayGenerator(
+		Class<?> componentType,
+		int genSize,
+		boolean withEmbeddedEdgeCases,
+		int minSize,
+		int maxSize,
+		int cutoffSize
+	) {
+		return generatingArbitrary.primitiveArrayGenerator(componentType, genSize, withEmbeddedEdgeCases, minSize, maxSize, cutoffSize);
+	}
+
 	@Override
 	public Optional<ExhaustiveGenerator<Byte>> exhaustive(long maxNumberOfSamples) {
 		return generatingArbitrary.exhaustive(maxNumberOfSamples).map(generator -> generator.map(BigInteger::byteValueExact));
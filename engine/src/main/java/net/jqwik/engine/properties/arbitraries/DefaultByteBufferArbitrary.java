@@ -0,0 +1,78 @@
+package net.jqwik.engine.properties.arbitraries;
+
+import java.nio.*;
+import java.util.function.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.arbitraries.*;
+import net.jqwik.engine.properties.arbitraries.randomized.*;
+import net.jqwik.engine.properties.shrinking.*;
+
+public class DefaultByteBufferArbitrary extends TypedCloneable implements ByteBufferArbitrary {
+
+	private int minLength = 0;
+	private int maxLength = RandomGenerators.DEFAULT_COLLECTION_SIZE;
+	private Function<BinaryContent, ByteBuffer> allocation = BinaryContent::heapBuffer;
+
+	@Override
+	public RandomGenerator<ByteBuffer> generator(int genSize) {
+		checkLengths();
+		return RandomGenerators.binaryContents(minLength, maxLength).map(allocation);
+	}
+
+	@Override
+	public EdgeCases<ByteBuffer> edgeCases(int maxEdgeCases) {
+		if (maxEdgeCases <= 0) {
+			return EdgeCases.none();
+		}
+		checkLengths();
+		return EdgeCases.fromSupplier(
+			() -> new ShrinkableBinaryContent(BinaryContent.zeros(minLength), minLength).map(allocation)
+		);
+	}
+
+	@Override
+	public ByteBufferArbitrary ofMinLength(int minLength) {
+		checkNotNegative("minLength", minLength);
+		DefaultByteBufferArbitrary clone = typedClone();
+		clone.minLength = minLength;
+		return clone;
+	}
+
+	@Override
+	public ByteBufferArbitrary ofMaxLength(int maxLength) {
+		checkNotNegative("maxLength", maxLength);
+		DefaultByteBufferArbitrary clone = typedClone();
+		clone.maxLength = maxLength;
+		return clone;
+	}
+
+	@Override
+	public ByteBufferArbitrary direct() {
+		DefaultByteBufferArbitrary clone = typedClone();
+		clone.allocation = BinaryContent::directBuffer;
+		return clone;
+	}
+
+	@Override
+	public ByteBufferArbitrary memoryMapped() {
+		DefaultByteBufferArbitrary clone = typedClone();
+		clone.allocation = BinaryContent::mappedBuffer;
+		return clone;
+	}
+
+	private static void checkNotNegative(String name, int length) {
+		if (length < 0) {
+			String message = String.format("%s <%s> must not be negative", name, length);
+			throw new IllegalArgumentException(message);
+		}
+	}
+
+	// Only checked when generating since ofLength() sets minLength before maxLength
+	private void checkLengths() {
+		if (minLength > maxLength) {
+			String message = String.format("minLength <%s> must not be greater than maxLength <%s>", minLength, maxLength);
+			throw new IllegalArgumentException(message);
+		}
+	}
+}
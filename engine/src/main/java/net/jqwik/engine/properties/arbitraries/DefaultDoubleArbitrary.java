@@ -7,6 +7,7 @@ import java.util.function.*;
 import net.jqwik.api.*;
 import net.jqwik.api.arbitraries.*;
 import net.jqwik.engine.properties.*;
+import net.jqwik.engine.properties.shrinking.*;
 
 public class DefaultDoubleArbitrary extends TypedCloneable implements DoubleArbitrary {
 
@@ -14,6 +15,10 @@ public class DefaultDoubleArbitrary extends TypedCloneable implements DoubleArbi
 	private static final double DEFAULT_MAX = Double.MAX_VALUE;
 
 	private DecimalGeneratingArbitrary generatingArbitrary;
+	private boolean ieee754 = false;
+	private boolean scaleRequested = false;
+	private Consumer<EdgeCases.Config<Double>> floatingPointEdgeCasesConfigurator = config -> {};
+	private Set<Double> specialValues = new LinkedHashSet<>();
 
 	public DefaultDoubleArbitrary() {
 		this.generatingArbitrary = new DecimalGeneratingArbitrary(Range.of(toBigDecimal(DEFAULT_MIN), toBigDecimal(DEFAULT_MAX)));
@@ -21,17 +26,26 @@ public class DefaultDoubleArbitrary extends TypedCloneable implements DoubleArbi
 
 	@Override
 	public RandomGenerator<Double> generator(int genSize) {
+		if (ieee754) {
+			return floatingPoints().generator(genSize);
+		}
 		return generatingArbitrary.generator(genSize).map(BigDecimal::doubleValue);
 	}
 
 	@Override
 	public Optional<ExhaustiveGenerator<Double>> exhaustive(long maxNumberOfSamples) {
+		if (ieee754) {
+			return floatingPoints().exhaustive(maxNumberOfSamples);
+		}
 		return generatingArbitrary.exhaustive(maxNumberOfSamples).map(generator -> generator.map(BigDecimal::doubleValue));
 	}
 
 	@Override
 	public EdgeCases<Double> edgeCases(int maxEdgeCases) {
-		return EdgeCasesSupport.map(generatingArbitrary.edgeCases(maxEdgeCases), BigDecimal::doubleValue);
+		EdgeCases<Double> edgeCases = ieee754
+			? floatingPoints().edgeCases(maxEdgeCases)
+			: EdgeCasesSupport.map(generatingArbitrary.edgeCases(maxEdgeCases), BigDecimal::doubleValue);
+		return withSpecialValues(edgeCases, maxEdgeCases);
 	}
 
 	@Override
@@ -43,6 +57,7 @@ public class DefaultDoubleArbitrary extends TypedCloneable implements DoubleArbi
 		);
 		DefaultDoubleArbitrary clone = typedClone();
 		clone.generatingArbitrary = (DecimalGeneratingArbitrary) generatingArbitrary.edgeCases(decimalConfigurator);
+		clone.floatingPointEdgeCasesConfigurator = configurator;
 		return clone;
 	}
 
@@ -84,6 +99,7 @@ public class DefaultDoubleArbitrary extends TypedCloneable implements DoubleArbi
 	public DoubleArbitrary ofScale(int scale) {
 		DefaultDoubleArbitrary clone = typedClone();
 		clone.generatingArbitrary.scale = scale;
+		clone.scaleRequested = true;
 		return clone;
 	}
 
@@ -94,6 +110,60 @@ public class DefaultDoubleArbitrary extends TypedCloneable implements DoubleArbi
 		return clone;
 	}
 
+	@Override
+	public DoubleArbitrary ieee754() {
+		DefaultDoubleArbitrary clone = typedClone();
+		clone.ieee754 = true;
+		return clone;
+	}
+
+	@Override
+	public DoubleArbitrary withSpecialValue(double special) {
+		DefaultDoubleArbitrary clone = typedClone();
+		clone.specialValues = new LinkedHashSet<>(specialValues);
+		clone.specialValues.add(special);
+		return clone;
+	}
+
+	@Override
+	public DoubleArbitrary withStandardSpecialValues() {
+		DefaultDoubleArbitrary clone = typedClone();
+		clone.specialValues = new LinkedHashSet<>(specialValues);
+		clone.specialValues.addAll(Arrays.asList(
+			Double.NaN,
+			Double.POSITIVE_INFINITY,
+			Double.NEGATIVE_INFINITY,
+			-0.0,
+			Double.MIN_VALUE,
+			Double.MIN_NORMAL
+		));
+		return clone;
+	}
+
+	private FloatingPointGeneratingArbitrary floatingPoints() {
+		Range<BigDecimal> range = generatingArbitrary.range;
+		BigDecimal shrinkingTarget = generatingArbitrary.shrinkingTarget;
+		return new FloatingPointGeneratingArbitrary(
+			FloatingPointEncoding.DOUBLE,
+			range.min.doubleValue(), range.minIncluded,
+			range.max.doubleValue(), range.maxIncluded,
+			scaleRequested ? generatingArbitrary.scale : -1,
+			shrinkingTarget == null ? null : shrinkingTarget.doubleValue(),
+			floatingPointEdgeCasesConfigurator
+		);
+	}
+
+	private EdgeCases<Double> withSpecialValues(EdgeCases<Double> edgeCases, int maxEdgeCases) {
+		if (specialValues.isEmpty()) {
+			return edgeCases;
+		}
+		List<Shrinkable<Double>> specials = new ArrayList<>();
+		for (Double specialValue : specialValues) {
+			specials.add(Shrinkable.unshrinkable(specialValue));
+		}
+		return EdgeCasesSupport.concat(Arrays.asList(EdgeCasesSupport.fromShrinkables(specials), edgeCases), maxEdgeCases);
+	}
+
 	private BigDecimal toBigDecimal(double value) {
 		return new BigDecimal(Double.toString(value));
 	}
@@ -7,6 +7,7 @@ import java.util.function.*;
 import net.jqwik.api.*;
 import net.jqwik.api.arbitraries.*;
 import net.jqwik.engine.properties.*;
+import net.jqwik.engine.properties.shrinking.*;
 
 public class DefaultFloatArbitrary extends TypedCloneable implements FloatArbitrary {
 
@@ -14,6 +15,10 @@ public class DefaultFloatArbitrary extends TypedCloneable implements FloatArbitr
 	private static final float DEFAULT_MAX = Float.MAX_VALUE;
 
 	private DecimalGeneratingArbitrary generatingArbitrary;
+	private boolean ieee754 = false;
+	private boolean scaleRequested = false;
+	private Consumer<EdgeCases.Config<Double>> floatingPointEdgeCasesConfigurator = config -> {};
+	private Set<Float> specialValues = new LinkedHashSet<>();
 
 	public DefaultFloatArbitrary() {
 		this.generatingArbitrary = new DecimalGeneratingArbitrary(Range.of(toBigDecimal(DEFAULT_MIN), toBigDecimal(DEFAULT_MAX)));
@@ -21,17 +26,26 @@ public class DefaultFloatArbitrary extends TypedCloneable implements FloatArbitr
 
 	@Override
 	public RandomGenerator<Float> generator(int genSize) {
+		if (ieee754) {
+			return floatingPoints().generator(genSize).map(Double::floatValue);
+		}
 		return generatingArbitrary.generator(genSize).map(BigDecimal::floatValue);
 	}
 
 	@Override
 	public Optional<ExhaustiveGenerator<Float>> exhaustive(long maxNumberOfSamples) {
+		if (ieee754) {
+			return floatingPoints().exhaustive(maxNumberOfSamples).map(generator -> generator.map(Double::floatValue));
+		}
 		return generatingArbitrary.exhaustive(maxNumberOfSamples).map(generator -> generator.map(BigDecimal::floatValue));
 	}
 
 	@Override
 	public EdgeCases<Float> edgeCases(int maxEdgeCases) {
-		return EdgeCasesSupport.map(generatingArbitrary.edgeCases(maxEdgeCases), BigDecimal::floatValue);
+		EdgeCases<Float> edgeCases = ieee754
+			? EdgeCasesSupport.map(floatingPoints().edgeCases(maxEdgeCases), Double::floatValue)
+			: EdgeCasesSupport.map(generatingArbitrary.edgeCases(maxEdgeCases), BigDecimal::floatValue);
+		return withSpecialValues(edgeCases, maxEdgeCases);
 	}
 
 	@Override
@@ -43,6 +57,11 @@ public class DefaultFloatArbitrary extends TypedCloneable implements FloatArbitr
 		);
 		DefaultFloatArbitrary clone = typedClone();
 		clone.generatingArbitrary = (DecimalGeneratingArbitrary) generatingArbitrary.edgeCases(decimalConfigurator);
+		clone.floatingPointEdgeCasesConfigurator = new MappedEdgeCasesConsumer<>(
+				configurator,
+				Double::floatValue,
+				Float::doubleValue
+		);
 		return clone;
 	}
 
@@ -84,6 +103,7 @@ public class DefaultFloatArbitrary extends TypedCloneable implements FloatArbitr
 	public FloatArbitrary ofScale(int scale) {
 		DefaultFloatArbitrary clone = typedClone();
 		clone.generatingArbitrary.scale = scale;
+		clone.scaleRequested = true;
 		return clone;
 	}
 
@@ -94,6 +114,60 @@ public class DefaultFloatArbitrary extends TypedCloneable implements FloatArbitr
 		return clone;
 	}
 
+	@Override
+	public FloatArbitrary ieee754() {
+		DefaultFloatArbitrary clone = typedClone();
+		clone.ieee754 = true;
+		return clone;
+	}
+
+	@Override
+	public FloatArbitrary withSpecialValue(float special) {
+		DefaultFloatArbitrary clone = typedClone();
+		clone.specialValues = new LinkedHashSet<>(specialValues);
+		clone.specialValues.add(special);
+		return clone;
+	}
+
+	@Override
+	public FloatArbitrary withStandardSpecialValues() {
+		DefaultFloatArbitrary clone = typedClone();
+		clone.specialValues = new LinkedHashSet<>(specialValues);
+		clone.specialValues.addAll(Arrays.asList(
+			Float.NaN,
+			Float.POSITIVE_INFINITY,
+			Float.NEGATIVE_INFINITY,
+			-0.0f,
+			Float.MIN_VALUE,
+			Float.MIN_NORMAL
+		));
+		return clone;
+	}
+
+	private FloatingPointGeneratingArbitrary floatingPoints() {
+		Range<BigDecimal> range = generatingArbitrary.range;
+		BigDecimal shrinkingTarget = generatingArbitrary.shrinkingTarget;
+		return new FloatingPointGeneratingArbitrary(
+			FloatingPointEncoding.FLOAT,
+			range.min.doubleValue(), range.minIncluded,
+			range.max.doubleValue(), range.maxIncluded,
+			scaleRequested ? generatingArbitrary.scale : -1,
+			shrinkingTarget == null ? null : shrinkingTarget.doubleValue(),
+			floatingPointEdgeCasesConfigurator
+		);
+	}
+
+	private EdgeCases<Float> withSpecialValues(EdgeCases<Float> edgeCases, int maxEdgeCases) {
+		if (specialValues.isEmpty()) {
+			return edgeCases;
+		}
+		List<Shrinkable<Float>> specials = new ArrayList<>();
+		for (Float specialValue : specialValues) {
+			specials.add(Shrinkable.unshrinkable(specialValue));
+		}
+		return EdgeCasesSupport.concat(Arrays.asList(EdgeCasesSupport.fromShrinkables(specials), edgeCases), maxEdgeCases);
+	}
+
 	private BigDecimal toBigDecimal(float value) {
 		return new BigDecimal(Float.toString(value));
 	}
@@ -0,0 +1,62 @@
+package net.jqwik.engine.properties.arbitraries;
+
+import java.io.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.arbitraries.*;
+import net.jqwik.engine.properties.arbitraries.randomized.*;
+import net.jqwik.engine.properties.shrinking.*;
+
+public class DefaultInputStreamArbitrary extends TypedCloneable implements InputStreamArbitrary {
+
+	private long minLength = 0;
+	private long maxLength = RandomGenerators.DEFAULT_COLLECTION_SIZE;
+
+	@Override
+	public RandomGenerator<InputStream> generator(int genSize) {
+		checkLengths();
+		return RandomGenerators.binaryContents(minLength, maxLength).map(BinaryContent::inputStream);
+	}
+
+	@Override
+	public EdgeCases<InputStream> edgeCases(int maxEdgeCases) {
+		if (maxEdgeCases <= 0) {
+			return EdgeCases.none();
+		}
+		checkLengths();
+		return EdgeCases.fromSupplier(
+			() -> new ShrinkableBinaryContent(BinaryContent.zeros(minLength), minLength).map(BinaryContent::inputStream)
+		);
+	}
+
+	@Override
+	public InputStreamArbitrary ofMinLength(long minLength) {
+		checkNotNegative("minLength", minLength);
+		DefaultInputStreamArbitrary clone = typedClone();
+		clone.minLength = minLength;
+		return clone;
+	}
+
+	@Override
+	public InputStreamArbitrary ofMaxLength(long maxLength) {
+		checkNotNegative("maxLength", maxLength);
+		DefaultInputStreamArbitrary clone = typedClone();
+		clone.maxLength = maxLength;
+		return clone;
+	}
+
+	private static void checkNotNegative(String name, long length) {
+		if (length < 0) {
+			String message = String.format("%s <%s> must not be negative", name, length);
+			throw new IllegalArgumentException(message);
+		}
+	}
+
+	// Only checked when generating since ofLength() sets minLength before maxLength
+	private void checkLengths() {
+		if (minLength > maxLength) {
+			String message = String.format("minLength <%s> must not be greater than maxLength <%s>", minLength, maxLength);
+			throw new IllegalArgumentException(message);
+		}
+	}
+}
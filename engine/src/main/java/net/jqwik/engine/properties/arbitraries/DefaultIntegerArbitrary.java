@@ -7,7 +7,7 @@ import java.util.function.*;
 import net.jqwik.api.*;
 import net.jqwik.api.arbitraries.*;
 
-public class DefaultIntegerArbitrary extends TypedCloneable implements IntegerArbitrary {
+public class DefaultIntegerArbitrary extends TypedCloneable implements IntegerArbitrary, IntegralElementArbitrary {
 
 	private static final int DEFAULT_MIN = Integer.MIN_VALUE;
 	private static final int DEFAULT_MAX = Integer.MAX_VALUE;
@@ -23,6 +23,18 @@ public class DefaultIntegerArbitrary extends TypedCloneable implements IntegerAr
 		return generatingArbitrary.generator(genSize).map(BigInteger::intValueExact);
 	}
 
+	@Override
+	public <A> Optional<RandomGenerator<A>> primitiveArrayGenerator(
+		Class<?> componentType,
+		int genSize,
+		boolean withEmbeddedEdgeCases,
+		int minSize,
+		int maxSize,
+		int cutoffSize
+	) {
+		return generatingArbitrary.primitiveArrayGenerator(componentType, genSize, withEmbeddedEdgeCases, minSize, maxSize, cutoffSize);
+	}
+
 	@Override
 	public Optional<ExhaustiveGenerator<Integer>> exhaustive(long maxNumberOfSamples) {
 		return generatingArbitrary.exhaustive(maxNumberOfSamples).map(generator -> generator.map(BigInteger::intValueExact));
@@ -8,10 +8,13 @@ import net.jqwik.api.*;
 import net.jqwik.api.arbitraries.*;
 import net.jqwik.engine.properties.*;
 import net.jqwik.engine.properties.arbitraries.exhaustive.*;
+import net.jqwik.engine.properties.arbitraries.randomized.*;
 import net.jqwik.engine.properties.shrinking.*;
 
 public class DefaultListArbitrary<T> extends MultivalueArbitraryBase<T, List<T>> implements ListArbitrary<T> {
 
+	private boolean lazy = false;
+
 	public DefaultListArbitrary(Arbitrary<T> elementArbitrary) {
 		super(elementArbitrary);
 	}
@@ -23,12 +26,20 @@ public class DefaultListArbitrary<T> extends MultivalueArbitraryBase<T, List<T>>
 
 	@Override
 	public RandomGenerator<List<T>> generator(int genSize) {
-		return createListGenerator(genSize, false);
+		return lazy ? createLazyListGenerator(genSize, false) : createListGenerator(genSize, false);
 	}
 
 	@Override
 	public RandomGenerator<List<T>> generatorWithEmbeddedEdgeCases(int genSize) {
-		return createListGenerator(genSize, true);
+		return lazy ? createLazyListGenerator(genSize, true) : createListGenerator(genSize, true);
+	}
+
+	private RandomGenerator<List<T>> createLazyListGenerator(int genSize, boolean withEmbeddedEdgeCases) {
+		if (!uniquenessExtractors.isEmpty()) {
+			throw new JqwikException("Lazy lists cannot have uniqueness constraints");
+		}
+		RandomGenerator<T> elementGenerator = elementGenerator(elementArbitrary, genSize, withEmbeddedEdgeCases);
+		return RandomGenerators.lazyList(elementGenerator, minSize, maxSize, cutoffSize(genSize));
 	}
 
 	@Override
@@ -81,4 +92,11 @@ public class DefaultListArbitrary<T> extends MultivalueArbitraryBase<T, List<T>>
 	public ListArbitrary<T> uniqueElements() {
 		return (ListArbitrary<T>) uniqueElements(FeatureExtractor.identity());
 	}
+
+	@Override
+	public ListArbitrary<T> lazy() {
+		DefaultListArbitrary<T> clone = typedClone();
+		clone.lazy = true;
+		return clone;
+	}
 }
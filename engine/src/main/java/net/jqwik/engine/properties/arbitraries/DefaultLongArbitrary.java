@@ -7,7 +7,7 @@ import java.util.function.*;
 import net.jqwik.api.*;
 import net.jqwik.api.arbitraries.*;
 
-public class DefaultLongArbitrary extends TypedCloneable implements LongArbitrary {
+public class DefaultLongArbitrary extends TypedCloneable implements LongArbitrary, IntegralElementArbitrary {
 
 	private static final long DEFAULT_MIN = Long.MIN_VALUE;
 	private static final long DEFAULT_MAX = Long.MAX_VALUE;
@@ -23,6 +23,18 @@ public class DefaultLongArbitrary extends TypedCloneable implements LongArbitrar
 		return generatingArbitrary.generator(genSize).map(BigInteger::longValueExact);
 	}
 
+	@Override
+	public <A> Optional<RandomGenerator<A>> primitiveArrayGenerator(
+		Class<?> componentType,
+		int genSize,
+		boolean withEmbeddedEdgeCases,
+		int minSize,
+		int maxSize,
+		int cutoffSize
+	) {
+		return generatingArbitrary.primitiveArrayGenerator(componentType, genSize, withEmbeddedEdgeCases, minSize, maxSize, cutoffSize);
+	}
+
 	@Override
 	public Optional<ExhaustiveGenerator<Long>> exhaustive(long maxNumberOfSamples) {
 		return generatingArbitrary.exhaustive(maxNumberOfSamples).map(generator -> generator.map(BigInteger::longValueExact));
@@ -7,7 +7,7 @@ import java.util.function.*;
 import net.jqwik.api.*;
 import net.jqwik.api.arbitraries.*;
 
-public class DefaultShortArbitrary extends TypedCloneable implements ShortArbitrary {
+public class DefaultShortArbitrary extends TypedCloneable implements ShortArbitrary, IntegralElementArbitrary {
 
 	private static final short DEFAULT_MIN = Short.MIN_VALUE;
 	private static final short DEFAULT_MAX = Short.MAX_VALUE;
@@ -23,6 +23,18 @@ public class DefaultShortArbitrary extends TypedCloneable implements ShortArbitr
 		return generatingArbitrary.generator(genSize).map(BigInteger::shortValueExact);
 	}
 
+	@Override
+	public <A> Optional<RandomGenerator<A>> primitiveArrayGenerator(
+		Class<?> componentType,
+		int genSize,
+		boolean withEmbeddedEdgeCases,
+		int minSize,
+		int maxSize,
+		int cutoffSize
+	) {
+		return generatingArbitrary.primitiveArrayGenerator(componentType, genSize, withEmbeddedEdgeCases, minSize, maxSize, cutoffSize);
+	}
+
 	@Override
 	public Optional<ExhaustiveGenerator<Short>> exhaustive(long maxNumberOfSamples) {
 		return generatingArbitrary.exhaustive(maxNumberOfSamples).map(generator -> generator.map(BigInteger::shortValueExact));
@@ -1,5 +1,6 @@
 package net.jqwik.engine.properties.arbitraries;
 
+import java.lang.invoke.*;
 import java.lang.reflect.*;
 import java.util.*;
 import java.util.function.*;
@@ -15,6 +16,20 @@ import static org.junit.platform.commons.support.ModifierSupport.*;
 
 public class DefaultTypeArbitrary<T> extends OneOfArbitrary<T> implements TypeArbitrary<T> {
 
+	private static final int MAX_EXACT_ARITY = 8;
+
+	private static final int MAX_BOUND_CREATORS = 256;
+
+	// Creators are bound once and then shared by all type arbitraries across properties.
+	// Least recently used creators are evicted so that creators of all types used in a run do not pile up.
+	private static final Map<Executable, BoundCreator> boundCreators =
+		new LinkedHashMap<Executable, BoundCreator>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Executable, BoundCreator> eldest) {
+				return size() > MAX_BOUND_CREATORS;
+			}
+		};
+
 	private final Class<T> targetType;
 	private final Set<Executable> creators = new HashSet<>();
 	private boolean defaultsSet = false;
@@ -150,53 +165,109 @@ public class DefaultTypeArbitrary<T> extends OneOfArbitrary<T> implements TypeAr
 	}
 
 	private Arbitrary<T> createArbitrary(Executable creator) {
+		BoundCreator boundCreator = boundCreator(creator);
+		// Defaults are still resolved lazily because they depend on the domain context of the running property
 		List<Arbitrary<Object>> parameterArbitraries =
-			Arrays.stream(creator.getAnnotatedParameterTypes())
-				  .map(annotatedType -> Arbitraries.defaultFor(TypeUsage.forType(annotatedType.getType())))
-				  .collect(Collectors.toList());
+			boundCreator.parameterTypes.stream()
+									   .map(parameterType -> Arbitraries.<Object>defaultFor(parameterType))
+									   .collect(Collectors.toList());
 
-		Function<List<Object>, T> combinator = paramList -> combinator(creator).apply(paramList.toArray());
+		Function<List<Object>, T> combinator = boundCreator::create;
 		Arbitrary<T> arbitrary = Combinators.combine(parameterArbitraries).as(combinator);
 		return arbitrary.ignoreException(GenerationError.class);
 	}
 
-	private Function<Object[], T> combinator(Executable creator) {
-		if (creator instanceof Method) {
-			return combinatorForMethod((Method) creator);
+	private static BoundCreator boundCreator(Executable creator) {
+		synchronized (boundCreators) {
+			BoundCreator boundCreator = boundCreators.get(creator);
+			if (boundCreator == null) {
+				boundCreator = new BoundCreator(creator);
+				boundCreators.put(creator, boundCreator);
+			}
+			return boundCreator;
 		}
-		if (creator instanceof Constructor) {
-			//noinspection unchecked
-			return combinatorForConstructor((Constructor<T>) creator);
-		}
-		throw new JqwikException(String.format("Creator %s is not supported", creator));
 	}
 
-	private Function<Object[], T> combinatorForMethod(Method method) {
-		method.setAccessible(true);
-		return params -> generateNext(params, p -> method.invoke(null, p));
+	public int countCreators() {
+		return creators.size();
 	}
 
-	private Function<Object[], T> combinatorForConstructor(Constructor<T> constructor) {
-		constructor.setAccessible(true);
-		return params -> generateNext(params, constructor::newInstance);
-	}
+	/**
+	 * A creator bound once to a method handle of generic type, which is then invoked without reflection.
+	 * Parameter types are also only resolved once per creator.
+	 */
+	private static class BoundCreator {
+
+		private final List<TypeUsage> parameterTypes;
+		private final MethodHandle handle;
+		private final Throwable bindingError;
+
+		private BoundCreator(Executable creator) {
+			this.parameterTypes = Arrays.stream(creator.getAnnotatedParameterTypes())
+										.map(annotatedType -> TypeUsage.forType(annotatedType.getType()))
+										.collect(Collectors.toList());
+			MethodHandle handle = null;
+			Throwable bindingError = null;
+			try {
+				handle = bind(creator);
+			} catch (Throwable throwable) {
+				// Inaccessible creators fail during generation as they always did
+				bindingError = throwable;
+			}
+			this.handle = handle;
+			this.bindingError = bindingError;
+		}
 
-	private T generateNext(Object[] params, Combinator combinator) {
-		try {
-			//noinspection unchecked
-			return (T) combinator.combine(params);
-		} catch (Throwable throwable) {
-			throw new GenerationError(throwable);
+		private MethodHandle bind(Executable creator) throws IllegalAccessException {
+			creator.setAccessible(true);
+			MethodHandle unreflected =
+				creator instanceof Method
+					? MethodHandles.lookup().unreflect((Method) creator)
+					: MethodHandles.lookup().unreflectConstructor((Constructor<?>) creator);
+			int arity = parameterTypes.size();
+			MethodHandle generic = unreflected.asFixedArity().asType(MethodType.genericMethodType(arity));
+			if (arity > MAX_EXACT_ARITY) {
+				return generic.asSpreader(Object[].class, arity);
+			}
+			return generic;
 		}
-	}
 
-	public int countCreators() {
-		return creators.size();
-	}
+		@SuppressWarnings("unchecked")
+		private <T> T create(List<Object> params) {
+			if (bindingError != null) {
+				throw new GenerationError(bindingError);
+			}
+			try {
+				return (T) invoke(params);
+			} catch (Throwable throwable) {
+				throw new GenerationError(throwable);
+			}
+		}
 
-	@FunctionalInterface
-	private interface Combinator {
-		Object combine(Object[] params) throws Throwable;
+		private Object invoke(List<Object> p) throws Throwable {
+			switch (p.size()) {
+				case 0:
+					return handle.invokeExact();
+				case 1:
+					return handle.invokeExact(p.get(0));
+				case 2:
+					return handle.invokeExact(p.get(0), p.get(1));
+				case 3:
+					return handle.invokeExact(p.get(0), p.get(1), p.get(2));
+				case 4:
+					return handle.invokeExact(p.get(0), p.get(1), p.get(2), p.get(3));
+				case 5:
+					return handle.invokeExact(p.get(0), p.get(1), p.get(2), p.get(3), p.get(4));
+				case 6:
+					return handle.invokeExact(p.get(0), p.get(1), p.get(2), p.get(3), p.get(4), p.get(5));
+				case 7:
+					return handle.invokeExact(p.get(0), p.get(1), p.get(2), p.get(3), p.get(4), p.get(5), p.get(6));
+				case 8:
+					return handle.invokeExact(p.get(0), p.get(1), p.get(2), p.get(3), p.get(4), p.get(5), p.get(6), p.get(7));
+				default:
+					return handle.invokeExact(p.toArray());
+			}
+		}
 	}
 
 	private static class GenerationError extends RuntimeException {
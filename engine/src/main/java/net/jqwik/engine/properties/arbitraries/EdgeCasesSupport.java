@@ -20,34 +20,62 @@ public class EdgeCasesSupport {
 
 			@Override
 			public String toString() {
-				String edgeCases =
-					suppliers
-						.stream()
-						.map(Supplier::get)
-						.map(Shrinkable::value)
-						.map(JqwikStringSupport::displayString)
-						.collect(Collectors.joining(", "));
-				return String.format("EdgeCases[%s]", edgeCases);
+				return EdgeCasesSupport.toString(this);
 			}
 		};
 	}
 
+	static String toString(EdgeCases<?> edgeCases) {
+		String values =
+			edgeCases
+				.suppliers()
+				.stream()
+				.map(Supplier::get)
+				.map(Shrinkable::value)
+				.map(JqwikStringSupport::displayString)
+				.collect(Collectors.joining(", "));
+		return String.format("EdgeCases[%s]", values);
+	}
+
+	/**
+	 * Edge cases that are enumerated lazily and do not contain two equal values.
+	 */
+	static <T> EdgeCases<T> distinct(Supplier<Stream<Supplier<Shrinkable<T>>>> enumeration) {
+		return distinct(enumeration, Integer.MAX_VALUE);
+	}
+
+	/**
+	 * Edge cases that are enumerated lazily and do not contain two equal values.
+	 * Enumeration stops as soon as {@code maxEdgeCases} distinct values have been found.
+	 */
+	static <T> EdgeCases<T> distinct(Supplier<Stream<Supplier<Shrinkable<T>>>> enumeration, int maxEdgeCases) {
+		return new LazyEdgeCases<>(
+			() -> enumeration.get()
+							 .filter(new DistinctValues<>())
+							 .limit(Math.max(0, maxEdgeCases))
+		);
+	}
+
 	public static <T> EdgeCases<T> choose(final List<T> values, int maxEdgeCases) {
-		List<Shrinkable<T>> shrinkables = new ArrayList<>();
-		if (values.size() > 0) {
-			shrinkables.add(new ChooseValueShrinkable<>(values.get(0), values));
-		}
-		if (values.size() > 1 && (shrinkables.size() < maxEdgeCases)) {
-			int lastIndex = values.size() - 1;
-			shrinkables.add(new ChooseValueShrinkable<>(values.get(lastIndex), values));
-		}
-		//noinspection CatchMayIgnoreException
-		try {
-			if (values.contains(null) && (shrinkables.size() < maxEdgeCases)) {
-				shrinkables.add(Shrinkable.unshrinkable(null));
+		return distinct(() -> {
+			List<Supplier<Shrinkable<T>>> suppliers = new ArrayList<>();
+			if (values.size() > 0) {
+				Shrinkable<T> first = new ChooseValueShrinkable<>(values.get(0), values);
+				suppliers.add(() -> first);
+			}
+			if (values.size() > 1) {
+				int lastIndex = values.size() - 1;
+				Shrinkable<T> last = new ChooseValueShrinkable<>(values.get(lastIndex), values);
+				suppliers.add(() -> last);
 			}
-		} catch (NullPointerException someListsDoNotAllowNullValues) { }
-		return EdgeCasesSupport.fromShrinkables(shrinkables);
+			//noinspection CatchMayIgnoreException
+			try {
+				if (values.contains(null)) {
+					suppliers.add(() -> Shrinkable.unshrinkable(null));
+				}
+			} catch (NullPointerException someListsDoNotAllowNullValues) { }
+			return suppliers.stream();
+		}, maxEdgeCases);
 	}
 
 	public static <T> EdgeCases<T> concatFrom(final List<Arbitrary<T>> arbitraries, int maxEdgeCases) {
@@ -65,21 +93,11 @@ public class EdgeCasesSupport {
 		if (edgeCases.size() == 1) {
 			return edgeCases.get(0);
 		}
-		List<Supplier<Shrinkable<T>>> concatenatedSuppliers = new ArrayList<>();
-		int remainingMaxEdgeCases = maxEdgeCases;
-		for (EdgeCases<T> edgeCase : edgeCases) {
-			if (edgeCase.isEmpty()) {
-				continue;
-			}
-			List<Supplier<Shrinkable<T>>> suppliers =
-				edgeCase.suppliers()
-						.stream()
-						.limit(Math.max(0, remainingMaxEdgeCases))
-						.collect(Collectors.toList());
-			concatenatedSuppliers.addAll(suppliers);
-			remainingMaxEdgeCases = remainingMaxEdgeCases - suppliers.size();
-		}
-		return EdgeCasesSupport.fromSuppliers(concatenatedSuppliers);
+		// Later edge cases are not even enumerated when earlier ones already reach maxEdgeCases
+		return distinct(
+			() -> edgeCases.stream().flatMap(edgeCase -> edgeCase.suppliers().stream()),
+			maxEdgeCases
+		);
 	}
 
 	public static <T> EdgeCases<T> fromShrinkables(List<Shrinkable<T>> shrinkables) {
@@ -94,51 +112,49 @@ public class EdgeCasesSupport {
 	}
 
 	public static <T, U> EdgeCases<U> mapShrinkable(EdgeCases<T> self, Function<Shrinkable<T>, Shrinkable<U>> mapper) {
-		List<Supplier<Shrinkable<U>>> mappedSuppliers =
-			self.suppliers().stream()
-				.map(tSupplier -> mapper.apply(tSupplier.get()))
-				.filter(Objects::nonNull)
-				.map(uShrinkable -> (Supplier<Shrinkable<U>>) () -> uShrinkable)
-				.collect(Collectors.toList());
-		return EdgeCases.fromSuppliers(mappedSuppliers);
+		return distinct(
+			() -> self.suppliers().stream()
+					  .map(tSupplier -> mapper.apply(tSupplier.get()))
+					  .filter(Objects::nonNull)
+					  .map(uShrinkable -> () -> uShrinkable)
+		);
 	}
 
 	public static <T> EdgeCases<T> filter(EdgeCases<T> self, Predicate<T> filterPredicate) {
-		List<Supplier<Shrinkable<T>>> filteredSuppliers =
-			self.suppliers().stream()
-				.filter(supplier -> filterPredicate.test(supplier.get().value()))
-				.map(supplier -> (Supplier<Shrinkable<T>>) () -> new FilteredShrinkable<>(supplier.get(), filterPredicate))
-				.collect(Collectors.toList());
-		return EdgeCases.fromSuppliers(filteredSuppliers);
+		return new LazyEdgeCases<>(
+			() -> self.suppliers().stream()
+					  .filter(supplier -> filterPredicate.test(supplier.get().value()))
+					  .map(supplier -> () -> new FilteredShrinkable<>(supplier.get(), filterPredicate))
+		);
 	}
 
 	public static <T> EdgeCases<T> ignoreException(final EdgeCases<T> self, final Class<? extends Throwable> exceptionType) {
-		List<Supplier<Shrinkable<T>>> filteredSuppliers =
-			self.suppliers().stream()
-				.filter(supplier -> {
-					try {
-						supplier.get().value();
-						return true;
-					} catch (Throwable throwable) {
-						if (exceptionType.isAssignableFrom(throwable.getClass())) {
-							return false;
-						}
-						throw throwable;
-					}
-				})
-				.map(shrinkableSupplier -> (Supplier<Shrinkable<T>>) () -> {
-					Shrinkable<T> tShrinkable = shrinkableSupplier.get();
-					return new IgnoreExceptionShrinkable<T>(tShrinkable, exceptionType);
-				})
-				.collect(Collectors.toList());
-		return EdgeCases.fromSuppliers(filteredSuppliers);
+		return new LazyEdgeCases<>(
+			() -> self.suppliers().stream()
+					  .filter(supplier -> {
+						  try {
+							  supplier.get().value();
+							  return true;
+						  } catch (Throwable throwable) {
+							  if (exceptionType.isAssignableFrom(throwable.getClass())) {
+								  return false;
+							  }
+							  throw throwable;
+						  }
+					  })
+					  .map(shrinkableSupplier -> () -> {
+						  Shrinkable<T> tShrinkable = shrinkableSupplier.get();
+						  return new IgnoreExceptionShrinkable<T>(tShrinkable, exceptionType);
+					  })
+		);
 	}
 
 	public static <T> EdgeCases<T> dontShrink(EdgeCases<T> self) {
-		return () -> self.suppliers()
-						 .stream()
-						 .map(supplier -> (Supplier<Shrinkable<T>>) () -> supplier.get().makeUnshrinkable())
-						 .collect(Collectors.toList());
+		return new LazyEdgeCases<>(
+			() -> self.suppliers()
+					  .stream()
+					  .map(supplier -> () -> supplier.get().makeUnshrinkable())
+		);
 	}
 
 	public static <T, U> EdgeCases<U> flatMapArbitrary(
@@ -146,26 +162,69 @@ public class EdgeCasesSupport {
 		Function<T, Arbitrary<U>> mapper,
 		int maxEdgeCases
 	) {
-		List<Supplier<Shrinkable<U>>> flatMappedSuppliers =
-			self.suppliers().stream()
-				.flatMap(tSupplier -> {
-					T t = tSupplier.get().value();
-					return mapper.apply(t).edgeCases(maxEdgeCases).suppliers()
-								 .stream()
-								 .map(uSupplier -> {
-									 Function<T, Shrinkable<U>> shrinkableMapper =
-										 newT -> mapper.apply(newT).generator(1000)
-													   .next(SourceOfRandomness.newRandom(42L));
-									 return (Supplier<Shrinkable<U>>) () -> new FixedValueFlatMappedShrinkable<>(
-										 tSupplier.get(),
-										 shrinkableMapper,
-										 uSupplier
-									 );
-								 });
-				})
-				.limit(Math.max(0, maxEdgeCases))
-				.collect(Collectors.toList());
-		return EdgeCases.fromSuppliers(flatMappedSuppliers);
+		return distinct(
+			() -> self.suppliers().stream()
+					  .flatMap(tSupplier -> {
+						  T t = tSupplier.get().value();
+						  return mapper.apply(t).edgeCases(maxEdgeCases).suppliers()
+									   .stream()
+									   .map(uSupplier -> {
+										   Function<T, Shrinkable<U>> shrinkableMapper =
+											   newT -> mapper.apply(newT).generator(1000)
+															 .next(SourceOfRandomness.newRandom(42L));
+										   return () -> new FixedValueFlatMappedShrinkable<>(
+											   tSupplier.get(),
+											   shrinkableMapper,
+											   uSupplier
+										   );
+									   });
+					  }),
+			maxEdgeCases
+		);
+	}
+
+	/**
+	 * Lets an edge case through only if no equal value has been let through before.
+	 * The value's class and hash code serve as cheap fingerprint so that
+	 * values are only compared with values of the same fingerprint.
+	 * Values that cannot be hashed or compared are always let through.
+	 */
+	private static class DistinctValues<T> implements Predicate<Supplier<Shrinkable<T>>> {
+
+		private final Map<Integer, List<Object>> valuesByFingerprint = new HashMap<>();
+
+		@Override
+		public boolean test(Supplier<Shrinkable<T>> supplier) {
+			try {
+				Object value = supplier.get().value();
+				List<Object> sameFingerprint = valuesByFingerprint.computeIfAbsent(fingerprint(value), ignore -> new ArrayList<>());
+				for (Object other : sameFingerprint) {
+					if (isSameValue(value, other)) {
+						return false;
+					}
+				}
+				sameFingerprint.add(value);
+				return true;
+			} catch (Throwable throwable) {
+				JqwikExceptionSupport.rethrowIfBlacklisted(throwable);
+				return true;
+			}
+		}
+
+		private static int fingerprint(Object value) {
+			if (value == null) {
+				return 0;
+			}
+			int valueHash = value.getClass().isArray() ? Arrays.deepHashCode(new Object[]{value}) : value.hashCode();
+			return 31 * value.getClass().hashCode() + valueHash;
+		}
+
+		private static boolean isSameValue(Object value, Object other) {
+			if (value == null || other == null) {
+				return value == other;
+			}
+			return value.getClass() == other.getClass() && Objects.deepEquals(value, other);
+		}
 	}
 
 }
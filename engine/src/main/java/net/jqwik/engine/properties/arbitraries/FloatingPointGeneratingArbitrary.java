@@ -0,0 +1,159 @@
+package net.jqwik.engine.properties.arbitraries;
+
+import java.util.*;
+import java.util.function.*;
+import java.util.stream.*;
+
+import net.jqwik.api.*;
+import net.jqwik.engine.properties.arbitraries.exhaustive.*;
+import net.jqwik.engine.properties.arbitraries.randomized.*;
+import net.jqwik.engine.properties.shrinking.*;
+
+import static net.jqwik.engine.properties.shrinking.FloatingPointEncoding.RoundingDirection.*;
+
+/**
+ * Generates and shrinks double or float values on their IEEE-754 representation
+ * without going through {@linkplain java.math.BigDecimal}.
+ */
+class FloatingPointGeneratingArbitrary implements Arbitrary<Double> {
+
+	private final FloatingPointEncoding encoding;
+	private final double min;
+	private final double max;
+	private final int scale;
+	private final double shrinkingTarget;
+	private final Consumer<EdgeCases.Config<Double>> edgeCasesConfigurator;
+
+	/**
+	 * @param scale           the number of decimal places to round to, or a negative number for no rounding
+	 * @param shrinkingTarget the shrinking target or null for the default target
+	 */
+	FloatingPointGeneratingArbitrary(
+		FloatingPointEncoding encoding,
+		double min, boolean minIncluded,
+		double max, boolean maxIncluded,
+		int scale,
+		Double shrinkingTarget,
+		Consumer<EdgeCases.Config<Double>> edgeCasesConfigurator
+	) {
+		double normalizedMin = encoding.normalize(min);
+		double normalizedMax = encoding.normalize(max);
+		this.encoding = encoding;
+		this.scale = scale;
+		this.min = effectiveMin(normalizedMin, minIncluded);
+		this.max = effectiveMax(normalizedMax, maxIncluded);
+		this.shrinkingTarget = shrinkingTarget == null ? defaultShrinkingTarget() : encoding.normalize(shrinkingTarget);
+		this.edgeCasesConfigurator = edgeCasesConfigurator;
+		checkRange(normalizedMin, normalizedMax);
+	}
+
+	private double effectiveMin(double min, boolean minIncluded) {
+		double included = minIncluded ? min : nextUp(min);
+		return scale < 0 ? included : encoding.roundToScale(included, scale, UP);
+	}
+
+	private double effectiveMax(double max, boolean maxIncluded) {
+		double included = maxIncluded ? max : nextDown(max);
+		return scale < 0 ? included : encoding.roundToScale(included, scale, DOWN);
+	}
+
+	private double nextUp(double value) {
+		return encoding.fromKey(encoding.toKey(value) + 1);
+	}
+
+	private double nextDown(double value) {
+		return encoding.fromKey(encoding.toKey(value) - 1);
+	}
+
+	private void checkRange(double originalMin, double originalMax) {
+		if (scale >= 0) {
+			checkScale(originalMin);
+			checkScale(originalMax);
+		}
+		if (min > max) {
+			String message = String.format("No number with scale <%s> can be generated between %s and %s", scale, originalMin, originalMax);
+			throw new JqwikException(message);
+		}
+		if (shrinkingTarget < min || shrinkingTarget > max) {
+			String message = String.format("Shrinking target <%s> is outside allowed range [%s..%s]", shrinkingTarget, min, max);
+			throw new JqwikException(message);
+		}
+	}
+
+	private void checkScale(double value) {
+		if (encoding.roundToScale(value, scale, NEAREST) != value) {
+			String message = String.format(
+				"Decimal value %s cannot be represented with scale %s.%nYou may want to use a higher scale",
+				value,
+				scale
+			);
+			throw new JqwikException(message);
+		}
+	}
+
+	private double defaultShrinkingTarget() {
+		if (min <= 0 && max >= 0) {
+			return 0.0;
+		}
+		return min > 0 ? min : max;
+	}
+
+	@Override
+	public RandomGenerator<Double> generator(int genSize) {
+		if (min == max) {
+			return ignored -> Shrinkable.unshrinkable(min);
+		}
+		return new FloatingPointGenerator(encoding, min, max, scale, shrinkingTarget);
+	}
+
+	@Override
+	public Optional<ExhaustiveGenerator<Double>> exhaustive(long maxNumberOfSamples) {
+		if (min == max) {
+			return ExhaustiveGenerators.choose(Collections.singletonList(min), maxNumberOfSamples);
+		}
+		return Optional.empty();
+	}
+
+	@Override
+	public EdgeCases<Double> edgeCases(int maxEdgeCases) {
+		List<Shrinkable<Double>> shrinkables =
+			rawEdgeCases().filter(this::isValid)
+						  .distinct()
+						  .map(this::createShrinkable)
+						  .limit(Math.max(0, maxEdgeCases))
+						  .collect(Collectors.toList());
+		GenericEdgeCasesConfiguration<Double> configuration = new GenericEdgeCasesConfiguration<Double>() {
+			@Override
+			protected void checkEdgeCaseIsValid(Double edgeCase) {
+				if (!isValid(edgeCase)) {
+					String message = String.format("Edge case <%s> is outside the arbitrary's allowed range [%s..%s]", edgeCase, min, max);
+					throw new IllegalArgumentException(message);
+				}
+			}
+
+			@Override
+			protected Shrinkable<Double> createShrinkable(Double additionalEdgeCase) {
+				return FloatingPointGeneratingArbitrary.this.createShrinkable(additionalEdgeCase);
+			}
+		};
+		return configuration.configure(edgeCasesConfigurator, EdgeCasesSupport.fromShrinkables(shrinkables));
+	}
+
+	private Stream<Double> rawEdgeCases() {
+		Stream<Double> literalEdgeCases = Stream.of(shrinkingTarget, 0.0, 1.0, -1.0, min, max);
+		if (scale < 0) {
+			return literalEdgeCases;
+		}
+		double smallest = encoding.roundToScale(Math.pow(10, -scale), scale, NEAREST);
+		return Stream.concat(literalEdgeCases, Stream.of(smallest, -smallest));
+	}
+
+	private boolean isValid(double value) {
+		boolean scaled = scale < 0 || encoding.roundToScale(value, scale, NEAREST) == value;
+		return value >= min && value <= max && scaled && encoding.normalize(value) == value;
+	}
+
+	private Shrinkable<Double> createShrinkable(double value) {
+		return new ShrinkableFloatingPoint(value, encoding, min, max, scale, shrinkingTarget);
+	}
+}
@@ -46,19 +46,19 @@ public class GenericEdgeCasesConfiguration<T> implements EdgeCases.Config<T> {
 
 	public EdgeCases<T> configure(Consumer<EdgeCases.Config<T>> configurator, EdgeCases<T> defaultEdgeCases) {
 		configurator.accept(this);
-		EdgeCases<T> configuredEdgeCases = defaultEdgeCases;
-		if (none) {
-			configuredEdgeCases = EdgeCases.none();
-		}
+		EdgeCases<T> configuredEdgeCases = none ? EdgeCases.none() : defaultEdgeCases;
+		List<Predicate<T>> filters = new ArrayList<>(this.filters);
+		List<T> additionalEdgeCases = new ArrayList<>(this.additionalEdgeCases);
 
-		List<Supplier<Shrinkable<T>>> suppliers = configuredEdgeCases.suppliers();
-		for (Predicate<T> filter : new ArrayList<>(filters)) {
-			suppliers = suppliers.stream().filter(s -> filter.test(s.get().value())).collect(Collectors.toList());
-		}
-		for (T additionalEdgeCase : additionalEdgeCases) {
-			suppliers.add(() -> createShrinkable(additionalEdgeCase));
-		}
-		return EdgeCasesSupport.fromSuppliers(suppliers);
+		return EdgeCasesSupport.distinct(() -> {
+			Stream<Supplier<Shrinkable<T>>> filtered =
+				configuredEdgeCases.suppliers().stream()
+								   .filter(s -> filters.stream().allMatch(filter -> filter.test(s.get().value())));
+			Stream<Supplier<Shrinkable<T>>> added =
+				additionalEdgeCases.stream()
+								   .map(additionalEdgeCase -> () -> createShrinkable(additionalEdgeCase));
+			return Stream.concat(filtered, added);
+		});
 	}
 
 	protected Shrinkable<T> createShrinkable(T additionalEdgeCase) {
@@ -0,0 +1,25 @@
+package net.jqwik.engine.properties.arbitraries;
+
+import java.util.*;
+
+import net.jqwik.api.*;
+
+/**
+ * Implemented by arbitraries of integral primitives so that arrays of primitive type
+ * can be generated without creating a shrinkable per element.
+ */
+interface IntegralElementArbitrary {
+
+	/**
+	 * @return a generator for arrays with the given component type
+	 * or empty if the arbitrary's values cannot be stored in such an array
+	 */
+	<A> Optional<RandomGenerator<A>> primitiveArrayGenerator(
+		Class<?> componentType,
+		int genSize,
+		boolean withEmbeddedEdgeCases,
+		int minSize,
+		int maxSize,
+		int cutoffSize
+	);
+}
@@ -33,6 +33,34 @@ class IntegralGeneratingArbitrary extends TypedCloneable implements Arbitrary<Bi
 		return RandomGenerators.bigIntegers(min, max, shrinkingTarget(), distribution);
 	}
 
+	<A> Optional<RandomGenerator<A>> primitiveArrayGenerator(
+		Class<?> componentType,
+		int genSize,
+		boolean withEmbeddedEdgeCases,
+		int minSize,
+		int maxSize,
+		int cutoffSize
+	) {
+		return IntegralArrayType.<A>forComponentType(componentType)
+								.filter(arrayType -> arrayType.canHold(min, max))
+								.map(arrayType -> {
+									List<BigInteger> edgeCases = withEmbeddedEdgeCases ? edgeCaseValues(genSize) : Collections.emptyList();
+									return RandomGenerators.primitiveArray(
+										arrayType, min, max, shrinkingTarget(), distribution,
+										edgeCases, genSize, minSize, maxSize, cutoffSize
+									);
+								});
+	}
+
+	// Same number of edge cases as used for a single value's generator
+	private List<BigInteger> edgeCaseValues(int genSize) {
+		return edgeCases(Math.max(genSize, 10))
+				   .suppliers()
+				   .stream()
+				   .map(supplier -> supplier.get().value())
+				   .collect(Collectors.toList());
+	}
+
 	@Override
 	public Optional<ExhaustiveGenerator<BigInteger>> exhaustive(long maxNumberOfSamples) {
 		BigInteger maxCount = max.subtract(min).add(BigInteger.ONE);
@@ -0,0 +1,34 @@
+package net.jqwik.engine.properties.arbitraries;
+
+import java.util.*;
+import java.util.function.*;
+import java.util.stream.*;
+
+import net.jqwik.api.*;
+
+/**
+ * Edge cases that are only enumerated when they are used for the first time.
+ * The enumerated suppliers are then kept so that repeated use does not enumerate them again.
+ */
+class LazyEdgeCases<T> implements EdgeCases<T> {
+
+	private final Supplier<Stream<Supplier<Shrinkable<T>>>> enumeration;
+	private List<Supplier<Shrinkable<T>>> suppliers;
+
+	LazyEdgeCases(Supplier<Stream<Supplier<Shrinkable<T>>>> enumeration) {
+		this.enumeration = enumeration;
+	}
+
+	@Override
+	public List<Supplier<Shrinkable<T>>> suppliers() {
+		if (suppliers == null) {
+			suppliers = Collections.unmodifiableList(enumeration.get().collect(Collectors.toList()));
+		}
+		return suppliers;
+	}
+
+	@Override
+	public String toString() {
+		return EdgeCasesSupport.toString(this);
+	}
+}
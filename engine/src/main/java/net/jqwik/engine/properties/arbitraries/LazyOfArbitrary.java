@@ -6,7 +6,6 @@ import java.util.stream.*;
 
 import net.jqwik.api.*;
 import net.jqwik.api.Tuple.*;
-import net.jqwik.api.lifecycle.*;
 import net.jqwik.engine.*;
 import net.jqwik.engine.execution.lifecycle.*;
 import net.jqwik.engine.properties.shrinking.*;
@@ -15,17 +14,11 @@ import net.jqwik.engine.support.*;
 public class LazyOfArbitrary<T> implements Arbitrary<T> {
 
 	// Cached arbitraries only have to survive one property
-	private static Store<Map<Integer, LazyOfArbitrary<?>>> arbitrariesStore() {
-		try {
-			return Store.getOrCreate(Tuple.of(LazyOfShrinkable.class, "arbitraries"), Lifespan.PROPERTY, HashMap::new);
-		} catch (OutsideJqwikException outsideJqwikException) {
-			return Store.free(HashMap::new);
-		}
-	}
+	private static final LifespanLocal<Map<Integer, LazyOfArbitrary<?>>> arbitraries = LifespanLocal.forProperty(HashMap::new);
 
 	public static <T> Arbitrary<T> of(int hashIdentifier, List<Supplier<Arbitrary<T>>> suppliers) {
 		// It's important for good shrinking to work that the same arbitrary usage is handled by the same arbitrary instance
-		LazyOfArbitrary<?> arbitrary = arbitrariesStore().get().computeIfAbsent(hashIdentifier, ignore -> new LazyOfArbitrary<>(suppliers));
+		LazyOfArbitrary<?> arbitrary = arbitraries.get().computeIfAbsent(hashIdentifier, ignore -> new LazyOfArbitrary<>(suppliers));
  		//noinspection unchecked
 		return (Arbitrary<T>) arbitrary;
 	}
@@ -35,15 +28,7 @@ public class LazyOfArbitrary<T> implements Arbitrary<T> {
 	private final Deque<Set<LazyOfShrinkable<T>>> generatedParts = new ArrayDeque<>();
 
 	// Remember generators during the same try. That way generators with state (e.g. unique()) work as expected
-	private final Store<Map<Integer, RandomGenerator<T>>> generators = createGeneratorsStore();
-
-	private Store<Map<Integer, RandomGenerator<T>>> createGeneratorsStore() {
-		try {
-			return Store.getOrCreate(Tuple.of(this, "generators"), Lifespan.TRY, HashMap::new);
-		} catch (OutsideJqwikException outsideJqwikException) {
-			return Store.free(HashMap::new);
-		}
-	}
+	private final LifespanLocal<Map<Integer, RandomGenerator<T>>> generators = LifespanLocal.forTry(HashMap::new);
 
 	public LazyOfArbitrary(List<Supplier<Arbitrary<T>>> suppliers) {
 		this.suppliers = suppliers;
@@ -114,11 +99,13 @@ public class LazyOfArbitrary<T> implements Arbitrary<T> {
 	}
 
 	private RandomGenerator<T> getGenerator(int index, int genSize) {
-		if (generators.get().get(index) == null) {
-			RandomGenerator<T> generator = suppliers.get(index).get().generator(genSize);
-			generators.get().put(index, generator);
+		Map<Integer, RandomGenerator<T>> generatorsInTry = generators.get();
+		RandomGenerator<T> generator = generatorsInTry.get(index);
+		if (generator == null) {
+			generator = suppliers.get(index).get().generator(genSize);
+			generatorsInTry.put(index, generator);
 		}
-		return generators.get().get(index);
+		return generator;
 	}
 
 	private Stream<Shrinkable<T>> shrink(
@@ -20,6 +20,14 @@ public class FilteredExhaustiveGenerator<T> implements ExhaustiveGenerator<T> {
 		return toFilter.maxCount();
 	}
 
+	/**
+	 * Fuse consecutive filters into a single filtering generator
+	 */
+	@Override
+	public ExhaustiveGenerator<T> filter(Predicate<T> after) {
+		return new FilteredExhaustiveGenerator<>(toFilter, filter.and(after));
+	}
+
 	@Override
 	public Iterator<T> iterator() {
 		final Iterator<T> mappedIterator = toFilter.iterator();
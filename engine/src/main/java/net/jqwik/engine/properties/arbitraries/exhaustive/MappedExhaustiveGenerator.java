@@ -13,6 +13,14 @@ public class MappedExhaustiveGenerator<T, U> implements ExhaustiveGenerator<U> {
 		this.mapper = mapper;
 	}
 
+	/**
+	 * Fuse consecutive mappings into a single mapping generator
+	 */
+	@Override
+	public <V> ExhaustiveGenerator<V> map(Function<U, V> after) {
+		return new MappedExhaustiveGenerator<>(toMap, mapper.andThen(after));
+	}
+
 	@Override
 	public long maxCount() {
 		return toMap.maxCount();
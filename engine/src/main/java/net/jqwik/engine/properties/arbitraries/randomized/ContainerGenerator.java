@@ -17,7 +17,7 @@ class ContainerGenerator<T, C> implements RandomGenerator<C> {
 
 	private Function<Random, Integer> sizeGenerator;
 
-	private static Function<Random, Integer> sizeGenerator(int minSize, int maxSize, int cutoffSize) {
+	static Function<Random, Integer> sizeGenerator(int minSize, int maxSize, int cutoffSize) {
 		if (cutoffSize >= maxSize)
 			return random -> randomSize(random, minSize, maxSize);
 		// Choose size below cutoffSize with probability of 0.9
@@ -21,6 +21,14 @@ public class FilteredGenerator<T> implements RandomGenerator<T> {
 		return nextUntilAccepted(random, toFilter::next);
 	}
 
+	/**
+	 * Fuse consecutive filters into a single filtering generator
+	 */
+	@Override
+	public RandomGenerator<T> filter(Predicate<T> after) {
+		return new FilteredGenerator<>(toFilter, filterPredicate.and(after));
+	}
+
 	@Override
 	public String toString() {
 		return String.format("Filtering [%s]", toFilter);
@@ -0,0 +1,86 @@
+package net.jqwik.engine.properties.arbitraries.randomized;
+
+import java.util.*;
+
+import net.jqwik.api.*;
+import net.jqwik.engine.properties.shrinking.*;
+
+import static net.jqwik.engine.properties.shrinking.FloatingPointEncoding.RoundingDirection.*;
+
+/**
+ * Generates floating point values by choosing their IEEE-754 representation uniformly between the borders.
+ * Thereby each power of two is about as likely as any other.
+ *
+ * <p>
+ * With a scale all values closer to zero than the smallest scaled value would be rounded to zero.
+ * Their representations are therefore collapsed into a single one before choosing.
+ * </p>
+ */
+public class FloatingPointGenerator implements RandomGenerator<Double> {
+
+	private final FloatingPointEncoding encoding;
+	private final double min;
+	private final double max;
+	private final int scale;
+	private final double shrinkingTarget;
+	private final long minKey;
+	private final long keyRange;
+	private final long gapStartKey;
+	private final long gapSize;
+
+	/**
+	 * @param min   the lower border (included)
+	 * @param max   the upper border (included)
+	 * @param scale the number of decimal places to round to, or a negative number for no rounding
+	 */
+	public FloatingPointGenerator(FloatingPointEncoding encoding, double min, double max, int scale, double shrinkingTarget) {
+		this.encoding = encoding;
+		this.min = min;
+		this.max = max;
+		this.scale = scale;
+		this.shrinkingTarget = shrinkingTarget;
+		this.minKey = encoding.toKey(min);
+		long maxKey = encoding.toKey(max);
+		double smallest = scale >= 0 ? encoding.roundToScale(Math.pow(10, -scale), scale, NEAREST) : 0.0;
+		if (smallest > 0) {
+			this.gapStartKey = Math.max(minKey, encoding.toKey(-smallest) + 1);
+			long gapEndKey = Math.min(maxKey, encoding.toKey(smallest) - 1);
+			this.gapSize = Math.max(0, gapEndKey - gapStartKey);
+		} else {
+			this.gapStartKey = maxKey;
+			this.gapSize = 0;
+		}
+		this.keyRange = maxKey - minKey - gapSize;
+	}
+
+	@Override
+	public Shrinkable<Double> next(Random random) {
+		long key = minKey + nextUnsignedUpTo(random, keyRange);
+		if (key > gapStartKey) {
+			key += gapSize;
+		}
+		double value = encoding.fromKey(key);
+		if (scale >= 0) {
+			value = encoding.roundToScale(value, scale, NEAREST);
+		}
+		return new ShrinkableFloatingPoint(value, encoding, min, max, scale, shrinkingTarget);
+	}
+
+	private static long nextUnsignedUpTo(Random random, long bound) {
+		if (bound >= 0 && bound < Long.MAX_VALUE) {
+			long count = bound + 1;
+			long bits;
+			long value;
+			do {
+				bits = random.nextLong() >>> 1;
+				value = bits % count;
+			} while (bits - value + (count - 1) < 0);
+			return value;
+		}
+		long value;
+		do {
+			value = random.nextLong();
+		} while (Long.compareUnsigned(value, bound) > 0);
+		return value;
+	}
+}
@@ -3,14 +3,16 @@ package net.jqwik.engine.properties.arbitraries.randomized;
 import java.util.*;
 
 import net.jqwik.api.*;
-import net.jqwik.api.lifecycle.*;
 import net.jqwik.engine.*;
+import net.jqwik.engine.execution.lifecycle.*;
 
 public class InjectDuplicatesGenerator<T> implements RandomGenerator<T> {
 
-	private Store<List<Long>> previousSeedsStore() {
-		return Store.getOrCreate(this, Lifespan.TRY, ArrayList::new);
-	}
+	// Outside of jqwik's lifecycle, e.g. when sampling, seeds are kept for good
+	private static final int MAX_REMEMBERED_SEEDS = 1000;
+
+	// Duplicates are generated again from the seeds of values generated during the same try
+	private final LifespanLocal<List<Long>> previousSeeds = LifespanLocal.forTry(ArrayList::new);
 
 	private final RandomGenerator<T> base;
 	private final double duplicateProbability;
@@ -20,26 +22,27 @@ public class InjectDuplicatesGenerator<T> implements RandomGenerator<T> {
 		this.duplicateProbability = duplicateProbability;
 	}
 
+	/**
+	 * A duplicate is a shrinkable of its own that shrinks exactly like its original.
+	 * Thereby shrinking pairs of elements can shrink both in the same way.
+	 */
 	@Override
 	public Shrinkable<T> next(Random random) {
 		long seed = chooseSeed(random);
 		return base.next(SourceOfRandomness.newRandom(seed));
 	}
 
-	long chooseSeed(Random random) {
-		Store<List<Long>> previousSeeds = previousSeedsStore();
-		if (!previousSeeds.get().isEmpty()) {
+	private long chooseSeed(Random random) {
+		List<Long> seeds = previousSeeds.get();
+		if (!seeds.isEmpty()) {
 			if (random.nextDouble() <= duplicateProbability) {
-				return randomPreviousSeed(previousSeeds, random);
+				return seeds.get(random.nextInt(seeds.size()));
 			}
 		}
 		long seed = random.nextLong();
-		previousSeeds.get().add(seed);
+		if (seeds.size() < MAX_REMEMBERED_SEEDS) {
+			seeds.add(seed);
+		}
 		return seed;
 	}
-
-	private long randomPreviousSeed(Store<List<Long>> previousSeeds, Random random) {
-		int index = random.nextInt(previousSeeds.get().size());
-		return previousSeeds.get().get(index);
-	}
 }
@@ -0,0 +1,25 @@
+package net.jqwik.engine.properties.arbitraries.randomized;
+
+import java.util.*;
+import java.util.function.*;
+
+import net.jqwik.api.*;
+import net.jqwik.engine.properties.shrinking.*;
+
+class LazyListGenerator<T> implements RandomGenerator<List<T>> {
+	private final RandomGenerator<T> elementGenerator;
+	private final int minSize;
+	private final Function<Random, Integer> sizeGenerator;
+
+	LazyListGenerator(RandomGenerator<T> elementGenerator, int minSize, int maxSize, int cutoffSize) {
+		this.elementGenerator = elementGenerator;
+		this.minSize = minSize;
+		this.sizeGenerator = ContainerGenerator.sizeGenerator(minSize, maxSize, cutoffSize);
+	}
+
+	@Override
+	public Shrinkable<List<T>> next(Random random) {
+		int listSize = sizeGenerator.apply(random);
+		return new ShrinkableLazyList<>(elementGenerator, random.nextLong(), listSize, minSize);
+	}
+}
@@ -0,0 +1,34 @@
+package net.jqwik.engine.properties.arbitraries.randomized;
+
+import java.util.*;
+import java.util.function.*;
+
+import net.jqwik.api.*;
+
+public class MappedGenerator<T, U> implements RandomGenerator<U> {
+	private final RandomGenerator<T> toMap;
+	private final Function<T, U> mapper;
+
+	public MappedGenerator(RandomGenerator<T> toMap, Function<T, U> mapper) {
+		this.toMap = toMap;
+		this.mapper = mapper;
+	}
+
+	@Override
+	public Shrinkable<U> next(Random random) {
+		return toMap.next(random).map(mapper);
+	}
+
+	/**
+	 * Fuse consecutive mappings into a single mapping generator
+	 */
+	@Override
+	public <V> RandomGenerator<V> map(Function<U, V> after) {
+		return new MappedGenerator<>(toMap, mapper.andThen(after));
+	}
+
+	@Override
+	public String toString() {
+		return String.format("Mapping [%s]", toMap);
+	}
+}
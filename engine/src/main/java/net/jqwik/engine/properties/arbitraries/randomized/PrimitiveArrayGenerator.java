@@ -0,0 +1,71 @@
+package net.jqwik.engine.properties.arbitraries.randomized;
+
+import java.math.*;
+import java.util.*;
+import java.util.function.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.RandomDistribution.*;
+import net.jqwik.engine.properties.*;
+import net.jqwik.engine.properties.shrinking.*;
+
+import static net.jqwik.engine.properties.EdgeCasesGenerator.*;
+
+/**
+ * Generates arrays of integral primitive type without creating a shrinkable per element.
+ * Element values are written directly into an array of their primitive type, see {@linkplain ShrinkablePrimitiveArray}.
+ */
+class PrimitiveArrayGenerator<A> implements RandomGenerator<A> {
+	private final IntegralArrayType<A> arrayType;
+	private final Range<BigInteger> elementRange;
+	private final BigInteger elementShrinkingTarget;
+	private final RandomNumericGenerator numericGenerator;
+	private final long[] edgeCases;
+	private final int baseToEdgeCaseRatio;
+	private final int minSize;
+	private final Function<Random, Integer> sizeGenerator;
+
+	PrimitiveArrayGenerator(
+		IntegralArrayType<A> arrayType,
+		Range<BigInteger> elementRange,
+		BigInteger elementShrinkingTarget,
+		RandomNumericGenerator numericGenerator,
+		List<BigInteger> edgeCases,
+		int genSize,
+		int minSize,
+		int maxSize,
+		int cutoffSize
+	) {
+		this.arrayType = arrayType;
+		this.elementRange = elementRange;
+		this.elementShrinkingTarget = elementShrinkingTarget;
+		this.numericGenerator = numericGenerator;
+		this.edgeCases = edgeCases.stream().mapToLong(BigInteger::longValueExact).toArray();
+		this.baseToEdgeCaseRatio = this.edgeCases.length == 0 ? 0 : calculateBaseToEdgeCaseRatio(genSize, this.edgeCases.length);
+		this.minSize = minSize;
+		this.sizeGenerator = ContainerGenerator.sizeGenerator(minSize, maxSize, cutoffSize);
+	}
+
+	@Override
+	public Shrinkable<A> next(Random random) {
+		int size = sizeGenerator.apply(random);
+		A array = arrayType.newArray(size);
+		for (int i = 0; i < size; i++) {
+			arrayType.set(array, i, nextElement(random));
+		}
+		return new ShrinkablePrimitiveArray<>(array, arrayType, elementRange, elementShrinkingTarget, minSize);
+	}
+
+	/**
+	 * Edge cases are mixed in with the same ratio as in {@linkplain WithEdgeCasesGenerator}
+	 */
+	private long nextElement(Random random) {
+		if (baseToEdgeCaseRatio > 0 && random.nextInt(baseToEdgeCaseRatio) == 0) {
+			return edgeCases[random.nextInt(edgeCases.length)];
+		}
+		if (numericGenerator == null) {
+			return elementRange.min.longValueExact();
+		}
+		return numericGenerator.next(random).longValueExact();
+	}
+}
@@ -82,6 +82,46 @@ public class RandomGenerators {
 		return container(elementGenerator, createShrinkable, minSize, maxSize, cutoffSize, uniquenessExtractors);
 	}
 
+	public static <T> RandomGenerator<List<T>> lazyList(
+			RandomGenerator<T> elementGenerator, int minSize, int maxSize, int cutoffSize
+	) {
+		return new LazyListGenerator<>(elementGenerator, minSize, maxSize, cutoffSize);
+	}
+
+	public static RandomGenerator<BinaryContent> binaryContents(long minLength, long maxLength) {
+		return random -> {
+			long length = minLength + logUniformOffset(random, maxLength - minLength);
+			return new ShrinkableBinaryContent(BinaryContent.of(random.nextLong(), length), minLength);
+		};
+	}
+
+	// Offsets are distributed evenly across orders of magnitude
+	private static long logUniformOffset(Random random, long range) {
+		if (range <= 0) {
+			return 0;
+		}
+		double exponent = random.nextDouble() * Math.log1p(range);
+		return Math.min(range, (long) Math.expm1(exponent));
+	}
+
+	public static <A> RandomGenerator<A> primitiveArray(
+			IntegralArrayType<A> arrayType,
+			BigInteger min,
+			BigInteger max,
+			BigInteger shrinkingTarget,
+			RandomDistribution distribution,
+			List<BigInteger> edgeCases,
+			int genSize,
+			int minSize,
+			int maxSize,
+			int cutoffSize
+	) {
+		return RandomIntegralGenerators.primitiveArray(
+				arrayType, 1000, min, max, shrinkingTarget, distribution,
+				edgeCases, genSize, minSize, maxSize, cutoffSize
+		);
+	}
+
 	public static <T> RandomGenerator<T> oneOf(List<RandomGenerator<T>> all) {
 		return choose(all).flatMap(Function.identity());
 	}
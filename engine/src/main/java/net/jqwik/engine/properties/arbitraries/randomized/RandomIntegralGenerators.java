@@ -1,6 +1,7 @@
 package net.jqwik.engine.properties.arbitraries.randomized;
 
 import java.math.*;
+import java.util.*;
 
 import net.jqwik.api.*;
 import net.jqwik.api.RandomDistribution.*;
@@ -37,6 +38,32 @@ public class RandomIntegralGenerators {
 		};
 	}
 
+	public static <A> RandomGenerator<A> primitiveArray(
+		IntegralArrayType<A> arrayType,
+		int elementGenSize,
+		BigInteger min,
+		BigInteger max,
+		BigInteger shrinkingTarget,
+		RandomDistribution distribution,
+		List<BigInteger> edgeCases,
+		int genSize,
+		int minSize,
+		int maxSize,
+		int cutoffSize
+	) {
+		Range<BigInteger> range = Range.of(min, max);
+
+		checkTargetInRange(range, shrinkingTarget);
+
+		RandomNumericGenerator numericGenerator =
+			range.isSingular() ? null : distribution.createGenerator(elementGenSize, range.min, range.max, shrinkingTarget);
+
+		return new PrimitiveArrayGenerator<>(
+			arrayType, range, shrinkingTarget, numericGenerator,
+			edgeCases, genSize, minSize, maxSize, cutoffSize
+		);
+	}
+
 	private static void checkTargetInRange(Range<BigInteger> range, BigInteger value) {
 		if (!range.includes(value)) {
 			String message = String.format("Shrinking target <%s> is outside allowed range %s", value, range);
@@ -8,6 +8,7 @@ import net.jqwik.api.*;
 import net.jqwik.api.Tuple.*;
 import net.jqwik.api.lifecycle.*;
 import net.jqwik.engine.properties.*;
+import net.jqwik.engine.support.*;
 
 abstract class AbstractSampleShrinker {
 
@@ -16,9 +17,11 @@ abstract class AbstractSampleShrinker {
 	}
 
 	private final Map<List<Object>, TryExecutionResult> falsificationCache;
+	private final ShrinkingBudget budget;
 
-	public AbstractSampleShrinker(Map<List<Object>, TryExecutionResult> falsificationCache) {
+	public AbstractSampleShrinker(Map<List<Object>, TryExecutionResult> falsificationCache, ShrinkingBudget budget) {
 		this.falsificationCache = falsificationCache;
+		this.budget = budget;
 	}
 
 	public abstract FalsifiedSample shrink(
@@ -37,25 +40,29 @@ abstract class AbstractSampleShrinker {
 	) {
 		List<Shrinkable<Object>> currentShrinkBase = sample.shrinkables();
 		Optional<FalsifiedSample> bestResult = Optional.empty();
+		ShrinkingDistance currentShrinkBaseDistance = calculateDistance(currentShrinkBase);
 		FilteredResults filteredResults = new FilteredResults();
 
-		while (true) {
-			ShrinkingDistance currentDistance = calculateDistance(currentShrinkBase);
+		while (!budget.isExhausted()) {
+			ShrinkingDistance currentDistance = currentShrinkBaseDistance;
 
 			FalsifiedSample currentBest = bestResult.orElse(null);
 
-			Optional<Tuple3<List<Object>, List<Shrinkable<Object>>, TryExecutionResult>> newShrinkingResult =
-				supplyShrinkCandidates.apply(currentShrinkBase)
+			// A candidate's distance is calculated only once and then carried along
+			Optional<Tuple4<List<Object>, List<Shrinkable<Object>>, TryExecutionResult, ShrinkingDistance>> newShrinkingResult =
+				JqwikStreamSupport.takeWhile(supplyShrinkCandidates.apply(currentShrinkBase), ignore -> !budget.isExhausted())
 								 .peek(ignore -> shrinkAttemptConsumer.accept(currentBest))
-								 .filter(shrinkables -> calculateDistance(shrinkables).compareTo(currentDistance) <= 0)
-								 .map(shrinkables -> {
+								 .map(shrinkables -> Tuple.of(shrinkables, calculateDistance(shrinkables)))
+								 .filter(candidate -> candidate.get2().compareTo(currentDistance) <= 0)
+								 .map(candidate -> {
+									 List<Shrinkable<Object>> shrinkables = candidate.get1();
 									 List<Object> params = createValues(shrinkables).collect(Collectors.toList());
-									 TryExecutionResult result = falsify(falsifier, params);
-									 return Tuple.of(params, shrinkables, result);
+									 TryExecutionResult result = falsify(falsifier, params, shrinkables);
+									 return Tuple.of(params, shrinkables, result, candidate.get2());
 								 })
 								 .peek(t -> {
 									 // Remember best 10 invalid results in case no  falsified shrink is found
-									 if (t.get3().isInvalid() && calculateDistance(t.get2()).compareTo(currentDistance) < 0) {
+									 if (t.get3().isInvalid() && t.get4().compareTo(currentDistance) < 0) {
 										 filteredResults.push(t);
 									 }
 								 })
@@ -63,7 +70,7 @@ abstract class AbstractSampleShrinker {
 								 .findAny();
 
 			if (newShrinkingResult.isPresent()) {
-				Tuple3<List<Object>, List<Shrinkable<Object>>, TryExecutionResult> falsifiedTry = newShrinkingResult.get();
+				Tuple4<List<Object>, List<Shrinkable<Object>>, TryExecutionResult, ShrinkingDistance> falsifiedTry = newShrinkingResult.get();
 				FalsifiedSample falsifiedSample = new FalsifiedSampleImpl(
 					falsifiedTry.get1(),
 					falsifiedTry.get2(),
@@ -72,10 +79,12 @@ abstract class AbstractSampleShrinker {
 				shrinkSampleConsumer.accept(falsifiedSample);
 				bestResult = Optional.of(falsifiedSample);
 				currentShrinkBase = falsifiedTry.get2();
+				currentShrinkBaseDistance = falsifiedTry.get4();
 				filteredResults.clear();
 			} else if (!filteredResults.isEmpty()) {
-				Tuple3<List<Object>, List<Shrinkable<Object>>, TryExecutionResult> aFilteredResult = filteredResults.pop();
+				Tuple4<List<Object>, List<Shrinkable<Object>>, TryExecutionResult, ShrinkingDistance> aFilteredResult = filteredResults.pop();
 				currentShrinkBase = aFilteredResult.get2();
+				currentShrinkBaseDistance = aFilteredResult.get4();
 			} else {
 				break;
 			}
@@ -84,9 +93,22 @@ abstract class AbstractSampleShrinker {
 		return bestResult.orElse(sample);
 	}
 
-	private TryExecutionResult falsify(Falsifier<List<Object>> falsifier, List<Object> params) {
+	private TryExecutionResult falsify(Falsifier<List<Object>> falsifier, List<Object> params, List<Shrinkable<Object>> shrinkables) {
 		// I wonder in which cases this is really an optimization
-		return falsificationCache.computeIfAbsent(params, p -> falsifier.execute(params));
+		return falsificationCache.computeIfAbsent(cacheKey(params, shrinkables), p -> {
+			budget.countCall();
+			return falsifier.execute(params);
+		});
+	}
+
+	// Hashing a lazy list would generate all its elements; its shrinkable identifies the list's elements cheaply
+	private List<Object> cacheKey(List<Object> params, List<Shrinkable<Object>> shrinkables) {
+		List<Object> key = new ArrayList<>(params.size());
+		for (int i = 0; i < params.size(); i++) {
+			Shrinkable<Object> shrinkable = shrinkables.get(i);
+			key.add(shrinkable instanceof ShrinkableLazyList ? shrinkable : params.get(i));
+		}
+		return key;
 	}
 
 	private Stream<Object> createValues(List<Shrinkable<Object>> shrinkables) {
@@ -97,14 +119,14 @@ abstract class AbstractSampleShrinker {
 
 		public static final int MAX_SIZE = 100;
 
-		Comparator<? super Tuple3<List<Object>, List<Shrinkable<Object>>, TryExecutionResult>> resultComparator =
-			Comparator.comparing(left -> calculateDistance(left.get2()));
+		Comparator<? super Tuple4<List<Object>, List<Shrinkable<Object>>, TryExecutionResult, ShrinkingDistance>> resultComparator =
+			Comparator.comparing(Tuple4::get4);
 
-		PriorityQueue<Tuple3<List<Object>, List<Shrinkable<Object>>, TryExecutionResult>> prioritizedResults = new PriorityQueue<>(resultComparator);
+		PriorityQueue<Tuple4<List<Object>, List<Shrinkable<Object>>, TryExecutionResult, ShrinkingDistance>> prioritizedResults = new PriorityQueue<>(resultComparator);
 
-		Set<Tuple3<List<Object>, List<Shrinkable<Object>>, TryExecutionResult>> removedResults = new HashSet<>();
+		Set<Tuple4<List<Object>, List<Shrinkable<Object>>, TryExecutionResult, ShrinkingDistance>> removedResults = new HashSet<>();
 
-		void push(Tuple3<List<Object>, List<Shrinkable<Object>>, TryExecutionResult> result) {
+		void push(Tuple4<List<Object>, List<Shrinkable<Object>>, TryExecutionResult, ShrinkingDistance> result) {
 			if (removedResults.contains(result)) {
 				return;
 			}
@@ -122,8 +144,8 @@ abstract class AbstractSampleShrinker {
 			return prioritizedResults.isEmpty();
 		}
 
-		Tuple3<List<Object>, List<Shrinkable<Object>>, TryExecutionResult> pop() {
-			Tuple3<List<Object>, List<Shrinkable<Object>>, TryExecutionResult> result = prioritizedResults.peek();
+		Tuple4<List<Object>, List<Shrinkable<Object>>, TryExecutionResult, ShrinkingDistance> pop() {
+			Tuple4<List<Object>, List<Shrinkable<Object>>, TryExecutionResult, ShrinkingDistance> result = prioritizedResults.peek();
 			prioritizedResults.remove(result);
 			removedResults.add(result);
 			return result;
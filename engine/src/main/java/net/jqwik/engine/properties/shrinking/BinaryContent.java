@@ -0,0 +1,277 @@
+package net.jqwik.engine.properties.shrinking;
+
+import java.io.*;
+import java.nio.*;
+import java.nio.channels.*;
+import java.nio.file.*;
+import java.util.*;
+
+import net.jqwik.api.*;
+import net.jqwik.engine.*;
+
+import static java.nio.file.StandardOpenOption.*;
+
+/**
+ * Binary content of arbitrary length whose bytes are derived from a seed on demand.
+ * Some regions of the content can be zeroed, which is used for shrinking.
+ */
+public class BinaryContent {
+
+	private static final int CHUNK_SIZE = 8192;
+	private static final long[] NO_REGIONS = new long[0];
+
+	public static BinaryContent of(long seed, long length) {
+		return new BinaryContent(seed, length, NO_REGIONS);
+	}
+
+	public static BinaryContent zeros(long length) {
+		return of(0, length).zero(0, length);
+	}
+
+	private final long seed;
+	private final long length;
+
+	// Sorted and disjoint [from, to) pairs
+	private final long[] zeroedRegions;
+
+	private BinaryContent(long seed, long length, long[] zeroedRegions) {
+		this.seed = seed;
+		this.length = length;
+		this.zeroedRegions = zeroedRegions;
+	}
+
+	public long length() {
+		return length;
+	}
+
+	long countZeroedBytes() {
+		long count = 0;
+		for (int i = 0; i < zeroedRegions.length; i += 2) {
+			count += zeroedRegions[i + 1] - zeroedRegions[i];
+		}
+		return count;
+	}
+
+	/**
+	 * @return the [from, to) pairs of all regions that are not zeroed
+	 */
+	List<long[]> nonZeroedRegions() {
+		List<long[]> regions = new ArrayList<>();
+		long from = 0;
+		for (int i = 0; i < zeroedRegions.length; i += 2) {
+			if (zeroedRegions[i] > from) {
+				regions.add(new long[]{from, zeroedRegions[i]});
+			}
+			from = zeroedRegions[i + 1];
+		}
+		if (from < length) {
+			regions.add(new long[]{from, length});
+		}
+		return regions;
+	}
+
+	BinaryContent withLength(long newLength) {
+		List<Long> clipped = new ArrayList<>();
+		for (int i = 0; i < zeroedRegions.length; i += 2) {
+			if (zeroedRegions[i] < newLength) {
+				clipped.add(zeroedRegions[i]);
+				clipped.add(Math.min(zeroedRegions[i + 1], newLength));
+			}
+		}
+		return new BinaryContent(seed, newLength, toArray(clipped));
+	}
+
+	BinaryContent zero(long from, long to) {
+		List<Long> merged = new ArrayList<>();
+		boolean added = false;
+		for (int i = 0; i < zeroedRegions.length; i += 2) {
+			long regionFrom = zeroedRegions[i];
+			long regionTo = zeroedRegions[i + 1];
+			if (regionTo < from) {
+				merged.add(regionFrom);
+				merged.add(regionTo);
+			} else if (regionFrom > to) {
+				if (!added) {
+					merged.add(from);
+					merged.add(to);
+					added = true;
+				}
+				merged.add(regionFrom);
+				merged.add(regionTo);
+			} else {
+				from = Math.min(from, regionFrom);
+				to = Math.max(to, regionTo);
+			}
+		}
+		if (!added) {
+			merged.add(from);
+			merged.add(to);
+		}
+		return new BinaryContent(seed, length, toArray(merged));
+	}
+
+	private static long[] toArray(List<Long> values) {
+		long[] array = new long[values.size()];
+		for (int i = 0; i < array.length; i++) {
+			array[i] = values.get(i);
+		}
+		return array;
+	}
+
+	/**
+	 * Copy {@code count} bytes starting at {@code position} into {@code bytes}.
+	 * Each 8 bytes of content are derived from a single seeded long value.
+	 */
+	void read(long position, byte[] bytes, int offset, int count) {
+		int i = 0;
+		long current = position;
+		while (i < count) {
+			long word = SourceOfRandomness.deriveSeed(seed, current >>> 3);
+			for (int shift = (int) (current & 7); shift < 8 && i < count; shift++, i++, current++) {
+				bytes[offset + i] = (byte) (word >>> (shift * 8));
+			}
+		}
+		long end = position + count;
+		for (int r = 0; r < zeroedRegions.length; r += 2) {
+			long from = Math.max(zeroedRegions[r], position);
+			long to = Math.min(zeroedRegions[r + 1], end);
+			if (from < to) {
+				Arrays.fill(bytes, offset + (int) (from - position), offset + (int) (to - position), (byte) 0);
+			}
+		}
+	}
+
+	public InputStream inputStream() {
+		return new BinaryContentInputStream(this);
+	}
+
+	public ByteBuffer heapBuffer() {
+		return fill(ByteBuffer.allocate(bufferLength()));
+	}
+
+	public ByteBuffer directBuffer() {
+		return fill(ByteBuffer.allocateDirect(bufferLength()));
+	}
+
+	// Creates a temporary file on every call since buffers mapped from the same file region would share their content
+	public ByteBuffer mappedBuffer() {
+		try {
+			Path file = Files.createTempFile("jqwik-", ".bin");
+			try (FileChannel channel = FileChannel.open(file, READ, WRITE, DELETE_ON_CLOSE)) {
+				return fill(channel.map(FileChannel.MapMode.READ_WRITE, 0, bufferLength()));
+			}
+		} catch (IOException ioException) {
+			String message = String.format("Cannot create memory mapped buffer of %s bytes", length);
+			throw new JqwikException(message, ioException);
+		}
+	}
+
+	private int bufferLength() {
+		if (length > Integer.MAX_VALUE) {
+			String message = String.format("Buffers cannot hold %s bytes", length);
+			throw new JqwikException(message);
+		}
+		return (int) length;
+	}
+
+	private ByteBuffer fill(ByteBuffer buffer) {
+		byte[] chunk = new byte[(int) Math.min(CHUNK_SIZE, length)];
+		long position = 0;
+		while (position < length) {
+			int count = (int) Math.min(chunk.length, length - position);
+			read(position, chunk, 0, count);
+			buffer.put(chunk, 0, count);
+			position += count;
+		}
+		buffer.flip();
+		return buffer;
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) return true;
+		if (o == null || getClass() != o.getClass()) return false;
+		BinaryContent that = (BinaryContent) o;
+		return seed == that.seed && length == that.length && Arrays.equals(zeroedRegions, that.zeroedRegions);
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(seed, length, Arrays.hashCode(zeroedRegions));
+	}
+
+	@Override
+	public String toString() {
+		return String.format("BinaryContent[length=%s, zeroed=%s]", length, countZeroedBytes());
+	}
+
+	private static class BinaryContentInputStream extends InputStream {
+
+		private final BinaryContent content;
+		private final byte[] single = new byte[1];
+		private long position = 0;
+		private long mark = 0;
+
+		private BinaryContentInputStream(BinaryContent content) {
+			this.content = content;
+		}
+
+		@Override
+		public int read() {
+			if (read(single, 0, 1) < 0) {
+				return -1;
+			}
+			return single[0] & 0xFF;
+		}
+
+		@Override
+		public int read(byte[] bytes, int offset, int count) {
+			if (offset < 0 || count < 0 || count > bytes.length - offset) {
+				throw new IndexOutOfBoundsException();
+			}
+			if (count == 0) {
+				return 0;
+			}
+			long remaining = content.length - position;
+			if (remaining <= 0) {
+				return -1;
+			}
+			int toRead = (int) Math.min(count, remaining);
+			content.read(position, bytes, offset, toRead);
+			position += toRead;
+			return toRead;
+		}
+
+		@Override
+		public long skip(long n) {
+			long skipped = Math.max(0, Math.min(n, content.length - position));
+			position += skipped;
+			return skipped;
+		}
+
+		@Override
+		public int available() {
+			return (int) Math.min(Integer.MAX_VALUE, content.length - position);
+		}
+
+		@Override
+		public boolean markSupported() {
+			return true;
+		}
+
+		@Override
+		public synchronized void mark(int readLimit) {
+			mark = position;
+		}
+
+		@Override
+		public synchronized void reset() {
+			position = mark;
+		}
+
+		@Override
+		public String toString() {
+			return String.format("InputStream[length=%s, position=%s]", content.length, position);
+		}
+	}
+}
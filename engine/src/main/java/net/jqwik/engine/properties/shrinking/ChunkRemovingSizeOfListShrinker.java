@@ -0,0 +1,92 @@
+package net.jqwik.engine.properties.shrinking;
+
+import java.util.*;
+import java.util.stream.*;
+
+import net.jqwik.engine.support.*;
+
+/**
+ * Shrinks the size of a list in the style of delta debugging:
+ * First cut to min size, then remove halves, quarters and so on down to single elements.
+ *
+ * <p>
+ * Candidates are created lazily and are immutable views on the list to shrink,
+ * so that creating a candidate neither copies nor hashes any elements.
+ * </p>
+ */
+public class ChunkRemovingSizeOfListShrinker<T> {
+
+	// Views on views are copied once they get too deep to keep element access cheap
+	private static final int MAX_VIEW_DEPTH = 8;
+
+	private final int minSize;
+
+	public ChunkRemovingSizeOfListShrinker(int minSize) {
+		this.minSize = minSize;
+	}
+
+	public Stream<List<T>> shrink(List<T> toShrink) {
+		if (toShrink.size() <= minSize) {
+			return Stream.empty();
+		}
+		List<T> base = flattenIfTooDeep(toShrink);
+		return JqwikStreamSupport.concat(
+			cutToMinSize(base),
+			removeChunks(base)
+		);
+	}
+
+	private Stream<List<T>> cutToMinSize(List<T> base) {
+		return Stream.of(new ListWithoutRange<>(base, minSize, base.size() - minSize));
+	}
+
+	private Stream<List<T>> removeChunks(List<T> base) {
+		int size = base.size();
+		List<Integer> chunkSizes = new ArrayList<>();
+		for (int chunkSize = size / 2; chunkSize >= 1; chunkSize /= 2) {
+			if (size - chunkSize >= minSize) {
+				chunkSizes.add(chunkSize);
+			}
+		}
+		return chunkSizes.stream().flatMap(
+			chunkSize -> IntStream.iterate(0, start -> start + chunkSize)
+								  .limit(size / chunkSize)
+								  .mapToObj(start -> new ListWithoutRange<>(base, start, chunkSize))
+		);
+	}
+
+	private List<T> flattenIfTooDeep(List<T> toShrink) {
+		if (toShrink instanceof ListWithoutRange && ((ListWithoutRange<T>) toShrink).depth >= MAX_VIEW_DEPTH) {
+			return new ArrayList<>(toShrink);
+		}
+		return toShrink;
+	}
+
+	private static class ListWithoutRange<T> extends AbstractList<T> implements RandomAccess {
+
+		private final List<T> base;
+		private final int from;
+		private final int count;
+		private final int depth;
+
+		private ListWithoutRange(List<T> base, int from, int count) {
+			this.base = base;
+			this.from = from;
+			this.count = count;
+			this.depth = base instanceof ListWithoutRange ? ((ListWithoutRange<T>) base).depth + 1 : 1;
+		}
+
+		@Override
+		public T get(int index) {
+			if (index < 0 || index >= size()) {
+				throw new IndexOutOfBoundsException(String.format("Index: %s, Size: %s", index, size()));
+			}
+			return index < from ? base.get(index) : base.get(index + count);
+		}
+
+		@Override
+		public int size() {
+			return base.size() - count;
+		}
+	}
+}
@@ -10,6 +10,7 @@ import net.jqwik.engine.support.*;
 public class CollectShrinkable<T> implements Shrinkable<List<T>> {
 	private final List<Shrinkable<T>> elements;
 	private final Predicate<List<T>> until;
+	private ShrinkingDistance distance;
 
 	public CollectShrinkable(List<Shrinkable<T>> elements, Predicate<List<T>> until) {
 		this.elements = elements;
@@ -77,6 +78,9 @@ public class CollectShrinkable<T> implements Shrinkable<List<T>> {
 
 	@Override
 	public ShrinkingDistance distance() {
-		return ShrinkingDistance.forCollection(elements);
+		if (distance == null) {
+			distance = ShrinkingDistance.forCollection(elements);
+		}
+		return distance;
 	}
 }
@@ -1,5 +1,6 @@
 package net.jqwik.engine.properties.shrinking;
 
+import java.lang.ref.*;
 import java.util.*;
 import java.util.function.*;
 import java.util.stream.*;
@@ -10,6 +11,8 @@ import net.jqwik.engine.support.*;
 public class CombinedShrinkable<T> implements Shrinkable<T> {
 	private final List<Shrinkable<Object>> parts;
 	private final Function<List<Object>, T> combinator;
+	private ShrinkingDistance distance;
+	private Reference<T> memoizedValue;
 
 	public CombinedShrinkable(List<Shrinkable<Object>> parts, Function<List<Object>, T> combinator) {
 		this.parts = parts;
@@ -18,7 +21,13 @@ public class CombinedShrinkable<T> implements Shrinkable<T> {
 
 	@Override
 	public T value() {
-		return createValue(parts);
+		T memoized = ValueMemoization.memoized(memoizedValue);
+		if (memoized != null) {
+			return memoized;
+		}
+		T value = createValue(parts);
+		memoizedValue = ValueMemoization.memoize(value);
+		return value;
 	}
 
 	private T createValue(List<Shrinkable<Object>> shrinkables) {
@@ -51,7 +60,10 @@ public class CombinedShrinkable<T> implements Shrinkable<T> {
 
 	@Override
 	public ShrinkingDistance distance() {
-		return ShrinkingDistance.combine(parts);
+		if (distance == null) {
+			distance = ShrinkingDistance.combine(parts);
+		}
+		return distance;
 	}
 
 }
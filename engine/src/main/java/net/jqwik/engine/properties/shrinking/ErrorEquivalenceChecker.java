@@ -7,6 +7,10 @@ class ErrorEquivalenceChecker {
 
 	private final Method targetMethod;
 
+	// The original error is compared over and over again during shrinking
+	private Throwable lastOriginalError;
+	private FailureSignature lastOriginalSignature;
+
 	ErrorEquivalenceChecker(final Method targetMethod) {
 		this.targetMethod = targetMethod;
 	}
@@ -28,25 +32,15 @@ class ErrorEquivalenceChecker {
 		if (!originalError.getClass().equals(currentError.getClass())) {
 			return false;
 		}
-		Optional<StackTraceElement> firstOriginal = firstRelevantStackTraceElement(originalError);
-		Optional<StackTraceElement> firstCurrent = firstRelevantStackTraceElement(currentError);
-		return firstOriginal.equals(firstCurrent);
-	}
-
-	private Optional<StackTraceElement> firstRelevantStackTraceElement(Throwable error) {
-		StackTraceElement[] stackTrace = error.getStackTrace();
-		return Arrays.stream(stackTrace)
-					 .filter(this::belongsToTargetPropertyMethod)
-					 .findFirst();
+		return signatureOfOriginal(originalError).equals(FailureSignature.of(currentError, targetMethod));
 	}
 
-	private boolean belongsToTargetPropertyMethod(StackTraceElement stackTraceElement) {
-		if (targetMethod == null) {
-			// Should only happen when shrinking is done outside normal property lifecycle
-			return true;
+	private FailureSignature signatureOfOriginal(Throwable originalError) {
+		if (originalError != lastOriginalError) {
+			lastOriginalSignature = FailureSignature.of(originalError, targetMethod);
+			lastOriginalError = originalError;
 		}
-		return stackTraceElement.getClassName().equals(targetMethod.getDeclaringClass().getName())
-				   && stackTraceElement.getMethodName().equals(targetMethod.getName());
+		return lastOriginalSignature;
 	}
 
 }
@@ -0,0 +1,58 @@
+package net.jqwik.engine.properties.shrinking;
+
+import java.lang.reflect.*;
+import java.util.*;
+
+/**
+ * A compact signature of a property failure: the error's type
+ * and the first stack frame that lies within the property method.
+ */
+class FailureSignature {
+
+	static FailureSignature of(Throwable error, Method targetMethod) {
+		return new FailureSignature(error.getClass(), firstRelevantStackTraceElement(error, targetMethod));
+	}
+
+	private static StackTraceElement firstRelevantStackTraceElement(Throwable error, Method targetMethod) {
+		// getStackTrace() copies the whole trace, so it is only called once per error
+		StackTraceElement[] stackTrace = error.getStackTrace();
+		if (targetMethod == null) {
+			// Should only happen when shrinking is done outside normal property lifecycle
+			return stackTrace.length > 0 ? stackTrace[0] : null;
+		}
+		String methodName = targetMethod.getName();
+		String className = targetMethod.getDeclaringClass().getName();
+		for (StackTraceElement element : stackTrace) {
+			if (element.getMethodName().equals(methodName) && element.getClassName().equals(className)) {
+				return element;
+			}
+		}
+		return null;
+	}
+
+	private final Class<? extends Throwable> errorType;
+	private final StackTraceElement relevantElement;
+
+	private FailureSignature(Class<? extends Throwable> errorType, StackTraceElement relevantElement) {
+		this.errorType = errorType;
+		this.relevantElement = relevantElement;
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) return true;
+		if (o == null || getClass() != o.getClass()) return false;
+		FailureSignature that = (FailureSignature) o;
+		return errorType.equals(that.errorType) && Objects.equals(relevantElement, that.relevantElement);
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(errorType, relevantElement);
+	}
+
+	@Override
+	public String toString() {
+		return String.format("FailureSignature<%s at %s>", errorType.getName(), relevantElement);
+	}
+}
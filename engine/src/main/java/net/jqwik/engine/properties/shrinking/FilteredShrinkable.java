@@ -34,6 +34,14 @@ public class FilteredShrinkable<T> implements Shrinkable<T> {
 		);
 	}
 
+	/**
+	 * Fuse consecutive filters into a single filtered shrinkable
+	 */
+	@Override
+	public Shrinkable<T> filter(Predicate<T> after) {
+		return new FilteredShrinkable<>(toFilter, filter.and(after));
+	}
+
 	@Override
 	public Optional<Shrinkable<T>> grow(Shrinkable<?> before, Shrinkable<?> after) {
 		if (before instanceof FilteredShrinkable && after instanceof FilteredShrinkable) {
@@ -1,5 +1,6 @@
 package net.jqwik.engine.properties.shrinking;
 
+import java.lang.ref.*;
 import java.util.*;
 import java.util.function.*;
 import java.util.stream.*;
@@ -12,6 +13,8 @@ public class FlatMappedShrinkable<T, U> implements Shrinkable<U> {
 
 	private final Shrinkable<T> toMap;
 	private final Function<T, Shrinkable<U>> mapper;
+	private ShrinkingDistance distance;
+	private Reference<Shrinkable<U>> memoizedShrinkable;
 
 	public FlatMappedShrinkable(
 			Shrinkable<T> toMap,
@@ -80,12 +83,25 @@ public class FlatMappedShrinkable<T, U> implements Shrinkable<U> {
 	}
 
 	protected Shrinkable<U> shrinkable() {
-		return generateShrinkable(toMap.value());
+		// The generated shrinkable is memoized, its value is still created anew
+		Shrinkable<U> memoized = memoizedShrinkable == null ? null : memoizedShrinkable.get();
+		if (memoized != null) {
+			return memoized;
+		}
+		Shrinkable<U> shrinkable = generateShrinkable(toMap.value());
+		if (ValueMemoization.isEnabled()) {
+			memoizedShrinkable = new SoftReference<>(shrinkable);
+		}
+		return shrinkable;
 	}
 
 	@Override
 	public ShrinkingDistance distance() {
-		return toMap.distance().append(shrinkable().distance());
+		// Computing the distance requires generating the mapped shrinkable
+		if (distance == null) {
+			distance = toMap.distance().append(shrinkable().distance());
+		}
+		return distance;
 	}
 
 	@Override
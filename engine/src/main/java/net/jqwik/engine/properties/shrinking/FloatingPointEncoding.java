@@ -0,0 +1,121 @@
+package net.jqwik.engine.properties.shrinking;
+
+/**
+ * Maps floating point values to keys whose signed order is the numerical order of the values.
+ * Neighbouring keys are neighbouring floating point numbers; -0.0 is directly below 0.0.
+ */
+public enum FloatingPointEncoding {
+
+	DOUBLE(52) {
+		@Override
+		public long toKey(double value) {
+			long bits = Double.doubleToLongBits(value);
+			return bits < 0 ? bits ^ Long.MAX_VALUE : bits;
+		}
+
+		@Override
+		public double fromKey(long key) {
+			return Double.longBitsToDouble(key < 0 ? key ^ Long.MAX_VALUE : key);
+		}
+
+		@Override
+		public double clearLowMantissaBits(double value, int count) {
+			return Double.longBitsToDouble(Double.doubleToLongBits(value) & (-1L << count));
+		}
+
+		@Override
+		public double normalize(double value) {
+			return value;
+		}
+	},
+
+	FLOAT(23) {
+		@Override
+		public long toKey(double value) {
+			int bits = Float.floatToIntBits((float) value);
+			return bits < 0 ? bits ^ Integer.MAX_VALUE : bits;
+		}
+
+		@Override
+		public double fromKey(long key) {
+			int intKey = (int) key;
+			return Float.intBitsToFloat(intKey < 0 ? intKey ^ Integer.MAX_VALUE : intKey);
+		}
+
+		@Override
+		public double clearLowMantissaBits(double value, int count) {
+			return Float.intBitsToFloat(Float.floatToIntBits((float) value) & (-1 << count));
+		}
+
+		@Override
+		public double normalize(double value) {
+			return (float) value;
+		}
+	};
+
+	private final int mantissaBits;
+
+	FloatingPointEncoding(int mantissaBits) {
+		this.mantissaBits = mantissaBits;
+	}
+
+	public int mantissaBits() {
+		return mantissaBits;
+	}
+
+	public abstract long toKey(double value);
+
+	public abstract double fromKey(long key);
+
+	public abstract double clearLowMantissaBits(double value, int count);
+
+	/**
+	 * @return the nearest value that can be represented by this encoding
+	 */
+	public abstract double normalize(double value);
+
+	/**
+	 * @return the distance between two keys as unsigned long
+	 */
+	public long keyDistance(double first, double second) {
+		long firstKey = toKey(first);
+		long secondKey = toKey(second);
+		return firstKey >= secondKey ? firstKey - secondKey : secondKey - firstKey;
+	}
+
+	/**
+	 * Round {@code value} to {@code scale} decimal places without going through {@linkplain java.math.BigDecimal}.
+	 * Values too large to have decimal places at that scale are returned unchanged.
+	 */
+	public double roundToScale(double value, int scale, RoundingDirection direction) {
+		double factor = Math.pow(10, scale);
+		double scaled = value * factor;
+		if (Double.isInfinite(scaled) || Math.abs(scaled) >= 0x1p52) {
+			return value;
+		}
+		return normalize(direction.round(scaled) / factor);
+	}
+
+	public enum RoundingDirection {
+		NEAREST {
+			@Override
+			double round(double value) {
+				return Math.rint(value);
+			}
+		},
+		UP {
+			@Override
+			double round(double value) {
+				return Math.ceil(value);
+			}
+		},
+		DOWN {
+			@Override
+			double round(double value) {
+				return Math.floor(value);
+			}
+		};
+
+		abstract double round(double value);
+	}
+}
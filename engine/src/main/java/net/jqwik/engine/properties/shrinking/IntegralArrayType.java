@@ -0,0 +1,154 @@
+package net.jqwik.engine.properties.shrinking;
+
+import java.math.*;
+import java.util.*;
+
+/**
+ * Type-specific access to arrays of integral primitive type, i.e. {@code byte[]}, {@code short[]}, {@code int[]} and {@code long[]}.
+ * Values are read and written as {@code long} so that they are neither boxed nor accessed reflectively.
+ *
+ * @param <A> the array type
+ */
+public abstract class IntegralArrayType<A> {
+
+	public static final IntegralArrayType<byte[]> BYTES = new IntegralArrayType<byte[]>(byte.class, Byte.MIN_VALUE, Byte.MAX_VALUE) {
+		@Override
+		public byte[] newArray(int length) {
+			return new byte[length];
+		}
+
+		@Override
+		public int length(byte[] array) {
+			return array.length;
+		}
+
+		@Override
+		public long get(byte[] array, int index) {
+			return array[index];
+		}
+
+		@Override
+		public void set(byte[] array, int index, long value) {
+			array[index] = (byte) value;
+		}
+	};
+
+	public static final IntegralArrayType<short[]> SHORTS = new IntegralArrayType<short[]>(short.class, Short.MIN_VALUE, Short.MAX_VALUE) {
+		@Override
+		public short[] newArray(int length) {
+			return new short[length];
+		}
+
+		@Override
+		public int length(short[] array) {
+			return array.length;
+		}
+
+		@Override
+		public long get(short[] array, int index) {
+			return array[index];
+		}
+
+		@Override
+		public void set(short[] array, int index, long value) {
+			array[index] = (short) value;
+		}
+	};
+
+	public static final IntegralArrayType<int[]> INTS = new IntegralArrayType<int[]>(int.class, Integer.MIN_VALUE, Integer.MAX_VALUE) {
+		@Override
+		public int[] newArray(int length) {
+			return new int[length];
+		}
+
+		@Override
+		public int length(int[] array) {
+			return array.length;
+		}
+
+		@Override
+		public long get(int[] array, int index) {
+			return array[index];
+		}
+
+		@Override
+		public void set(int[] array, int index, long value) {
+			array[index] = (int) value;
+		}
+	};
+
+	public static final IntegralArrayType<long[]> LONGS = new IntegralArrayType<long[]>(long.class, Long.MIN_VALUE, Long.MAX_VALUE) {
+		@Override
+		public long[] newArray(int length) {
+			return new long[length];
+		}
+
+		@Override
+		public int length(long[] array) {
+			return array.length;
+		}
+
+		@Override
+		public long get(long[] array, int index) {
+			return array[index];
+		}
+
+		@Override
+		public void set(long[] array, int index, long value) {
+			array[index] = value;
+		}
+	};
+
+	/**
+	 * Find the array type for a given component type.
+	 *
+	 * @param componentType the array's component type
+	 * @param <A>           the array type
+	 * @return the array type or empty if the component type is not an integral primitive
+	 */
+	@SuppressWarnings("unchecked")
+	public static <A> Optional<IntegralArrayType<A>> forComponentType(Class<?> componentType) {
+		for (IntegralArrayType<?> arrayType : Arrays.asList(BYTES, SHORTS, INTS, LONGS)) {
+			if (arrayType.componentType == componentType) {
+				return Optional.of((IntegralArrayType<A>) arrayType);
+			}
+		}
+		return Optional.empty();
+	}
+
+	private final Class<?> componentType;
+	private final BigInteger minValue;
+	private final BigInteger maxValue;
+
+	private IntegralArrayType(Class<?> componentType, long minValue, long maxValue) {
+		this.componentType = componentType;
+		this.minValue = BigInteger.valueOf(minValue);
+		this.maxValue = BigInteger.valueOf(maxValue);
+	}
+
+	/**
+	 * @return true if all values between min and max can be stored without truncation
+	 */
+	public boolean canHold(BigInteger min, BigInteger max) {
+		return min.compareTo(minValue) >= 0 && max.compareTo(maxValue) <= 0;
+	}
+
+	public abstract A newArray(int length);
+
+	public abstract int length(A array);
+
+	public abstract long get(A array, int index);
+
+	public abstract void set(A array, int index, long value);
+
+	A copyOfRange(A array, int from, int to) {
+		A copy = newArray(to - from);
+		System.arraycopy(array, from, copy, 0, to - from);
+		return copy;
+	}
+
+	@Override
+	public String toString() {
+		return String.format("%s[]", componentType.getName());
+	}
+}
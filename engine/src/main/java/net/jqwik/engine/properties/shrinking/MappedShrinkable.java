@@ -1,5 +1,6 @@
 package net.jqwik.engine.properties.shrinking;
 
+import java.lang.ref.*;
 import java.util.*;
 import java.util.function.*;
 import java.util.stream.*;
@@ -10,6 +11,7 @@ public class MappedShrinkable<T, U> implements Shrinkable<U> {
 
 	private final Shrinkable<T> toMap;
 	private final Function<T, U> mapper;
+	private Reference<U> memoizedValue;
 
 	public MappedShrinkable(Shrinkable<T> toMap, Function<T, U> mapper) {
 		this.toMap = toMap;
@@ -18,7 +20,13 @@ public class MappedShrinkable<T, U> implements Shrinkable<U> {
 
 	@Override
 	public U value() {
-		return mapper.apply(toMap.value());
+		U memoized = ValueMemoization.memoized(memoizedValue);
+		if (memoized != null) {
+			return memoized;
+		}
+		U value = mapper.apply(toMap.value());
+		memoizedValue = ValueMemoization.memoize(value);
+		return value;
 	}
 
 	@Override
@@ -26,6 +34,14 @@ public class MappedShrinkable<T, U> implements Shrinkable<U> {
 		return toMap.shrink().map(this::toMappedShrinkable);
 	}
 
+	/**
+	 * Fuse consecutive mappings into a single mapped shrinkable
+	 */
+	@Override
+	public <V> Shrinkable<V> map(Function<U, V> after) {
+		return new MappedShrinkable<>(toMap, mapper.andThen(after));
+	}
+
 	public Shrinkable<U> toMappedShrinkable(Shrinkable<T> shrinkable) {
 		return shrinkable.map(mapper);
 	}
@@ -9,8 +9,8 @@ import net.jqwik.api.lifecycle.*;
 
 class OneAfterTheOtherParameterShrinker extends AbstractSampleShrinker {
 
-	public OneAfterTheOtherParameterShrinker(Map<List<Object>, TryExecutionResult> falsificationCache) {
-		super(falsificationCache);
+	public OneAfterTheOtherParameterShrinker(Map<List<Object>, TryExecutionResult> falsificationCache, ShrinkingBudget budget) {
+		super(falsificationCache, budget);
 	}
 
 	@Override
@@ -19,14 +19,39 @@ public class PropertyShrinker {
 
 	private static final Logger LOG = Logger.getLogger(PropertyShrinker.class.getName());
 
+	// Time to wait for bounded shrinking to stop after its time bound has been reached
+	private static final int CANCELLATION_GRACE_SECONDS = 5;
+
+	// Bounded shrinking runs in its own thread so that waiting for it can be given up.
+	// The number of threads is bounded, and idle threads do not keep the JVM alive.
+	private static final ExecutorService BOUNDED_SHRINKING_EXECUTOR = createBoundedShrinkingExecutor();
+
+	private static ExecutorService createBoundedShrinkingExecutor() {
+		AtomicInteger threadCounter = new AtomicInteger(0);
+		int maxThreads = Runtime.getRuntime().availableProcessors();
+		ThreadPoolExecutor executor = new ThreadPoolExecutor(
+			maxThreads, maxThreads,
+			10, TimeUnit.SECONDS,
+			new LinkedBlockingQueue<>(),
+			runnable -> {
+				Thread thread = new Thread(runnable, "jqwik-shrinking-" + threadCounter.incrementAndGet());
+				thread.setDaemon(true);
+				return thread;
+			}
+		);
+		executor.allowCoreThreadTimeOut(true);
+		return executor;
+	}
+
 	private final FalsifiedSample originalSample;
 	private final ShrinkingMode shrinkingMode;
 	private final int boundedShrinkingSeconds;
+	private final int boundedShrinkingCalls;
 	private final Consumer<FalsifiedSample> falsifiedSampleReporter;
-	private final Method targetMethod;
 
 	private final AtomicInteger shrinkingStepsCounter = new AtomicInteger(0);
 	private final Map<List<Object>, TryExecutionResult> falsificationCache = new HashMap<>();
+	private final ErrorEquivalenceChecker errorEquivalenceChecker;
 
 	private Optional<FalsifiedSample> currentBest = Optional.empty();
 
@@ -36,12 +61,24 @@ public class PropertyShrinker {
 		int boundedShrinkingSeconds,
 		Consumer<FalsifiedSample> falsifiedSampleReporter,
 		Method targetMethod
+	) {
+		this(originalSample, shrinkingMode, boundedShrinkingSeconds, 0, falsifiedSampleReporter, targetMethod);
+	}
+
+	public PropertyShrinker(
+		FalsifiedSample originalSample,
+		ShrinkingMode shrinkingMode,
+		int boundedShrinkingSeconds,
+		int boundedShrinkingCalls,
+		Consumer<FalsifiedSample> falsifiedSampleReporter,
+		Method targetMethod
 	) {
 		this.originalSample = originalSample;
 		this.shrinkingMode = shrinkingMode;
 		this.boundedShrinkingSeconds = boundedShrinkingSeconds;
+		this.boundedShrinkingCalls = boundedShrinkingCalls;
 		this.falsifiedSampleReporter = falsifiedSampleReporter;
-		this.targetMethod = targetMethod;
+		this.errorEquivalenceChecker = new ErrorEquivalenceChecker(targetMethod);
 	}
 
 	public ShrunkFalsifiedSample shrink(Falsifier<List<Object>> forAllFalsifier) {
@@ -77,25 +114,44 @@ public class PropertyShrinker {
 		Consumer<FalsifiedSample> shrinkAttemptConsumer
 	) {
 		FalsifiedSample fullyShrunkSample;
-		Supplier<FalsifiedSample> shrinkUntilDone = () -> shrinkAsLongAsSampleImproves(falsifier, shrinkSampleConsumer, shrinkAttemptConsumer);
+		ShrinkingBudget budget;
 		if (shrinkingMode == ShrinkingMode.FULL) {
-			fullyShrunkSample = shrinkUntilDone.get();
+			budget = ShrinkingBudget.unlimited();
+			fullyShrunkSample = shrinkAsLongAsSampleImproves(falsifier, shrinkSampleConsumer, shrinkAttemptConsumer, budget);
 		} else {
-			fullyShrunkSample = withTimeout(shrinkUntilDone);
+			budget = ShrinkingBudget.bounded(boundedShrinkingSeconds, boundedShrinkingCalls);
+			fullyShrunkSample = withTimeout(
+				() -> shrinkAsLongAsSampleImproves(falsifier, shrinkSampleConsumer, shrinkAttemptConsumer, budget),
+				budget
+			);
+			if (budget.isExhausted()) {
+				logShrinkingBoundReached(budget);
+			}
 		}
-		return new ShrunkFalsifiedSampleImpl(fullyShrunkSample, shrinkingStepsCounter.get());
+		return new ShrunkFalsifiedSampleImpl(
+			fullyShrunkSample,
+			shrinkingStepsCounter.get(),
+			budget.countCalls(),
+			budget.elapsed()
+		);
 	}
 
-	private FalsifiedSample withTimeout(Supplier<FalsifiedSample> shrinkUntilDone) {
+	private FalsifiedSample withTimeout(Supplier<FalsifiedSample> shrinkUntilDone, ShrinkingBudget budget) {
+		TestDescriptor current = CurrentTestDescriptor.get();
+		Callable<FalsifiedSample> shrinkWithTestDescriptor = () -> CurrentTestDescriptor.runWithDescriptor(current, shrinkUntilDone);
+		Future<FalsifiedSample> falsifiedSampleFuture = BOUNDED_SHRINKING_EXECUTOR.submit(shrinkWithTestDescriptor);
 		try {
-			TestDescriptor current = CurrentTestDescriptor.get();
-			Supplier<FalsifiedSample> shrinkWithTestDescriptor = () -> CurrentTestDescriptor.runWithDescriptor(current, shrinkUntilDone);
-			CompletableFuture<FalsifiedSample> falsifiedSampleFuture = CompletableFuture.supplyAsync(shrinkWithTestDescriptor);
-			return falsifiedSampleFuture.get(boundedShrinkingSeconds, TimeUnit.SECONDS);
+			try {
+				// Shrinking stops by itself when the budget is exhausted, but a running property call is not interrupted
+				return falsifiedSampleFuture.get(boundedShrinkingSeconds, TimeUnit.SECONDS);
+			} catch (TimeoutException timeout) {
+				budget.cancel();
+				return falsifiedSampleFuture.get(CANCELLATION_GRACE_SECONDS, TimeUnit.SECONDS);
+			}
 		} catch (InterruptedException | ExecutionException e) {
 			return JqwikExceptionSupport.throwAsUncheckedException(e);
 		} catch (TimeoutException e) {
-			logShrinkingBoundReached();
+			logShrinkingStillRunning();
 			return currentBest.orElse(originalSample);
 		}
 	}
@@ -104,14 +160,24 @@ public class PropertyShrinker {
 		final Falsifier<List<Object>> falsifier,
 		final Consumer<FalsifiedSample> shrinkSampleConsumer,
 		final Consumer<FalsifiedSample> shrinkAttemptConsumer
+	) {
+		return shrinkAsLongAsSampleImproves(falsifier, shrinkSampleConsumer, shrinkAttemptConsumer, ShrinkingBudget.unlimited());
+	}
+
+	private FalsifiedSample shrinkAsLongAsSampleImproves(
+		Falsifier<List<Object>> falsifier,
+		Consumer<FalsifiedSample> shrinkSampleConsumer,
+		Consumer<FalsifiedSample> shrinkAttemptConsumer,
+		ShrinkingBudget budget
 	) {
 		FalsifiedSample after = originalSample;
 		FalsifiedSample before;
+		// Shrinkables are compared instead of values, since comparing values can be expensive, e.g. for lazy lists
 		do {
 			before = after;
-			after = shrinkOneParameterAfterTheOther(falsifier, before, shrinkSampleConsumer, shrinkAttemptConsumer);
-			after = shrinkParametersPairwise(falsifier, after, shrinkSampleConsumer, shrinkAttemptConsumer);
-		} while (!after.equals(before));
+			after = shrinkOneParameterAfterTheOther(falsifier, before, shrinkSampleConsumer, shrinkAttemptConsumer, budget);
+			after = shrinkParametersPairwise(falsifier, after, shrinkSampleConsumer, shrinkAttemptConsumer, budget);
+		} while (!after.shrinkables().equals(before.shrinkables()));
 		return after;
 	}
 
@@ -119,9 +185,10 @@ public class PropertyShrinker {
 		Falsifier<List<Object>> falsifier,
 		FalsifiedSample sample,
 		Consumer<FalsifiedSample> shrinkSampleConsumer,
-		Consumer<FalsifiedSample> shrinkAttemptConsumer
+		Consumer<FalsifiedSample> shrinkAttemptConsumer,
+		ShrinkingBudget budget
 	) {
-		return new OneAfterTheOtherParameterShrinker(falsificationCache)
+		return new OneAfterTheOtherParameterShrinker(falsificationCache, budget)
 				   .shrink(falsifier, sample, shrinkSampleConsumer, shrinkAttemptConsumer);
 	}
 
@@ -129,9 +196,10 @@ public class PropertyShrinker {
 		Falsifier<List<Object>> falsifier,
 		FalsifiedSample sample,
 		Consumer<FalsifiedSample> shrinkSampleConsumer,
-		Consumer<FalsifiedSample> shrinkAttemptConsumer
+		Consumer<FalsifiedSample> shrinkAttemptConsumer,
+		ShrinkingBudget budget
 	) {
-		return new PairwiseParameterShrinker(falsificationCache).shrink(falsifier, sample, shrinkSampleConsumer, shrinkAttemptConsumer);
+		return new PairwiseParameterShrinker(falsificationCache, budget).shrink(falsifier, sample, shrinkSampleConsumer, shrinkAttemptConsumer);
 	}
 
 	private ShrunkFalsifiedSample unshrunkOriginalSample() {
@@ -139,15 +207,26 @@ public class PropertyShrinker {
 	}
 
 	private boolean isFalsifiedButErrorIsNotEquivalent(TryExecutionResult result, Optional<Throwable> originalError) {
-		boolean areEquivalent = new ErrorEquivalenceChecker(targetMethod).areEquivalent(originalError, result.throwable());
-		return result.isFalsified() && !areEquivalent;
+		return result.isFalsified() && !errorEquivalenceChecker.areEquivalent(originalError, result.throwable());
 	}
 
-	private void logShrinkingBoundReached() {
+	private void logShrinkingBoundReached(ShrinkingBudget budget) {
+		String bound = budget.areCallsExhausted()
+			? String.format("%s calls", boundedShrinkingCalls)
+			: String.format("%s seconds", boundedShrinkingSeconds);
 		String value = String.format(
-			"Shrinking timeout reached after %s seconds." +
+			"Shrinking bound reached after %s." +
 				"%n  You can switch on full shrinking with '@Property(shrinking = ShrinkingMode.FULL)'",
-			boundedShrinkingSeconds
+			bound
+		);
+		LOG.warning(value);
+	}
+
+	private void logShrinkingStillRunning() {
+		String value = String.format(
+			"Shrinking did not stop within %s seconds after its bound was reached." +
+				"%n  It will stop as soon as the currently running property call returns.",
+			CANCELLATION_GRACE_SECONDS
 		);
 		LOG.warning(value);
 	}
@@ -0,0 +1,86 @@
+package net.jqwik.engine.properties.shrinking;
+
+import java.util.*;
+import java.util.stream.*;
+
+import net.jqwik.api.*;
+
+/**
+ * Shrinks binary content by first cutting its length in halves and then zeroing regions of its bytes.
+ */
+public class ShrinkableBinaryContent implements Shrinkable<BinaryContent> {
+
+	// Regions up to this length are also zeroed byte by byte
+	private static final int MAX_BYTEWISE_REGION = 16;
+
+	private final BinaryContent content;
+	private final long minLength;
+
+	public ShrinkableBinaryContent(BinaryContent content, long minLength) {
+		this.content = content;
+		this.minLength = minLength;
+	}
+
+	@Override
+	public BinaryContent value() {
+		return content;
+	}
+
+	@Override
+	public Stream<Shrinkable<BinaryContent>> shrink() {
+		return Stream.concat(shrinkLength(), zeroRegions());
+	}
+
+	private Stream<Shrinkable<BinaryContent>> shrinkLength() {
+		long length = content.length();
+		return Stream.of(minLength, minLength + (length - minLength) / 2, length - 1)
+					 .filter(newLength -> newLength >= minLength && newLength < length)
+					 .distinct()
+					 .map(newLength -> new ShrinkableBinaryContent(content.withLength(newLength), minLength));
+	}
+
+	private Stream<Shrinkable<BinaryContent>> zeroRegions() {
+		return content.nonZeroedRegions().stream().flatMap(region -> {
+			long from = region[0];
+			long to = region[1];
+			Stream<Shrinkable<BinaryContent>> wholeRegion = Stream.of(zero(from, to));
+			if (to - from < 2) {
+				return wholeRegion;
+			}
+			long middle = from + (to - from) / 2;
+			Stream<Shrinkable<BinaryContent>> halves = Stream.of(zero(from, middle), zero(middle, to));
+			if (to - from > MAX_BYTEWISE_REGION) {
+				return Stream.concat(wholeRegion, halves);
+			}
+			Stream<Shrinkable<BinaryContent>> singleBytes = LongStream.range(from, to).mapToObj(position -> zero(position, position + 1));
+			return Stream.concat(Stream.concat(wholeRegion, halves), singleBytes);
+		});
+	}
+
+	private Shrinkable<BinaryContent> zero(long from, long to) {
+		return new ShrinkableBinaryContent(content.zero(from, to), minLength);
+	}
+
+	@Override
+	public ShrinkingDistance distance() {
+		return ShrinkingDistance.of(content.length(), content.length() - content.countZeroedBytes());
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) return true;
+		if (o == null || getClass() != o.getClass()) return false;
+		ShrinkableBinaryContent that = (ShrinkableBinaryContent) o;
+		return content.equals(that.content);
+	}
+
+	@Override
+	public int hashCode() {
+		return content.hashCode();
+	}
+
+	@Override
+	public String toString() {
+		return String.format("ShrinkableBinaryContent<%s>", content);
+	}
+}
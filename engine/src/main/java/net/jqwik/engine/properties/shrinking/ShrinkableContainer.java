@@ -1,5 +1,6 @@
 package net.jqwik.engine.properties.shrinking;
 
+import java.lang.ref.*;
 import java.util.*;
 import java.util.stream.*;
 
@@ -15,6 +16,9 @@ abstract class ShrinkableContainer<C, E> implements Shrinkable<C> {
 	protected final int maxSize;
 	protected final Collection<FeatureExtractor<E>> uniquenessExtractors;
 
+	private ShrinkingDistance distance;
+	private Reference<C> memoizedValue;
+
 	ShrinkableContainer(List<Shrinkable<E>> elements, int minSize, int maxSize, Collection<FeatureExtractor<E>> uniquenessExtractors) {
 		this.elements = elements;
 		this.minSize = minSize;
@@ -31,7 +35,13 @@ abstract class ShrinkableContainer<C, E> implements Shrinkable<C> {
 
 	@Override
 	public C value() {
-		return createValue(elements);
+		C memoized = ValueMemoization.memoized(memoizedValue);
+		if (memoized != null) {
+			return memoized;
+		}
+		C value = createValue(elements);
+		memoizedValue = ValueMemoization.memoize(value);
+		return value;
 	}
 
 	@Override
@@ -66,7 +76,7 @@ abstract class ShrinkableContainer<C, E> implements Shrinkable<C> {
 			Stream<Shrinkable<C>> shrinkElement = element.grow().flatMap(shrunkElement -> {
 				List<Shrinkable<E>> elementsCopy = new ArrayList<>(elements);
 				elementsCopy.set(index, shrunkElement);
-				return Stream.of(createShrinkable(elementsCopy));
+				return Stream.of(createShrinkableReplacing(elementsCopy, element, shrunkElement));
 			});
 			growPerElementStreams.add(shrinkElement);
 		}
@@ -105,10 +115,10 @@ abstract class ShrinkableContainer<C, E> implements Shrinkable<C> {
 	}
 
 	protected Stream<Shrinkable<C>> shrinkSizeOfList() {
-		return new SizeOfListShrinker<Shrinkable<E>>(minSize)
+		// Candidates already come ordered from largest to smallest removal; sorting would compute all distances upfront
+		return new ChunkRemovingSizeOfListShrinker<Shrinkable<E>>(minSize)
 					   .shrink(elements)
-					   .map(this::createShrinkable)
-					   .sorted(Comparator.comparing(Shrinkable::distance));
+					   .map(this::createShrinkable);
 	}
 
 	protected Stream<Shrinkable<C>> shrinkElementsOneAfterTheOther(int maxToShrink) {
@@ -126,7 +136,7 @@ abstract class ShrinkableContainer<C, E> implements Shrinkable<C> {
 					return Stream.empty();
 				}
 				elementsCopy.add(index, shrunkElement);
-				return Stream.of(createShrinkable(elementsCopy));
+				return Stream.of(createShrinkableReplacing(elementsCopy, element, shrunkElement));
 			});
 			shrinkPerElementStreams.add(shrinkElement);
 		}
@@ -159,7 +169,27 @@ abstract class ShrinkableContainer<C, E> implements Shrinkable<C> {
 
 	@Override
 	public ShrinkingDistance distance() {
-		return ShrinkingDistance.forCollection(elements);
+		if (distance == null) {
+			distance = ShrinkingDistance.forCollection(elements);
+		}
+		return distance;
+	}
+
+	/**
+	 * Derive the new container's distance from this container's distance
+	 * instead of visiting all elements again when it is needed.
+	 */
+	private Shrinkable<C> createShrinkableReplacing(
+			List<Shrinkable<E>> newElements,
+			Shrinkable<E> replaced,
+			Shrinkable<E> replacement
+	) {
+		Shrinkable<C> shrinkable = createShrinkable(newElements);
+		if (distance != null && shrinkable instanceof ShrinkableContainer) {
+			ShrinkableContainer<C, E> container = (ShrinkableContainer<C, E>) shrinkable;
+			container.distance = distance.replaceInCollection(replaced.distance(), replacement.distance()).orElse(null);
+		}
+		return shrinkable;
 	}
 
 	@Override
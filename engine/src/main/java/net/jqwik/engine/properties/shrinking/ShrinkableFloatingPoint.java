@@ -0,0 +1,97 @@
+package net.jqwik.engine.properties.shrinking;
+
+import java.util.*;
+import java.util.stream.*;
+
+import net.jqwik.api.*;
+
+import static net.jqwik.engine.properties.shrinking.FloatingPointEncoding.RoundingDirection.*;
+
+/**
+ * Shrinks a floating point value on its IEEE-754 representation.
+ *
+ * <p>
+ * Candidates are the shrinking target, the integral part of the value,
+ * the value with fewer significant mantissa bits and values that are closer to the target
+ * by half, a quarter etc. of the number of representable values in between.
+ * </p>
+ */
+public class ShrinkableFloatingPoint extends AbstractValueShrinkable<Double> {
+
+	private final FloatingPointEncoding encoding;
+	private final double min;
+	private final double max;
+	private final int scale;
+	private final double shrinkingTarget;
+
+	/**
+	 * @param scale the number of decimal places to round to, or a negative number for no rounding
+	 */
+	public ShrinkableFloatingPoint(
+		double value,
+		FloatingPointEncoding encoding,
+		double min,
+		double max,
+		int scale,
+		double shrinkingTarget
+	) {
+		super(value);
+		this.encoding = encoding;
+		this.min = min;
+		this.max = max;
+		this.scale = scale;
+		this.shrinkingTarget = shrinkingTarget;
+	}
+
+	@Override
+	public Stream<Shrinkable<Double>> shrink() {
+		double value = value();
+		long distance = encoding.keyDistance(value, shrinkingTarget);
+		Stream<Double> candidates = Stream.concat(
+			Stream.of(shrinkingTarget, towardsIntegral(value)),
+			Stream.concat(fewerMantissaBits(value), closerKeys(value, distance))
+		);
+		return candidates.map(this::scaled)
+					 .filter(candidate -> candidate >= min && candidate <= max)
+					 .filter(candidate -> Long.compareUnsigned(encoding.keyDistance(candidate, shrinkingTarget), distance) < 0)
+					 .distinct()
+					 .map(this::createShrinkable);
+	}
+
+	private double towardsIntegral(double value) {
+		return value > shrinkingTarget ? Math.floor(value) : Math.ceil(value);
+	}
+
+	private Stream<Double> fewerMantissaBits(double value) {
+		return IntStream.iterate(encoding.mantissaBits(), count -> count - 1)
+						.limit(encoding.mantissaBits())
+						.mapToObj(count -> encoding.clearLowMantissaBits(value, count));
+	}
+
+	private Stream<Double> closerKeys(double value, long distance) {
+		long key = encoding.toKey(value);
+		boolean aboveTarget = key > encoding.toKey(shrinkingTarget);
+		List<Double> candidates = new ArrayList<>();
+		for (long step = distance >>> 1; step != 0; step >>>= 1) {
+			candidates.add(encoding.fromKey(aboveTarget ? key - step : key + step));
+		}
+		return candidates.stream();
+	}
+
+	private double scaled(double candidate) {
+		if (scale < 0) {
+			return candidate;
+		}
+		return encoding.roundToScale(candidate, scale, NEAREST);
+	}
+
+	private Shrinkable<Double> createShrinkable(double value) {
+		return new ShrinkableFloatingPoint(value, encoding, min, max, scale, shrinkingTarget);
+	}
+
+	@Override
+	public ShrinkingDistance distance() {
+		long distance = encoding.keyDistance(value(), shrinkingTarget);
+		return ShrinkingDistance.of(distance < 0 ? Long.MAX_VALUE : distance);
+	}
+}
@@ -0,0 +1,135 @@
+package net.jqwik.engine.properties.shrinking;
+
+import java.util.*;
+import java.util.stream.*;
+
+import net.jqwik.api.*;
+import net.jqwik.engine.*;
+
+/**
+ * A list whose elements are generated on demand from a seed that is derived from the element's index.
+ *
+ * <p>
+ * Shrinking first cuts the list down to smaller index ranges.
+ * Only lists of at most {@linkplain #MAX_MATERIALIZED_SIZE} elements are materialized
+ * into a {@linkplain ShrinkableList} so that individual elements can be shrunk.
+ * </p>
+ */
+public class ShrinkableLazyList<E> implements Shrinkable<List<E>> {
+
+	static final int MAX_MATERIALIZED_SIZE = 1000;
+
+	private final RandomGenerator<E> elementGenerator;
+	private final long seed;
+	private final long offset;
+	private final int size;
+	private final int minSize;
+
+	public ShrinkableLazyList(RandomGenerator<E> elementGenerator, long seed, int size, int minSize) {
+		this(elementGenerator, seed, 0, size, minSize);
+	}
+
+	private ShrinkableLazyList(RandomGenerator<E> elementGenerator, long seed, long offset, int size, int minSize) {
+		this.elementGenerator = elementGenerator;
+		this.seed = seed;
+		this.offset = offset;
+		this.size = size;
+		this.minSize = minSize;
+	}
+
+	@Override
+	public List<E> value() {
+		return new LazyList<>(this);
+	}
+
+	private Shrinkable<E> elementShrinkable(int index) {
+		Random random = SourceOfRandomness.newRandom(SourceOfRandomness.deriveSeed(seed, offset + index));
+		return elementGenerator.next(random);
+	}
+
+	@Override
+	public Stream<Shrinkable<List<E>>> shrink() {
+		return Stream.concat(shrinkIndexRange(), materialize());
+	}
+
+	private Stream<Shrinkable<List<E>>> shrinkIndexRange() {
+		int half = size / 2;
+		return Stream.of(
+			range(0, minSize),
+			range(0, half),
+			range(size - half, half),
+			range(0, size - 1),
+			range(1, size - 1)
+		).filter(Objects::nonNull).distinct();
+	}
+
+	private Shrinkable<List<E>> range(int from, int rangeSize) {
+		if (rangeSize >= size || rangeSize < minSize) {
+			return null;
+		}
+		return new ShrinkableLazyList<>(elementGenerator, seed, offset + from, rangeSize, minSize);
+	}
+
+	private Stream<Shrinkable<List<E>>> materialize() {
+		if (size > MAX_MATERIALIZED_SIZE) {
+			return Stream.empty();
+		}
+		List<Shrinkable<E>> elements = new ArrayList<>(size);
+		for (int i = 0; i < size; i++) {
+			elements.add(elementShrinkable(i));
+		}
+		return Stream.of(new ShrinkableList<>(elements, minSize, size, Collections.emptySet()));
+	}
+
+	/**
+	 * The second dimension makes sure that the materialized list is always considered smaller
+	 */
+	@Override
+	public ShrinkingDistance distance() {
+		return ShrinkingDistance.of(size, Long.MAX_VALUE);
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) return true;
+		if (o == null || getClass() != o.getClass()) return false;
+		ShrinkableLazyList<?> that = (ShrinkableLazyList<?>) o;
+		return elementGenerator == that.elementGenerator
+				   && seed == that.seed && offset == that.offset && size == that.size && minSize == that.minSize;
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(seed, offset, size);
+	}
+
+	@Override
+	public String toString() {
+		return String.format("ShrinkableLazyList[offset=%s, size=%s]", offset, size);
+	}
+
+	/**
+	 * Elements are generated anew on each access. Thus mutable elements will not keep any modifications.
+	 */
+	private static class LazyList<E> extends AbstractList<E> implements RandomAccess {
+
+		private final ShrinkableLazyList<E> shrinkable;
+
+		private LazyList(ShrinkableLazyList<E> shrinkable) {
+			this.shrinkable = shrinkable;
+		}
+
+		@Override
+		public E get(int index) {
+			if (index < 0 || index >= size()) {
+				throw new IndexOutOfBoundsException(String.format("Index: %s, Size: %s", index, size()));
+			}
+			return shrinkable.elementShrinkable(index).value();
+		}
+
+		@Override
+		public int size() {
+			return shrinkable.size;
+		}
+	}
+}
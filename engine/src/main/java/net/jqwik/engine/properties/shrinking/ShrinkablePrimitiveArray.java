@@ -0,0 +1,187 @@
+package net.jqwik.engine.properties.shrinking;
+
+import java.math.*;
+import java.util.*;
+import java.util.stream.*;
+
+import net.jqwik.api.*;
+import net.jqwik.engine.properties.*;
+import net.jqwik.engine.support.*;
+
+/**
+ * A shrinkable for arrays of integral primitive type that does not hold a shrinkable per element.
+ *
+ * <p>
+ * Elements are kept in an array of their primitive type.
+ * An element's shrinkable is only created from its value when the element itself is being shrunk.
+ * </p>
+ *
+ * <p>
+ * The distance consists of the array's length and the sum of all elements' distances to the shrinking target,
+ * both calculated from the primitive values.
+ * </p>
+ *
+ * @param <A> the array type
+ */
+public class ShrinkablePrimitiveArray<A> implements Shrinkable<A> {
+
+	private final A elements;
+	private final IntegralArrayType<A> arrayType;
+	private final Range<BigInteger> elementRange;
+	private final BigInteger elementShrinkingTarget;
+	private final int minSize;
+
+	private ShrinkingDistance distance;
+	private long sumOfElementDistances = -1;
+
+	public ShrinkablePrimitiveArray(
+		A elements,
+		IntegralArrayType<A> arrayType,
+		Range<BigInteger> elementRange,
+		BigInteger elementShrinkingTarget,
+		int minSize
+	) {
+		this.elements = elements;
+		this.arrayType = arrayType;
+		this.elementRange = elementRange;
+		this.elementShrinkingTarget = elementShrinkingTarget;
+		this.minSize = minSize;
+	}
+
+	@Override
+	public A value() {
+		return arrayType.copyOfRange(elements, 0, length());
+	}
+
+	@Override
+	public Stream<Shrinkable<A>> shrink() {
+		return JqwikStreamSupport.concat(
+			shrinkToMinSize(),
+			removeChunks(),
+			shrinkElementsOneAfterTheOther()
+		);
+	}
+
+	private Stream<Shrinkable<A>> shrinkToMinSize() {
+		if (length() <= minSize) {
+			return Stream.empty();
+		}
+		return Stream.of(newArray(arrayType.copyOfRange(elements, 0, minSize)));
+	}
+
+	/**
+	 * Remove halves, then quarters and so on down to single elements.
+	 * Candidates are created lazily and only copy the remaining primitive values.
+	 */
+	private Stream<Shrinkable<A>> removeChunks() {
+		int length = length();
+		List<Integer> chunkSizes = new ArrayList<>();
+		for (int chunkSize = length / 2; chunkSize >= 1; chunkSize /= 2) {
+			if (length - chunkSize >= minSize) {
+				chunkSizes.add(chunkSize);
+			}
+		}
+		return chunkSizes.stream().flatMap(
+			chunkSize -> IntStream.iterate(0, start -> start + chunkSize)
+								  .limit(length / chunkSize)
+								  .mapToObj(start -> removeRange(start, chunkSize))
+		);
+	}
+
+	private Stream<Shrinkable<A>> shrinkElementsOneAfterTheOther() {
+		return IntStream.range(0, length()).boxed().flatMap(
+			position -> {
+				long element = arrayType.get(elements, position);
+				return elementShrinkable(element).shrink().map(
+					shrunkElement -> replaceElement(position, element, shrunkElement.value().longValue())
+				);
+			}
+		);
+	}
+
+	private Shrinkable<BigInteger> elementShrinkable(long element) {
+		return new ShrinkableBigInteger(BigInteger.valueOf(element), elementRange, elementShrinkingTarget);
+	}
+
+	private Shrinkable<A> removeRange(int from, int count) {
+		int length = length();
+		A remaining = arrayType.newArray(length - count);
+		System.arraycopy(elements, 0, remaining, 0, from);
+		System.arraycopy(elements, from + count, remaining, from, length - from - count);
+		return newArray(remaining);
+	}
+
+	private Shrinkable<A> replaceElement(int position, long element, long shrunkElement) {
+		A replaced = arrayType.copyOfRange(elements, 0, length());
+		arrayType.set(replaced, position, shrunkElement);
+		ShrinkablePrimitiveArray<A> array = newArray(replaced);
+		if (sumOfElementDistances >= 0 && sumOfElementDistances < Long.MAX_VALUE) {
+			array.sumOfElementDistances = sumOfElementDistances - elementDistance(element) + elementDistance(shrunkElement);
+		}
+		return array;
+	}
+
+	private ShrinkablePrimitiveArray<A> newArray(A elements) {
+		return new ShrinkablePrimitiveArray<>(elements, arrayType, elementRange, elementShrinkingTarget, minSize);
+	}
+
+	private int length() {
+		return arrayType.length(elements);
+	}
+
+	@Override
+	public ShrinkingDistance distance() {
+		if (distance == null) {
+			distance = ShrinkingDistance.of(length(), sumOfElementDistances());
+		}
+		return distance;
+	}
+
+	private long sumOfElementDistances() {
+		if (sumOfElementDistances < 0) {
+			long sum = 0;
+			for (int position = 0; position < length(); position++) {
+				long elementDistance = elementDistance(arrayType.get(elements, position));
+				sum = sum > Long.MAX_VALUE - elementDistance ? Long.MAX_VALUE : sum + elementDistance;
+			}
+			sumOfElementDistances = sum;
+		}
+		return sumOfElementDistances;
+	}
+
+	/**
+	 * Same as the distance of {@linkplain ShrinkableBigInteger} but without creating a shrinkable.
+	 */
+	private long elementDistance(long element) {
+		long target = elementShrinkingTarget.longValue();
+		long difference = element - target;
+		boolean overflow = ((element ^ target) & (element ^ difference)) < 0;
+		if (overflow || difference == Long.MIN_VALUE) {
+			return Long.MAX_VALUE;
+		}
+		return Math.abs(difference);
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) return true;
+		if (o == null || getClass() != o.getClass()) return false;
+		ShrinkablePrimitiveArray<?> that = (ShrinkablePrimitiveArray<?>) o;
+		return Objects.deepEquals(elements, that.elements);
+	}
+
+	@Override
+	public int hashCode() {
+		return Arrays.deepHashCode(new Object[]{elements});
+	}
+
+	@Override
+	public String toString() {
+		return String.format(
+			"%s<%s>(%s:%s)",
+			getClass().getSimpleName(),
+			arrayType,
+			JqwikStringSupport.displayString(elements), distance()
+		);
+	}
+}
@@ -0,0 +1,77 @@
+package net.jqwik.engine.properties.shrinking;
+
+import java.time.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+/**
+ * The budget of a single shrinking run, bounded by time and/or by the number of calls to the falsifier.
+ *
+ * <p>
+ * Shrinkers check {@linkplain #isExhausted()} before each shrinking candidate
+ * and stop as soon as the budget is used up or has been {@linkplain #cancel() cancelled}.
+ * A falsifier call that is already running is not interrupted.
+ * </p>
+ */
+class ShrinkingBudget {
+
+	private static final int UNLIMITED = -1;
+
+	static ShrinkingBudget unlimited() {
+		return new ShrinkingBudget(UNLIMITED, UNLIMITED);
+	}
+
+	/**
+	 * @param maxSeconds the time bound
+	 * @param maxCalls   the bound on falsifier calls, 0 or less means no bound
+	 */
+	static ShrinkingBudget bounded(int maxSeconds, int maxCalls) {
+		return new ShrinkingBudget(
+			TimeUnit.SECONDS.toNanos(Math.max(maxSeconds, 0)),
+			maxCalls > 0 ? maxCalls : UNLIMITED
+		);
+	}
+
+	private final long startNanos = System.nanoTime();
+	private final long maxNanos;
+	private final int maxCalls;
+	private final AtomicInteger calls = new AtomicInteger(0);
+	private volatile boolean cancelled = false;
+
+	private ShrinkingBudget(long maxNanos, int maxCalls) {
+		this.maxNanos = maxNanos;
+		this.maxCalls = maxCalls;
+	}
+
+	boolean isExhausted() {
+		return cancelled || isTimeExhausted() || areCallsExhausted();
+	}
+
+	boolean isTimeExhausted() {
+		return maxNanos != UNLIMITED && elapsedNanos() >= maxNanos;
+	}
+
+	boolean areCallsExhausted() {
+		return maxCalls != UNLIMITED && calls.get() >= maxCalls;
+	}
+
+	void countCall() {
+		calls.incrementAndGet();
+	}
+
+	void cancel() {
+		cancelled = true;
+	}
+
+	int countCalls() {
+		return calls.get();
+	}
+
+	Duration elapsed() {
+		return Duration.ofNanos(elapsedNanos());
+	}
+
+	private long elapsedNanos() {
+		return System.nanoTime() - startNanos;
+	}
+}
@@ -0,0 +1,82 @@
+package net.jqwik.engine.properties.shrinking;
+
+import java.lang.ref.*;
+import java.math.*;
+import java.util.*;
+
+import net.jqwik.engine.execution.lifecycle.*;
+
+/**
+ * Memoization of values that shrinkables would otherwise create anew on each call to {@code value()}.
+ *
+ * <p>
+ * Only values of types known to be immutable are memoized so that properties can still mutate
+ * all other values. Memoized values are softly referenced and created again when the memory is needed.
+ * Memoization must be switched on per property through {@linkplain net.jqwik.api.Property#memoizeValues()}.
+ * Keep the set of types in sync with the documentation there.
+ * </p>
+ */
+public class ValueMemoization {
+
+	private static final Set<Class<?>> IMMUTABLE_TYPES = new HashSet<>(Arrays.asList(
+		String.class,
+		Boolean.class,
+		Character.class,
+		Byte.class,
+		Short.class,
+		Integer.class,
+		Long.class,
+		Float.class,
+		Double.class,
+		BigInteger.class,
+		BigDecimal.class,
+		UUID.class
+	));
+
+	private static final String JAVA_TIME_PACKAGE = "java.time.";
+
+	private static final LifespanLocal<ValueMemoization> current = LifespanLocal.forProperty(ValueMemoization::new);
+
+	public static void setEnabledForCurrentProperty(boolean enabled) {
+		current.get().enabled = enabled;
+	}
+
+	static boolean isEnabled() {
+		return current.get().enabled;
+	}
+
+	/**
+	 * @return a reference to memoize or null if the value must be created anew each time
+	 */
+	static <T> Reference<T> memoize(T value) {
+		if (value == null || !isKnownImmutable(value) || !isEnabled()) {
+			return null;
+		}
+		return new SoftReference<>(value);
+	}
+
+	/**
+	 * @return the memoized value or null if there is none
+	 */
+	static <T> T memoized(Reference<T> reference) {
+		return reference == null ? null : reference.get();
+	}
+
+	public static boolean isKnownImmutable(Object value) {
+		Class<?> type = value.getClass();
+		return IMMUTABLE_TYPES.contains(type)
+				   || value instanceof Enum
+				   || isInPackageJavaTime(type);
+	}
+
+	// Only classes of java.time itself, not the ones of subpackages like java.time.format
+	private static boolean isInPackageJavaTime(Class<?> type) {
+		String name = type.getName();
+		return name.startsWith(JAVA_TIME_PACKAGE) && name.indexOf('.', JAVA_TIME_PACKAGE.length()) < 0;
+	}
+
+	private boolean enabled = false;
+
+	private ValueMemoization() {
+	}
+}
@@ -45,8 +45,8 @@ class ShrinkableActionSequence<T> implements Shrinkable<ActionSequence<T>> {
 	}
 
 	private Stream<Shrinkable<ActionSequence<T>>> shrinkSequenceOfActions() {
-		return new ComprehensiveSizeOfListShrinker()
-				   .shrink(actionGenerator.generated(), minSize)
+		return new ChunkRemovingSizeOfListShrinker<Shrinkable<Action<T>>>(minSize)
+				   .shrink(actionGenerator.generated())
 				   .map(this::createShrinkableActionSequence);
 	}
 
@@ -0,0 +1,79 @@
+package net.jqwik.engine.providers;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.*;
+
+import org.junit.platform.engine.*;
+
+import net.jqwik.api.providers.*;
+import net.jqwik.engine.descriptor.*;
+import net.jqwik.engine.execution.lifecycle.*;
+import net.jqwik.engine.facades.*;
+
+/**
+ * Caches which providers out of a list of providers can provide arbitraries for a given type.
+ * The arbitraries themselves are not cached since providers are free to create new ones for every call.
+ *
+ * <p>
+ * Every engine run has its own cache, which is kept in its {@linkplain JqwikEngineDescriptor}.
+ * Only a few lists of providers are kept since domain contexts will create new provider instances for every property.
+ * Registering or unregistering a provider through {@linkplain RegisteredArbitraryProviders} clears the cache of the current run.
+ * </p>
+ */
+public class FittingProvidersCache {
+
+	private static final int MAX_PROVIDER_LISTS = 16;
+
+	/**
+	 * @return the cache of the engine run the current thread belongs to or empty outside of jqwik's lifecycle
+	 */
+	public static Optional<FittingProvidersCache> forCurrentRun() {
+		if (CurrentTestDescriptor.isEmpty()) {
+			return Optional.empty();
+		}
+		TestDescriptor root = CurrentTestDescriptor.get();
+		while (root.getParent().isPresent()) {
+			root = root.getParent().get();
+		}
+		if (root instanceof JqwikEngineDescriptor) {
+			return Optional.of(((JqwikEngineDescriptor) root).getFittingProvidersCache());
+		}
+		return Optional.empty();
+	}
+
+	private final Map<List<ArbitraryProvider>, Map<TypeUsage, List<ArbitraryProvider>>> cache = new ConcurrentHashMap<>();
+
+	public List<ArbitraryProvider> fittingProviders(
+		List<ArbitraryProvider> providers,
+		TypeUsage targetType,
+		Function<TypeUsage, List<ArbitraryProvider>> calculateFittingProviders
+	) {
+		if (!TypeUsageImpl.isFreeOfTypeVariables(targetType)) {
+			return calculateFittingProviders.apply(targetType);
+		}
+		Map<TypeUsage, List<ArbitraryProvider>> fittingProvidersByType = fittingProvidersByType(providers);
+		List<ArbitraryProvider> fittingProviders = fittingProvidersByType.get(targetType);
+		if (fittingProviders == null) {
+			// Not calculated in computeIfAbsent() since providers might resolve other types
+			fittingProviders = calculateFittingProviders.apply(targetType);
+			fittingProvidersByType.put(targetType, fittingProviders);
+		}
+		return fittingProviders;
+	}
+
+	private Map<TypeUsage, List<ArbitraryProvider>> fittingProvidersByType(List<ArbitraryProvider> providers) {
+		Map<TypeUsage, List<ArbitraryProvider>> fittingProvidersByType = cache.get(providers);
+		if (fittingProvidersByType == null) {
+			if (cache.size() >= MAX_PROVIDER_LISTS) {
+				cache.clear();
+			}
+			fittingProvidersByType = cache.computeIfAbsent(new ArrayList<>(providers), ignore -> new ConcurrentHashMap<>());
+		}
+		return fittingProvidersByType;
+	}
+
+	public void clear() {
+		cache.clear();
+	}
+}
@@ -18,6 +18,7 @@ public class RegisteredArbitraryProviders {
 			return;
 		}
 		serviceCache.getServices().add(0, provider);
+		FittingProvidersCache.forCurrentRun().ifPresent(FittingProvidersCache::clear);
 	}
 
 	public static void unregister(ArbitraryProvider providerToDelete) {
@@ -25,6 +26,7 @@ public class RegisteredArbitraryProviders {
 		services.stream()
 				.filter(provider -> provider == providerToDelete)
 				.forEach(services::remove);
+		FittingProvidersCache.forCurrentRun().ifPresent(FittingProvidersCache::clear);
 	}
 
 	public static void unregister(Class<? extends ArbitraryProvider> providerClass) {
@@ -32,5 +34,6 @@ public class RegisteredArbitraryProviders {
 		services.stream()
 				.filter(provider -> provider.getClass() == providerClass)
 				.forEach(services::remove);
+		FittingProvidersCache.forCurrentRun().ifPresent(FittingProvidersCache::clear);
 	}
 }
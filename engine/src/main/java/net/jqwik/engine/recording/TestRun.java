@@ -7,18 +7,66 @@ import org.junit.platform.engine.*;
 
 import net.jqwik.api.lifecycle.*;
 import net.jqwik.api.lifecycle.PropertyExecutionResult.*;
+import net.jqwik.engine.*;
 
 public class TestRun implements Serializable {
+	// Keeps test run databases written before failingTryIndex, failingTrySeeds, tryCostNanos and randomAlgorithm were added readable
+	private static final long serialVersionUID = -1356790909928120905L;
+
 	private final String uniqueIdString;
 	private final int statusOrdinal;
 	private final String randomSeed;
 	private final List<Object> falsifiedSample;
+	private final Integer failingTryIndex;
+	private final List<Long> failingTrySeeds;
+	private final Long tryCostNanos;
+	private final String randomAlgorithm;
 
 	public TestRun(UniqueId uniqueId, PropertyExecutionResult.Status status, String randomSeed, List<Object> falsifiedSample) {
+		this(uniqueId, status, randomSeed, falsifiedSample, null, null);
+	}
+
+	public TestRun(
+		UniqueId uniqueId,
+		PropertyExecutionResult.Status status,
+		String randomSeed,
+		List<Object> falsifiedSample,
+		Integer failingTryIndex,
+		List<Long> failingTrySeeds
+	) {
+		this(uniqueId, status, randomSeed, falsifiedSample, failingTryIndex, failingTrySeeds, null);
+	}
+
+	public TestRun(
+		UniqueId uniqueId,
+		PropertyExecutionResult.Status status,
+		String randomSeed,
+		List<Object> falsifiedSample,
+		Integer failingTryIndex,
+		List<Long> failingTrySeeds,
+		Long tryCostNanos
+	) {
+		this(uniqueId, status, randomSeed, falsifiedSample, failingTryIndex, failingTrySeeds, tryCostNanos, null);
+	}
+
+	public TestRun(
+		UniqueId uniqueId,
+		PropertyExecutionResult.Status status,
+		String randomSeed,
+		List<Object> falsifiedSample,
+		Integer failingTryIndex,
+		List<Long> failingTrySeeds,
+		Long tryCostNanos,
+		SourceOfRandomness.Algorithm randomAlgorithm
+	) {
 		this.uniqueIdString = uniqueId.toString();
 		this.statusOrdinal = status.ordinal();
 		this.randomSeed = randomSeed;
 		this.falsifiedSample = falsifiedSample;
+		this.failingTryIndex = failingTryIndex;
+		this.failingTrySeeds = failingTrySeeds;
+		this.tryCostNanos = tryCostNanos;
+		this.randomAlgorithm = randomAlgorithm == null ? null : randomAlgorithm.name();
 	}
 
 	boolean hasUniqueId(UniqueId uniqueId) {
@@ -45,6 +93,33 @@ public class TestRun implements Serializable {
 		return Optional.ofNullable(falsifiedSample);
 	}
 
+	public Optional<Integer> failingTryIndex() {
+		return Optional.ofNullable(failingTryIndex);
+	}
+
+	/**
+	 * Seeds of tries that falsified the property in this or earlier runs, most recent first.
+	 * A try's parameters can be regenerated from its seed without relying on serialization.
+	 */
+	public List<Long> failingTrySeeds() {
+		return failingTrySeeds == null ? Collections.emptyList() : failingTrySeeds;
+	}
+
+	/**
+	 * The average time a try took in this run, including the generation of its parameters.
+	 */
+	public Optional<Long> tryCostNanos() {
+		return Optional.ofNullable(tryCostNanos);
+	}
+
+	/**
+	 * The algorithm that generated the values for the random seed, the failing try and the failing try seeds.
+	 * Runs recorded before the algorithm could be chosen always used {@linkplain SourceOfRandomness.Algorithm#XORSHIFT}.
+	 */
+	public SourceOfRandomness.Algorithm randomAlgorithm() {
+		return randomAlgorithm == null ? SourceOfRandomness.Algorithm.XORSHIFT : SourceOfRandomness.Algorithm.valueOf(randomAlgorithm);
+	}
+
 	@Override
 	public String toString() {
 		String randomSeedString = randomSeed().map(s -> ":" + s).orElse("");
@@ -52,6 +127,6 @@ public class TestRun implements Serializable {
 	}
 
 	TestRun withoutFalsifiedSample() {
-		return new TestRun(getUniqueId(), getStatus(), randomSeed, null);
+		return new TestRun(getUniqueId(), getStatus(), randomSeed, null, failingTryIndex, failingTrySeeds, tryCostNanos, randomAlgorithm());
 	}
 }
@@ -10,6 +10,8 @@ import net.jqwik.engine.support.*;
 public class TestRunData {
 
 	private final Collection<TestRun> data;
+	private final Set<UniqueId> currentRun = new HashSet<>();
+	private Long totalTryCostNanos = null;
 
 	public TestRunData(Collection<TestRun> data) {
 		this.data = data;
@@ -21,6 +23,7 @@ public class TestRunData {
 
 	public void add(TestRun testRun) {
 		data.add(testRun);
+		totalTryCostNanos = null;
 	}
 
 	public Optional<TestRun> byUniqueId(UniqueId uniqueId) {
@@ -37,6 +40,46 @@ public class TestRunData {
 		}
 	}
 
+	/**
+	 * Tests of the previous run only count for {@linkplain #tryCostShare(UniqueId)} if they are part of the current run.
+	 */
+	public void registerForCurrentRun(UniqueId uniqueId) {
+		if (currentRun.add(uniqueId)) {
+			totalTryCostNanos = null;
+		}
+	}
+
+	/**
+	 * The share of a test's try cost in the summed up try costs of all tests registered for the current run.
+	 * Only present if the test's try cost has been recorded and the test is part of the current run.
+	 */
+	public Optional<Double> tryCostShare(UniqueId uniqueId) {
+		if (!currentRun.contains(uniqueId)) {
+			return Optional.empty();
+		}
+		return byUniqueId(uniqueId)
+				   .flatMap(TestRun::tryCostNanos)
+				   .filter(tryCost -> totalTryCostNanos() > 0)
+				   .map(tryCost -> (double) tryCost / totalTryCostNanos());
+	}
+
+	private long totalTryCostNanos() {
+		if (totalTryCostNanos == null) {
+			try {
+				totalTryCostNanos = data.stream()
+										.filter(testRun -> currentRun.contains(testRun.getUniqueId()))
+										.map(TestRun::tryCostNanos)
+										.filter(Optional::isPresent)
+										.mapToLong(Optional::get)
+										.sum();
+			} catch (Throwable t) {
+				JqwikExceptionSupport.rethrowIfBlacklisted(t);
+				totalTryCostNanos = 0L;
+			}
+		}
+		return totalTryCostNanos;
+	}
+
 	public Stream<TestRun> allNonSuccessfulTests() {
 		return data.stream().filter(TestRun::isNotSuccessful);
 	}
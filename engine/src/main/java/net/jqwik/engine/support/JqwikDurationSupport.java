@@ -0,0 +1,78 @@
+package net.jqwik.engine.support;
+
+import java.time.*;
+import java.time.format.*;
+import java.util.*;
+import java.util.regex.*;
+
+import net.jqwik.api.*;
+
+public class JqwikDurationSupport {
+
+	private static final Duration MAX_NANOS_DURATION = Duration.ofNanos(Long.MAX_VALUE);
+
+	private static final Pattern SHORT_DURATION = Pattern.compile("(\\d+)\\s*(ms|s|m|h)");
+
+	private JqwikDurationSupport() {
+	}
+
+	/**
+	 * Parse durations like {@code "500ms"}, {@code "10s"}, {@code "2m"}, {@code "1h"}
+	 * or ISO-8601 durations like {@code "PT1M30S"}.
+	 */
+	public static Duration parse(String durationString) {
+		String trimmed = durationString.trim();
+		try {
+			Duration duration = parseTrimmed(trimmed);
+			// Durations are used as time budgets which are measured in nanoseconds
+			if (duration != null && !duration.isNegative() && duration.compareTo(MAX_NANOS_DURATION) <= 0) {
+				return duration;
+			}
+		} catch (DateTimeParseException | ArithmeticException | NumberFormatException ignore) {
+		}
+		String message = String.format(
+			"Cannot parse duration [%s]. Use e.g. \"500ms\", \"10s\", \"2m\" or an ISO-8601 duration like \"PT1M30S\".",
+			durationString
+		);
+		throw new JqwikException(message);
+	}
+
+	private static Duration parseTrimmed(String trimmed) {
+		if (trimmed.startsWith("P") || trimmed.startsWith("p")) {
+			return Duration.parse(trimmed);
+		}
+		Matcher matcher = SHORT_DURATION.matcher(trimmed);
+		if (!matcher.matches()) {
+			return null;
+		}
+		long amount = Long.parseLong(matcher.group(1));
+		switch (matcher.group(2)) {
+			case "ms":
+				return Duration.ofMillis(amount);
+			case "s":
+				return Duration.ofSeconds(amount);
+			case "m":
+				return Duration.ofMinutes(amount);
+			default:
+				return Duration.ofHours(amount);
+		}
+	}
+
+	/**
+	 * Durations too long to be expressed in nanoseconds are cut down to {@code Long.MAX_VALUE} nanoseconds.
+	 */
+	public static long toNanosSaturated(Duration duration) {
+		if (duration.compareTo(MAX_NANOS_DURATION) > 0) {
+			return Long.MAX_VALUE;
+		}
+		return duration.toNanos();
+	}
+
+	public static String displayString(Duration duration) {
+		long millis = duration.toMillis();
+		if (millis < 1000) {
+			return String.format("%dms", millis);
+		}
+		return String.format(Locale.ROOT, "%.3fs", millis / 1000.0);
+	}
+}
@@ -1,8 +1,8 @@
 package net.jqwik.engine.support;
 
 import java.io.*;
+import java.lang.reflect.*;
 import java.util.*;
-import java.util.stream.*;
 
 import org.junit.platform.commons.support.*;
 
@@ -12,86 +12,89 @@ public class JqwikStringSupport {
 	}
 
 	public static String displayString(Object object) {
-		if (object == null)
-			return "null";
+		return displayString(object, Integer.MAX_VALUE);
+	}
+
+	/**
+	 * Like {@linkplain #displayString(Object)} but stops rendering as soon as {@code maxCharacters} is reached.
+	 * Brackets and quotes that are open at that point are still closed after the elision note.
+	 */
+	public static String displayString(Object object, int maxCharacters) {
+		LimitedAppender appender = new LimitedAppender(maxCharacters);
+		appendDisplayString(object, appender);
+		return appender.toString();
+	}
+
+	private static void appendDisplayString(Object object, LimitedAppender appender) {
+		if (object == null) {
+			appender.append("null");
+			return;
+		}
 		if (object instanceof Class) {
-			return ((Class) object).getName();
+			appender.append(((Class) object).getName());
+			return;
 		}
 		if (object instanceof Collection) {
 			@SuppressWarnings("unchecked")
 			Collection<Object> collection = (Collection<Object>) object;
-			String elements = collection.stream().map(JqwikStringSupport::displayString).collect(Collectors.joining(", "));
-			return String.format("[%s]", elements);
+			appendElements(collection.iterator(), "[", "]", appender);
+			return;
 		}
 		if (object.getClass().isArray()) {
 			if (object.getClass().getComponentType().isPrimitive()) {
-				return nullSafeToString(object);
+				appendElements(primitiveArrayIterator(object), "[", "]", appender);
+				return;
 			}
 			Object[] array = (Object[]) object;
-			String elements = Arrays.stream(array).map(JqwikStringSupport::displayString).collect(Collectors.joining(", "));
-			return String.format("%s{%s}", object.getClass().getSimpleName(), elements);
+			appender.append(object.getClass().getSimpleName());
+			appendElements(Arrays.asList(array).iterator(), "{", "}", appender);
+			return;
 		}
 		if (String.class.isAssignableFrom(object.getClass())) {
-			return String.format("\"%s\"", replaceUnrepresentableCharacters(object.toString()));
+			appender.open("\"", "\"");
+			appender.append(replaceUnrepresentableCharacters(object.toString()));
+			appender.close();
+			return;
 		}
-		return replaceUnrepresentableCharacters(object.toString());
+		appender.append(replaceUnrepresentableCharacters(object.toString()));
 	}
 
-	private static String replaceUnrepresentableCharacters(String aString) {
-		return aString.replace('\u0000', '\ufffd');
+	private static void appendElements(Iterator<?> elements, String opening, String closing, LimitedAppender appender) {
+		appender.open(opening, closing);
+		boolean first = true;
+		while (elements.hasNext()) {
+			if (appender.isTruncated()) {
+				appender.skipRest();
+				break;
+			}
+			if (!first) {
+				appender.append(", ");
+			}
+			appendDisplayString(elements.next(), appender);
+			first = false;
+		}
+		appender.close();
 	}
 
-	private static String nullSafeToString(Object obj) {
-		if (obj == null) {
-			return "null";
-		}
+	private static Iterator<Object> primitiveArrayIterator(Object array) {
+		int length = Array.getLength(array);
+		return new Iterator<Object>() {
+			private int index = 0;
 
-		try {
-			if (obj.getClass().isArray()) {
-				if (obj.getClass().getComponentType().isPrimitive()) {
-					if (obj instanceof boolean[]) {
-						return Arrays.toString((boolean[]) obj);
-					}
-					if (obj instanceof char[]) {
-						return Arrays.toString((char[]) obj);
-					}
-					if (obj instanceof short[]) {
-						return Arrays.toString((short[]) obj);
-					}
-					if (obj instanceof byte[]) {
-						return Arrays.toString((byte[]) obj);
-					}
-					if (obj instanceof int[]) {
-						return Arrays.toString((int[]) obj);
-					}
-					if (obj instanceof long[]) {
-						return Arrays.toString((long[]) obj);
-					}
-					if (obj instanceof float[]) {
-						return Arrays.toString((float[]) obj);
-					}
-					if (obj instanceof double[]) {
-						return Arrays.toString((double[]) obj);
-					}
-				}
-				return Arrays.deepToString((Object[]) obj);
+			@Override
+			public boolean hasNext() {
+				return index < length;
 			}
 
-			// else
-			return obj.toString();
-		}
-		catch (Throwable throwable) {
-			JqwikExceptionSupport.rethrowIfBlacklisted(throwable);
-			return defaultToString(obj);
-		}
+			@Override
+			public Object next() {
+				return Array.get(array, index++);
+			}
+		};
 	}
 
-	private static String defaultToString(Object obj) {
-		if (obj == null) {
-			return "null";
-		}
-
-		return obj.getClass().getName() + "@" + Integer.toHexString(System.identityHashCode(obj));
+	private static String replaceUnrepresentableCharacters(String aString) {
+		return aString.replace('\u0000', '\ufffd');
 	}
 
 	public static List<String> toLines(String string) {
@@ -113,4 +116,66 @@ public class JqwikStringSupport {
 		}
 		return lines;
 	}
+
+	private static class LimitedAppender {
+
+		private final StringBuilder builder = new StringBuilder();
+		private final Deque<String> closings = new ArrayDeque<>();
+		private final int maxCharacters;
+
+		private int elidedCharacters = 0;
+		private boolean restSkipped = false;
+		private String closingsWhenTruncated = null;
+
+		private LimitedAppender(int maxCharacters) {
+			this.maxCharacters = maxCharacters;
+		}
+
+		private boolean isTruncated() {
+			return closingsWhenTruncated != null;
+		}
+
+		private void append(String string) {
+			if (isTruncated()) {
+				elidedCharacters += string.length();
+				return;
+			}
+			int free = maxCharacters - builder.length();
+			if (string.length() <= free) {
+				builder.append(string);
+				return;
+			}
+			builder.append(string, 0, free);
+			elidedCharacters += string.length() - free;
+			closingsWhenTruncated = String.join("", closings);
+		}
+
+		private void open(String opening, String closing) {
+			append(opening);
+			closings.push(isTruncated() ? "" : closing);
+		}
+
+		private void close() {
+			String closing = closings.pop();
+			if (!isTruncated()) {
+				// Closings do not count against the limit so that a value is never cut off just before its end
+				builder.append(closing);
+			}
+		}
+
+		private void skipRest() {
+			restSkipped = true;
+		}
+
+		@Override
+		public String toString() {
+			if (!isTruncated()) {
+				return builder.toString();
+			}
+			String elided = restSkipped
+								? String.format("<more than %s characters elided>", elidedCharacters)
+								: String.format("<%s characters elided>", elidedCharacters);
+			return builder + elided + closingsWhenTruncated;
+		}
+	}
 }
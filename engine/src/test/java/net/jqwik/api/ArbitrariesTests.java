@@ -16,6 +16,8 @@ import static java.math.BigInteger.*;
 import static org.assertj.core.api.Assertions.*;
 
 import static net.jqwik.api.ArbitraryTestHelper.*;
+import static net.jqwik.testing.ShrinkingSupport.*;
+import static net.jqwik.testing.TestingFalsifier.*;
 import static net.jqwik.testing.TestingSupport.*;
 
 @Label("Arbitraries")
@@ -898,6 +900,120 @@ class ArbitrariesTests {
 
 	}
 
+	@Group
+	@Label("ieee754()")
+	class Ieee754 {
+
+		@Example
+		void doublesCoverAllMagnitudes(@ForAll Random random) {
+			RandomGenerator<Double> generator = Arbitraries.doubles().ieee754().generator(1000);
+
+			assertAtLeastOneGenerated(generator, random, value -> Math.abs(value) < 1e-100);
+			assertAtLeastOneGenerated(generator, random, value -> Math.abs(value) > 1.0 && Math.abs(value) < 1000.0);
+			assertAtLeastOneGenerated(generator, random, value -> Math.abs(value) > 1e100);
+		}
+
+		@Example
+		void doublesWithinBorders(@ForAll Random random) {
+			Arbitrary<Double> doubles = Arbitraries.doubles().between(0.0, false, 1.0, false).ieee754();
+			RandomGenerator<Double> generator = doubles.generator(1000);
+
+			assertAllGenerated(generator, random, value -> value > 0.0 && value < 1.0);
+			assertAtLeastOneGenerated(generator, random, value -> value != Math.rint(value * 100) / 100);
+		}
+
+		@Example
+		void scaleIsRespectedWhenRequested(@ForAll Random random) {
+			Arbitrary<Double> doubles = Arbitraries.doubles().between(-10.0, 10.0).ofScale(2).ieee754();
+			RandomGenerator<Double> generator = doubles.generator(1000);
+
+			assertAtLeastOneGenerated(generator, random, value -> value < -1.0 && value > -9.0);
+			assertAtLeastOneGenerated(generator, random, value -> value > 1.0 && value < 9.0);
+			assertAllGenerated(generator, random, value -> {
+				double rounded = Math.round(value * 100) / 100.0;
+				return value >= -10.0 && value <= 10.0 && value == rounded;
+			});
+		}
+
+		@Example
+		void floatsWithScale(@ForAll Random random) {
+			Arbitrary<Float> floats = Arbitraries.floats().between(-2.5f, 7.25f).ofScale(2).ieee754();
+			RandomGenerator<Float> generator = floats.generator(1000);
+
+			assertAllGenerated(generator, random, value -> {
+				float rounded = (float) (Math.round(value * 100) / 100.0);
+				return value >= -2.5f && value <= 7.25f && value == rounded;
+			});
+		}
+
+		@Example
+		void edgeCases() {
+			Arbitrary<Double> doubles = Arbitraries.doubles().between(-10.0, 10.0).ofScale(1).ieee754();
+
+			assertThat(collectEdgeCaseValues(doubles.edgeCases())).containsExactlyInAnyOrder(
+				0.0, 1.0, -1.0, 0.1, -0.1, -10.0, 10.0
+			);
+		}
+
+		@Example
+		void specialValuesAreOptIn() {
+			DoubleArbitrary doubles = Arbitraries.doubles().between(-10.0, 10.0);
+			assertThat(collectEdgeCaseValues(doubles.edgeCases())).doesNotContain(Double.NaN);
+
+			Set<Double> values = collectEdgeCaseValues(doubles.withStandardSpecialValues().withSpecialValue(42.0).edgeCases());
+			assertThat(values).contains(
+				Double.NaN, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY,
+				-0.0, Double.MIN_VALUE, Double.MIN_NORMAL, 42.0
+			);
+		}
+
+		@Example
+		void floatSpecialValues() {
+			FloatArbitrary floats = Arbitraries.floats().between(0.0f, 1.0f).ieee754().withStandardSpecialValues();
+
+			assertThat(collectEdgeCaseValues(floats.edgeCases())).contains(
+				Float.NaN, Float.POSITIVE_INFINITY, Float.NEGATIVE_INFINITY,
+				-0.0f, Float.MIN_VALUE, Float.MIN_NORMAL
+			);
+		}
+
+		@Example
+		void shrinkTowardsSmallestFalsifyingValue(@ForAll Random random) {
+			Arbitrary<Double> doubles = Arbitraries.doubles().ieee754();
+
+			double value = falsifyThenShrink(doubles, random, falsifier(d -> d < 1234.5678));
+			assertThat(value).isEqualTo(1234.5678);
+		}
+
+		@Example
+		void shrinkFloatsTowardsTarget(@ForAll Random random) {
+			Arbitrary<Float> floats = Arbitraries.floats().between(-100.0f, 100.0f).shrinkTowards(5.0f).ieee754();
+
+			float value = falsifyThenShrink(floats, random, falsifier(f -> f > -3.3f));
+			assertThat(value).isEqualTo(-3.3f);
+		}
+
+		@Example
+		void shrinkWithScale(@ForAll Random random) {
+			Arbitrary<Double> doubles = Arbitraries.doubles().between(0.0, 1000.0).ofScale(2).ieee754();
+
+			double value = falsifyThenShrink(doubles, random, falsifier(d -> d < 12.34));
+			assertThat(value).isEqualTo(12.34);
+		}
+
+		@Example
+		void borderIsMorePreciseThanScale() {
+			Arbitrary<Double> doubles = Arbitraries.doubles().between(0.001, 0.199).ofScale(2).ieee754();
+			assertThatThrownBy(() -> doubles.generator(1)).isInstanceOf(JqwikException.class);
+		}
+
+		@Example
+		void shrinkingTargetOutsideBorders() {
+			Arbitrary<Double> doubles = Arbitraries.doubles().between(1.0, 10.0).shrinkTowards(-1.0).ieee754();
+			assertThatThrownBy(() -> doubles.generator(1)).isInstanceOf(JqwikException.class);
+		}
+	}
+
 	@Group
 	@Label("bigDecimals()")
 	class BigDecimals {
@@ -3,6 +3,7 @@ package net.jqwik.api;
 import java.util.*;
 import java.util.concurrent.atomic.*;
 import java.util.function.*;
+import java.util.stream.*;
 
 import org.assertj.core.api.*;
 
@@ -457,6 +458,20 @@ class ArbitraryTests {
 			assertThat(noMoreDuplicates).hasSize(1);
 		}
 
+		@Example
+		void duplicatesShrinkLikeTheirOriginal(@ForAll Random random) {
+			Arbitrary<Integer> ints = Arbitraries.integers().between(-1000, 1000);
+			RandomGenerator<Integer> generator = ints.injectDuplicates(1.0).generator(1000);
+
+			Shrinkable<Integer> original = generator.next(random);
+			Shrinkable<Integer> duplicate = generator.next(random);
+
+			assertThat(duplicate).isNotSameAs(original);
+			assertThat(duplicate.value()).isEqualTo(original.value());
+			assertThat(duplicate.shrink().map(Shrinkable::value))
+				.containsExactlyElementsOf(original.shrink().map(Shrinkable::value).collect(Collectors.toList()));
+		}
+
 		@Property
 		@StatisticsReport(StatisticsReport.StatisticsReportMode.OFF)
 		void duplicatesAreNotPreservedAcrossTries(@ForAll("duplicateInts") int anInt) {
@@ -6,6 +6,7 @@ import java.util.stream.*;
 import net.jqwik.api.arbitraries.*;
 import net.jqwik.api.constraints.*;
 import net.jqwik.api.edgeCases.*;
+import net.jqwik.testing.*;
 
 import static org.assertj.core.api.Assertions.*;
 
@@ -58,6 +59,34 @@ class ArrayArbitraryTests {
 		assertThat(actual).isSubsetOf(1, 2, 3, 4, 5, 6, 7, 8, 9, 10);
 	}
 
+	@Example
+	void reducePrimitiveArray(@ForAll Random random) {
+		ArrayArbitrary<Integer, int[]> arrayArbitrary =
+				Arbitraries.integers().between(1, 5).array(int[].class).ofMinSize(1).ofMaxSize(10);
+
+		Arbitrary<Integer> integerArbitrary = arrayArbitrary.reduce(0, Integer::sum);
+
+		RandomGenerator<Integer> generator = integerArbitrary.generator(1000, true);
+
+		assertAllGenerated(generator, random, sum -> {
+			assertThat(sum).isBetween(1, 50);
+		});
+	}
+
+	@Example
+	void largePrimitiveArray(@ForAll Random random) {
+		ArrayArbitrary<Byte, byte[]> arrayArbitrary = Arbitraries.bytes().between((byte) 1, (byte) 100).array(byte[].class).ofSize(100_000);
+
+		RandomGenerator<byte[]> generator = arrayArbitrary.generator(1000);
+
+		assertAllGenerated(generator, random, array -> {
+			assertThat(array).hasSize(100_000);
+			for (byte b : array) {
+				assertThat(b).isBetween((byte) 1, (byte) 100);
+			}
+		});
+	}
+
 	@Example
 	void uniquenessConstraint(@ForAll Random random) {
 		ArrayArbitrary<Integer, Integer[]> listArbitrary =
@@ -200,6 +229,51 @@ class ArrayArbitraryTests {
 			assertThat(value).containsOnly(1);
 		}
 
+		@Property
+		void shrinkPrimitiveArrayToMinSize(@ForAll Random random, @ForAll @IntRange(min = 1, max = 20) int min) {
+			ArrayArbitrary<Integer, int[]> arrays = Arbitraries.integers().between(1, 10).array(int[].class).ofMinSize(min);
+			int[] value = falsifyThenShrink(arrays, random);
+			assertThat(value).hasSize(min);
+			assertThat(value).containsOnly(1);
+		}
+
+		@Property
+		void shrinkPrimitiveArrayElements(@ForAll Random random) {
+			ArrayArbitrary<Long, long[]> arrays = Arbitraries.longs().between(-1000, 1000).array(long[].class).ofMaxSize(1000);
+			TestingFalsifier<long[]> falsifier = array -> LongStream.of(array).noneMatch(l -> l > 10);
+			long[] value = falsifyThenShrink(arrays, random, falsifier);
+			assertThat(value).containsExactly(11L);
+		}
+
+		@Property
+		void shrinkPrimitiveArrayElementsTowardsTarget(@ForAll Random random) {
+			ArrayArbitrary<Integer, int[]> arrays = Arbitraries.integers().between(0, 100).shrinkTowards(100).array(int[].class).ofSize(3);
+			TestingFalsifier<int[]> falsifier = array -> IntStream.of(array).noneMatch(i -> i < 50);
+			int[] value = falsifyThenShrink(arrays, random, falsifier);
+			assertThat(value).containsExactlyInAnyOrder(49, 100, 100);
+		}
+
+		@Example
+		void integralElementsDistanceIsSumOfDistancesToTarget(@ForAll Random random) {
+			ArrayArbitrary<Short, short[]> arrays = Arbitraries.shorts().between((short) 0, (short) 100).shrinkTowards(10).array(short[].class).ofSize(5);
+			Shrinkable<short[]> shrinkable = arrays.generator(1000).next(random);
+
+			long sumOfDistances = 0;
+			for (short element : shrinkable.value()) {
+				sumOfDistances += Math.abs(element - 10);
+			}
+			assertThat(shrinkable.distance()).isEqualTo(ShrinkingDistance.of(5, sumOfDistances));
+		}
+
+		@Example
+		void fractionalElementsShrinkWithDecreasingDistance(@ForAll Random random) {
+			ArrayArbitrary<Double, double[]> arrays = Arbitraries.doubles().between(0, 1).ofScale(3).array(double[].class).ofSize(1);
+			Shrinkable<double[]> shrinkable = generateUntil(arrays.generator(1000), random, array -> array[0] > 0.1);
+
+			assertThat(shrinkable.distance().dimensions().get(1)).isGreaterThan(ShrinkingDistance.of(0));
+			assertThat(shrinkable.shrink()).anyMatch(candidate -> candidate.distance().compareTo(shrinkable.distance()) < 0);
+		}
+
 		@Property
 		void shrinkWithUniqueness(@ForAll Random random, @ForAll @IntRange(min = 2, max = 10) int min) {
 			ArrayArbitrary<Integer, Integer[]> lists =
@@ -0,0 +1,84 @@
+package net.jqwik.api;
+
+import java.nio.*;
+import java.util.*;
+
+import net.jqwik.api.arbitraries.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+import static net.jqwik.testing.ShrinkingSupport.*;
+import static net.jqwik.testing.TestingFalsifier.*;
+import static net.jqwik.testing.TestingSupport.*;
+
+class ByteBufferArbitraryTests {
+
+	@Example
+	void heapBuffers(@ForAll Random random) {
+		ByteBufferArbitrary buffers = Arbitraries.byteBuffers().ofMinLength(10).ofMaxLength(1000);
+
+		assertAllGenerated(buffers.generator(1000), random, buffer -> {
+			assertThat(buffer.isDirect()).isFalse();
+			assertThat(buffer.position()).isEqualTo(0);
+			assertThat(buffer.remaining()).isBetween(10, 1000);
+		});
+	}
+
+	@Example
+	void directAndMappedBuffersHaveSameContentAsHeapBuffers(@ForAll long seed) {
+		ByteBufferArbitrary buffers = Arbitraries.byteBuffers().ofLength(5000);
+
+		ByteBuffer heap = buffers.generator(1000).next(new Random(seed)).value();
+		ByteBuffer direct = buffers.direct().generator(1000).next(new Random(seed)).value();
+		ByteBuffer mapped = buffers.memoryMapped().generator(1000).next(new Random(seed)).value();
+
+		assertThat(direct.isDirect()).isTrue();
+		assertThat(mapped).isInstanceOf(MappedByteBuffer.class);
+		assertThat(direct).isEqualTo(heap);
+		assertThat(mapped).isEqualTo(heap);
+	}
+
+	@Example
+	void shrinkByLengthAndZeroing(@ForAll Random random) {
+		ByteBufferArbitrary buffers = Arbitraries.byteBuffers().ofMaxLength(10000);
+
+		ByteBuffer shrunkValue = falsifyThenShrink(buffers, random, falsifier(buffer -> countNegative(buffer) < 3));
+		assertThat(countNegative(shrunkValue)).isEqualTo(3);
+		assertThat(countNonZero(shrunkValue)).isEqualTo(3);
+	}
+
+	@Example
+	void negativeLengthsAreRejected() {
+		assertThatThrownBy(() -> Arbitraries.byteBuffers().ofMinLength(-1)).isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> Arbitraries.byteBuffers().ofMaxLength(-1)).isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> Arbitraries.byteBuffers().ofLength(-1)).isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Example
+	void minLengthGreaterThanMaxLengthIsRejected() {
+		ByteBufferArbitrary buffers = Arbitraries.byteBuffers().ofMinLength(11).ofMaxLength(10);
+
+		assertThatThrownBy(() -> buffers.generator(1000)).isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> buffers.edgeCases()).isInstanceOf(IllegalArgumentException.class);
+	}
+
+	private int countNonZero(ByteBuffer buffer) {
+		int count = 0;
+		for (int i = buffer.position(); i < buffer.limit(); i++) {
+			if (buffer.get(i) != 0) {
+				count++;
+			}
+		}
+		return count;
+	}
+
+	private int countNegative(ByteBuffer buffer) {
+		int count = 0;
+		for (int i = buffer.position(); i < buffer.limit(); i++) {
+			if (buffer.get(i) < 0) {
+				count++;
+			}
+		}
+		return count;
+	}
+}
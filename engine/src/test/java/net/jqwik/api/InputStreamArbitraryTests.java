@@ -0,0 +1,88 @@
+package net.jqwik.api;
+
+import java.io.*;
+import java.util.*;
+
+import net.jqwik.api.arbitraries.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+import static net.jqwik.testing.ShrinkingSupport.*;
+import static net.jqwik.testing.TestingFalsifier.*;
+import static net.jqwik.testing.TestingSupport.*;
+
+class InputStreamArbitraryTests {
+
+	@Example
+	void streamsHaveLengthWithinBounds(@ForAll Random random) {
+		InputStreamArbitrary streams = Arbitraries.inputStreams().ofMinLength(10).ofMaxLength(1000);
+
+		assertAllGenerated(streams.generator(1000), random, stream -> {
+			assertThat(readAll(stream).length).isBetween(10, 1000);
+		});
+	}
+
+	@Example
+	void veryLongStreamsAreGeneratedWhileReading(@ForAll Random random) throws IOException {
+		long length = 100L * Integer.MAX_VALUE;
+		InputStream stream = Arbitraries.inputStreams().ofLength(length).generator(1000).next(random).value();
+
+		assertThat(stream.skip(length - 10)).isEqualTo(length - 10);
+		assertThat(stream.read(new byte[100])).isEqualTo(10);
+		assertThat(stream.read()).isEqualTo(-1);
+	}
+
+	@Example
+	void eachValueIsFreshStreamWithSameContent(@ForAll Random random) throws IOException {
+		Shrinkable<InputStream> shrinkable = Arbitraries.inputStreams().ofLength(500).generator(1000).next(random);
+
+		assertThat(readAll(shrinkable.value())).isEqualTo(readAll(shrinkable.value()));
+	}
+
+	@Example
+	void edgeCaseIsZeroedStreamOfMinLength() throws IOException {
+		InputStreamArbitrary streams = Arbitraries.inputStreams().ofMinLength(3).ofMaxLength(100);
+
+		InputStream edgeCase = streams.edgeCases().iterator().next().value();
+		assertThat(readAll(edgeCase)).containsExactly(0, 0, 0);
+	}
+
+	@Example
+	void shrinkByLengthAndZeroing(@ForAll Random random) {
+		InputStreamArbitrary streams = Arbitraries.inputStreams().ofMaxLength(10000);
+
+		InputStream shrunkValue = falsifyThenShrink(streams, random, falsifier(stream -> readAll(stream).length < 100));
+		assertThat(readAll(shrunkValue)).hasSize(100).containsOnly(0);
+	}
+
+	@Example
+	void negativeLengthsAreRejected() {
+		assertThatThrownBy(() -> Arbitraries.inputStreams().ofMinLength(-1)).isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> Arbitraries.inputStreams().ofMaxLength(-1)).isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> Arbitraries.inputStreams().ofLength(-1)).isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Example
+	void minLengthGreaterThanMaxLengthIsRejected() {
+		InputStreamArbitrary streams = Arbitraries.inputStreams().ofMinLength(11).ofMaxLength(10);
+
+		assertThatThrownBy(() -> streams.generator(1000)).isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> streams.edgeCases()).isInstanceOf(IllegalArgumentException.class);
+	}
+
+	private byte[] readAll(InputStream stream) {
+		try {
+			stream.mark(Integer.MAX_VALUE);
+			ByteArrayOutputStream out = new ByteArrayOutputStream();
+			byte[] buffer = new byte[1024];
+			int count;
+			while ((count = stream.read(buffer)) > 0) {
+				out.write(buffer, 0, count);
+			}
+			stream.reset();
+			return out.toByteArray();
+		} catch (IOException ioException) {
+			throw new UncheckedIOException(ioException);
+		}
+	}
+}
@@ -1,6 +1,7 @@
 package net.jqwik.api;
 
 import java.util.*;
+import java.util.concurrent.atomic.*;
 import java.util.stream.*;
 
 import org.junit.jupiter.api.*;
@@ -14,6 +15,7 @@ import static java.util.Arrays.*;
 import static org.assertj.core.api.Assertions.*;
 
 import static net.jqwik.testing.ShrinkingSupport.*;
+import static net.jqwik.testing.TestingFalsifier.*;
 import static net.jqwik.testing.TestingSupport.*;
 
 class ListArbitraryTests {
@@ -45,6 +47,18 @@ class ListArbitraryTests {
 		assertGeneratedLists(generator, 2, 5);
 	}
 
+	@Example
+	void ofGeometricSizes(@ForAll Random random) {
+		Arbitrary<List<Integer>> lists = Arbitraries.integers().list().ofGeometricSizes(3, 20);
+
+		RandomGenerator<List<Integer>> generator = lists.generator(1000);
+		assertAllGenerated(generator, random, list -> asList(3, 6, 12, 20).contains(list.size()));
+		assertAtLeastOneGenerated(generator, random, list -> list.size() == 20);
+
+		List<Integer> shrunk = falsifyThenShrink(lists, random, falsifier(list -> list.size() < 5));
+		assertThat(shrunk).hasSize(6);
+	}
+
 	@Example
 	void reduceList(@ForAll Random random) {
 		ListArbitrary<Integer> listArbitrary =
@@ -334,6 +348,72 @@ class ListArbitraryTests {
 
 	}
 
+	@Group
+	class LazyLists {
+
+		@Example
+		void largeListsAreGeneratedWithoutMaterializingElements(@ForAll Random random) {
+			ListArbitrary<Integer> lists =
+					Arbitraries.integers().between(0, 1000).list().ofMinSize(1_000_000).ofMaxSize(2_000_000).lazy();
+
+			List<Integer> list = lists.generator(1000).next(random).value();
+			assertThat(list.size()).isBetween(1_000_000, 2_000_000);
+			assertThat(list.get(list.size() - 1)).isBetween(0, 1000);
+			assertThat(list.get(42)).isEqualTo(list.get(42));
+		}
+
+		@Example
+		void lazyListsEqualMaterializedLists(@ForAll Random random) {
+			ListArbitrary<Integer> lists = Arbitraries.integers().between(0, 1000).list().ofMaxSize(100).lazy();
+
+			List<Integer> list = lists.generator(1000).next(random).value();
+			List<Integer> materialized = new ArrayList<>(list);
+			assertThat(list).isEqualTo(materialized);
+			assertThat(materialized).isEqualTo(list);
+			assertThat(list.hashCode()).isEqualTo(materialized.hashCode());
+		}
+
+		@Example
+		void lazyListsFromSameRangeAreEqual(@ForAll Random random) {
+			ListArbitrary<Integer> lists = Arbitraries.integers().between(0, 1000).list().ofMaxSize(100).lazy();
+
+			Shrinkable<List<Integer>> shrinkable = lists.generator(1000).next(random);
+			assertThat(shrinkable.value()).isEqualTo(shrinkable.value());
+			assertThat(shrinkable.value().hashCode()).isEqualTo(shrinkable.value().hashCode());
+		}
+
+		@Example
+		void shrinkingDoesNotGenerateElementsOfLargeLists(@ForAll Random random) {
+			AtomicInteger countGenerated = new AtomicInteger(0);
+			Arbitrary<Integer> countingElements = Arbitraries.integers().between(0, 1000).map(i -> {
+				countGenerated.incrementAndGet();
+				return i;
+			});
+			ListArbitrary<Integer> lists = countingElements.list().ofMinSize(2_000).ofMaxSize(2_000_000).lazy();
+
+			List<Integer> value = falsifyThenShrink(lists, random, falsifier(list -> list.size() < 10_000));
+			assertThat(value).hasSize(10_000);
+			// Only a few elements of edge cases are generated, none while shrinking
+			assertThat(countGenerated.get()).isLessThan(100);
+		}
+
+		@Example
+		void shrinkIndexRangeThenElements(@ForAll Random random) {
+			ListArbitrary<Integer> lists = Arbitraries.integers().between(0, 1000).list().ofMaxSize(1_000_000).lazy();
+
+			List<Integer> value = falsifyThenShrink(lists, random, falsifier(list -> list.size() < 10));
+			assertThat(value).hasSize(10);
+			assertThat(value).containsOnly(0);
+		}
+
+		@Example
+		void lazyListsCannotHaveUniqueElements() {
+			ListArbitrary<Integer> lists = Arbitraries.integers().list().uniqueElements().lazy();
+
+			assertThatThrownBy(() -> lists.generator(1000)).isInstanceOf(JqwikException.class);
+		}
+	}
+
 	@Group
 	@PropertyDefaults(tries = 100)
 	class Shrinking {
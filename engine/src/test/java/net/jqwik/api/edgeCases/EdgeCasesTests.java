@@ -2,11 +2,13 @@ package net.jqwik.api.edgeCases;
 
 import java.math.*;
 import java.util.*;
+import java.util.concurrent.atomic.*;
 import java.util.function.*;
 
 import net.jqwik.api.*;
 import net.jqwik.api.lifecycle.*;
 import net.jqwik.engine.properties.*;
+import net.jqwik.engine.properties.arbitraries.*;
 import net.jqwik.engine.properties.shrinking.*;
 
 import static org.assertj.core.api.Assertions.*;
@@ -79,4 +81,55 @@ class EdgeCasesTests {
 			assertThat(shrunkValue).isEqualTo("a");
 		}
 	}
+
+	@Example
+	void equalEdgeCaseValuesAreOnlyIncludedOnce() {
+		Arbitrary<Integer> arbitrary = Arbitraries.integers().map(i -> i % 2);
+
+		EdgeCases<Integer> edgeCases = arbitrary.edgeCases();
+		List<Integer> values = new ArrayList<>();
+		edgeCases.forEach(edgeCase -> values.add(edgeCase.value()));
+		assertThat(values).containsExactlyInAnyOrder(0, 1, -1);
+	}
+
+	@Example
+	void edgeCasesAreNotEnumeratedBeforeFirstUse() {
+		AtomicInteger mappings = new AtomicInteger();
+		Arbitrary<Integer> arbitrary = Arbitraries.integers().between(0, 100).map(i -> {
+			mappings.incrementAndGet();
+			return i;
+		});
+
+		EdgeCases<Integer> edgeCases = arbitrary.edgeCases();
+		assertThat(mappings).hasValue(0);
+
+		assertThat(edgeCases).isNotEmpty();
+		assertThat(mappings).hasPositiveValue();
+	}
+
+	@Example
+	void concatenationStopsEnumerationAtMaxDistinctEdgeCases() {
+		AtomicInteger enumeratedFromThird = new AtomicInteger();
+		EdgeCases<Integer> first = countingEdgeCases(new AtomicInteger(), 1, 1, 2);
+		EdgeCases<Integer> second = countingEdgeCases(new AtomicInteger(), 3);
+		EdgeCases<Integer> third = countingEdgeCases(enumeratedFromThird, 4, 5);
+
+		EdgeCases<Integer> concatenated = EdgeCasesSupport.concat(Arrays.asList(first, second, third), 3);
+		List<Integer> values = new ArrayList<>();
+		concatenated.forEach(edgeCase -> values.add(edgeCase.value()));
+
+		assertThat(values).containsExactly(1, 2, 3);
+		assertThat(enumeratedFromThird).hasValue(0);
+	}
+
+	private EdgeCases<Integer> countingEdgeCases(AtomicInteger counter, Integer... values) {
+		List<Supplier<Shrinkable<Integer>>> suppliers = new ArrayList<>();
+		for (Integer value : values) {
+			suppliers.add(() -> {
+				counter.incrementAndGet();
+				return Shrinkable.unshrinkable(value);
+			});
+		}
+		return EdgeCases.fromSuppliers(suppliers);
+	}
 }
@@ -0,0 +1,27 @@
+package net.jqwik.api.lifecycle;
+
+import net.jqwik.api.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+class TryExecutionResultTests {
+
+	@Example
+	void satisfiedResultsAreShared() {
+		assertThat(TryExecutionResult.satisfied()).isSameAs(TryExecutionResult.satisfied(false));
+		assertThat(TryExecutionResult.satisfied(true)).isSameAs(TryExecutionResult.satisfied(true));
+	}
+
+	@Example
+	void satisfiedResults() {
+		TryExecutionResult continueResult = TryExecutionResult.satisfied();
+		assertThat(continueResult.isSatisfied()).isTrue();
+		assertThat(continueResult.throwable()).isEmpty();
+		assertThat(continueResult.shouldPropertyFinishEarly()).isFalse();
+
+		TryExecutionResult finishEarlyResult = TryExecutionResult.satisfied(true);
+		assertThat(finishEarlyResult.isSatisfied()).isTrue();
+		assertThat(finishEarlyResult.throwable()).isEmpty();
+		assertThat(finishEarlyResult.shouldPropertyFinishEarly()).isTrue();
+	}
+}
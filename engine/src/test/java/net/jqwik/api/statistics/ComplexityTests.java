@@ -0,0 +1,72 @@
+package net.jqwik.api.statistics;
+
+import java.util.*;
+
+import net.jqwik.api.*;
+import net.jqwik.testing.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+@Group
+class ComplexityTests {
+
+	// Properties with this tag measure wall-clock time and are therefore excluded from the regular build
+	static final String TIMING_SENSITIVE = "timing-sensitive";
+
+	@Property(tries = 200)
+	@Tag(TIMING_SENSITIVE)
+	@ExpectComplexity(ComplexityClass.O_N_SQUARED)
+	void linearCodeIsWithinQuadraticBound(@ForAll("growingLists") List<Integer> aList) {
+		Complexity.measure(aList.size(), () -> sum(aList));
+	}
+
+	@Property(tries = 200)
+	@Tag(TIMING_SENSITIVE)
+	@ExpectComplexity(ComplexityClass.O_N)
+	@ExpectFailure(failureType = AssertionError.class)
+	void quadraticCodeExceedsLinearBound(@ForAll("growingLists") List<Integer> aList) {
+		Complexity.measure(aList.size(), () -> countInversions(aList));
+	}
+
+	@Property(tries = 20)
+	@ExpectComplexity(value = ComplexityClass.O_N, minSizes = 5)
+	@ExpectFailure(failureType = AssertionError.class)
+	void tooFewSizesMeasured(@ForAll("fewSizes") List<Integer> aList) {
+		Complexity.measure(aList.size(), () -> sum(aList));
+	}
+
+	@Example
+	void measuringWithoutExpectComplexityFails() {
+		assertThatThrownBy(() -> Complexity.measure(1, () -> {})).isInstanceOf(JqwikException.class);
+	}
+
+	@Provide
+	Arbitrary<List<Integer>> growingLists() {
+		return Arbitraries.integers().list().ofGeometricSizes(16, 1024);
+	}
+
+	@Provide
+	Arbitrary<List<Integer>> fewSizes() {
+		return Arbitraries.integers().list().ofGeometricSizes(1, 4);
+	}
+
+	private long sum(List<Integer> aList) {
+		long sum = 0;
+		for (int element : aList) {
+			sum += element;
+		}
+		return sum;
+	}
+
+	private int countInversions(List<Integer> aList) {
+		int count = 0;
+		for (int i = 0; i < aList.size(); i++) {
+			for (int j = i + 1; j < aList.size(); j++) {
+				if (aList.get(i) > aList.get(j)) {
+					count++;
+				}
+			}
+		}
+		return count;
+	}
+}
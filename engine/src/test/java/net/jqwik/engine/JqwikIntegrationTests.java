@@ -17,6 +17,7 @@ import org.junit.platform.engine.reporting.*;
 import org.junit.platform.testkit.engine.*;
 
 import net.jqwik.api.*;
+import net.jqwik.engine.execution.reporting.*;
 import net.jqwik.engine.recording.*;
 import net.jqwik.engine.support.*;
 import net.jqwik.testing.*;
@@ -67,6 +68,11 @@ class JqwikIntegrationTests {
 			public boolean reportOnlyFailures() {
 				return true;
 			}
+
+			@Override
+			public ReportingLimits reportingLimits() {
+				return ReportingLimits.DEFAULT;
+			}
 		};
 	}
 
@@ -52,5 +52,11 @@ class JqwikPropertiesTests {
 		assertThat(properties.boundedShrinkingSeconds()).isEqualTo(10);
 
 		assertThat(properties.fixedSeedMode()).isEqualTo(FixedSeedMode.ALLOW);
+
+		assertThat(properties.randomAlgorithm()).isEqualTo(SourceOfRandomness.Algorithm.XORSHIFT);
+
+		assertThat(properties.reportingLimits().maxElements()).isEqualTo(1000);
+		assertThat(properties.reportingLimits().maxDepth()).isEqualTo(20);
+		assertThat(properties.reportingLimits().maxCharacters()).isEqualTo(10_000);
 	}
 }
@@ -0,0 +1,94 @@
+package net.jqwik.engine;
+
+import java.util.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.constraints.*;
+import net.jqwik.engine.SourceOfRandomness.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+class SourceOfRandomnessTests {
+
+	@Property(tries = 10)
+	void sameSeedGeneratesSameValues(@ForAll long seed, @ForAll Algorithm algorithm) {
+		Random random1 = SourceOfRandomness.newRandom(seed == 0L ? 1L : seed, algorithm);
+		Random random2 = SourceOfRandomness.newRandom(seed == 0L ? 1L : seed, algorithm);
+		for (int i = 0; i < 100; i++) {
+			assertThat(random1.nextLong()).isEqualTo(random2.nextLong());
+		}
+	}
+
+	@Property(tries = 10)
+	void splitIsDeterministic(@ForAll long seed, @ForAll Algorithm algorithm) {
+		Random split1 = SourceOfRandomness.split(SourceOfRandomness.newRandom(seed == 0L ? 1L : seed, algorithm));
+		Random split2 = SourceOfRandomness.split(SourceOfRandomness.newRandom(seed == 0L ? 1L : seed, algorithm));
+		for (int i = 0; i < 100; i++) {
+			assertThat(split1.nextLong()).isEqualTo(split2.nextLong());
+		}
+	}
+
+	@Property(tries = 10)
+	void jumpIsSameAsDrawing(@ForAll long seed, @ForAll @IntRange(max = 1000) int steps) {
+		Random jumped = SourceOfRandomness.newRandom(seed, Algorithm.SPLITMIX);
+		Random drawn = SourceOfRandomness.newRandom(seed, Algorithm.SPLITMIX);
+		SourceOfRandomness.jump(jumped, steps);
+		for (int i = 0; i < steps; i++) {
+			drawn.nextLong();
+		}
+		assertThat(jumped.nextLong()).isEqualTo(drawn.nextLong());
+	}
+
+	@Example
+	void xorShiftCannotJump() {
+		Random random = SourceOfRandomness.newRandom(42L, Algorithm.XORSHIFT);
+		assertThatThrownBy(() -> SourceOfRandomness.jump(random, Long.MAX_VALUE))
+			.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Property(tries = 100)
+	void splitMixDrawsStayWithinBounds(@ForAll long seed, @ForAll @IntRange(min = 1) int bound) {
+		Random random = SourceOfRandomness.newRandom(seed, Algorithm.SPLITMIX);
+		for (int i = 0; i < 100; i++) {
+			assertThat(random.nextInt(bound)).isBetween(0, bound - 1);
+			assertThat(random.nextDouble()).isGreaterThanOrEqualTo(0.0).isLessThan(1.0);
+			assertThat(random.nextFloat()).isGreaterThanOrEqualTo(0.0f).isLessThan(1.0f);
+		}
+	}
+
+	@Example
+	void splitMixNextBytesFillsAllBytes() {
+		Random random = SourceOfRandomness.newRandom(42L, Algorithm.SPLITMIX);
+		byte[] bytes = new byte[1001];
+		random.nextBytes(bytes);
+		long nonZero = 0;
+		for (byte b : bytes) {
+			if (b != 0) nonZero++;
+		}
+		assertThat(nonZero).isGreaterThan(900);
+	}
+
+	@Example
+	void derivedSeedsDifferForNeighbouringIndices() {
+		Set<Long> seeds = new HashSet<>();
+		for (int i = 0; i < 1000; i++) {
+			seeds.add(SourceOfRandomness.deriveSeed(42L, i));
+		}
+		assertThat(seeds).hasSize(1000).doesNotContain(0L);
+	}
+
+	@Example
+	void xorShiftIsDefault() {
+		Random random = SourceOfRandomness.create("42");
+		assertThat(SourceOfRandomness.algorithmOf(random)).isEqualTo(Algorithm.XORSHIFT);
+		assertThat(SourceOfRandomness.algorithmOf(SourceOfRandomness.newRandom(42L))).isEqualTo(Algorithm.XORSHIFT);
+	}
+
+	@Example
+	void randomsDerivedOnSameThreadUseAlgorithmOfCreatedRandom() {
+		Random random = SourceOfRandomness.create("42", Algorithm.SPLITMIX);
+		assertThat(SourceOfRandomness.current()).isSameAs(random);
+		assertThat(SourceOfRandomness.algorithmOf(SourceOfRandomness.newRandom(42L))).isEqualTo(Algorithm.SPLITMIX);
+		assertThat(SourceOfRandomness.algorithmOf(SourceOfRandomness.newRandom())).isEqualTo(Algorithm.SPLITMIX);
+	}
+}
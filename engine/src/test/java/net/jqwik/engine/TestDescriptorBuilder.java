@@ -108,6 +108,8 @@ public class TestDescriptorBuilder {
 						attributes,
 						TestHelper.propertyAttributesDefaults(),
 						null,
+						null,
+						null,
 						null
 					);
 
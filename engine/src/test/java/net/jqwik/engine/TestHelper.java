@@ -90,7 +90,7 @@ public class TestHelper {
 		PropertyConfiguration propertyConfig = new PropertyConfiguration(
 			propertyAttributes,
 			propertyAttributesDefaults(),
-			null, null, seed,
+			null, null, null, null, seed,
 			tries,
 			GenerationMode.AUTO
 		);
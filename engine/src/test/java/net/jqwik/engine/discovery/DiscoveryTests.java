@@ -1,5 +1,6 @@
 package net.jqwik.engine.discovery;
 
+import java.util.*;
 import java.util.concurrent.atomic.*;
 import java.util.function.*;
 
@@ -50,6 +51,16 @@ class DiscoveryTests {
 		assertThat(count(engineDescriptor, isPropertyDescriptor)).isEqualTo(14);
 	}
 
+	@Example
+	void discoveryFromPackageAttachesDescriptorsInDeterministicOrder() {
+		LauncherDiscoveryRequest discoveryRequest = request().selectors(selectPackage("examples")).build();
+
+		List<UniqueId> firstRun = uniqueIdsInOrder(discoverTests(discoveryRequest));
+		List<UniqueId> secondRun = uniqueIdsInOrder(discoverTests(discoveryRequest));
+		assertThat(firstRun).isNotEmpty();
+		assertThat(secondRun).containsExactlyElementsOf(firstRun);
+	}
+
 	@Example
 	void discoverWithPackageNameFilter() {
 		LauncherDiscoveryRequest discoveryRequest =
@@ -261,6 +272,12 @@ class DiscoveryTests {
 		};
 	}
 
+	private List<UniqueId> uniqueIdsInOrder(TestDescriptor root) {
+		List<UniqueId> uniqueIds = new ArrayList<>();
+		root.accept(d -> uniqueIds.add(d.getUniqueId()));
+		return uniqueIds;
+	}
+
 	private int count(TestDescriptor root, Predicate<TestDescriptor> descriptorTester) {
 		AtomicInteger counter = new AtomicInteger();
 		root.accept(d -> {
@@ -1,6 +1,7 @@
 package net.jqwik.engine.discovery;
 
 import java.lang.reflect.*;
+import java.time.*;
 import java.util.*;
 import java.util.stream.*;
 
@@ -154,6 +155,93 @@ class PropertyMethodResolverTest {
 				.isEqualTo(AfterFailureMode.RANDOM_SEED);
 		}
 
+		@Example
+		void propertyWithMaxDuration() {
+			PropertyMethodDescriptor propertyMethodDescriptor = resolveMethodInClass("withMaxDuration", TestContainer.class);
+
+			assertThat(propertyMethodDescriptor.getConfiguration().getMaxDuration()).hasValue(Duration.ofSeconds(2));
+			assertThat(propertyMethodDescriptor.getConfiguration().getMaxTries()).isEqualTo(Integer.MAX_VALUE);
+		}
+
+		@Example
+		void invalidMaxDurationOnlyFailsWhenConfigurationIsUsed() {
+			PropertyMethodDescriptor propertyMethodDescriptor = resolveMethodInClass("withInvalidMaxDuration", TestContainer.class);
+
+			assertThatThrownBy(() -> propertyMethodDescriptor.getConfiguration().getMaxDuration())
+				.isInstanceOf(JqwikException.class)
+				.hasMessageContaining("Invalid maxDuration");
+		}
+
+		@Example
+		void suiteDurationIsSharedAccordingToPreviousTryCosts() {
+			PropertyAttributesDefaults defaultsWithSuiteDuration = PropertyAttributesDefaults.with(
+				DEFAULT_TRIES,
+				DEFAULT_MAX_DISCARD_RATIO,
+				DEFAULT_AFTER_FAILURE,
+				DEFAULT_GENERATION,
+				DEFAULT_EDGE_CASES,
+				DEFAULT_SHRINKING,
+				BOUNDED_SHRINKING_SECONDS,
+				DEFAULT_WHEN_FIXED_SEED,
+				null,
+				Duration.ofSeconds(10)
+			);
+			PropertyMethodResolver suiteResolver = new PropertyMethodResolver(testRunData, defaultsWithSuiteDuration);
+
+			ContainerClassDescriptor classDescriptor = buildContainerDescriptor(TestContainer.class);
+			Method expensive = TestHelper.getMethod(TestContainer.class, "plainProperty");
+			Method cheap = TestHelper.getMethod(TestContainer.class, "previouslyFailed");
+			Method unmeasured = TestHelper.getMethod(TestContainer.class, "withSeed41");
+			UniqueId expensiveId = JqwikUniqueIDs.appendProperty(classDescriptor.getUniqueId(), expensive);
+			UniqueId cheapId = JqwikUniqueIDs.appendProperty(classDescriptor.getUniqueId(), cheap);
+			testRunData.add(new TestRun(expensiveId, Status.SUCCESSFUL, "1", null, null, null, 3000L));
+			testRunData.add(new TestRun(cheapId, Status.SUCCESSFUL, "2", null, null, null, 1000L));
+
+			PropertyConfiguration expensiveConfiguration =
+				((PropertyMethodDescriptor) suiteResolver.resolveElement(expensive, classDescriptor).iterator().next()).getConfiguration();
+			PropertyConfiguration cheapConfiguration =
+				((PropertyMethodDescriptor) suiteResolver.resolveElement(cheap, classDescriptor).iterator().next()).getConfiguration();
+			PropertyConfiguration unmeasuredConfiguration =
+				((PropertyMethodDescriptor) suiteResolver.resolveElement(unmeasured, classDescriptor).iterator().next()).getConfiguration();
+
+			assertThat(expensiveConfiguration.getMaxDuration()).hasValue(Duration.ofMillis(7500));
+			assertThat(cheapConfiguration.getMaxDuration()).hasValue(Duration.ofMillis(2500));
+			assertThat(unmeasuredConfiguration.getMaxDuration()).isEmpty();
+			assertThat(unmeasuredConfiguration.getMaxTries()).isEqualTo(DEFAULT_TRIES);
+		}
+
+		@Example
+		void triesOfTestsNotPartOfCurrentRunDoNotCountForSuiteDurationShare() {
+			PropertyAttributesDefaults defaultsWithSuiteDuration = PropertyAttributesDefaults.with(
+				DEFAULT_TRIES,
+				DEFAULT_MAX_DISCARD_RATIO,
+				DEFAULT_AFTER_FAILURE,
+				DEFAULT_GENERATION,
+				DEFAULT_EDGE_CASES,
+				DEFAULT_SHRINKING,
+				BOUNDED_SHRINKING_SECONDS,
+				DEFAULT_WHEN_FIXED_SEED,
+				null,
+				Duration.ofSeconds(10)
+			);
+			PropertyMethodResolver suiteResolver = new PropertyMethodResolver(testRunData, defaultsWithSuiteDuration);
+
+			ContainerClassDescriptor classDescriptor = buildContainerDescriptor(TestContainer.class);
+			Method current = TestHelper.getMethod(TestContainer.class, "plainProperty");
+			Method notInCurrentRun = TestHelper.getMethod(TestContainer.class, "previouslyFailed");
+			UniqueId currentId = JqwikUniqueIDs.appendProperty(classDescriptor.getUniqueId(), current);
+			UniqueId notInCurrentRunId = JqwikUniqueIDs.appendProperty(classDescriptor.getUniqueId(), notInCurrentRun);
+			UniqueId removedId = classDescriptor.getUniqueId().append("property", "removedProperty()");
+			testRunData.add(new TestRun(currentId, Status.SUCCESSFUL, "1", null, null, null, 1000L));
+			testRunData.add(new TestRun(notInCurrentRunId, Status.SUCCESSFUL, "2", null, null, null, 3000L));
+			testRunData.add(new TestRun(removedId, Status.SUCCESSFUL, "3", null, null, null, 6000L));
+
+			PropertyConfiguration currentConfiguration =
+				((PropertyMethodDescriptor) suiteResolver.resolveElement(current, classDescriptor).iterator().next()).getConfiguration();
+
+			assertThat(currentConfiguration.getMaxDuration()).hasValue(Duration.ofSeconds(10));
+		}
+
 		@Example
 		void propertyWithReportAnnotation() {
 			PropertyMethodDescriptor propertyMethodDescriptor = resolveMethodInClass("withReportAnnotation", TestContainer.class);
@@ -187,6 +275,38 @@ class PropertyMethodResolverTest {
 			assertThat(propertyMethodDescriptor.getConfiguration().getPreviousSeed()).isNull();
 		}
 
+		@Example
+		void failingTrySeedsOfSuccessfulRunAreNotReplayed() {
+			ContainerClassDescriptor classDescriptor = buildContainerDescriptor(TestContainer.class);
+			Method method = TestHelper.getMethod(TestContainer.class, "previouslyFailed");
+			UniqueId previousId = JqwikUniqueIDs.appendProperty(classDescriptor.getUniqueId(), method);
+			testRunData.add(new TestRun(previousId, Status.SUCCESSFUL, "4243", null, null, Arrays.asList(42L)));
+			Set<TestDescriptor> descriptors = resolver.resolveElement(method, classDescriptor);
+
+			PropertyConfiguration configuration = ((PropertyMethodDescriptor) descriptors.iterator().next()).getConfiguration();
+			assertThat(configuration.getPreviousFailingTrySeeds()).isEmpty();
+		}
+
+		@Example
+		void seedsRecordedWithOtherRandomAlgorithmAreNotReused() {
+			ContainerClassDescriptor classDescriptor = buildContainerDescriptor(TestContainer.class);
+			Method method = TestHelper.getMethod(TestContainer.class, "previouslyFailed");
+			UniqueId previouslyFailedId = JqwikUniqueIDs.appendProperty(classDescriptor.getUniqueId(), method);
+			List<Object> falsifiedSample = Arrays.asList("a", 1);
+			testRunData.add(new TestRun(
+				previouslyFailedId, Status.FAILED, "4243", falsifiedSample, 5, Arrays.asList(42L), null,
+				SourceOfRandomness.Algorithm.SPLITMIX
+			));
+			Set<TestDescriptor> descriptors = resolver.resolveElement(method, classDescriptor);
+
+			PropertyConfiguration configuration = ((PropertyMethodDescriptor) descriptors.iterator().next()).getConfiguration();
+			assertThat(configuration.getRandomAlgorithm()).isEqualTo(SourceOfRandomness.Algorithm.XORSHIFT);
+			assertThat(configuration.getPreviousSeed()).isNull();
+			assertThat(configuration.getPreviousFailingTry()).isNull();
+			assertThat(configuration.getPreviousFailingTrySeeds()).isEmpty();
+			assertThat(configuration.getFalsifiedSample()).isEqualTo(falsifiedSample);
+		}
+
 		@Example
 		void explicitSeedOverwritesSeedFromPreviouslyFailedTestRun() {
 			ContainerClassDescriptor classDescriptor = buildContainerDescriptor(TestContainer.class);
@@ -305,6 +425,14 @@ class PropertyMethodResolverTest {
 		void withPropertyParams() {
 		}
 
+		@Property(maxDuration = "2s")
+		void withMaxDuration() {
+		}
+
+		@Property(maxDuration = "99999999999999999999ms")
+		void withInvalidMaxDuration() {
+		}
+
 		@Property
 		@Report({Reporting.GENERATED, Reporting.FALSIFIED})
 		void withReportAnnotation() {
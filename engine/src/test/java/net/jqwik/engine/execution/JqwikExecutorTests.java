@@ -9,6 +9,7 @@ import net.jqwik.api.*;
 import net.jqwik.engine.*;
 import net.jqwik.engine.discovery.*;
 import net.jqwik.engine.execution.lifecycle.*;
+import net.jqwik.engine.execution.reporting.*;
 import net.jqwik.testing.*;
 
 import static net.jqwik.engine.matchers.TestDescriptorMatchers.*;
@@ -17,7 +18,7 @@ import static net.jqwik.engine.matchers.TestDescriptorMatchers.*;
 public class JqwikExecutorTests {
 
 	private Set<UniqueId> previouslyFailedTests = new HashSet<>();
-	private JqwikExecutor executor = new JqwikExecutor(new LifecycleHooksRegistry(), testRun -> {}, previouslyFailedTests, true, false);
+	private JqwikExecutor executor = new JqwikExecutor(new LifecycleHooksRegistry(), testRun -> {}, previouslyFailedTests, true, false, ReportingLimits.DEFAULT);
 
 	@Example
 	void previouslyFailedTestsAreRunFirst() {
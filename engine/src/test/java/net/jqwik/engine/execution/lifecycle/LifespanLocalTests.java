@@ -0,0 +1,53 @@
+package net.jqwik.engine.execution.lifecycle;
+
+import java.util.concurrent.atomic.*;
+
+import net.jqwik.api.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+class LifespanLocalTests {
+
+	private static final LifespanLocal<StringBuilder> tryLocal = LifespanLocal.forTry(StringBuilder::new);
+
+	private final AtomicInteger initializations = new AtomicInteger();
+
+	@Example
+	void valueIsInitializedOnlyOnceDuringTry() {
+		LifespanLocal<Integer> local = LifespanLocal.forTry(initializations::incrementAndGet);
+
+		assertThat(local.get()).isEqualTo(1);
+		assertThat(local.get()).isEqualTo(1);
+		assertThat(initializations).hasValue(1);
+	}
+
+	@Example
+	void tryValueIsInitializedAnewAfterFinishedTryAndProperty() {
+		LifespanLocal<Integer> local = LifespanLocal.forTry(initializations::incrementAndGet);
+		assertThat(local.get()).isEqualTo(1);
+
+		LifespanLocal.finishTry();
+		assertThat(local.get()).isEqualTo(2);
+
+		LifespanLocal.finishProperty();
+		assertThat(local.get()).isEqualTo(3);
+	}
+
+	@Example
+	void propertyValueSurvivesFinishedTries() {
+		LifespanLocal<Integer> local = LifespanLocal.forProperty(initializations::incrementAndGet);
+		assertThat(local.get()).isEqualTo(1);
+
+		LifespanLocal.finishTry();
+		assertThat(local.get()).isEqualTo(1);
+
+		LifespanLocal.finishProperty();
+		assertThat(local.get()).isEqualTo(2);
+	}
+
+	@Property(tries = 10)
+	void eachTrySeesFreshValue(@ForAll int ignore) {
+		assertThat(tryLocal.get()).isEmpty();
+		tryLocal.get().append("used");
+	}
+}
@@ -2,6 +2,7 @@ package net.jqwik.engine.execution.reporting;
 
 import java.math.*;
 import java.util.*;
+import java.util.concurrent.atomic.*;
 import java.util.stream.*;
 
 import org.assertj.core.api.*;
@@ -596,6 +597,84 @@ class SampleReportingTests {
 
 		}
 
+		@Group
+		class Limits {
+
+			private final ValueReport.ReportingFormatFinder finder = formatFinder(new ArrayReportingFormat());
+
+			@Example
+			void elementsBeyondMaxElementsAreElidedWithHash() {
+				List<Integer> list = IntStream.range(0, 500_000).boxed().collect(Collectors.toList());
+				ValueReport report = ValueReport.of(list, finder, new ReportingLimits(3, 10, 100));
+
+				String expectedHash = String.format("%08x", list.hashCode());
+				Assertions.assertThat(report.singleLineReport())
+						  .isEqualTo("[0, 1, 2, <499997 elements elided, hash " + expectedHash + ">]");
+			}
+
+			@Example
+			void entriesBeyondMaxElementsAreElided() {
+				Map<Integer, String> map = new TreeMap<>();
+				map.put(1, "one");
+				map.put(2, "two");
+				map.put(3, "three");
+				ValueReport report = ValueReport.of(map, finder, new ReportingLimits(2, 10, 100));
+
+				Assertions.assertThat(report.singleLineReport())
+						  .startsWith("{1=\"one\", 2=\"two\", <1 entries elided, hash ");
+			}
+
+			@Example
+			void collectionsBeyondMaxDepthAreElided() {
+				List<List<List<Integer>>> list = asList(asList(asList(1, 2), asList(3)));
+				ValueReport report = ValueReport.of(list, finder, new ReportingLimits(10, 2, 100));
+
+				Assertions.assertThat(report.singleLineReport())
+						  .matches("\\[\\[\\[<2 elements elided, hash \\w+>], \\[<1 elements elided, hash \\w+>]]]");
+			}
+
+			@Example
+			void primitiveArraysAreElidedWithoutBoxingAllElements() {
+				int[] array = new int[1_000_000];
+				ValueReport report = ValueReport.of(array, finder, new ReportingLimits(2, 10, 100));
+
+				Assertions.assertThat(report.singleLineReport()).startsWith("int[] [0, 0, <999998 elements elided, hash ");
+			}
+
+			@Example
+			void charactersBeyondMaxCharactersAreElided() {
+				String aString = "abcdefghijklmnopqrstuvwxyz";
+				ValueReport report = ValueReport.of(aString, finder, new ReportingLimits(10, 10, 11));
+
+				Assertions.assertThat(report.singleLineReport()).isEqualTo("\"abcdefghij<16 characters elided>\"");
+			}
+
+			@Example
+			void elementsBeyondMaxCharactersAreNotRendered() {
+				AtomicInteger countRendered = new AtomicInteger(0);
+				Object[] array = new Object[10_000];
+				Arrays.fill(array, new Object() {
+					@Override
+					public String toString() {
+						countRendered.incrementAndGet();
+						return "element";
+					}
+				});
+				ValueReport report = ValueReport.of(array, formatFinder(), new ReportingLimits(10, 10, 20));
+
+				Assertions.assertThat(report.singleLineReport()).isEqualTo("Object[]{element, el<more than 5 characters elided>}");
+				Assertions.assertThat(countRendered.get()).isEqualTo(2);
+			}
+
+			@Example
+			void openQuotesAndBracketsAreClosedAfterElision() {
+				Object[] array = {new String[]{"abcdefghij"}};
+				ValueReport report = ValueReport.of(array, formatFinder(), new ReportingLimits(10, 10, 22));
+
+				Assertions.assertThat(report.singleLineReport()).isEqualTo("Object[]{String[]{\"abc<7 characters elided>\"}}");
+			}
+		}
+
 		private ValueReport.ReportingFormatFinder formatFinder(SampleReportingFormat... formats) {
 			return value -> Arrays.stream(formats)
 								  .filter(format -> format.appliesTo(value))
@@ -256,6 +256,150 @@ class CheckedPropertyTests {
 			assertThat(check.randomSeed()).isEqualTo("4242");
 		}
 
+		@Example
+		@Label("previous failing try will be generated first if onFailure=PREVIOUS_TRY")
+		void previousFailingTryWillBeGeneratedFirst() {
+			List<Integer> allGeneratedInts = new ArrayList<>();
+			CheckedFunction failOn37thTry = params -> {
+				allGeneratedInts.add((int) params.get(0));
+				return allGeneratedInts.size() < 37;
+			};
+			CheckedProperty firstRun = createCheckedProperty(
+				"prop1", failOn37thTry, getParametersForMethod("prop1"),
+				p -> Collections.singleton(Arbitraries.integers().between(-1000, 1000).asGeneric()),
+				Optional.empty(),
+				aConfig()
+					.withSeed("101010")
+					.withShrinking(ShrinkingMode.OFF).build(),
+				lifecycleContextForMethod("prop1", int.class)
+			);
+
+			PropertyCheckResult firstCheck = firstRun.check(new Reporting[0]);
+			assertThat(firstCheck.failingTryIndex()).hasValue(36);
+			int failingValue = allGeneratedInts.get(36);
+
+			List<Integer> replayedInts = new ArrayList<>();
+			CheckedFunction failAlways = params -> {
+				replayedInts.add((int) params.get(0));
+				return false;
+			};
+			CheckedProperty replay = createCheckedProperty(
+				"prop1", failAlways, getParametersForMethod("prop1"),
+				p -> Collections.singleton(Arbitraries.integers().between(-1000, 1000).asGeneric()),
+				Optional.empty(),
+				aConfig()
+					.withSeed("")
+					.withPreviousSeed("101010")
+					.withPreviousFailingTry(36)
+					.withShrinking(ShrinkingMode.OFF)
+					.withAfterFailure(AfterFailureMode.PREVIOUS_TRY).build(),
+				lifecycleContextForMethod("prop1", int.class)
+			);
+
+			PropertyCheckResult replayCheck = replay.check(new Reporting[0]);
+			assertThat(replayCheck.countTries()).isEqualTo(1);
+			assertThat(replayedInts).containsExactly(failingValue);
+			assertThat(replayCheck.failingTryIndex()).hasValue(36);
+		}
+
+		@Example
+		@Label("seeds of previously failing tries are replayed first")
+		void previousFailingTrySeedsAreReplayedFirst() {
+			List<Integer> firstRunInts = new ArrayList<>();
+			long failingTrySeed = failingTrySeedOf37thTry(firstRunInts);
+			int failingValue = firstRunInts.get(36);
+
+			List<Integer> replayedInts = new ArrayList<>();
+			CheckedFunction recordInts = params -> replayedInts.add((int) params.get(0));
+			CheckedProperty replay = createCheckedProperty(
+				"prop1", recordInts, getParametersForMethod("prop1"),
+				p -> Collections.singleton(Arbitraries.integers().between(-1000, 1000).asGeneric()),
+				Optional.empty(),
+				aConfig()
+					.withSeed("")
+					.withPreviousFailingTrySeeds(Collections.singletonList(failingTrySeed))
+					.withTries(100)
+					.withEdgeCases(EdgeCasesMode.NONE)
+					.withAfterFailure(AfterFailureMode.PREVIOUS_SEED).build(),
+				lifecycleContextForMethod("prop1", int.class)
+			);
+
+			PropertyCheckResult replayCheck = replay.check(new Reporting[0]);
+			assertThat(replayCheck.countTries()).isEqualTo(101);
+			assertThat(replayedInts).hasSize(101);
+			assertThat(replayedInts.get(0)).isEqualTo(failingValue);
+		}
+
+		@Example
+		@Label("seeds of previously failing tries are not replayed with fixed seed")
+		void previousFailingTrySeedsAreNotReplayedWithFixedSeed() {
+			List<Integer> firstRunInts = new ArrayList<>();
+			long failingTrySeed = failingTrySeedOf37thTry(firstRunInts);
+
+			List<Integer> generatedInts = new ArrayList<>();
+			CheckedFunction recordInts = params -> generatedInts.add((int) params.get(0));
+			CheckedProperty withFixedSeed = createCheckedProperty(
+				"prop1", recordInts, getParametersForMethod("prop1"),
+				p -> Collections.singleton(Arbitraries.integers().between(-1000, 1000).asGeneric()),
+				Optional.empty(),
+				aConfig()
+					.withSeed("101010")
+					.withPreviousFailingTrySeeds(Collections.singletonList(failingTrySeed))
+					.withTries(100)
+					.withEdgeCases(EdgeCasesMode.NONE)
+					.withAfterFailure(AfterFailureMode.PREVIOUS_SEED).build(),
+				lifecycleContextForMethod("prop1", int.class)
+			);
+
+			PropertyCheckResult check = withFixedSeed.check(new Reporting[0]);
+			assertThat(check.countTries()).isEqualTo(100);
+			assertThat(generatedInts.subList(0, 37)).isEqualTo(firstRunInts);
+		}
+
+		@Example
+		@Label("seeds of previously failing tries are not replayed with after failure mode RANDOM_SEED")
+		void previousFailingTrySeedsAreNotReplayedWithRandomSeed() {
+			long failingTrySeed = failingTrySeedOf37thTry(new ArrayList<>());
+
+			CheckedProperty withRandomSeed = createCheckedProperty(
+				"prop1", params -> true, getParametersForMethod("prop1"),
+				p -> Collections.singleton(Arbitraries.integers().between(-1000, 1000).asGeneric()),
+				Optional.empty(),
+				aConfig()
+					.withSeed("")
+					.withPreviousFailingTrySeeds(Collections.singletonList(failingTrySeed))
+					.withTries(100)
+					.withEdgeCases(EdgeCasesMode.NONE)
+					.withAfterFailure(AfterFailureMode.RANDOM_SEED).build(),
+				lifecycleContextForMethod("prop1", int.class)
+			);
+
+			PropertyCheckResult check = withRandomSeed.check(new Reporting[0]);
+			assertThat(check.countTries()).isEqualTo(100);
+		}
+
+		private long failingTrySeedOf37thTry(List<Integer> allGeneratedInts) {
+			CheckedFunction failOn37thTry = params -> {
+				allGeneratedInts.add((int) params.get(0));
+				return allGeneratedInts.size() < 37;
+			};
+			CheckedProperty firstRun = createCheckedProperty(
+				"prop1", failOn37thTry, getParametersForMethod("prop1"),
+				p -> Collections.singleton(Arbitraries.integers().between(-1000, 1000).asGeneric()),
+				Optional.empty(),
+				aConfig()
+					.withSeed("101010")
+					.withTries(100)
+					.withEdgeCases(EdgeCasesMode.NONE)
+					.withShrinking(ShrinkingMode.OFF).build(),
+				lifecycleContextForMethod("prop1", int.class)
+			);
+
+			PropertyCheckResult firstCheck = firstRun.check(new Reporting[0]);
+			assertThat(firstCheck.failingTrySeed()).isPresent();
+			return firstCheck.failingTrySeed().get();
+		}
+
 		@SuppressWarnings("unchecked")
 		@Group
 		class DataDrivenProperty {
@@ -46,6 +46,30 @@ class DataBasedShrinkablesGeneratorTests {
 		assertThatThrownBy(shrinkablesGenerator::next).isInstanceOf(IncompatibleDataException.class);
 	}
 
+	@Example
+	void laterValueTypesDontFit() {
+		Iterable<Tuple.Tuple2<Object, Integer>> data = Table.of(Tuple.of("a", 1), Tuple.of("b", 2), Tuple.of(3, 3));
+		DataBasedShrinkablesGenerator shrinkablesGenerator = generator("stringAndInt", data);
+
+		assertThat(nextValues(shrinkablesGenerator)).containsExactly("a", 1);
+		assertThat(nextValues(shrinkablesGenerator)).containsExactly("b", 2);
+		assertThatThrownBy(shrinkablesGenerator::next).isInstanceOf(IncompatibleDataException.class);
+	}
+
+	@Example
+	void streamedDataIsConsumedLazily() {
+		List<Integer> consumed = new ArrayList<>();
+		Stream<Tuple.Tuple2<String, Integer>> stream =
+			IntStream.range(0, Integer.MAX_VALUE)
+					 .peek(consumed::add)
+					 .mapToObj(i -> Tuple.of(Integer.toString(i), i));
+		DataBasedShrinkablesGenerator shrinkablesGenerator = generator("stringAndInt", new StreamedData(stream));
+
+		assertThat(nextValues(shrinkablesGenerator)).containsExactly("0", 0);
+		assertThat(nextValues(shrinkablesGenerator)).containsExactly("1", 1);
+		assertThat(consumed).containsExactly(0, 1);
+	}
+
 	private List<Object> nextValues(DataBasedShrinkablesGenerator shrinkablesGenerator) {
 		return values(shrinkablesGenerator.next());
 	}
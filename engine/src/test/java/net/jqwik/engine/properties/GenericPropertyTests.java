@@ -1,5 +1,6 @@
 package net.jqwik.engine.properties;
 
+import java.time.*;
 import java.util.*;
 import java.util.concurrent.atomic.*;
 import java.util.function.*;
@@ -106,6 +107,45 @@ class GenericPropertyTests {
 			assertThat(result.shrunkSample()).isEmpty();
 		}
 
+		@Example
+		void falsifiedSampleKeepsItsParametersWhileShrinking() {
+			ForAllSpy forAllFunction = new ForAllSpy(trie -> trie < 5);
+
+			Arbitrary<Object> arbitrary = new OrderedArbitraryForTesting<>(1, 2, 3, 4, 5, 6, 7, 8, 9);
+			ParametersGenerator shrinkablesGenerator = randomizedShrinkablesGenerator(arbitrary);
+
+			PropertyConfiguration configuration = aConfig().build();
+			GenericProperty property =
+				new GenericProperty("falsified property", configuration, shrinkablesGenerator, forAllFunction, tryLifecycleContextSupplier);
+			PropertyCheckResult result = property.check(TestHelper.reporter(), new Reporting[0]);
+
+			assertThat(result.checkStatus()).isEqualTo(PropertyCheckResult.CheckStatus.FAILED);
+			assertThat(result.originalSample().get().parameters()).containsExactly(5);
+		}
+
+		@Example
+		void parametersOfTriesAreNotOverwrittenByLaterTries() {
+			List<List<Object>> keptParameters = new ArrayList<>();
+			TryLifecycleExecutor keepingExecutor = (context, parameters) -> {
+				keptParameters.add(parameters);
+				return TryExecutionResult.satisfied();
+			};
+
+			Arbitrary<Object> arbitrary = new OrderedArbitraryForTesting<>(1, 2, 3);
+			ParametersGenerator shrinkablesGenerator = randomizedShrinkablesGenerator(arbitrary);
+
+			PropertyConfiguration configuration = aConfig().withTries(3).build();
+			GenericProperty property =
+				new GenericProperty("keeping property", configuration, shrinkablesGenerator, keepingExecutor, tryLifecycleContextSupplier);
+			property.check(TestHelper.reporter(), new Reporting[0]);
+
+			assertThat(keptParameters).containsExactly(
+				Collections.singletonList(1),
+				Collections.singletonList(2),
+				Collections.singletonList(3)
+			);
+		}
+
 		@Example
 		void dontShrinkIfShrinkingModeIsOff() {
 			int failingTry = 5;
@@ -501,6 +541,122 @@ class GenericPropertyTests {
 
 	}
 
+	@Group
+	class WithMaxDuration {
+
+		// Tries advance this clock instead of taking wall-clock time
+		private final AtomicLong nanos = new AtomicLong(0);
+
+		@Example
+		void cheapTriesRunBeyondDefaultNumberOfTries() {
+			ForAllSpy forAllFunction = new ForAllSpy(trie -> {
+				passTime(Duration.ofNanos(100_000));
+				return true;
+			});
+			ParametersGenerator shrinkablesGenerator = randomizedShrinkablesGenerator(Arbitraries.of(1, 2, 3));
+
+			PropertyConfiguration configuration = aConfig().withMaxDuration(Duration.ofMillis(300)).build();
+			GenericProperty property = timedProperty("cheap property", configuration, shrinkablesGenerator, forAllFunction);
+			PropertyCheckResult result = property.check(TestHelper.reporter(), new Reporting[0]);
+
+			assertThat(result.checkStatus()).isEqualTo(PropertyCheckResult.CheckStatus.SUCCESSFUL);
+			assertThat(result.countTries()).isEqualTo(3000);
+			assertThat(result.countTries()).isGreaterThan(TestHelper.DEFAULT_TRIES);
+			assertThat(result.countTries()).isEqualTo(forAllFunction.countCalls());
+			assertThat(result.throughput()).hasValue(10_000.0);
+		}
+
+		@Example
+		void expensiveTriesRunMinimumNumberOfTries() {
+			ForAllSpy forAllFunction = new ForAllSpy(trie -> {
+				passTime(Duration.ofMillis(5));
+				return true;
+			});
+			ParametersGenerator shrinkablesGenerator = randomizedShrinkablesGenerator(Arbitraries.of(1, 2, 3));
+
+			PropertyConfiguration configuration = aConfig().withMaxDuration(Duration.ofMillis(1)).build();
+			GenericProperty property = timedProperty("expensive property", configuration, shrinkablesGenerator, forAllFunction);
+			PropertyCheckResult result = property.check(TestHelper.reporter(), new Reporting[0]);
+
+			assertThat(result.checkStatus()).isEqualTo(PropertyCheckResult.CheckStatus.SUCCESSFUL);
+			assertThat(result.countTries()).isEqualTo(TryTimeBudget.MIN_TRIES);
+			assertThat(result.triesDuration()).hasValue(Duration.ofMillis(5 * TryTimeBudget.MIN_TRIES));
+		}
+
+		@Example
+		void triesStopWhenNextTryIsNotExpectedToFitIntoBudget() {
+			ForAllSpy forAllFunction = new ForAllSpy(trie -> {
+				passTime(Duration.ofMillis(10));
+				return true;
+			});
+			ParametersGenerator shrinkablesGenerator = randomizedShrinkablesGenerator(Arbitraries.of(1, 2, 3));
+
+			PropertyConfiguration configuration = aConfig().withMaxDuration(Duration.ofMillis(300)).build();
+			GenericProperty property = timedProperty("timed property", configuration, shrinkablesGenerator, forAllFunction);
+			PropertyCheckResult result = property.check(TestHelper.reporter(), new Reporting[0]);
+
+			assertThat(result.countTries()).isEqualTo(30);
+			assertThat(result.triesDuration()).hasValue(Duration.ofMillis(300));
+		}
+
+		@Example
+		void explicitTriesLimitTimedProperty() {
+			ForAllSpy forAllFunction = new ForAllSpy(trie -> true);
+			ParametersGenerator shrinkablesGenerator = randomizedShrinkablesGenerator(Arbitraries.of(1, 2, 3));
+
+			PropertyConfiguration configuration = aConfig().withTries(5).withMaxDuration(Duration.ofSeconds(10)).build();
+			GenericProperty property = timedProperty("limited property", configuration, shrinkablesGenerator, forAllFunction);
+			PropertyCheckResult result = property.check(TestHelper.reporter(), new Reporting[0]);
+
+			assertThat(result.countTries()).isEqualTo(5);
+		}
+
+		@Example
+		void durationTooLongForNanosecondsDoesNotFail() {
+			ForAllSpy forAllFunction = new ForAllSpy(trie -> true);
+			ParametersGenerator shrinkablesGenerator = randomizedShrinkablesGenerator(Arbitraries.of(1, 2, 3));
+
+			PropertyConfiguration configuration = aConfig().withTries(5).withMaxDuration(Duration.ofDays(365L * 1000)).build();
+			GenericProperty property = timedProperty("long property", configuration, shrinkablesGenerator, forAllFunction);
+			PropertyCheckResult result = property.check(TestHelper.reporter(), new Reporting[0]);
+
+			assertThat(result.checkStatus()).isEqualTo(PropertyCheckResult.CheckStatus.SUCCESSFUL);
+			assertThat(result.countTries()).isEqualTo(5);
+		}
+
+		@Example
+		void triesDurationOfFailingPropertyDoesNotIncludeShrinking() {
+			ForAllSpy forAllFunction = new ForAllSpy(trie -> {
+				if (trie > 1) {
+					passTime(Duration.ofMillis(50));
+				}
+				return trie < 1;
+			});
+			ParametersGenerator shrinkablesGenerator = randomizedShrinkablesGenerator(Arbitraries.integers().between(0, 1000).asGeneric());
+
+			PropertyConfiguration configuration = aConfig().withMaxDuration(Duration.ofSeconds(10)).build();
+			GenericProperty property = timedProperty("failing property", configuration, shrinkablesGenerator, forAllFunction);
+			PropertyCheckResult result = property.check(TestHelper.reporter(), new Reporting[0]);
+
+			assertThat(result.checkStatus()).isEqualTo(PropertyCheckResult.CheckStatus.FAILED);
+			assertThat(result.countTries()).isEqualTo(1);
+			assertThat(result.triesDuration()).hasValue(Duration.ZERO);
+		}
+
+		private GenericProperty timedProperty(
+			String name,
+			PropertyConfiguration configuration,
+			ParametersGenerator shrinkablesGenerator,
+			ForAllSpy forAllFunction
+		) {
+			return new GenericProperty(name, configuration, shrinkablesGenerator, forAllFunction, tryLifecycleContextSupplier, nanos::get);
+		}
+
+		private void passTime(Duration duration) {
+			nanos.addAndGet(duration.toNanos());
+		}
+	}
+
 	private ParametersGenerator randomizedShrinkablesGenerator(Arbitrary<Object>... arbitraries) {
 		Random random = SourceOfRandomness.current();
 		List<Arbitrary<Object>> arbitraryList = Arrays.stream(arbitraries).collect(Collectors.toList());
@@ -0,0 +1,182 @@
+package net.jqwik.engine.properties;
+
+import java.util.*;
+
+import net.jqwik.api.*;
+import net.jqwik.engine.*;
+import net.jqwik.engine.support.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SuppressWarnings("unchecked")
+class GuidedShrinkablesGeneratorTests {
+
+	private final ArbitraryResolver digits = parameter -> Collections.singleton(Arbitraries.integers().between(0, 9));
+
+	@Example
+	void samplesThatReachNewProbesAreKept() {
+		GuidedShrinkablesGenerator generator = createGenerator(SourceOfRandomness.newRandom(42L));
+
+		generator.next();
+		Guidance.probe("first");
+		generator.next();
+		assertThat(generator.corpusSize()).isEqualTo(1);
+
+		Guidance.probe("first");
+		generator.next();
+		assertThat(generator.corpusSize()).isEqualTo(1);
+
+		Guidance.probe("first");
+		Guidance.probe("second");
+		generator.next();
+		assertThat(generator.corpusSize()).isEqualTo(2);
+	}
+
+	@Example
+	void withoutProbesNoSampleIsKept() {
+		GuidedShrinkablesGenerator generator = createGenerator(SourceOfRandomness.newRandom(42L));
+
+		for (int i = 0; i < 100; i++) {
+			List<Shrinkable<Object>> sample = generator.next();
+			assertThat(sample).hasSize(4);
+		}
+		assertThat(generator.corpusSize()).isEqualTo(0);
+	}
+
+	@Example
+	void probesGuideGenerationTowardsNestedCondition() {
+		GuidedShrinkablesGenerator generator = createGenerator(SourceOfRandomness.newRandom(42L));
+		List<Integer> target = Arrays.asList(1, 2, 3, 4);
+
+		// Purely random generation needs 10000 tries on average to hit the target
+		for (int i = 0; i < 5000; i++) {
+			List<Shrinkable<Object>> sample = generator.next();
+			int matchingDigits = 0;
+			while (matchingDigits < target.size() && sample.get(matchingDigits).value().equals(target.get(matchingDigits))) {
+				matchingDigits++;
+				Guidance.probe(matchingDigits);
+			}
+			if (matchingDigits == target.size()) {
+				return;
+			}
+		}
+		fail("Target was not reached");
+	}
+
+	@Example
+	void largestTargetOfTryIsKept() {
+		GuidedShrinkablesGenerator generator = createGenerator(SourceOfRandomness.newRandom(42L));
+
+		generator.next();
+		Guidance.target(3.0);
+		Guidance.target(7.0);
+		Guidance.target(5.0);
+		generator.next();
+		assertThat(generator.bestTarget()).isEqualTo(7.0);
+
+		Guidance.target(6.0);
+		generator.next();
+		assertThat(generator.bestTarget()).isEqualTo(7.0);
+	}
+
+	@Example
+	void targetsGuideGenerationTowardsMaximum() {
+		GuidedShrinkablesGenerator generator = createGenerator(SourceOfRandomness.newRandom(42L));
+
+		// Purely random generation needs 10000 tries on average to hit the maximum
+		for (int i = 0; i < 5000; i++) {
+			List<Shrinkable<Object>> sample = generator.next();
+			int value = 0;
+			for (Shrinkable<Object> digit : sample) {
+				value = value * 10 + (Integer) digit.value();
+			}
+			if (value == 9999) {
+				return;
+			}
+			Guidance.target(value);
+		}
+		fail("Maximum was not reached");
+	}
+
+	@Example
+	void targetsGuideGenerationTowardsLargerContainers() {
+		ArbitraryResolver digitLists = parameter -> Collections.singleton(Arbitraries.integers().between(0, 9).list().ofMaxSize(100).asGeneric());
+		GuidedShrinkablesGenerator generator = createGenerator(digitLists, SourceOfRandomness.newRandom(42L));
+
+		// Shrinking and growing candidates never add elements, random generation rarely reaches the maximum size
+		for (int i = 0; i < 2000; i++) {
+			List<Shrinkable<Object>> sample = generator.next();
+			int size = 0;
+			for (Shrinkable<Object> list : sample) {
+				size += ((List<Object>) list.value()).size();
+			}
+			if (size == 400) {
+				return;
+			}
+			Guidance.target(size);
+		}
+		fail("Maximum size was not reached");
+	}
+
+	@Example
+	void bestTargetIsRecordedWithItsSample() {
+		GuidedShrinkablesGenerator generator = createGenerator(SourceOfRandomness.newRandom(42L));
+
+		List<Object> bestSample = new ArrayList<>();
+		generator.next().forEach(parameter -> bestSample.add(parameter.value()));
+		Guidance.target(7.0);
+		generator.next();
+		Guidance.target(5.0);
+		generator.finish();
+
+		GuidanceProbes probes = GuidanceProbes.current();
+		assertThat(probes.bestTarget()).hasValue(7.0);
+		assertThat(probes.bestSample()).isEqualTo(bestSample);
+	}
+
+	@Example
+	void targetOfLastTryIsRecordedWhenFinished() {
+		GuidedShrinkablesGenerator generator = createGenerator(SourceOfRandomness.newRandom(42L));
+
+		generator.next();
+		Guidance.target(5.0);
+		List<Object> lastSample = new ArrayList<>();
+		generator.next().forEach(parameter -> lastSample.add(parameter.value()));
+		Guidance.target(7.0);
+		generator.finish();
+
+		GuidanceProbes probes = GuidanceProbes.current();
+		assertThat(probes.bestTarget()).hasValue(7.0);
+		assertThat(probes.bestSample()).isEqualTo(lastSample);
+	}
+
+	@Example
+	void mutableValuesOfKeptSamplesAreNotShared() {
+		ArbitraryResolver mutableLists = parameter -> Collections.singleton(Arbitraries.randomValue(random -> new ArrayList<>()));
+		GuidedShrinkablesGenerator generator = createGenerator(mutableLists, SourceOfRandomness.newRandom(42L));
+
+		for (int i = 0; i < 100; i++) {
+			List<Shrinkable<Object>> sample = generator.next();
+			for (Shrinkable<Object> parameter : sample) {
+				List<Object> list = (List<Object>) parameter.value();
+				assertThat(list).isEmpty();
+				list.add(i);
+			}
+			Guidance.probe(i);
+		}
+		assertThat(generator.corpusSize()).isGreaterThan(1);
+	}
+
+	private GuidedShrinkablesGenerator createGenerator(Random random) {
+		return createGenerator(digits, random);
+	}
+
+	private GuidedShrinkablesGenerator createGenerator(ArbitraryResolver arbitraryResolver, Random random) {
+		List<MethodParameter> parameters = TestHelper.getParametersFor(MyProperties.class, "fourDigits");
+		return GuidedShrinkablesGenerator.forParameters(parameters, arbitraryResolver, random, 1000, EdgeCasesMode.NONE, Collections.emptyList());
+	}
+
+	private static class MyProperties {
+		public void fourDigits(@ForAll int d1, @ForAll int d2, @ForAll int d3, @ForAll int d4) {}
+	}
+}
@@ -1,5 +1,6 @@
 package net.jqwik.engine.properties;
 
+import java.time.*;
 import java.util.*;
 
 import net.jqwik.api.*;
@@ -17,6 +18,8 @@ class PropertyConfigurationBuilder {
 	private String seed = null;
 	private String previousSeed = null;
 	private List<Object> falsifiedSample = null;
+	private Integer previousFailingTry = null;
+	private List<Long> previousFailingTrySeeds = null;
 	private Integer tries = null;
 	private Integer maxDiscardRatio = null;
 	private ShrinkingMode shrinkingMode = null;
@@ -24,6 +27,7 @@ class PropertyConfigurationBuilder {
 	private AfterFailureMode afterFailureMode = null;
 	private EdgeCasesMode edgeCasesMode = null;
 	private FixedSeedMode fixedSeedMode = null;
+	private Duration maxDuration = null;
 
 	PropertyConfigurationBuilder withSeed(String seed) {
 		this.seed = seed;
@@ -40,6 +44,16 @@ class PropertyConfigurationBuilder {
 		return this;
 	}
 
+	PropertyConfigurationBuilder withPreviousFailingTry(int tryIndex) {
+		this.previousFailingTry = tryIndex;
+		return this;
+	}
+
+	PropertyConfigurationBuilder withPreviousFailingTrySeeds(List<Long> trySeeds) {
+		this.previousFailingTrySeeds = trySeeds;
+		return this;
+	}
+
 	PropertyConfigurationBuilder withTries(int tries) {
 		this.tries = tries;
 		return this;
@@ -75,6 +89,11 @@ class PropertyConfigurationBuilder {
 		return this;
 	}
 
+	public PropertyConfigurationBuilder withMaxDuration(Duration maxDuration) {
+		this.maxDuration = maxDuration;
+		return this;
+	}
+
 	PropertyConfiguration build() {
 		PropertyAttributes propertyAttributes = new DefaultPropertyAttributes(
 			tries,
@@ -85,13 +104,14 @@ class PropertyConfigurationBuilder {
 			edgeCasesMode,
 			null,
 			seed,
-			fixedSeedMode
+			fixedSeedMode,
+			maxDuration
 		);
 
 		return new PropertyConfiguration(
 			propertyAttributes,
 			TestHelper.propertyAttributesDefaults(),
-			previousSeed, falsifiedSample, seed,
+			previousSeed, falsifiedSample, previousFailingTry, previousFailingTrySeeds, seed,
 			tries,
 			generationMode
 		);
@@ -2,6 +2,7 @@ package net.jqwik.engine.properties;
 
 import java.lang.reflect.*;
 import java.util.*;
+import java.util.stream.*;
 
 import net.jqwik.api.*;
 import net.jqwik.api.Tuple.*;
@@ -72,6 +73,22 @@ class PropertyMethodDataResolverTests {
 			);
 		}
 
+		@Example
+		void findStreamGenerator() {
+			PropertyMethodDataResolver resolver = getResolver(NamedResolvers.class);
+			Method parameter = getMethod(NamedResolvers.class, "streamedString");
+			Optional<Iterable<? extends Tuple>> optionalData = resolver.forMethod(parameter);
+
+			Iterable<Tuple1<String>> data = (Iterable<Tuple1<String>>) optionalData.get();
+			assertThat(data).isInstanceOf(StreamedData.class);
+			assertThat(data).containsExactly(
+				Tuple.of("7"),
+				Tuple.of("8"),
+				Tuple.of("9")
+			);
+			assertThatThrownBy(data::iterator).isInstanceOf(JqwikException.class);
+		}
+
 		@Example
 		void noFromDataAnnotation() {
 			PropertyMethodDataResolver resolver = getResolver(NamedResolvers.class);
@@ -131,6 +148,17 @@ class PropertyMethodDataResolverTests {
 			return Table.of("1", "2", "3");
 		}
 
+		@Property
+		@FromData("streamOfStrings")
+		boolean streamedString(@ForAll String aString) {
+			return true;
+		}
+
+		@Data
+		Stream<Tuple1<String>> streamOfStrings() {
+			return Stream.of("7", "8", "9").map(Tuple::of);
+		}
+
 		@Property
 		boolean noFromData(@ForAll String aString) {
 			return true;
@@ -1,6 +1,7 @@
 package net.jqwik.engine.properties;
 
 import java.util.*;
+import java.util.concurrent.atomic.*;
 
 import net.jqwik.api.*;
 import net.jqwik.api.providers.*;
@@ -99,6 +100,32 @@ class RegisteredArbitraryResolverTests {
 		assertThat(arbitraries).containsOnly(highestPriorityArbitrary1, highestPriorityArbitrary2, highestPriorityArbitrary3);
 	}
 
+	@Example
+	void fittingProvidersAreOnlyDeterminedOncePerType() {
+		AtomicInteger canProvideForCalls = new AtomicInteger(0);
+		Arbitrary<?> defaultIntegerArbitrary = new DefaultIntegerArbitrary();
+		ArbitraryProvider countingProvider = new ArbitraryProvider() {
+			@Override
+			public boolean canProvideFor(TypeUsage targetType) {
+				canProvideForCalls.incrementAndGet();
+				return targetType.isOfType(Integer.class);
+			}
+
+			@Override
+			public Set<Arbitrary<?>> provideFor(TypeUsage targetType, SubtypeProvider subtypeProvider) {
+				return Collections.singleton(defaultIntegerArbitrary);
+			}
+		};
+		List<ArbitraryProvider> providers = asList(countingProvider);
+
+		Set<Arbitrary<?>> first = new RegisteredArbitraryResolver(providers).resolve(TypeUsage.of(Integer.class), noSubtypes());
+		Set<Arbitrary<?>> second = new RegisteredArbitraryResolver(providers).resolve(TypeUsage.of(Integer.class), noSubtypes());
+
+		assertThat(first).containsOnly(defaultIntegerArbitrary);
+		assertThat(second).containsOnly(defaultIntegerArbitrary);
+		assertThat(canProvideForCalls.get()).isEqualTo(1);
+	}
+
 	private SubtypeProvider noSubtypes() {
 		return ignore -> Collections.emptySet();
 	}
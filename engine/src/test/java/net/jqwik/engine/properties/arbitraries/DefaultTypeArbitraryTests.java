@@ -111,6 +111,34 @@ class DefaultTypeArbitraryTests {
 			);
 		}
 
+		@Example
+		void useFactoryMethodWithManyParameters() throws NoSuchMethodException {
+			TypeArbitrary<String> typeArbitrary =
+				new DefaultTypeArbitrary<>(String.class)
+					.use(Samples.class.getDeclaredMethod(
+						"stringFromTenChars",
+						char.class, char.class, char.class, char.class, char.class,
+						char.class, char.class, char.class, char.class, char.class
+					));
+
+			assertAllGenerated(
+				typeArbitrary.generator(1000, true),
+				aString -> aString.length() == 10
+			);
+		}
+
+		@Example
+		void useVarargsFactoryMethod() throws NoSuchMethodException {
+			TypeArbitrary<String> typeArbitrary =
+				new DefaultTypeArbitrary<>(String.class)
+					.use(Samples.class.getDeclaredMethod("stringFromStrings", String[].class));
+
+			assertAllGenerated(
+				typeArbitrary.generator(1000, true),
+				aString -> aString.startsWith("strings:")
+			);
+		}
+
 		@SuppressWarnings("unchecked")
 		@Example
 		void reusingCreatorsIsIgnored() throws NoSuchMethodException {
@@ -382,6 +410,14 @@ class DefaultTypeArbitraryTests {
 			return "a string";
 		}
 
+		private static String stringFromTenChars(char c1, char c2, char c3, char c4, char c5, char c6, char c7, char c8, char c9, char c10) {
+			return new String(new char[]{c1, c2, c3, c4, c5, c6, c7, c8, c9, c10});
+		}
+
+		private static String stringFromStrings(String... strings) {
+			return "strings:" + strings.length;
+		}
+
 		private String nonStaticMethod() {
 			return "a string";
 		}
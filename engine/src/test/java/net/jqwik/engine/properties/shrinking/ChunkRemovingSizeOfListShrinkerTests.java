@@ -0,0 +1,78 @@
+package net.jqwik.engine.properties.shrinking;
+
+import java.util.*;
+import java.util.stream.*;
+
+import net.jqwik.api.*;
+
+import static java.util.Arrays.*;
+import static org.assertj.core.api.Assertions.*;
+
+class ChunkRemovingSizeOfListShrinkerTests {
+
+	@Example
+	void listOfMinSizeDoesNotShrink() {
+		ChunkRemovingSizeOfListShrinker<Integer> shrinker = new ChunkRemovingSizeOfListShrinker<>(2);
+		assertThat(shrinker.shrink(asList(1, 2))).isEmpty();
+	}
+
+	@Example
+	void cutToMinSizeThenRemoveHalvesQuartersAndSingleElements() {
+		ChunkRemovingSizeOfListShrinker<Integer> shrinker = new ChunkRemovingSizeOfListShrinker<>(0);
+		List<List<Integer>> candidates = shrinker.shrink(asList(1, 2, 3, 4)).collect(Collectors.toList());
+		assertThat(candidates).containsExactly(
+			asList(),
+			asList(3, 4),
+			asList(1, 2),
+			asList(2, 3, 4),
+			asList(1, 3, 4),
+			asList(1, 2, 4),
+			asList(1, 2, 3)
+		);
+	}
+
+	@Example
+	void candidatesAreNeverSmallerThanMinSize() {
+		ChunkRemovingSizeOfListShrinker<Integer> shrinker = new ChunkRemovingSizeOfListShrinker<>(3);
+		List<List<Integer>> candidates = shrinker.shrink(asList(1, 2, 3, 4, 5)).collect(Collectors.toList());
+		assertThat(candidates).containsExactly(
+			asList(1, 2, 3),
+			asList(3, 4, 5),
+			asList(1, 2, 5),
+			asList(2, 3, 4, 5),
+			asList(1, 3, 4, 5),
+			asList(1, 2, 4, 5),
+			asList(1, 2, 3, 5),
+			asList(1, 2, 3, 4)
+		);
+	}
+
+	@Property(tries = 20)
+	void repeatedShrinkingOfViewsKeepsElementsAndOrder(@ForAll("lists") List<Integer> list) {
+		ChunkRemovingSizeOfListShrinker<Integer> shrinker = new ChunkRemovingSizeOfListShrinker<>(0);
+		List<Integer> current = list;
+		List<Integer> expected = new ArrayList<>(list);
+		while (!current.isEmpty()) {
+			// Always take the last candidate, which removes only the last element
+			current = shrinker.shrink(current).reduce((first, second) -> second).get();
+			expected.remove(expected.size() - 1);
+			assertThat(current).isEqualTo(expected);
+		}
+	}
+
+	@Provide
+	Arbitrary<List<Integer>> lists() {
+		return Arbitraries.integers().list().ofMinSize(1).ofMaxSize(50);
+	}
+
+	@Example
+	void shrinkingLargeListIsLazy() {
+		List<Integer> largeList = IntStream.range(0, 100_000).boxed().collect(Collectors.toList());
+		ChunkRemovingSizeOfListShrinker<Integer> shrinker = new ChunkRemovingSizeOfListShrinker<>(1);
+		Optional<List<Integer>> firstSingleRemoval =
+			shrinker.shrink(largeList).filter(candidate -> candidate.size() == largeList.size() - 1).findFirst();
+		assertThat(firstSingleRemoval).isPresent();
+		assertThat(firstSingleRemoval.get().get(0)).isEqualTo(1);
+		assertThat(firstSingleRemoval.get().get(99_998)).isEqualTo(99_999);
+	}
+}
@@ -0,0 +1,72 @@
+package net.jqwik.engine.properties.shrinking;
+
+import java.lang.reflect.*;
+
+import net.jqwik.api.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+class FailureSignatureTests {
+
+	@Example
+	void sameTypeAndLocationInPropertyMethodAreEqual() throws NoSuchMethodException {
+		Method propertyMethod = FailureSignatureTests.class.getDeclaredMethod("propertyMethod", int.class);
+
+		FailureSignature first = FailureSignature.of(errorFrom(1), propertyMethod);
+		FailureSignature second = FailureSignature.of(errorFrom(1), propertyMethod);
+
+		assertThat(first).isEqualTo(second);
+		assertThat(first.hashCode()).isEqualTo(second.hashCode());
+	}
+
+	@Example
+	void differentLocationsInPropertyMethodAreNotEqual() throws NoSuchMethodException {
+		Method propertyMethod = FailureSignatureTests.class.getDeclaredMethod("propertyMethod", int.class);
+
+		FailureSignature first = FailureSignature.of(errorFrom(1), propertyMethod);
+		FailureSignature second = FailureSignature.of(errorFrom(2), propertyMethod);
+
+		assertThat(first).isNotEqualTo(second);
+	}
+
+	@Example
+	void differentTypesAreNotEqual() throws NoSuchMethodException {
+		Method propertyMethod = FailureSignatureTests.class.getDeclaredMethod("propertyMethod", int.class);
+
+		FailureSignature first = FailureSignature.of(errorFrom(1), propertyMethod);
+		FailureSignature second = FailureSignature.of(errorFrom(3), propertyMethod);
+
+		assertThat(first).isNotEqualTo(second);
+	}
+
+	@Example
+	void withoutTargetMethodTheTopmostLocationIsUsed() {
+		FailureSignature first = FailureSignature.of(errorFrom(1), null);
+		FailureSignature second = FailureSignature.of(errorFrom(2), null);
+
+		assertThat(first).isEqualTo(second);
+	}
+
+	private Throwable errorFrom(int location) {
+		try {
+			propertyMethod(location);
+			return null;
+		} catch (Throwable throwable) {
+			return throwable;
+		}
+	}
+
+	private void propertyMethod(int location) {
+		if (location == 1) {
+			fail();
+		}
+		if (location == 2) {
+			fail();
+		}
+		throw new IllegalStateException();
+	}
+
+	private void fail() {
+		throw new AssertionError();
+	}
+}
@@ -65,6 +65,33 @@ class FilteredShrinkableTests {
 
 	}
 
+	@Group
+	class Fusion {
+
+		@Example
+		void consecutiveFiltersAreFusedIntoSingleLayer() {
+			Shrinkable<Integer> integerShrinkable = new OneStepShrinkable(49);
+			Shrinkable<Integer> shrinkable = integerShrinkable.filter(i -> i > 0).filter(i -> i % 7 == 0);
+
+			assertThat(shrinkable.toString()).containsOnlyOnce("Filtered");
+			assertThat(shrinkable.value()).isEqualTo(49);
+
+			Integer shrunkValue = shrink(shrinkable, alwaysFalsify(), null);
+			assertThat(shrunkValue).isEqualTo(7);
+		}
+
+		@Example
+		void consecutiveGeneratorFiltersAreFused(@ForAll Random random) {
+			RandomGenerator<Integer> generator = Arbitraries.integers().between(1, 100).generator(10);
+			RandomGenerator<Integer> filtered = generator.filter(i -> i % 2 == 0).filter(i -> i % 3 == 0);
+
+			assertThat(filtered.toString()).containsOnlyOnce("Filtering");
+			Shrinkable<Integer> shrinkable = filtered.next(random);
+			assertThat(shrinkable.value() % 6).isEqualTo(0);
+			assertThat(shrinkable.toString()).containsOnlyOnce("Filtered");
+		}
+	}
+
 	@Group
 	class Growing {
 		@Example
@@ -1,6 +1,10 @@
 package net.jqwik.engine.properties.shrinking;
 
+import java.util.*;
+import java.util.concurrent.atomic.*;
+
 import net.jqwik.api.*;
+import net.jqwik.api.lifecycle.*;
 import net.jqwik.engine.properties.shrinking.ShrinkableTypesForTest.*;
 
 import static org.assertj.core.api.Assertions.*;
@@ -29,4 +33,109 @@ class MappedShrinkableTests {
 		assertThat(shrunkValue).isEqualTo("00");
 	}
 
+	@Group
+	class Fusion {
+
+		@Example
+		void consecutiveMappingsAreFusedIntoSingleLayer() {
+			Shrinkable<Integer> integerShrinkable = new OneStepShrinkable(3);
+			Shrinkable<String> shrinkable = integerShrinkable.map(i -> i + 1).map(i -> i * 10).map(String::valueOf);
+
+			assertThat(shrinkable).isInstanceOf(MappedShrinkable.class);
+			assertThat(shrinkable.toString()).containsOnlyOnce("Mapped");
+			assertThat(shrinkable.value()).isEqualTo("40");
+			assertThat(shrinkable.distance()).isEqualTo(ShrinkingDistance.of(3));
+		}
+
+		@Example
+		void fusedMappingsShrinkLikeSingleMappings() {
+			Shrinkable<Integer> integerShrinkable = new OneStepShrinkable(3);
+			Shrinkable<String> shrinkable = integerShrinkable.map(i -> i + 1).map(i -> i * 10).map(String::valueOf);
+
+			String shrunkValue = shrink(shrinkable, alwaysFalsify(), null);
+			assertThat(shrunkValue).isEqualTo("10");
+		}
+
+		@Example
+		void consecutiveGeneratorMappingsAreFused(@ForAll Random random) {
+			RandomGenerator<Integer> generator = Arbitraries.of(1, 2, 3).generator(10);
+			RandomGenerator<String> mapped = generator.map(i -> i * 10).map(i -> i + 1).map(String::valueOf);
+
+			assertThat(mapped.toString()).containsOnlyOnce("Mapping");
+			assertThat(mapped.next(random).value()).isIn("11", "21", "31");
+		}
+	}
+
+	@Example
+	void valuesAreMappedAnewByDefault() {
+		AtomicInteger mappings = new AtomicInteger(0);
+		Shrinkable<Integer> integerShrinkable = new OneStepShrinkable(3);
+		Shrinkable<String> shrinkable = integerShrinkable.map(i -> {
+			mappings.incrementAndGet();
+			return String.valueOf(i);
+		});
+
+		shrinkable.value();
+		shrinkable.value();
+		assertThat(mappings).hasValue(2);
+	}
+
+	@Group
+	class Memoization {
+
+		private boolean memoizationEnabled;
+
+		@BeforeExample
+		void enableMemoization() {
+			memoizationEnabled = ValueMemoization.isEnabled();
+			ValueMemoization.setEnabledForCurrentProperty(true);
+		}
+
+		@AfterExample
+		void restoreMemoization() {
+			ValueMemoization.setEnabledForCurrentProperty(memoizationEnabled);
+		}
+
+		@Example
+		void immutableValuesAreOnlyMappedOnce() {
+			AtomicInteger mappings = new AtomicInteger(0);
+			Shrinkable<Integer> integerShrinkable = new OneStepShrinkable(3);
+			Shrinkable<String> shrinkable = integerShrinkable.map(i -> {
+				mappings.incrementAndGet();
+				return String.valueOf(i) + i;
+			});
+
+			assertThat(shrinkable.value()).isEqualTo("33");
+			assertThat(shrinkable.value()).isEqualTo("33");
+			assertThat(mappings).hasValue(1);
+		}
+
+		@Example
+		void mutableValuesAreCreatedAnew() {
+			Shrinkable<Integer> integerShrinkable = new OneStepShrinkable(3);
+			Shrinkable<List<Integer>> shrinkable = integerShrinkable.map(i -> new ArrayList<>(Collections.singletonList(i)));
+
+			List<Integer> first = shrinkable.value();
+			first.add(42);
+			assertThat(shrinkable.value()).isNotSameAs(first);
+			assertThat(shrinkable.value()).containsExactly(3);
+		}
+
+		@Example
+		void memoizationCanBeSwitchedOff() {
+			ValueMemoization.setEnabledForCurrentProperty(false);
+
+			AtomicInteger mappings = new AtomicInteger(0);
+			Shrinkable<Integer> integerShrinkable = new OneStepShrinkable(3);
+			Shrinkable<String> shrinkable = integerShrinkable.map(i -> {
+				mappings.incrementAndGet();
+				return String.valueOf(i);
+			});
+
+			shrinkable.value();
+			shrinkable.value();
+			assertThat(mappings).hasValue(2);
+		}
+	}
+
 }
@@ -1,6 +1,8 @@
 package net.jqwik.engine.properties.shrinking;
 
+import java.time.*;
 import java.util.*;
+import java.util.concurrent.atomic.*;
 import java.util.function.*;
 import java.util.stream.*;
 
@@ -175,6 +177,50 @@ class PropertyShrinkerTests {
 			assertThat((int) sample.parameters().get(0)).isEqualTo(0);
 		}
 
+		@Example
+		@SuppressLogging
+		void withBoundedShrinkingNoPropertyCallsAfterBreakOff() throws InterruptedException {
+			List<Shrinkable<Object>> shrinkables = listOfOneStepShrinkables(50);
+			PropertyShrinker shrinker = createShrinker(toFalsifiedSample(shrinkables, null), ShrinkingMode.BOUNDED, 1);
+
+			AtomicInteger calls = new AtomicInteger(0);
+			ShrunkFalsifiedSample sample = shrinker.shrink(params -> {
+				calls.incrementAndGet();
+				try {
+					Thread.sleep(50);
+				} catch (InterruptedException ignore) {
+				}
+				return TryExecutionResult.falsified(null);
+			});
+
+			assertThat((int) sample.parameters().get(0)).isGreaterThan(0);
+			int callsWhenShrinkingReturned = calls.get();
+			Thread.sleep(200);
+			assertThat(calls.get()).isEqualTo(callsWhenShrinkingReturned);
+			assertThat(sample.countShrinkingCalls()).isEqualTo(callsWhenShrinkingReturned);
+			assertThat(sample.shrinkingDuration()).isGreaterThanOrEqualTo(Duration.ofSeconds(1));
+		}
+
+		@Example
+		@SuppressLogging
+		void withBoundedShrinkingBreakOffAfterMaxCalls() {
+			List<Shrinkable<Object>> shrinkables = listOfOneStepShrinkables(20);
+			PropertyShrinker shrinker = new PropertyShrinker(
+				toFalsifiedSample(shrinkables, null),
+				ShrinkingMode.BOUNDED,
+				10,
+				5,
+				falsifiedSampleReporter,
+				null
+			);
+
+			ShrunkFalsifiedSample sample = shrinker.shrink(alwaysFalsify());
+
+			assertThat(sample.parameters()).isEqualTo(asList(15));
+			assertThat(sample.countShrinkingCalls()).isEqualTo(5);
+			assertThat(sample.countShrinkingSteps()).isEqualTo(5);
+		}
+
 		@Example
 		void withUnboundedShrinkingDoNotBreakOff() {
 			List<Shrinkable<Object>> shrinkables = asList(new ShrinkableTypesForTest.SlowShrinkable(10).asGeneric());
@@ -67,6 +67,18 @@ class ShrinkableListTests {
 			assertThat(shrunkValue).containsExactly(0, 0);
 		}
 
+		@Example
+		void distanceOfCandidatesDerivedFromContainerDistance() {
+			Shrinkable<List<Integer>> shrinkable = createShrinkableList(5, 10, 3, 7);
+			assertThat(shrinkable.distance()).isEqualTo(ShrinkingDistance.of(4, 25));
+
+			shrinkable.shrink().limit(100).forEach(candidate -> {
+				Integer[] candidateValues = candidate.value().toArray(new Integer[0]);
+				ShrinkingDistance calculatedDistance = createShrinkableList(candidateValues).distance();
+				assertThat(candidate.distance()).isEqualTo(calculatedDistance);
+			});
+		}
+
 		@Example
 		void shrinkPairsTogether() {
 			Shrinkable<List<Integer>> shrinkable = createShrinkableList(3, 3);
@@ -128,4 +128,73 @@ class ShrinkingDistanceTests {
 		}
 	}
 
+	@Group
+	@Label("combine()")
+	class Combine {
+
+		@Example
+		void partsAreAppended() {
+			List<Shrinkable<String>> parts = asList(
+				Shrinkable.unshrinkable("hello"), // [0]
+				ShrinkableStringTests.createShrinkableString("bcd", 0) // [3, 6]
+			);
+			ShrinkingDistance distance = ShrinkingDistance.combine(parts);
+			assertThat(distance).isEqualByComparingTo(ShrinkingDistance.of(0, 3, 6));
+			assertThat(distance.size()).isEqualTo(3);
+		}
+
+		@Example
+		void noParts() {
+			assertThat(ShrinkingDistance.combine(Collections.emptyList()).size()).isEqualTo(0);
+		}
+	}
+
+	@Group
+	@Label("replaceInCollection()")
+	class ReplaceInCollection {
+
+		@Example
+		void sameAsCalculatingFromAllElements() {
+			List<Shrinkable<Integer>> elements = asList(
+				new OneStepShrinkable(1),
+				new OneStepShrinkable(5),
+				new OneStepShrinkable(3)
+			);
+			ShrinkingDistance distance = ShrinkingDistance.forCollection(elements);
+
+			Shrinkable<Integer> replacement = new OneStepShrinkable(2);
+			Optional<ShrinkingDistance> derived = distance.replaceInCollection(elements.get(1).distance(), replacement.distance());
+
+			ShrinkingDistance calculated = ShrinkingDistance.forCollection(asList(elements.get(0), replacement, elements.get(2)));
+			assertThat(derived).hasValue(calculated);
+			assertThat(derived.get().hashCode()).isEqualTo(calculated.hashCode());
+		}
+
+		@Example
+		void replacementWithMoreDimensions() {
+			ShrinkingDistance distance = ShrinkingDistance.of(2, 4);
+			assertThat(distance.replaceInCollection(ShrinkingDistance.of(1), ShrinkingDistance.of(1, 2)))
+				.hasValue(ShrinkingDistance.of(2, 4, 2));
+		}
+
+		@Example
+		void cannotBeDerivedWhenReplacedElementHasMoreDimensions() {
+			ShrinkingDistance distance = ShrinkingDistance.of(2, 4, 2);
+			assertThat(distance.replaceInCollection(ShrinkingDistance.of(1, 2), ShrinkingDistance.of(1))).isEmpty();
+		}
+
+		@Example
+		void cannotBeDerivedAfterOverflow() {
+			ShrinkingDistance distance = ShrinkingDistance.of(2, Long.MAX_VALUE);
+			assertThat(distance.replaceInCollection(ShrinkingDistance.of(1), ShrinkingDistance.of(0))).isEmpty();
+		}
+
+		@Example
+		void overflowOfReplacement() {
+			ShrinkingDistance distance = ShrinkingDistance.of(2, 10);
+			assertThat(distance.replaceInCollection(ShrinkingDistance.of(1), ShrinkingDistance.of(Long.MAX_VALUE - 1)))
+				.hasValue(ShrinkingDistance.of(2, Long.MAX_VALUE));
+		}
+	}
+
 }
@@ -0,0 +1,102 @@
+package net.jqwik.engine.statistics;
+
+import java.util.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.statistics.*;
+import net.jqwik.engine.hooks.statistics.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ComplexityMeasurementsTests {
+
+	@Example
+	void warmupMeasurementsAreIgnored() {
+		ComplexityMeasurements measurements = new ComplexityMeasurements(2);
+
+		measurements.record(10, 1000);
+		measurements.record(20, 1000);
+		measurements.record(10, 50);
+		measurements.record(10, 40);
+		measurements.record(10, 60);
+
+		assertThat(measurements.minNanosPerSize()).containsExactly(entry(10, 40L));
+	}
+
+	@Example
+	void bestFitForEachComplexityClass() {
+		for (ComplexityClass complexityClass : Arrays.asList(
+			ComplexityClass.O_N, ComplexityClass.O_N_LOG_N, ComplexityClass.O_N_SQUARED, ComplexityClass.O_N_CUBED
+		)) {
+			ComplexityMeasurements measurements = measure(complexityClass);
+			assertThat(measurements.bestFit()).isEqualTo(complexityClass);
+		}
+	}
+
+	@Example
+	void exponentialGrowth() {
+		ComplexityMeasurements measurements = new ComplexityMeasurements(0);
+		for (int size = 1; size <= 20; size++) {
+			measurements.record(size, 1L << size);
+		}
+
+		assertThat(measurements.bestFit()).isEqualTo(ComplexityClass.O_2_N);
+	}
+
+	@Example
+	void fasterGrowingComplexityIsAccepted() {
+		ComplexityMeasurements measurements = measure(ComplexityClass.O_N);
+
+		measurements.check(ComplexityClass.O_N, 4);
+		measurements.check(ComplexityClass.O_N_SQUARED, 4);
+	}
+
+	@Example
+	void slightlyBetterFitOfFasterGrowingComplexityIsAccepted() {
+		ComplexityMeasurements measurements = new ComplexityMeasurements(0);
+		for (int size = 16; size <= 1024; size *= 2) {
+			measurements.record(size, (long) (100 * size * (1 + 0.2 * Math.log(size))));
+		}
+
+		assertThat(measurements.bestFit()).isEqualTo(ComplexityClass.O_N_LOG_N);
+		measurements.check(ComplexityClass.O_N, 4);
+	}
+
+	@Example
+	void slowerGrowingComplexityFailsWithSizesOfBlowup() {
+		ComplexityMeasurements measurements = new ComplexityMeasurements(0);
+		for (int size = 16; size <= 1024; size *= 2) {
+			long nanos = size <= 128 ? 10L * size : (long) size * size;
+			measurements.record(size, nanos);
+		}
+
+		assertThatThrownBy(() -> measurements.check(ComplexityClass.O_N, 4))
+			.isInstanceOf(AssertionError.class)
+			.hasMessageContaining("Expected complexity O(n) but observed O(n^2)")
+			.hasMessageContaining("between sizes 128 and 256");
+	}
+
+	@Example
+	void tooFewSizesFail() {
+		ComplexityMeasurements measurements = new ComplexityMeasurements(0);
+		measurements.record(10, 100);
+		measurements.record(20, 200);
+		measurements.record(20, 210);
+
+		assertThatThrownBy(() -> measurements.check(ComplexityClass.O_N, 3))
+			.isInstanceOf(AssertionError.class)
+			.hasMessageContaining("only 2 different sizes");
+	}
+
+	private ComplexityMeasurements measure(ComplexityClass complexityClass) {
+		ComplexityMeasurements measurements = new ComplexityMeasurements(0);
+		Random random = new Random(42);
+		for (int size = 16; size <= 16384; size *= 2) {
+			for (int i = 0; i < 3; i++) {
+				double noise = 1 + 0.3 * random.nextDouble();
+				measurements.record(size, (long) (1000 + 3 * complexityClass.growth(size) * noise));
+			}
+		}
+		return measurements;
+	}
+}
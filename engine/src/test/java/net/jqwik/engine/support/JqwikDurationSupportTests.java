@@ -0,0 +1,46 @@
+package net.jqwik.engine.support;
+
+import java.time.*;
+
+import net.jqwik.api.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+class JqwikDurationSupportTests {
+
+	@Example
+	void parseShortDurations() {
+		assertThat(JqwikDurationSupport.parse("500ms")).isEqualTo(Duration.ofMillis(500));
+		assertThat(JqwikDurationSupport.parse("10s")).isEqualTo(Duration.ofSeconds(10));
+		assertThat(JqwikDurationSupport.parse(" 2 m ")).isEqualTo(Duration.ofMinutes(2));
+		assertThat(JqwikDurationSupport.parse("1h")).isEqualTo(Duration.ofHours(1));
+	}
+
+	@Example
+	void parseIsoDurations() {
+		assertThat(JqwikDurationSupport.parse("PT1M30S")).isEqualTo(Duration.ofSeconds(90));
+		assertThat(JqwikDurationSupport.parse("pt0.5s")).isEqualTo(Duration.ofMillis(500));
+	}
+
+	@Example
+	void invalidDurationsAreRejected() {
+		assertThatThrownBy(() -> JqwikDurationSupport.parse("10 seconds")).isInstanceOf(JqwikException.class);
+		assertThatThrownBy(() -> JqwikDurationSupport.parse("PT-1S")).isInstanceOf(JqwikException.class);
+		assertThatThrownBy(() -> JqwikDurationSupport.parse("")).isInstanceOf(JqwikException.class);
+	}
+
+	@Example
+	void durationsTooLargeToParseAreRejected() {
+		assertThatThrownBy(() -> JqwikDurationSupport.parse("99999999999999999999ms")).isInstanceOf(JqwikException.class);
+		assertThatThrownBy(() -> JqwikDurationSupport.parse("9223372036854775807h")).isInstanceOf(JqwikException.class);
+		assertThatThrownBy(() -> JqwikDurationSupport.parse("9223372036854775807m")).isInstanceOf(JqwikException.class);
+		assertThatThrownBy(() -> JqwikDurationSupport.parse("2562048h")).isInstanceOf(JqwikException.class);
+		assertThat(JqwikDurationSupport.parse("2562047h")).isEqualTo(Duration.ofHours(2562047));
+	}
+
+	@Example
+	void durationsTooLongForNanosecondsAreSaturated() {
+		assertThat(JqwikDurationSupport.toNanosSaturated(Duration.ofDays(365L * 1000))).isEqualTo(Long.MAX_VALUE);
+		assertThat(JqwikDurationSupport.toNanosSaturated(Duration.ofSeconds(1))).isEqualTo(1_000_000_000L);
+	}
+}